@@ -5,6 +5,41 @@ const { spawn, spawnSync } = require('child_process');
 const jarDir = path.join(__dirname, 'language-server');
 const jarPath = path.join(jarDir, 'spring-boot-language-server-standalone-exec.jar');
 
+// Optional startup optimization, built via the 'aot-cache' Maven profile of the standalone LS:
+// the extracted jar and a JVM AOT cache from a training run. The training run (and the Spring AOT
+// processed context) use the language server launch configuration, so the plugin's MCP-only launch
+// only reuses the cached classes and keeps the regular, runtime evaluated application context.
+const aotCacheDir = path.join(jarDir, 'aot-cache');
+const aotCachePath = path.join(aotCacheDir, 'spring-boot-language-server-standalone.aot');
+const MIN_AOT_CACHE_JAVA_VERSION = 25;
+
+function javaMajorVersion() {
+    const result = spawnSync('java', ['-version'], { encoding: 'utf8' });
+    const match = /version "(\d+)/.exec(`${result.stderr}${result.stdout}`);
+    return match ? parseInt(match[1], 10) : 0;
+}
+
+// Returns the JVM args and the jar to use the AOT cache with, or null when there is no
+// cache or the JVM doesn't support it - the server then starts from the plain fat jar.
+function aotCacheLaunch() {
+    if (!fs.existsSync(aotCachePath)) {
+        return null;
+    }
+    const extractedJar = fs.readdirSync(aotCacheDir).find(f => f.endsWith('-standalone-exec.jar'));
+    if (!extractedJar) {
+        return null;
+    }
+    const javaVersion = javaMajorVersion();
+    if (javaVersion < MIN_AOT_CACHE_JAVA_VERSION) {
+        console.error(`AOT cache requires Java ${MIN_AOT_CACHE_JAVA_VERSION}+, found Java ${javaVersion}. Starting without AOT cache.`);
+        return null;
+    }
+    return {
+        vmArgs: [`-XX:AOTCache=${aotCachePath}`, '-Xlog:aot*=off'],
+        jar: path.join(aotCacheDir, extractedJar)
+    };
+}
+
 async function start() {
     // 1. Download the JAR if it doesn't exist
     if (!fs.existsSync(jarPath)) {
@@ -19,7 +54,9 @@ async function start() {
 
     // 2. Launch the Java process. The plugin only exposes MCP tools over stdio -
     // the LSP socket transport is disabled since nothing connects to it.
+    const aotLaunch = aotCacheLaunch();
     const javaArgs = [
+        ...(aotLaunch ? aotLaunch.vmArgs : []),
         "-Xmx1024m",
         "-Djdk.util.zip.disableZip64ExtraFieldValidation=true",
         "-Dspring.config.location=classpath:/application.properties",
@@ -30,7 +67,7 @@ async function start() {
         "-Dlanguageserver.enabled=false",
         `-Dspring.boot.ls.project.dir=${process.cwd()}`,
         "-jar",
-        jarPath
+        aotLaunch ? aotLaunch.jar : jarPath
     ];
 
     const child = spawn('java', javaArgs, { stdio: 'inherit' });
@@ -27,4 +27,13 @@ else
     exit 1
 fi
 
+# Copy the AOT cache if the standalone LS was built with the 'aot-cache' profile,
+# remove a stale one otherwise since it wouldn't match the new JAR anymore
+aot_cache_dir="../headless-services/spring-boot-language-server-standalone/target/aot-cache"
+rm -rf "$SPRING_TOOLS_JAR_DIR/aot-cache"
+if [ -f "$aot_cache_dir/spring-boot-language-server-standalone.aot" ]; then
+    cp -r "$aot_cache_dir" "$SPRING_TOOLS_JAR_DIR/aot-cache"
+    echo "  Successfully copied AOT cache to $SPRING_TOOLS_JAR_DIR/aot-cache"
+fi
+
 echo "Done!"
\ No newline at end of file
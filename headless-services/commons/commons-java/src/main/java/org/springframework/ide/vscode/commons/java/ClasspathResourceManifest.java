@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.commons.java;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.io.BaseEncoding;
+import com.google.gson.Gson;
+
+/**
+ * Process-wide index of well-known resources inside the jar files of project classpaths (configuration metadata,
+ * stereotype catalogs, ...), so that features probing jars for those resources don't need to open every jar
+ * on every project change.
+ * <p>
+ * A manifest is kept per jar, keyed by its path, size and modification time. It records the names of the entries
+ * in the folders of the jar that got probed so far (e.g. <code>META-INF/</code>), but not their contents. Folders
+ * are added to the set of probed folders the first time any caller asks for a resource in them, so a jar gets opened
+ * again only if it changed or if a resource in a folder gets asked for that wasn't probed before. The contents of a
+ * resource are read from the jar when asked for, which happens only for jars that contain the resource.
+ * <p>
+ * Manifests are persisted, so they survive restarts of the language server. Persisted manifests of jars that
+ * don't exist anymore or that weren't used for a while get deleted.
+ *
+ * @author Martin Lippert
+ */
+public class ClasspathResourceManifest {
+
+	private static final Logger log = LoggerFactory.getLogger(ClasspathResourceManifest.class);
+
+	private static final Supplier<ClasspathResourceManifest> INSTANCE = Suppliers.memoize(() -> {
+		ClasspathResourceManifest manifest = new ClasspathResourceManifest(getDefaultStorageFolder());
+		CompletableFuture.runAsync(manifest::pruneStorage);
+		return manifest;
+	});
+
+	private static final long MAX_STORAGE_AGE = TimeUnit.DAYS.toMillis(30);
+
+	private static final Gson GSON = new Gson();
+
+	private final File storageFolder;
+	private final ConcurrentMap<String, JarManifest> manifests;
+	private final Set<String> probedFolders;
+
+	public ClasspathResourceManifest(File storageFolder) {
+		this.storageFolder = storageFolder;
+		this.manifests = new ConcurrentHashMap<>();
+		this.probedFolders = ConcurrentHashMap.newKeySet();
+
+		if (storageFolder != null && !storageFolder.isDirectory() && !storageFolder.mkdirs()) {
+			log.warn("classpath resource manifest folder does not exist and cannot be created: " + storageFolder);
+		}
+	}
+
+	public static ClasspathResourceManifest getInstance() {
+		return INSTANCE.get();
+	}
+
+	private static File getDefaultStorageFolder() {
+		return new File(System.getProperty("user.home"), ".sts4" + File.separator + ".classpathResources");
+	}
+
+	/**
+	 * @return the contents of the resource inside the jar, or null if the jar doesn't contain the resource
+	 */
+	public byte[] getResource(File jar, String resource) {
+		if (!contains(jar, resource)) {
+			return null;
+		}
+
+		try (JarFile jarFile = new JarFile(jar)) {
+			ZipEntry entry = jarFile.getEntry(resource);
+			if (entry != null) {
+				try (InputStream is = jarFile.getInputStream(entry)) {
+					return is.readAllBytes();
+				}
+			}
+		}
+		catch (IOException e) {
+			log.error("error reading resource " + resource + " from jar file: " + jar, e);
+		}
+		return null;
+	}
+
+	public boolean contains(File jar, String resource) {
+		JarManifest manifest = getManifest(jar, getFolder(resource));
+		return manifest != null && manifest.resources.contains(resource);
+	}
+
+	/**
+	 * @return a <code>jar:</code> URL for the resource inside the jar, or null if the jar doesn't contain the resource
+	 */
+	public URL getResourceURL(File jar, String resource) throws MalformedURLException {
+		return contains(jar, resource) ? URI.create("jar:" + jar.toURI() + "!/" + resource).toURL() : null;
+	}
+
+	/**
+	 * forgets the manifests of all jars that are not among the given jars, e.g. because they are not on the classpath
+	 * of any project anymore. The persisted manifests are kept, in case the jars show up on a classpath again.
+	 */
+	public void retainAll(Collection<File> jars) {
+		Set<String> paths = new HashSet<>();
+		for (File jar : jars) {
+			paths.add(jar.getAbsolutePath());
+		}
+		manifests.keySet().retainAll(paths);
+	}
+
+	private JarManifest getManifest(File jar, String folder) {
+		if (!jar.isFile()) {
+			return null;
+		}
+
+		probedFolders.add(folder);
+
+		String path = jar.getAbsolutePath();
+		long size = jar.length();
+		long lastModified = jar.lastModified();
+
+		JarManifest manifest = manifests.get(path);
+		if (manifest == null || !manifest.matches(size, lastModified)) {
+			// read the persisted manifest outside of the map, so that lookups for other jars don't wait for it
+			JarManifest stored = load(jar);
+			JarManifest loaded = stored != null && stored.matches(size, lastModified) ? stored : new JarManifest(size, lastModified);
+
+			manifest = manifests.compute(path, (p, existing) -> existing != null && existing.matches(size, lastModified) ? existing : loaded);
+		}
+
+		synchronized (manifest) {
+			if (!manifest.folders.contains(folder)) {
+				scan(jar, manifest);
+				save(jar, manifest);
+			}
+		}
+		return manifest;
+	}
+
+	/**
+	 * records the entries of all folders that got probed so far (and that are not yet recorded in the manifest),
+	 * so that asking for a number of resources one after the other opens the jar only once
+	 */
+	private void scan(File jar, JarManifest manifest) {
+		Set<String> folders = new HashSet<>(probedFolders);
+		folders.removeAll(manifest.folders);
+
+		try (JarFile jarFile = new JarFile(jar)) {
+			Enumeration<JarEntry> entries = jarFile.entries();
+			while (entries.hasMoreElements()) {
+				JarEntry entry = entries.nextElement();
+				if (!entry.isDirectory() && folders.contains(getFolder(entry.getName()))) {
+					manifest.resources.add(entry.getName());
+				}
+			}
+		}
+		catch (IOException e) {
+			log.error("error reading jar file: " + jar, e);
+		}
+
+		// in case of an error, don't try again until the jar changes
+		manifest.folders.addAll(folders);
+	}
+
+	/**
+	 * deletes persisted manifests that weren't used for a while or whose jars don't exist anymore
+	 */
+	void pruneStorage() {
+		File[] files = storageFolder != null ? storageFolder.listFiles() : null;
+		if (files == null) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		for (File file : files) {
+			if (!file.isFile()) {
+				continue;
+			}
+
+			boolean expired = now - file.lastModified() > MAX_STORAGE_AGE;
+			if (expired || (file.getName().endsWith(".json") && !isJarPresent(file))) {
+				try {
+					Files.deleteIfExists(file.toPath());
+				}
+				catch (IOException e) {
+					log.warn("error deleting classpath resource manifest: " + file, e);
+				}
+			}
+		}
+	}
+
+	private boolean isJarPresent(File file) {
+		StoredManifest stored = read(file);
+		return stored != null && stored.path != null && new File(stored.path).isFile();
+	}
+
+	private static String getFolder(String resource) {
+		return resource.substring(0, resource.lastIndexOf('/') + 1);
+	}
+
+	private File getStorageFile(File jar) {
+		return new File(storageFolder, jar.getName() + "-" + digestPath(jar.getAbsolutePath()) + ".json");
+	}
+
+	private JarManifest load(File jar) {
+		if (storageFolder == null) {
+			return null;
+		}
+
+		File file = getStorageFile(jar);
+		StoredManifest stored = read(file);
+		if (stored != null && jar.getAbsolutePath().equals(stored.path)) {
+			// keep the manifest from being pruned as long as it gets used
+			file.setLastModified(System.currentTimeMillis());
+			return stored.toManifest();
+		}
+		return null;
+	}
+
+	private StoredManifest read(File file) {
+		if (file.isFile()) {
+			try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+				return GSON.fromJson(reader, StoredManifest.class);
+			}
+			catch (Exception e) {
+				log.warn("error reading classpath resource manifest: " + file, e);
+			}
+		}
+		return null;
+	}
+
+	private void save(File jar, JarManifest manifest) {
+		if (storageFolder == null || !storageFolder.isDirectory()) {
+			return;
+		}
+
+		File file = getStorageFile(jar);
+		try {
+			File tempFile = File.createTempFile(file.getName(), ".tmp", storageFolder);
+			try (Writer writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
+				GSON.toJson(StoredManifest.of(jar.getAbsolutePath(), manifest), writer);
+			}
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (Exception e) {
+			log.warn("error writing classpath resource manifest: " + file, e);
+		}
+	}
+
+	private static String digestPath(String path) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-1");
+			byte[] bytes = md.digest(path.getBytes(StandardCharsets.UTF_8));
+			return BaseEncoding.base32().omitPadding().encode(bytes);
+		} catch (NoSuchAlgorithmException e) {
+			// shouldn't happen!
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class JarManifest {
+
+		private final long size;
+		private final long lastModified;
+
+		private final Set<String> folders;
+		private final Set<String> resources;
+
+		JarManifest(long size, long lastModified) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.folders = ConcurrentHashMap.newKeySet();
+			this.resources = ConcurrentHashMap.newKeySet();
+		}
+
+		boolean matches(long size, long lastModified) {
+			return this.size == size && this.lastModified == lastModified;
+		}
+	}
+
+	/**
+	 * serialized form of a manifest
+	 */
+	private static class StoredManifest {
+
+		String path;
+		long size;
+		long lastModified;
+		Set<String> folders;
+		Set<String> resources;
+
+		static StoredManifest of(String path, JarManifest manifest) {
+			StoredManifest stored = new StoredManifest();
+			stored.path = path;
+			stored.size = manifest.size;
+			stored.lastModified = manifest.lastModified;
+			stored.folders = new TreeSet<>(manifest.folders);
+			stored.resources = new TreeSet<>(manifest.resources);
+			return stored;
+		}
+
+		JarManifest toManifest() {
+			JarManifest manifest = new JarManifest(size, lastModified);
+			if (folders != null) {
+				manifest.folders.addAll(folders);
+			}
+			if (resources != null) {
+				manifest.resources.addAll(resources);
+			}
+			return manifest;
+		}
+	}
+
+}
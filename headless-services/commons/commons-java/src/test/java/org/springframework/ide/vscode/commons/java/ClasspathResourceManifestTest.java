@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.commons.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClasspathResourceManifestTest {
+
+	private static final String METADATA = "META-INF/spring-configuration-metadata.json";
+	private static final String CATALOG = "META-INF/jmolecules-stereotypes.json";
+	private static final String OTHER = "META-INF/jmolecules-stereotypez.json";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testResourceLookup() throws Exception {
+		File jar = createJar("lib.jar", Map.of(METADATA, "{\"properties\":[]}"));
+		ClasspathResourceManifest manifest = new ClasspathResourceManifest(tempDir.resolve("manifests").toFile());
+
+		assertEquals("{\"properties\":[]}", new String(manifest.getResource(jar, METADATA), StandardCharsets.UTF_8));
+		assertFalse(manifest.contains(jar, CATALOG));
+		assertNull(manifest.getResourceURL(jar, CATALOG));
+		assertFalse(manifest.contains(tempDir.resolve("missing.jar").toFile(), METADATA));
+
+		URL url = manifest.getResourceURL(jar, METADATA);
+		assertEquals("jar:" + jar.toURI() + "!/" + METADATA, url.toString());
+		try (InputStream is = url.openStream()) {
+			assertEquals("{\"properties\":[]}", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	void testManifestIsPersisted() throws Exception {
+		File jar = createJar("lib.jar", Map.of(METADATA, "{}", CATALOG, "[]"));
+		File storage = tempDir.resolve("manifests").toFile();
+
+		assertTrue(new ClasspathResourceManifest(storage).contains(jar, METADATA));
+
+		// same size and modification time, but different entries: a new instance has to answer from the persisted manifest
+		replaceJar(jar, Map.of(METADATA, "{}", OTHER, "[]"));
+
+		ClasspathResourceManifest manifest = new ClasspathResourceManifest(storage);
+		assertTrue(manifest.contains(jar, CATALOG));
+		assertFalse(manifest.contains(jar, OTHER));
+	}
+
+	@Test
+	void testResourceInProbedFolderDoesNotRescanJar() throws Exception {
+		File jar = createJar("lib.jar", Map.of(METADATA, "{}", CATALOG, "[]"));
+		ClasspathResourceManifest manifest = new ClasspathResourceManifest(null);
+
+		assertTrue(manifest.contains(jar, METADATA));
+
+		// the entries of META-INF/ are known already, the catalog is answered from the manifest
+		replaceJar(jar, Map.of(METADATA, "{}", OTHER, "[]"));
+
+		assertTrue(manifest.contains(jar, CATALOG));
+		assertFalse(manifest.contains(jar, OTHER));
+	}
+
+	@Test
+	void testRetainAll() throws Exception {
+		File jar = createJar("lib.jar", Map.of(METADATA, "{}", CATALOG, "[]"));
+		File otherJar = createJar("other.jar", Map.of(METADATA, "{}", CATALOG, "[]"));
+		ClasspathResourceManifest manifest = new ClasspathResourceManifest(null);
+
+		assertTrue(manifest.contains(jar, CATALOG));
+		assertTrue(manifest.contains(otherJar, CATALOG));
+
+		manifest.retainAll(List.of(otherJar));
+
+		// the manifest of the jar that isn't retained is gone, the jar gets scanned again
+		replaceJar(jar, Map.of(METADATA, "{}", OTHER, "[]"));
+		replaceJar(otherJar, Map.of(METADATA, "{}", OTHER, "[]"));
+
+		assertFalse(manifest.contains(jar, CATALOG));
+		assertTrue(manifest.contains(otherJar, CATALOG));
+	}
+
+	@Test
+	void testPruneStorage() throws Exception {
+		File storage = tempDir.resolve("manifests").toFile();
+		ClasspathResourceManifest manifest = new ClasspathResourceManifest(storage);
+
+		File jar = createJar("lib.jar", Map.of(METADATA, "{}"));
+		File deletedJar = createJar("deleted.jar", Map.of(METADATA, "{}"));
+		File unusedJar = createJar("unused.jar", Map.of(METADATA, "{}"));
+		manifest.contains(jar, METADATA);
+		manifest.contains(deletedJar, METADATA);
+		manifest.contains(unusedJar, METADATA);
+		assertEquals(3, storage.list().length);
+
+		assertTrue(deletedJar.delete());
+		for (File file : storage.listFiles((dir, name) -> name.startsWith("unused.jar"))) {
+			file.setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(60));
+		}
+
+		manifest.pruneStorage();
+
+		String[] remaining = storage.list();
+		assertEquals(1, remaining.length);
+		assertTrue(remaining[0].startsWith("lib.jar"));
+	}
+
+	@Test
+	void testChangedJarIsProbedAgain() throws Exception {
+		File jar = createJar("lib.jar", Map.of(METADATA, "{}"));
+		ClasspathResourceManifest manifest = new ClasspathResourceManifest(tempDir.resolve("manifests").toFile());
+
+		assertFalse(manifest.contains(jar, CATALOG));
+
+		createJar("lib.jar", Map.of(METADATA, "{}", CATALOG, "[]"));
+		jar.setLastModified(jar.lastModified() + 2000);
+
+		assertTrue(manifest.contains(jar, CATALOG));
+	}
+
+	/**
+	 * replaces the jar with a jar of the same size and modification time
+	 */
+	private void replaceJar(File jar, Map<String, String> entries) throws IOException {
+		long size = jar.length();
+		long lastModified = jar.lastModified();
+
+		createJar(jar.getName(), entries);
+		jar.setLastModified(lastModified);
+		assertEquals(size, jar.length());
+	}
+
+	private File createJar(String name, Map<String, String> entries) throws IOException {
+		File jar = tempDir.resolve(name).toFile();
+		try (OutputStream out = Files.newOutputStream(jar.toPath()); JarOutputStream jarOut = new JarOutputStream(out)) {
+			for (Map.Entry<String, String> entry : entries.entrySet()) {
+				JarEntry jarEntry = new JarEntry(entry.getKey());
+				jarEntry.setTime(0);
+				jarOut.putNextEntry(jarEntry);
+				jarOut.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+				jarOut.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+}
@@ -98,11 +98,19 @@ public class VscodeCompletionEngineAdapter implements VscodeCompletionEngine {
 			return id;
 		}
 		
-		public synchronized void resolveNow(CancelChecker cancelToken, CompletionItem unresolved) {
+		public void resolveNow(CancelChecker cancelToken, CompletionItem unresolved) {
 			Object id = unresolved.getData();
 			if (id!=null) {
-				Consumer<CompletionItem> resolver = resolvers.get(id instanceof JsonPrimitive ? ((JsonPrimitive)id).getAsString() : id);
+				Consumer<CompletionItem> resolver;
+				synchronized (this) {
+					resolver = resolvers.get(id instanceof JsonPrimitive ? ((JsonPrimitive)id).getAsString() : id);
+				}
 				if (resolver!=null) {
+					if (cancelToken != null) {
+						cancelToken.checkCanceled();
+					}
+					// run the resolver outside of the lock, rendering documentation can take a while
+					// and should not block the next completion request from clearing the resolvers
 					resolver.accept(unresolved);
 					unresolved.setData(null); //No longer needed after item is resolved.
 				} else {
@@ -288,16 +296,17 @@ public class VscodeCompletionEngineAdapter implements VscodeCompletionEngine {
 		
 		resolveMainEdit(doc, completion, item);
 		
+		ResolvedParts resolvedParts = new ResolvedParts();
 		if (resolver != null) {
 			item.setData(resolver.resolveLater(completionItem -> {
 				try {
-					resolveCompletionItem(completionItem, completion, doc);
+					resolveCompletionItem(completionItem, completion, doc, resolvedParts);
 				} catch (Exception e) {
 					log.error("Error resolving completion", e);
 				}
 			}));
 		} else {
-			resolveCompletionItem(item, completion, doc);
+			resolveCompletionItem(item, completion, doc, resolvedParts);
 		}
 		
 		List<Object> commands = new ArrayList<>(2);
@@ -326,10 +335,14 @@ public class VscodeCompletionEngineAdapter implements VscodeCompletionEngine {
 		return item;
 	}
 	
-	private void resolveCompletionItem(CompletionItem item, ICompletionProposal completion, TextDocument doc) throws Exception {		
+	private void resolveCompletionItem(CompletionItem item, ICompletionProposal completion, TextDocument doc, ResolvedParts resolvedParts) throws Exception {		
 		item.setDetail(completion.getDetail());
-		if (completion.getDocumentation() != null) {
+		if (resolvedParts.documentation != null) {
+			item.setDocumentation(resolvedParts.documentation);
+		}
+		else if (completion.getDocumentation() != null) {
 			resolveItem(doc, completion, item);
+			resolvedParts.documentation = item.getDocumentation().getRight();
 		}
 		
 		if (!completion.getTextEdit().isResolved()) {
@@ -338,7 +351,16 @@ public class VscodeCompletionEngineAdapter implements VscodeCompletionEngine {
 		// Keep main edit resolution outside of the if block above. If resolve completion item and command are executed in parallel command would need to generate the new edit
 		resolveMainEdit(doc, completion, item);
 		
-		resolveAdditionalEdits(doc, completion, item);
+		if (resolvedParts.additionalEditsResolved) {
+			if (completion.getAdditionalEdit().isPresent()) {
+				item.setAdditionalTextEdits(resolvedParts.additionalEdits);
+			}
+		}
+		else {
+			resolveAdditionalEdits(doc, completion, item);
+			resolvedParts.additionalEdits = item.getAdditionalTextEdits();
+			resolvedParts.additionalEditsResolved = true;
+		}
 		
 		// Remove the Resolve Edit Command if present since everything is resolved already (Not expected to be around for Eclipse client)
 		if (item.getCommand() != null) {
@@ -381,6 +403,17 @@ public class VscodeCompletionEngineAdapter implements VscodeCompletionEngine {
 		}
 	}
 
+	/**
+	 * Keeps the expensive parts of a resolved completion item (rendered documentation, additional edits),
+	 * so that resolving the same item again (e.g. via the resolve request and via the resolve edit command)
+	 * doesn't compute them again.
+	 */
+	private static class ResolvedParts {
+		volatile MarkupContent documentation;
+		volatile List<TextEdit> additionalEdits;
+		volatile boolean additionalEditsResolved;
+	}
+
 	private List<ICompletionProposal> filter(Collection<ICompletionProposal> completions) {
 		if (filter.isPresent()) {
 			List<ICompletionProposal> filtered = new ArrayList<>(completions.size());
@@ -452,8 +485,6 @@ public class VscodeCompletionEngineAdapter implements VscodeCompletionEngine {
 				//The original edit does nothing.
 				return Optional.empty();
 			} else {
-				TextDocument newDoc = doc.copy();
-				edits.apply(newDoc);
 				TextEdit vscodeEdit = new TextEdit();
 				vscodeEdit.setRange(doc.toRange(replaceEdit.start, replaceEdit.end - replaceEdit.start));
 				String newText = replaceEdit.newText;
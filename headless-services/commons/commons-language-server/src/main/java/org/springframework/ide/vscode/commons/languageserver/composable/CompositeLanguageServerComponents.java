@@ -96,13 +96,19 @@ public class CompositeLanguageServerComponents implements LanguageServerComponen
 			this.reconcileEngine = new IReconcileEngine() {
 				@Override
 				public void reconcile(IDocument document, IProblemCollector problemCollector) {
+					reconcile(document, problemCollector, () -> {});
+				}
+
+				@Override
+				public void reconcile(IDocument document, IProblemCollector problemCollector, CancelChecker cancelChecker) {
 					LanguageId language = document.getLanguageId();
 					List<LanguageServerComponents> subComponents = componentsByLanguageId.get(language);
 					if (subComponents!=null) {
 						for (LanguageServerComponents subComponent : subComponents) {
 							Optional<IReconcileEngine> subEngine = subComponent.getReconcileEngine();
 							if (subEngine.isPresent()) {
-								subEngine.get().reconcile(document, problemCollector);
+								cancelChecker.checkCanceled();
+								subEngine.get().reconcile(document, problemCollector, cancelChecker);
 							}
 						}
 					}
@@ -57,6 +57,18 @@ public class LanguageServerProperties {
 	 */
 	private ReconcileStrategy reconcileStrategy = ReconcileStrategy.THROTTLE;
 	
+	/**
+	 * Maximum number of reconcile lanes. Documents of different languages are reconciled in parallel
+	 * on different lanes, languages share lanes if there are more languages than lanes.
+	 */
+	private int reconcileLanes = 4;
+	
+	/**
+	 * File to record the LSP messages received from the client to, for replaying the session in benchmarks.
+	 * Recordings contain the full text of opened documents. Recording is disabled if not set.
+	 */
+	private String recordSession;
+	
 	public boolean isStandalone() {
 		return standalone;
 	}
@@ -113,6 +125,22 @@ public class LanguageServerProperties {
 		this.reconcileStrategy = reconcileStrategy;
 	}
 
+	public int getReconcileLanes() {
+		return reconcileLanes;
+	}
+
+	public void setReconcileLanes(int reconcileLanes) {
+		this.reconcileLanes = reconcileLanes;
+	}
+
+	public String getRecordSession() {
+		return recordSession;
+	}
+
+	public void setRecordSession(String recordSession) {
+		this.recordSession = recordSession;
+	}
+
 	public enum ReconcileStrategy {
 		/**
 		 * Reconcile right after document has changed.
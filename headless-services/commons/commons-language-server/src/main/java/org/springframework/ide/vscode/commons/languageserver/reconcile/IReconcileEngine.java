@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.commons.languageserver.reconcile;
 
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.springframework.ide.vscode.commons.util.text.IDocument;
 
 public interface IReconcileEngine {
@@ -19,4 +20,13 @@ public interface IReconcileEngine {
 	};
 
 	public void reconcile(IDocument doc, IProblemCollector problemCollector);
+
+	/**
+	 * Reconciles the document and stops early if the cancel checker reports that the reconcile got cancelled,
+	 * e.g. because a newer version of the document arrived. Problems reported after cancellation are not
+	 * published anymore. Long running engines should override this method to check for cancellation regularly.
+	 */
+	default void reconcile(IDocument doc, IProblemCollector problemCollector, CancelChecker cancelChecker) {
+		reconcile(doc, problemCollector);
+	}
 }
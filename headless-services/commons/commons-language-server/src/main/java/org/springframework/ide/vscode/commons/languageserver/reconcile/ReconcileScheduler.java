@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.commons.languageserver.reconcile;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs document reconciles on a bounded number of lanes, each lane reconciles one document at a time.
+ * Documents of different languages (e.g. Java and properties files) get reconciled on different lanes,
+ * so that a slow reconcile of one language doesn't delay the diagnostics of the others. If there are more
+ * languages than lanes, languages share lanes.
+ * <p>
+ * Within a lane, documents that got focused (opened or changed) recently are reconciled first. Reconciles
+ * that are not needed anymore because a newer version of the document arrived can be cancelled, the
+ * reconcile engine gets a {@link CancelChecker} to stop cooperatively if the reconcile already started.
+ *
+ * @author Martin Lippert
+ */
+public class ReconcileScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(ReconcileScheduler.class);
+
+	/**
+	 * Documents focused within this time are reconciled before other documents in the same lane
+	 */
+	private static final long FOCUS_PRIORITY_MILLIS = 30_000;
+
+	private static final long LANE_KEEP_ALIVE_SECONDS = 60;
+
+	private final int maxLanes;
+	private final List<Lane> lanes = new ArrayList<>();
+	private final Map<String, Lane> lanesByKey = new ConcurrentHashMap<>();
+
+	private final Map<URI, Long> focused = new ConcurrentHashMap<>();
+	private final Map<URI, Reconcile> running = new ConcurrentHashMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+
+	public ReconcileScheduler(int maxLanes) {
+		this.maxLanes = Math.max(1, maxLanes);
+	}
+
+	/**
+	 * Marks the document as recently focused, reconciles of recently focused documents have priority within their lane
+	 */
+	public void focused(URI uri) {
+		long now = System.currentTimeMillis();
+		focused.put(uri, now);
+		focused.values().removeIf(time -> now - time > FOCUS_PRIORITY_MILLIS);
+	}
+
+	/**
+	 * Schedules a reconcile of a document after the given delay
+	 *
+	 * @param laneKey reconciles with the same key run on the same lane, e.g. the language of the document
+	 * @param delay time to wait before the reconcile gets queued, might be zero
+	 * @param reconcile does the actual work, should stop when the given cancel checker reports cancellation
+	 * @return handle to cancel the reconcile, which completes its future if the reconcile didn't start yet
+	 */
+	public Reconcile schedule(String laneKey, URI uri, Duration delay, Consumer<CancelChecker> reconcile) {
+		Reconcile task = new Reconcile(getLane(laneKey), uri, reconcile);
+		if (delay.isZero() || delay.isNegative()) {
+			task.enqueue();
+		}
+		else {
+			task.delay = Mono.delay(delay).subscribe(ignore -> task.enqueue());
+		}
+		return task;
+	}
+
+	/**
+	 * Cancels the reconcile of the given document that is currently running, if there is one
+	 */
+	public void cancelRunning(URI uri) {
+		Reconcile reconcile = running.get(uri);
+		if (reconcile != null) {
+			log.debug("Cancel running reconcile for {}", uri);
+			reconcile.dispose();
+		}
+	}
+
+	public List<LaneStatistics> getStatistics() {
+		synchronized (lanes) {
+			return lanes.stream().map(Lane::getStatistics).toList();
+		}
+	}
+
+	private Lane getLane(String key) {
+		return lanesByKey.computeIfAbsent(key, k -> {
+			synchronized (lanes) {
+				if (lanes.size() < maxLanes) {
+					Lane lane = new Lane(k);
+					lanes.add(lane);
+					return lane;
+				}
+				return lanes.get(Math.floorMod(k.hashCode(), maxLanes));
+			}
+		});
+	}
+
+	/**
+	 * A single reconcile request. Disposing it cancels the request, reconciles that are running already
+	 * get notified via their cancel checker.
+	 */
+	public class Reconcile implements Runnable, Comparable<Reconcile>, Disposable, CancelChecker {
+
+		private final Lane lane;
+		private final URI uri;
+		private final Consumer<CancelChecker> reconcile;
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+		private volatile Disposable delay;
+		private volatile boolean canceled;
+		private boolean enqueued;
+
+		private long sequenceNumber;
+		private boolean priority;
+		private long queuedAt;
+
+		private Reconcile(Lane lane, URI uri, Consumer<CancelChecker> reconcile) {
+			this.lane = lane;
+			this.uri = uri;
+			this.reconcile = reconcile;
+		}
+
+		private synchronized void enqueue() {
+			if (canceled) {
+				return;
+			}
+			enqueued = true;
+			Long focusedAt = focused.get(uri);
+			this.priority = focusedAt != null && System.currentTimeMillis() - focusedAt <= FOCUS_PRIORITY_MILLIS;
+			this.sequenceNumber = sequence.incrementAndGet();
+			this.queuedAt = System.nanoTime();
+			lane.submitted.incrementAndGet();
+			lane.executor.execute(this);
+		}
+
+		@Override
+		public void run() {
+			if (canceled) {
+				lane.canceled.incrementAndGet();
+				done.complete(null);
+				return;
+			}
+
+			long queueLatency = System.nanoTime() - queuedAt;
+			lane.recordQueueLatency(queueLatency);
+			log.debug("Reconcile for {} waited {} ms in lane {}", uri, TimeUnit.NANOSECONDS.toMillis(queueLatency), lane.name);
+
+			running.put(uri, this);
+			try {
+				reconcile.accept(this);
+			} catch (CancellationException e) {
+				log.debug("Reconcile canceled for {}", uri);
+			} finally {
+				running.remove(uri, this);
+				if (canceled) {
+					lane.canceled.incrementAndGet();
+				}
+				else {
+					lane.completed.incrementAndGet();
+				}
+				done.complete(null);
+			}
+		}
+
+		@Override
+		public int compareTo(Reconcile other) {
+			if (priority != other.priority) {
+				return priority ? -1 : 1;
+			}
+			return Long.compare(sequenceNumber, other.sequenceNumber);
+		}
+
+		@Override
+		public void dispose() {
+			synchronized (this) {
+				canceled = true;
+				if (!enqueued) {
+					done.complete(null);
+				}
+			}
+			Disposable delay = this.delay;
+			if (delay != null) {
+				delay.dispose();
+			}
+			// a reconcile that is running already completes when the reconcile engine stops
+			if (lane.executor.remove(this)) {
+				lane.canceled.incrementAndGet();
+				done.complete(null);
+			}
+		}
+
+		@Override
+		public boolean isDisposed() {
+			return canceled;
+		}
+
+		@Override
+		public void checkCanceled() {
+			if (canceled) {
+				throw new CancellationException();
+			}
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return canceled;
+		}
+
+		/**
+		 * @return future that completes when the reconcile is done, or cancelled before it started
+		 */
+		public CompletableFuture<Void> getFuture() {
+			return done;
+		}
+
+	}
+
+	private static class Lane {
+
+		private final String name;
+		private final ThreadPoolExecutor executor;
+
+		private final AtomicLong submitted = new AtomicLong();
+		private final AtomicLong completed = new AtomicLong();
+		private final AtomicLong canceled = new AtomicLong();
+		private final AtomicLong started = new AtomicLong();
+		private final AtomicLong totalQueueLatency = new AtomicLong();
+		private final AtomicLong maxQueueLatency = new AtomicLong();
+
+		Lane(String name) {
+			this.name = name;
+			this.executor = new ThreadPoolExecutor(1, 1, LANE_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), runnable -> {
+				Thread t = new Thread(runnable, "Reconciler-" + name);
+				t.setDaemon(true);
+				return t;
+			});
+			// lanes for languages that are not edited anymore don't keep their thread around
+			this.executor.allowCoreThreadTimeOut(true);
+		}
+
+		void recordQueueLatency(long nanos) {
+			started.incrementAndGet();
+			totalQueueLatency.addAndGet(nanos);
+			maxQueueLatency.accumulateAndGet(nanos, Math::max);
+		}
+
+		LaneStatistics getStatistics() {
+			long started = this.started.get();
+			return new LaneStatistics(name, submitted.get(), completed.get(), canceled.get(), executor.getQueue().size(),
+					started > 0 ? TimeUnit.NANOSECONDS.toMillis(totalQueueLatency.get() / started) : 0,
+					TimeUnit.NANOSECONDS.toMillis(maxQueueLatency.get()));
+		}
+
+	}
+
+	/**
+	 * Counters and queue latencies of a lane, latencies are measured from queueing a reconcile until it starts
+	 */
+	public record LaneStatistics(String lane, long submitted, long completed, long canceled, int queued,
+			long averageQueueLatencyMillis, long maxQueueLatencyMillis) {
+	}
+
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.commons.languageserver.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+
+/**
+ * Records the requests and notifications the client sends to the language server into a file,
+ * one JSON object per line with the time (in milliseconds since the first recorded message), the method and
+ * its parameters. The recorded sessions can be replayed against a language server to benchmark it.
+ * <p>
+ * Lifecycle messages (initialize, shutdown, ...) are not recorded, a replay uses its own initialization.
+ *
+ * @author Martin Lippert
+ */
+public class LspSessionRecorder implements Function<MessageConsumer, MessageConsumer> {
+
+	private static final Logger log = LoggerFactory.getLogger(LspSessionRecorder.class);
+
+	private static final Set<String> LIFECYCLE_METHODS = Set.of("initialize", "initialized", "shutdown", "exit", "$/setTrace", "$/cancelRequest");
+
+	private static final Gson GSON = new MessageJsonHandler(Collections.emptyMap()).getDefaultGsonBuilder().create();
+
+	private final Set<String> serverMethods;
+	private final Writer writer;
+
+	private long start = -1;
+
+	public LspSessionRecorder(SimpleLanguageServer server, Path file) throws IOException {
+		this.serverMethods = ServiceEndpoints.getSupportedMethods(server.getClass()).keySet();
+		this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		log.info("Recording LSP session to {}", file);
+	}
+
+	@Override
+	public MessageConsumer apply(MessageConsumer consumer) {
+		return message -> {
+			record(message);
+			consumer.consume(message);
+		};
+	}
+
+	private void record(Message message) {
+		String method;
+		Object params;
+		if (message instanceof RequestMessage request) {
+			method = request.getMethod();
+			params = request.getParams();
+		}
+		else if (message instanceof NotificationMessage notification) {
+			method = notification.getMethod();
+			params = notification.getParams();
+		}
+		else {
+			return;
+		}
+
+		// the wrapper sees the messages in both directions, only record what the client sends to the server
+		if (!serverMethods.contains(method) || LIFECYCLE_METHODS.contains(method)) {
+			return;
+		}
+
+		try {
+			synchronized (this) {
+				long now = System.currentTimeMillis();
+				if (start < 0) {
+					start = now;
+				}
+				RecordedMessage recorded = new RecordedMessage(now - start, method, params != null ? GSON.toJsonTree(params) : null);
+				writer.write(GSON.toJson(recorded));
+				writer.write('\n');
+				writer.flush();
+			}
+		}
+		catch (Exception e) {
+			log.error("Failed to record message {}", method, e);
+		}
+	}
+
+	/**
+	 * Reads a session recorded by this recorder
+	 */
+	public static List<RecordedMessage> read(Path file) throws IOException {
+		List<RecordedMessage> messages = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isBlank()) {
+					messages.add(GSON.fromJson(line, RecordedMessage.class));
+				}
+			}
+		}
+		return messages;
+	}
+
+	/**
+	 * Writes a session, e.g. a session that got generated instead of recorded
+	 */
+	public static void write(Path file, List<RecordedMessage> messages) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (RecordedMessage message : messages) {
+				writer.write(GSON.toJson(message));
+				writer.write('\n');
+			}
+		}
+	}
+
+	/**
+	 * Converts parameters into the JSON representation used for recorded messages
+	 */
+	public static JsonElement toJson(Object params) {
+		return GSON.toJsonTree(params);
+	}
+
+	public record RecordedMessage(long time, String method, JsonElement params) {
+	}
+
+}
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -67,6 +68,7 @@ import org.eclipse.lsp4j.WorkDoneProgressCancelParams;
 import org.eclipse.lsp4j.WorkspaceFolder;
 import org.eclipse.lsp4j.WorkspaceFoldersOptions;
 import org.eclipse.lsp4j.WorkspaceServerCapabilities;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageClientAware;
 import org.eclipse.lsp4j.services.NotebookDocumentService;
@@ -95,6 +97,9 @@ import org.springframework.ide.vscode.commons.languageserver.reconcile.Diagnosti
 import org.springframework.ide.vscode.commons.languageserver.reconcile.IProblemCollector;
 import org.springframework.ide.vscode.commons.languageserver.reconcile.IReconcileEngine;
 import org.springframework.ide.vscode.commons.languageserver.reconcile.ReconcileProblem;
+import org.springframework.ide.vscode.commons.languageserver.reconcile.ReconcileScheduler;
+import org.springframework.ide.vscode.commons.languageserver.reconcile.ReconcileScheduler.LaneStatistics;
+import org.springframework.ide.vscode.commons.languageserver.reconcile.ReconcileScheduler.Reconcile;
 import org.springframework.ide.vscode.commons.protocol.STS4LanguageClient;
 import org.springframework.ide.vscode.commons.protocol.spring.Bean;
 import org.springframework.ide.vscode.commons.protocol.spring.BeansParams;
@@ -117,7 +122,6 @@ import com.google.gson.JsonPrimitive;
 
 import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 /**
@@ -132,8 +136,6 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 	private static final String WORKSPACE_FOLDERS_CAPABILITY_ID = UUID.randomUUID().toString();
 	public static final String WORKSPACE_FOLDERS_CAPABILITY_NAME = "workspace/didChangeWorkspaceFolders";
 
-	private static final Scheduler RECONCILER_SCHEDULER = Schedulers.newSingle("Reconciler");
-
 	private static final int FORCED_EXIT_CODE = 1;
 	private static final int FORCED_EXIT_DELAY_IN_SECONDS = 3;
 
@@ -182,7 +184,12 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 
 	private DiagnosticService diagnosticService = message -> onError(null, message);
 
-	private CompletableFuture<Void> busyReconcile = CompletableFuture.completedFuture(null);
+	/**
+	 * Reconcile requests that are not done yet, used to wait for reconciling to catch up with all document changes
+	 */
+	private final Set<CompletableFuture<Void>> busyReconciles = ConcurrentHashMap.newKeySet();
+
+	private final ReconcileScheduler reconcileScheduler;
 
 	private QuickfixRegistry quickfixRegistry;
 
@@ -252,6 +259,7 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 		this.EXTENSION_ID = extensionId;
 		this.CODE_ACTION_COMMAND_ID = "sts."+EXTENSION_ID+".codeAction";
 		this.COMMAND_LIST_COMMAND_ID = "sts." + EXTENSION_ID + ".commandList";
+		this.reconcileScheduler = new ReconcileScheduler(props.getReconcileLanes());
 	}
 	
 	public Gson getGson() {
@@ -359,7 +367,7 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 		if (ih!=null){
 			ih.accept(params);
 		}
-		log.info("Returning server capabilities to client");
+		log.info("Returning server capabilities to client after {} ms", ManagementFactory.getRuntimeMXBean().getUptime());
 		log.debug("Capabilities: {}", result.getCapabilities());
 		return CompletableFuture.completedFuture(result);
 	}
@@ -618,6 +626,8 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 	public synchronized SimpleTextDocumentService getTextDocumentService() {
 		if (tds == null) {
 			tds = createTextDocumentService();
+			// documents that get opened or changed are the ones the user is working on, reconcile them first
+			tds.onDidChangeContent(change -> reconcileScheduler.focused(URI.create(change.getDocument().getUri())));
 		}
 		return tds;
 	}
@@ -686,6 +696,11 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 	 */
 	private Set<URI> reconcileDocUris = Collections.synchronizedSet(new HashSet<>());
 
+	/**
+	 * Versions of the documents that are being reconciled right now
+	 */
+	private ConcurrentHashMap<URI, Integer> reconcilingVersions = new ConcurrentHashMap<>();
+
 	/**
 	 * Convenience method. Subclasses can call this to use a {@link IReconcileEngine} ported
 	 * from old STS codebase to validate a given {@link TextDocument} and publish Diagnostics.
@@ -693,7 +708,8 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 	public void validateWith(TextDocumentIdentifier docId, IReconcileEngine engine) {
 		SimpleTextDocumentService documents = getTextDocumentService();
 
-		if (documents.getLatestSnapshot(docId.getUri()) == null) {
+		TextDocument latest = documents.getLatestSnapshot(docId.getUri());
+		if (latest == null) {
 			log.debug("Reconcile skipped due to document doesn't exist anymore {}", docId.getUri());
 			return;
 		}
@@ -702,6 +718,12 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 		
 		log.debug("Validate doc {}", uri);
 		
+		// a running reconcile of an older version of the document is not needed anymore
+		Integer reconcilingVersion = reconcilingVersions.get(uri);
+		if (reconcilingVersion != null && reconcilingVersion != latest.getVersion()) {
+			reconcileScheduler.cancelRunning(uri);
+		}
+		
 		if (props.getReconcileStrategy() != ReconcileStrategy.DEBOUNCE || props.getReconcileDelay() == 0) {
 			if (!reconcileDocUris.add(uri)) {
 				log.debug("Reconcile skipped {}", uri);
@@ -709,9 +731,11 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 			}
 		}
 		
-		CompletableFuture<Void> currentSession = this.busyReconcile = new CompletableFuture<>();	
+		CompletableFuture<Void> currentSession = new CompletableFuture<>();
+		busyReconciles.add(currentSession);
+		currentSession.whenComplete((r, e) -> busyReconciles.remove(currentSession));
 		
-		Mono<Object> doReconcile = Mono.fromRunnable(() -> {
+		Consumer<CancelChecker> doReconcile = cancelChecker -> {
 			reconcileRequests.remove(uri);
 			reconcileDocUris.remove(uri);
 			log.debug("Starting reconcile for {}", uri);
@@ -734,49 +758,78 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 				testListener.reconcileStarted(docId.getUri(), doc.getVersion());
 			}
 
-			IProblemCollector problems = createProblemCollector(doc, null);
-
-			engine.reconcile(doc, problems);
-		})
-		.onErrorResume(error -> {
-			log.error("", error);
-			return Mono.empty();
-		})
-		.doFinally(ignore -> {
-			currentSession.complete(null);
-//			Log.debug("Reconciler DONE : "+this.busyReconcile.isDone());
-		});
+			int version = doc.getVersion();
+			reconcilingVersions.put(uri, version);
+			try {
+				IProblemCollector problems = createProblemCollector(doc, null);
+				engine.reconcile(doc, cancelable(problems, cancelChecker), cancelChecker);
+			} catch (CancellationException e) {
+				throw e;
+			} catch (Throwable error) {
+				log.error("", error);
+			} finally {
+				reconcilingVersions.remove(uri, version);
+			}
+		};
 		
-		// Use RECONCILER_SCHEDULER to avoid running in the same thread as lsp4j as it can result
+		// Reconciles run on the lanes of the reconcile scheduler to avoid running in the same thread as lsp4j as it can result
 		// in long "hangs" for slow reconcile providers
-		if (props.getReconcileDelay() > 0 && props.getReconcileStrategy() != ReconcileStrategy.NONE) {
-			Disposable old = reconcileRequests.put(uri, Mono.delay(Duration.ofMillis(props.getReconcileDelay()))
-					.publishOn(RECONCILER_SCHEDULER)
-					.then(doReconcile)
-					.subscribe()
-			);
-			if (old != null) {
-				old.dispose();
-				log.debug("Re-scheduled requested reconcile for {}", uri);
-				// Should reach this point only for the case of Debounce strategy
-				Assert.isTrue(props.getReconcileStrategy() == ReconcileStrategy.DEBOUNCE);
-			} else {
-				log.debug("Requested reconcile for {}", uri);
-			}
+		Duration delay = props.getReconcileDelay() > 0 && props.getReconcileStrategy() != ReconcileStrategy.NONE
+				? Duration.ofMillis(props.getReconcileDelay())
+				: Duration.ZERO;
+		Reconcile reconcile = reconcileScheduler.schedule(latest.getLanguageId().getId(), uri, delay, doReconcile);
+		reconcile.getFuture().whenComplete((r, e) -> currentSession.complete(null));
+
+		Disposable old = reconcileRequests.put(uri, reconcile);
+		if (old != null) {
+			old.dispose();
+			log.debug("Re-scheduled requested reconcile for {}", uri);
+			// Should reach this point only for the case of Debounce strategy
+			Assert.isTrue(props.getReconcileStrategy() == ReconcileStrategy.DEBOUNCE);
 		} else {
-			// No debounce or throttling case. Either delay is <= 0 or strategy is none. 
-			Disposable old = reconcileRequests.put(uri, doReconcile.subscribeOn(RECONCILER_SCHEDULER).subscribe());
-			if (old != null) {
-				old.dispose();
-				log.debug("Re-scheduled requested reconcile for {}", uri);
-				// Should reach this point only for the case of Debounce strategy
-				Assert.isTrue(props.getReconcileStrategy() == ReconcileStrategy.DEBOUNCE);
-			} else {
-				log.debug("Requested reconcile for {}", uri);
-			}
+			log.debug("Requested reconcile for {}", uri);
 		}
 	}
 	
+	/**
+	 * Problems of a cancelled reconcile are outdated, a newer reconcile of the document publishes the current ones
+	 */
+	private static IProblemCollector cancelable(IProblemCollector problems, CancelChecker cancelChecker) {
+		return new IProblemCollector() {
+
+			@Override
+			public void beginCollecting() {
+				problems.beginCollecting();
+			}
+
+			@Override
+			public void checkPointCollecting() {
+				if (!cancelChecker.isCanceled()) {
+					problems.checkPointCollecting();
+				}
+			}
+
+			@Override
+			public void endCollecting() {
+				if (!cancelChecker.isCanceled()) {
+					problems.endCollecting();
+				}
+			}
+
+			@Override
+			public void accept(ReconcileProblem problem) {
+				problems.accept(problem);
+			}
+		};
+	}
+
+	/**
+	 * Queue latencies and counters of the reconcile lanes
+	 */
+	public List<LaneStatistics> getReconcileStatistics() {
+		return reconcileScheduler.getStatistics();
+	}
+	
 	public IProblemCollector createProblemCollector(TextDocument doc, BiConsumer<String, Diagnostic> diagnosticsCollector) {
 
 		SimpleTextDocumentService documentsService = getTextDocumentService();
@@ -862,8 +915,8 @@ public final class SimpleLanguageServer implements Sts4LanguageServer, SpringInd
 	 * all the document changes.
 	 */
 	public void waitForReconcile() throws Exception {
-		while (!this.busyReconcile.isDone()) {
-			this.busyReconcile.get();
+		while (!this.busyReconciles.isEmpty()) {
+			CompletableFuture.allOf(this.busyReconciles.toArray(new CompletableFuture<?>[0])).get();
 		}
 	}
 
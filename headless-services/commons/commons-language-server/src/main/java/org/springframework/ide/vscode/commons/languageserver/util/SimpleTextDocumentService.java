@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.commons.languageserver.util;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.util.Collection;
@@ -22,6 +23,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -116,6 +118,8 @@ public class SimpleTextDocumentService implements TextDocumentService, DocumentE
 	
 	private final Executor messageWorkerThreadPool;
 
+	private final AtomicBoolean firstDiagnosticsPublished = new AtomicBoolean(false);
+
 	private CompletionHandler completionHandler;
 	private CompletionResolveHandler completionResolveHandler;
 	private HoverHandler hoverHandler;
@@ -726,6 +730,10 @@ public class SimpleTextDocumentService implements TextDocumentService, DocumentE
 			params.setUri(docId.getUri());
 			params.setDiagnostics(ImmutableList.copyOf(diagnostics));
 			client.publishDiagnostics(params);
+
+			if (firstDiagnosticsPublished.compareAndSet(false, true)) {
+				log.info("First diagnostics published after {} ms", ManagementFactory.getRuntimeMXBean().getUptime());
+			}
 		}
 	}
 
@@ -32,6 +32,8 @@ import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.SemanticTokensWorkspaceCapabilities;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.WorkspaceClientCapabilities;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
 import org.eclipse.lsp4j.WorkspaceFolder;
 import org.eclipse.lsp4j.WorkspaceFoldersChangeEvent;
 import org.eclipse.lsp4j.WorkspaceSymbol;
@@ -59,6 +61,7 @@ public class SimpleWorkspaceService implements WorkspaceService {
 	private final SettingsStore settingsStore = new SettingsStore();
 	private ExecuteCommandHandler executeCommandHandler;
 	private WorkspaceSymbolHandler workspaceSymbolHandler;
+	private WorkspaceDiagnosticsHandler workspaceDiagnosticsHandler;
 	private SimpleServerFileObserver fileObserver;
 	private AsyncRunner asyncRunner;
 	
@@ -85,13 +88,28 @@ public class SimpleWorkspaceService implements WorkspaceService {
 			else {
 				cancelToken.checkCanceled();
 				
-				List<? extends WorkspaceSymbol> symbols = workspaceSymbolHandler.handle(params);
+				List<? extends WorkspaceSymbol> symbols = workspaceSymbolHandler.handle(params, cancelToken);
 				log.info("workspace symbol computation done: " + symbols.size());
 				return Either.forRight(symbols == null ? ImmutableList.<WorkspaceSymbol>of() : symbols);
 			}
 		});
 	}
 
+	@Override
+	public CompletableFuture<WorkspaceDiagnosticReport> diagnostic(WorkspaceDiagnosticParams params) {
+		return CompletableFutures.computeAsync(messageWorkerThreadPool, cancelToken -> {
+			WorkspaceDiagnosticsHandler workspaceDiagnosticsHandler = this.workspaceDiagnosticsHandler;
+
+			if (workspaceDiagnosticsHandler == null) {
+				return new WorkspaceDiagnosticReport(ImmutableList.of());
+			}
+			else {
+				cancelToken.checkCanceled();
+				return workspaceDiagnosticsHandler.handle(params, cancelToken);
+			}
+		});
+	}
+
 	@Override
 	public void didChangeConfiguration(DidChangeConfigurationParams params) {
 		asyncRunner.execute(() -> settingsStore.update(new Settings((JsonElement) params.getSettings())));
@@ -187,6 +205,15 @@ public class SimpleWorkspaceService implements WorkspaceService {
 		return this.workspaceSymbolHandler != null;
 	}
 
+	public synchronized void onWorkspaceDiagnostics(WorkspaceDiagnosticsHandler h) {
+		Assert.isNull("A WorkspaceDiagnosticsHandler is already set, multiple handlers not supported yet", workspaceDiagnosticsHandler);
+		this.workspaceDiagnosticsHandler = h;
+	}
+
+	public boolean hasWorkspaceDiagnosticsHandler() {
+		return this.workspaceDiagnosticsHandler != null;
+	}
+
 	public FileObserver getFileObserver() {
 		return fileObserver;
 	}
@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.lsp4j.WorkspaceSymbolParams;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import com.google.common.collect.ImmutableList;
 
@@ -24,4 +25,8 @@ public interface WorkspaceSymbolHandler {
 
 	List<? extends WorkspaceSymbol> handle(WorkspaceSymbolParams params);
 
+	default List<? extends WorkspaceSymbol> handle(WorkspaceSymbolParams params, CancelChecker cancelChecker) {
+		return handle(params);
+	}
+
 }
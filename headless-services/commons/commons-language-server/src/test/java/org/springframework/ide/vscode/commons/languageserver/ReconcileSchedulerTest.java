@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.commons.languageserver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.commons.languageserver.reconcile.ReconcileScheduler;
+import org.springframework.ide.vscode.commons.languageserver.reconcile.ReconcileScheduler.LaneStatistics;
+import org.springframework.ide.vscode.commons.languageserver.reconcile.ReconcileScheduler.Reconcile;
+
+class ReconcileSchedulerTest {
+
+	private static final URI JAVA_DOC = URI.create("file:///project/src/main/java/com/example/Application.java");
+	private static final URI PROPERTIES_DOC = URI.create("file:///project/src/main/resources/application.properties");
+	private static final URI YAML_DOC = URI.create("file:///project/src/main/resources/application.yml");
+
+	private ReconcileScheduler scheduler;
+
+	@BeforeEach
+	void setup() {
+		scheduler = new ReconcileScheduler(4);
+	}
+
+	@Test
+	void slowLaneDoesNotBlockOtherLanes() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Reconcile java = scheduler.schedule("java", JAVA_DOC, Duration.ZERO, cancelChecker -> await(release));
+		Reconcile properties = scheduler.schedule("spring-boot-properties", PROPERTIES_DOC, Duration.ZERO, cancelChecker -> {});
+
+		properties.getFuture().get(5, TimeUnit.SECONDS);
+		assertThat(java.getFuture()).isNotDone();
+
+		release.countDown();
+		java.getFuture().get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void cancelRunningReconcile() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		Reconcile java = scheduler.schedule("java", JAVA_DOC, Duration.ZERO, cancelChecker -> {
+			started.countDown();
+			while (true) {
+				cancelChecker.checkCanceled();
+				Thread.onSpinWait();
+			}
+		});
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		scheduler.cancelRunning(JAVA_DOC);
+
+		java.getFuture().get(5, TimeUnit.SECONDS);
+		assertThat(java.isCanceled()).isTrue();
+		assertThat(scheduler.getStatistics()).singleElement().extracting(LaneStatistics::canceled).isEqualTo(1L);
+	}
+
+	@Test
+	void disposeQueuedReconcile() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		List<URI> reconciled = new CopyOnWriteArrayList<>();
+
+		Reconcile blocker = scheduler.schedule("yaml", YAML_DOC, Duration.ZERO, cancelChecker -> await(release));
+		Reconcile queued = scheduler.schedule("yaml", PROPERTIES_DOC, Duration.ZERO, cancelChecker -> reconciled.add(PROPERTIES_DOC));
+		Reconcile delayed = scheduler.schedule("yaml", JAVA_DOC, Duration.ofMinutes(1), cancelChecker -> reconciled.add(JAVA_DOC));
+
+		queued.dispose();
+		delayed.dispose();
+		assertThat(queued.getFuture()).isDone();
+		assertThat(delayed.getFuture()).isDone();
+
+		release.countDown();
+		blocker.getFuture().get(5, TimeUnit.SECONDS);
+		assertThat(reconciled).isEmpty();
+	}
+
+	@Test
+	void focusedDocumentsFirst() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		List<URI> reconciled = new CopyOnWriteArrayList<>();
+
+		Reconcile blocker = scheduler.schedule("yaml", YAML_DOC, Duration.ZERO, cancelChecker -> await(release));
+		Reconcile other = scheduler.schedule("yaml", JAVA_DOC, Duration.ZERO, cancelChecker -> reconciled.add(JAVA_DOC));
+		scheduler.focused(PROPERTIES_DOC);
+		Reconcile focused = scheduler.schedule("yaml", PROPERTIES_DOC, Duration.ZERO, cancelChecker -> reconciled.add(PROPERTIES_DOC));
+
+		release.countDown();
+		blocker.getFuture().get(5, TimeUnit.SECONDS);
+		other.getFuture().get(5, TimeUnit.SECONDS);
+		focused.getFuture().get(5, TimeUnit.SECONDS);
+
+		assertThat(reconciled).containsExactly(PROPERTIES_DOC, JAVA_DOC);
+
+		LaneStatistics statistics = scheduler.getStatistics().get(0);
+		assertThat(statistics.submitted()).isEqualTo(3);
+		assertThat(statistics.completed()).isEqualTo(3);
+		assertThat(statistics.queued()).isZero();
+	}
+
+	@Test
+	void lanesAreBounded() throws Exception {
+		ReconcileScheduler scheduler = new ReconcileScheduler(2);
+		for (String language : List.of("java", "yaml", "spring-boot-properties", "xml")) {
+			scheduler.schedule(language, JAVA_DOC, Duration.ZERO, cancelChecker -> {}).getFuture().get(5, TimeUnit.SECONDS);
+		}
+		assertThat(scheduler.getStatistics()).hasSize(2);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.commons.languageserver;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentPositionParams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.commons.languageserver.completion.DocumentEdits;
+import org.springframework.ide.vscode.commons.languageserver.completion.ICompletionProposal;
+import org.springframework.ide.vscode.commons.languageserver.completion.InternalCompletionList;
+import org.springframework.ide.vscode.commons.languageserver.completion.VscodeCompletionEngineAdapter;
+import org.springframework.ide.vscode.commons.languageserver.completion.VscodeCompletionEngineAdapter.LazyCompletionResolver;
+import org.springframework.ide.vscode.commons.languageserver.util.SimpleLanguageServer;
+import org.springframework.ide.vscode.commons.languageserver.util.SimpleTextDocumentService;
+import org.springframework.ide.vscode.commons.util.HtmlBuffer;
+import org.springframework.ide.vscode.commons.util.Renderable;
+import org.springframework.ide.vscode.commons.util.text.LanguageId;
+import org.springframework.ide.vscode.commons.util.text.TextDocument;
+
+class VscodeCompletionEngineAdapterTest {
+
+	private static final String DOC_URI = "file:///project/src/main/resources/application.properties";
+
+	private final AtomicInteger documentationRendered = new AtomicInteger();
+	private final AtomicInteger additionalEditsComputed = new AtomicInteger();
+
+	private TextDocument doc;
+	private VscodeCompletionEngineAdapter adapter;
+
+	@BeforeEach
+	void setup() {
+		doc = new TextDocument(DOC_URI, LanguageId.BOOT_PROPERTIES, 1, "server.po");
+
+		SimpleLanguageServer server = mock(SimpleLanguageServer.class);
+		SimpleTextDocumentService documents = mock(SimpleTextDocumentService.class);
+		when(server.getTextDocumentService()).thenReturn(documents);
+		when(documents.getLatestSnapshot(any(TextDocumentPositionParams.class))).thenReturn(doc);
+
+		adapter = new VscodeCompletionEngineAdapter(server, (document, offset) -> new InternalCompletionList(List.of(proposal()), false),
+				new LazyCompletionResolver(), Optional.empty());
+	}
+
+	@Test
+	void resolvedPartsReusedWhenItemIsResolvedAgain() {
+		CompletionItem item = getCompletion();
+
+		// the resolve request and the resolve edit command resolve the same item via its id
+		CompletionItem sameItem = new CompletionItem(item.getLabel());
+		sameItem.setData(item.getData());
+
+		adapter.resolveCompletion(() -> {}, item);
+		adapter.resolveCompletion(() -> {}, sameItem);
+
+		assertThat(documentationRendered.get()).isEqualTo(1);
+		assertThat(additionalEditsComputed.get()).isEqualTo(1);
+
+		assertThat(item.getDocumentation().getRight().getValue()).isEqualTo("The port of the server");
+		assertThat(sameItem.getDocumentation()).isEqualTo(item.getDocumentation());
+		assertThat(sameItem.getAdditionalTextEdits()).isEqualTo(item.getAdditionalTextEdits());
+		assertThat(item.getAdditionalTextEdits()).hasSize(1);
+	}
+
+	@Test
+	void cancelledResolveReturnsEarly() {
+		CompletionItem item = getCompletion();
+
+		assertThatThrownBy(() -> adapter.resolveCompletion(() -> {
+			throw new CancellationException();
+		}, item)).isInstanceOf(CancellationException.class);
+
+		assertThat(documentationRendered.get()).isZero();
+		assertThat(additionalEditsComputed.get()).isZero();
+		assertThat(item.getDocumentation()).isNull();
+
+		// still resolvable by the next, not cancelled request
+		assertThat(item.getData()).isNotNull();
+		adapter.resolveCompletion(() -> {}, item);
+		assertThat(documentationRendered.get()).isEqualTo(1);
+	}
+
+	private CompletionItem getCompletion() {
+		TextDocumentPositionParams params = new TextDocumentPositionParams(new TextDocumentIdentifier(DOC_URI), new Position(0, 9));
+		List<CompletionItem> items = adapter.getCompletions(() -> {}, params).getItems();
+
+		assertThat(items).hasSize(1);
+		CompletionItem item = items.get(0);
+		assertThat(item.getDocumentation()).isNull();
+		assertThat(item.getData()).isNotNull();
+		return item;
+	}
+
+	private ICompletionProposal proposal() {
+		return new ICompletionProposal() {
+
+			@Override
+			public String getLabel() {
+				return "server.port";
+			}
+
+			@Override
+			public CompletionItemKind getKind() {
+				return CompletionItemKind.Property;
+			}
+
+			@Override
+			public DocumentEdits getTextEdit() {
+				DocumentEdits edits = new DocumentEdits(doc, false);
+				edits.insert(9, "rt");
+				return edits;
+			}
+
+			@Override
+			public Optional<Supplier<DocumentEdits>> getAdditionalEdit() {
+				return Optional.of(() -> {
+					additionalEditsComputed.incrementAndGet();
+					DocumentEdits edits = new DocumentEdits(doc, false);
+					edits.insert(0, "# server\n");
+					return edits;
+				});
+			}
+
+			@Override
+			public String getDetail() {
+				return "int";
+			}
+
+			@Override
+			public Renderable getDocumentation() {
+				return new Renderable() {
+
+					@Override
+					public void renderAsMarkdown(StringBuilder buffer) {
+						documentationRendered.incrementAndGet();
+						buffer.append("The port of the server");
+					}
+
+					@Override
+					public void renderAsHtml(HtmlBuffer buffer) {
+						buffer.text("The port of the server");
+					}
+				};
+			}
+		};
+	}
+
+}
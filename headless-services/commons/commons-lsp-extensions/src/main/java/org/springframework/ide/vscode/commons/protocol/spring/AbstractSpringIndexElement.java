@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.commons.protocol.spring;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -19,6 +20,8 @@ public abstract class AbstractSpringIndexElement implements SpringIndexElement {
 	public static final List<SpringIndexElement> NO_CHILDREN = List.of();
 	private List<SpringIndexElement> children;
 
+	private transient SpringIndexElement parent;
+
 	public AbstractSpringIndexElement() {
 		this.children = NO_CHILDREN;
 	}
@@ -27,6 +30,15 @@ public abstract class AbstractSpringIndexElement implements SpringIndexElement {
 	public List<SpringIndexElement> getChildren() {
 		return Collections.unmodifiableList(this.children);
 	}
+
+	@Override
+	public SpringIndexElement getParent() {
+		return parent;
+	}
+
+	void setParent(SpringIndexElement parent) {
+		this.parent = parent;
+	}
 	
 	public void addChild(SpringIndexElement child) {
 		if (children == NO_CHILDREN) {
@@ -34,6 +46,11 @@ public abstract class AbstractSpringIndexElement implements SpringIndexElement {
 		}
 
 		this.children.add(child);
+
+		if (child instanceof AbstractSpringIndexElement element) {
+			element.setParent(this);
+		}
+		childrenChanged();
 	}
 	
 	public void removeChild(SpringIndexElement doc) {
@@ -42,8 +59,44 @@ public abstract class AbstractSpringIndexElement implements SpringIndexElement {
 		if (removed && this.children.size() == 0) {
 			this.children = NO_CHILDREN;
 		}
+
+		if (removed) {
+			if (doc instanceof AbstractSpringIndexElement element && element.getParent() == this) {
+				element.setParent(null);
+			}
+			childrenChanged();
+		}
 	}
 
+	/**
+	 * sets the parent links in the tree below the given element, for element trees that got restored
+	 * from the cache or created elsewhere and don't have their parents set yet
+	 */
+	static void linkParents(SpringIndexElement root) {
+		ArrayDeque<SpringIndexElement> elementsToVisit = new ArrayDeque<>();
+		elementsToVisit.add(root);
+
+		while (!elementsToVisit.isEmpty()) {
+			SpringIndexElement element = elementsToVisit.pop();
+			for (SpringIndexElement child : element.getChildren()) {
+				if (child instanceof AbstractSpringIndexElement childElement) {
+					childElement.setParent(element);
+				}
+				elementsToVisit.add(child);
+			}
+		}
+	}
 
+	/**
+	 * called when children got added to or removed from this element or one of its descendants
+	 */
+	protected void childrenChanged() {
+		if (parent instanceof AbstractSpringIndexElement parentElement) {
+			parentElement.childrenChanged();
+		}
+		else if (parent instanceof ProjectElement project) {
+			project.childrenChanged();
+		}
+	}
 
 }
@@ -14,12 +14,16 @@ import java.util.Map;
 
 import org.eclipse.lsp4j.Location;
 
+import com.google.gson.annotations.JsonAdapter;
+
 /**
  * @author Martin Lippert
  */
 public class AnnotationMetadata {
 	
+	@JsonAdapter(IndexElementInterner.InternedStringAdapter.class)
 	private final String annotationName;
+	@JsonAdapter(IndexElementInterner.InternedStringAdapter.class)
 	private final String annotationType;
 
 	private final boolean isMetaAnnotation;
@@ -31,10 +35,10 @@ public class AnnotationMetadata {
 	}
 	
 	public AnnotationMetadata(String annotationName, String annotationType, boolean isMetaAnnotation, Location location, Map<String, AnnotationAttributeValue[]> attributes) {
-		this.annotationName = annotationName;
-		this.annotationType = annotationType;
+		this.annotationName = IndexElementInterner.intern(annotationName);
+		this.annotationType = IndexElementInterner.intern(annotationType);
 		this.isMetaAnnotation = isMetaAnnotation;
-		this.location = location;
+		this.location = IndexElementInterner.intern(location);
 		this.attributes = attributes;
 	}
 	
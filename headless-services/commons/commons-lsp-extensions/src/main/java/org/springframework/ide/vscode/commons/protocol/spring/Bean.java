@@ -10,22 +10,25 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.commons.protocol.spring;
 
+import java.util.Arrays;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.SymbolKind;
 
 import com.google.gson.Gson;
+import com.google.gson.annotations.JsonAdapter;
 
 public class Bean extends AbstractSpringIndexElement implements SymbolElement {
 	
 	private final String name;
+	@JsonAdapter(IndexElementInterner.InternedStringAdapter.class)
 	private final String type;
 	private final Location location;
 	private final InjectionPoint[] injectionPoints;
-	private final String[] supertypes;
+	@JsonAdapter(IndexElementInterner.InternedTypesAdapter.class)
+	private final String[] supertypes; // canonical (shared and sorted) instance, see IndexElementInterner
 	private final AnnotationMetadata[] annotations;
 	private final boolean isConfiguration;
 	private final String symbolLabel;
@@ -42,8 +45,8 @@ public class Bean extends AbstractSpringIndexElement implements SymbolElement {
 			String symbolLabel) {
 		
 		this.name = name;
-		this.type = type;
-		this.location = location;
+		this.type = IndexElementInterner.intern(type);
+		this.location = IndexElementInterner.intern(location);
 		this.isConfiguration = isConfiguration;
 		this.symbolLabel = symbolLabel;
 		this.isInterface = supertypes == null || !supertypes.contains(Object.class.getName());
@@ -55,12 +58,12 @@ public class Bean extends AbstractSpringIndexElement implements SymbolElement {
 			this.injectionPoints = injectionPoints;
 		}
 		
-		Set<String> sanitizedSuperTypes = supertypes == null ? null : supertypes.stream().filter(t -> !t.equals(Object.class.getName())).collect(Collectors.toUnmodifiableSet());
-		if (sanitizedSuperTypes != null && sanitizedSuperTypes.size() == 0) {
+		String[] sanitizedSuperTypes = supertypes == null ? null : supertypes.stream().filter(t -> !t.equals(Object.class.getName())).toArray(String[]::new);
+		if (sanitizedSuperTypes != null && sanitizedSuperTypes.length == 0) {
 			this.supertypes = null;
 		}
 		else {
-			this.supertypes = sanitizedSuperTypes == null ? null : sanitizedSuperTypes.toArray(new String[sanitizedSuperTypes.size()]);
+			this.supertypes = IndexElementInterner.internTypes(sanitizedSuperTypes);
 		}
 
 		if (annotations != null && annotations.length == 0) {
@@ -88,7 +91,7 @@ public class Bean extends AbstractSpringIndexElement implements SymbolElement {
 	}
 
 	public boolean isTypeCompatibleWith(String type) {
-		return type != null && ((this.type != null && this.type.equals(type)) || (supertypes != null && Set.of(supertypes).contains(type)) || (Object.class.getName().equals(type) && !isInterface));
+		return type != null && ((this.type != null && this.type.equals(type)) || (supertypes != null && Arrays.binarySearch(supertypes, type) >= 0) || (Object.class.getName().equals(type) && !isInterface));
 	}
 	
 	public AnnotationMetadata[] getAnnotations() {
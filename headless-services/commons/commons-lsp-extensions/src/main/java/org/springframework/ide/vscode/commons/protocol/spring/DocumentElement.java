@@ -10,10 +10,25 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.commons.protocol.spring;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
 public class DocumentElement extends AbstractSpringIndexElement {
 
 	private final String docURI;
 
+	/**
+	 * all elements in the tree of this document in traversal order, together with the elements of the types
+	 * that got asked for, built on demand and dropped whenever children get added or removed anywhere in the tree.
+	 * Building and dropping the registry happens under the lock of this element, so a registry that got built
+	 * while the tree changed can't be published after the change dropped it.
+	 */
+	private transient volatile ElementRegistry registry;
+
 	public DocumentElement(String docURI) {
 		this.docURI = docURI;
 	}
@@ -22,4 +37,75 @@ public class DocumentElement extends AbstractSpringIndexElement {
 		return docURI;
 	}
 
+	@Override
+	public void addChild(SpringIndexElement child) {
+		super.addChild(child);
+
+		// element trees restored from the cache or created elsewhere don't have their parents set yet
+		linkParents(child);
+	}
+
+	@Override
+	protected void childrenChanged() {
+		synchronized (this) {
+			this.registry = null;
+		}
+		super.childrenChanged();
+	}
+
+	/**
+	 * Elements of the given type in the tree of this document, in the order of walking the tree, taken from the registry instead of walking the tree
+	 */
+	public <T extends SpringIndexElement> List<T> getNodesOfType(Class<T> type, Predicate<T> predicate) {
+		List<T> result = new ArrayList<>();
+		if (type.isInstance(this) && predicate.test(type.cast(this))) {
+			result.add(type.cast(this));
+		}
+
+		for (SpringIndexElement element : getRegistry().getElements(type)) {
+			T typedElement = type.cast(element);
+			if (predicate.test(typedElement)) {
+				result.add(typedElement);
+			}
+		}
+		return result;
+	}
+
+	private ElementRegistry getRegistry() {
+		ElementRegistry result = this.registry;
+		if (result == null) {
+			synchronized (this) {
+				result = this.registry;
+				if (result == null) {
+					List<SpringIndexElement> elements = new ArrayList<>();
+
+					ArrayDeque<SpringIndexElement> elementsToVisit = new ArrayDeque<>(getChildren());
+					while (!elementsToVisit.isEmpty()) {
+						SpringIndexElement element = elementsToVisit.pop();
+						elements.add(element);
+						elementsToVisit.addAll(element.getChildren());
+					}
+
+					result = new ElementRegistry(elements);
+					this.registry = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static class ElementRegistry {
+
+		private final List<SpringIndexElement> elements;
+		private final Map<Class<?>, List<SpringIndexElement>> elementsByType = new ConcurrentHashMap<>();
+
+		ElementRegistry(List<SpringIndexElement> elements) {
+			this.elements = elements;
+		}
+
+		List<SpringIndexElement> getElements(Class<?> type) {
+			return elementsByType.computeIfAbsent(type, t -> elements.stream().filter(t::isInstance).toList());
+		}
+	}
+
 }
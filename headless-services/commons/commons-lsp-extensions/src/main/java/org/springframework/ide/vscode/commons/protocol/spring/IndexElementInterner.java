@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.commons.protocol.spring;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.lsp4j.Location;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Canonicalizes the strings and type sets that show up over and over again in
+ * index elements (fully qualified type names, annotation types, document URIs,
+ * supertype sets), so that beans, injection points and annotation metadata
+ * share those instances instead of holding their own copies.
+ *
+ * Strings are interned via the JVM string table, so unused entries are garbage
+ * collected. Supertype sets are kept in a pool keyed by their content that holds
+ * them weakly, so sets that are no longer used by any index element (e.g. after
+ * a project got removed) are garbage collected and removed from the pool as well.
+ *
+ * @author Martin Lippert
+ */
+public class IndexElementInterner {
+
+	private static final String[] NO_TYPES = new String[0];
+	private static final ConcurrentMap<TypesKey, TypesReference> typeSets = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<String[]> collectedTypeSets = new ReferenceQueue<>();
+
+	public static String intern(String value) {
+		return value == null ? null : value.intern();
+	}
+
+	/**
+	 * returns the canonical instance of the given set of types, the order of the
+	 * given types doesn't matter. The returned array is shared and must not be modified.
+	 */
+	public static String[] internTypes(String[] types) {
+		if (types == null) {
+			return null;
+		}
+		if (types.length == 0) {
+			return NO_TYPES;
+		}
+
+		String[] sorted = new String[types.length];
+		for (int i = 0; i < types.length; i++) {
+			sorted[i] = intern(types[i]);
+		}
+		Arrays.sort(sorted);
+
+		removeCollectedTypeSets();
+
+		TypesReference reference = new TypesReference(sorted, collectedTypeSets);
+		while (true) {
+			TypesReference existing = typeSets.putIfAbsent(reference.key, reference);
+			if (existing == null) {
+				return sorted;
+			}
+
+			String[] existingTypes = existing.get();
+			if (existingTypes != null) {
+				return existingTypes;
+			}
+
+			// collected in the meantime, replace it
+			typeSets.remove(existing.key, existing);
+		}
+	}
+
+	public static Location intern(Location location) {
+		if (location != null && location.getUri() != null) {
+			location.setUri(location.getUri().intern());
+		}
+		return location;
+	}
+
+	/**
+	 * number of distinct supertype sets currently shared, mainly for diagnostics and tests
+	 */
+	public static int getTypeSetCount() {
+		removeCollectedTypeSets();
+		return typeSets.size();
+	}
+
+	private static void removeCollectedTypeSets() {
+		Reference<? extends String[]> collected;
+		while ((collected = collectedTypeSets.poll()) != null) {
+			TypesReference reference = (TypesReference) collected;
+			typeSets.remove(reference.key, reference);
+		}
+	}
+
+	private static final class TypesReference extends WeakReference<String[]> {
+
+		private final TypesKey key;
+
+		private TypesReference(String[] types, ReferenceQueue<String[]> queue) {
+			super(types, queue);
+			this.key = new TypesKey(this, Arrays.hashCode(types));
+		}
+	}
+
+	/**
+	 * key of the pool that doesn't keep the types alive, keys of collected sets are only equal to themselves
+	 */
+	private static final class TypesKey {
+
+		private final TypesReference reference;
+		private final int hash;
+
+		private TypesKey(TypesReference reference, int hash) {
+			this.reference = reference;
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof TypesKey))
+				return false;
+
+			TypesKey other = (TypesKey) obj;
+			if (hash != other.hash)
+				return false;
+
+			String[] types = reference.get();
+			return types != null && Arrays.equals(types, other.reference.get());
+		}
+	}
+
+	//
+	// GSON adapters that apply the interning while index elements are read from JSON
+	// (e.g. from the index cache on disc), where constructors are bypassed
+	//
+
+	public static class InternedStringAdapter extends TypeAdapter<String> {
+
+		@Override
+		public void write(JsonWriter out, String value) throws IOException {
+			out.value(value);
+		}
+
+		@Override
+		public String read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			return intern(in.nextString());
+		}
+	}
+
+	public static class InternedTypesAdapter extends TypeAdapter<String[]> {
+
+		@Override
+		public void write(JsonWriter out, String[] value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+			out.beginArray();
+			for (String type : value) {
+				out.value(type);
+			}
+			out.endArray();
+		}
+
+		@Override
+		public String[] read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			String[] types = NO_TYPES;
+			int count = 0;
+
+			in.beginArray();
+			while (in.hasNext()) {
+				if (count == types.length) {
+					types = Arrays.copyOf(types, Math.max(4, count * 2));
+				}
+				types[count++] = in.nextString();
+			}
+			in.endArray();
+
+			return internTypes(Arrays.copyOf(types, count));
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 VMware, Inc.
+ * Copyright (c) 2023, 2026 VMware, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,12 +12,15 @@ package org.springframework.ide.vscode.commons.protocol.spring;
 
 import org.eclipse.lsp4j.Location;
 
+import com.google.gson.annotations.JsonAdapter;
+
 /**
  * @author Martin Lippert
  */
 public class InjectionPoint {
 	
 	private final String name;
+	@JsonAdapter(IndexElementInterner.InternedStringAdapter.class)
 	private final String type;
 	private final Location location;
 	private final AnnotationMetadata[] annotations;
@@ -26,8 +29,8 @@ public class InjectionPoint {
 		super();
 		
 		this.name = name;
-		this.type = type;
-		this.location = location;
+		this.type = IndexElementInterner.intern(type);
+		this.location = IndexElementInterner.intern(location);
 		
 		if (annotations != null && annotations.length == 0) {
 			this.annotations = null;
@@ -15,6 +15,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 public class ProjectElement implements SpringIndexElement {
 
@@ -36,7 +37,7 @@ public class ProjectElement implements SpringIndexElement {
 	}
 
 	public void removeDocument(String docURI) {
-		this.documents.remove(docURI);
+		unlink(this.documents.remove(docURI));
 		this.cachedBeans = null;
 	}
 
@@ -51,12 +52,29 @@ public class ProjectElement implements SpringIndexElement {
 	public List<Bean> getBeans() {
 		List<Bean> beans = this.cachedBeans;
 		if (beans == null) {
-			beans = Collections.unmodifiableList(SpringIndexElementUtils.getNodesOfType(Bean.class, getChildren()));
+			beans = Collections.unmodifiableList(getNodesOfType(Bean.class, element -> true));
 			this.cachedBeans = beans;
 		}
 		return beans;
 	}
 
+	/**
+	 * Elements of the given type anywhere in this project's element tree, using the element
+	 * registries of the documents instead of walking their trees
+	 */
+	public <T extends SpringIndexElement> List<T> getNodesOfType(Class<T> type, Predicate<T> predicate) {
+		List<T> result = new ArrayList<>();
+		if (type.isInstance(this) && predicate.test(type.cast(this))) {
+			result.add(type.cast(this));
+		}
+
+		for (DocumentElement document : documents.values()) {
+			result.addAll(document.getNodesOfType(type, predicate));
+		}
+		result.addAll(SpringIndexElementUtils.getNodesOfType(type, otherElements, predicate));
+		return result;
+	}
+
 	@Override
 	public List<SpringIndexElement> getChildren() {
 		List<SpringIndexElement> result = new ArrayList<>();
@@ -70,23 +88,41 @@ public class ProjectElement implements SpringIndexElement {
 	@Override
 	public void addChild(SpringIndexElement child) {
 		if (child instanceof DocumentElement document) {
-			documents.put(document.getDocURI(), document);
+			unlink(documents.put(document.getDocURI(), document));
 		}
 		else {
 			otherElements.add(child);
 		}
+
+		if (child instanceof AbstractSpringIndexElement element) {
+			element.setParent(this);
+		}
+		AbstractSpringIndexElement.linkParents(child);
 		this.cachedBeans = null;
 	}
 
 	@Override
 	public void removeChild(SpringIndexElement doc) {
 		if (doc instanceof DocumentElement document) {
-			documents.remove(document.getDocURI());
+			unlink(documents.remove(document.getDocURI()));
 		}
-		else {
-			otherElements.remove(doc);
+		else if (otherElements.remove(doc)) {
+			unlink(doc);
 		}
 		this.cachedBeans = null;
 	}
 
+	/**
+	 * called by the elements of this project when children got added or removed somewhere in their tree
+	 */
+	void childrenChanged() {
+		this.cachedBeans = null;
+	}
+
+	private void unlink(SpringIndexElement child) {
+		if (child instanceof AbstractSpringIndexElement element && element.getParent() == this) {
+			element.setParent(null);
+		}
+	}
+
 }
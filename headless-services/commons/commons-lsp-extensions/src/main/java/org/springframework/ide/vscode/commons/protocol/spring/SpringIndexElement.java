@@ -16,6 +16,13 @@ public interface SpringIndexElement {
 	
 	List<SpringIndexElement> getChildren();
 
+	/**
+	 * @return the element this element got added to as a child, or null if it isn't part of an element tree (yet)
+	 */
+	default SpringIndexElement getParent() {
+		return null;
+	}
+
 	void addChild(SpringIndexElement child);
 	void removeChild(SpringIndexElement doc);
 	
@@ -26,7 +26,19 @@ public class SpringIndexElementUtils {
 		List<T> result = new ArrayList<>();
 
 		ArrayDeque<SpringIndexElement> elementsToVisit = new ArrayDeque<>();
-		elementsToVisit.addAll(rootNodes);
+
+		// documents and projects keep registries of their elements in traversal order, no need to walk their trees
+		for (SpringIndexElement rootNode : rootNodes) {
+			if (rootNode instanceof DocumentElement document) {
+				result.addAll(document.getNodesOfType(type, predicate));
+			}
+			else if (rootNode instanceof ProjectElement project) {
+				result.addAll(project.getNodesOfType(type, predicate));
+			}
+			else {
+				elementsToVisit.add(rootNode);
+			}
+		}
 
 		while (!elementsToVisit.isEmpty()) {
 			SpringIndexElement element = elementsToVisit.pop();
@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.java.properties.antlr.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.ide.vscode.java.properties.parser.ParseResults;
+import org.springframework.ide.vscode.java.properties.parser.PropertiesAst;
+
+/**
+ * ANTLR based parser that is able to re-use the results of parsing the previous version of a text.
+ * <p>
+ * When the text got changed within a single line, only that line gets parsed again and the nodes of
+ * all the other lines are taken over from the previous results (with their offsets adjusted). Changes
+ * that span multiple lines, add or remove line breaks or touch lines that are continued via a trailing
+ * backslash result in parsing the complete text again, as do previous results that contain problems.
+ *
+ * @author Martin Lippert
+ */
+public class IncrementalAntlrParser extends AntlrParser {
+
+	/**
+	 * Parses the given text, re-using the results of parsing the previous version of the text where possible
+	 *
+	 * @param previousText previous version of the text, might be <code>null</code>
+	 * @param previousResults results of parsing the previous version of the text, might be <code>null</code>
+	 * @param text text to parse
+	 * @return results equivalent to the results of parsing the complete text
+	 */
+	public ParseResults reparse(String previousText, ParseResults previousResults, String text) {
+		if (previousText == null || previousResults == null || previousResults.ast == null
+				|| !previousResults.syntaxErrors.isEmpty() || !previousResults.problems.isEmpty()) {
+			return parse(text);
+		}
+
+		if (previousText.equals(text)) {
+			return previousResults;
+		}
+
+		// ANTLR offsets are code point based, keep it simple for texts where those differ from char offsets
+		if (containsSurrogates(text) || containsSurrogates(previousText)) {
+			return parse(text);
+		}
+
+		int minLength = Math.min(previousText.length(), text.length());
+
+		int prefix = 0;
+		while (prefix < minLength && previousText.charAt(prefix) == text.charAt(prefix)) {
+			prefix++;
+		}
+
+		int suffix = 0;
+		while (suffix < minLength - prefix
+				&& previousText.charAt(previousText.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+			suffix++;
+		}
+
+		int previousChangeEnd = previousText.length() - suffix;
+		int changeEnd = text.length() - suffix;
+
+		if (containsLineBreak(previousText, prefix, previousChangeEnd) || containsLineBreak(text, prefix, changeEnd)
+				|| (prefix > 0 && text.charAt(prefix - 1) == '\r')) {
+			return parse(text);
+		}
+
+		int lineStart = getLineStart(text, prefix);
+		int previousLineEnd = getLineEnd(previousText, previousChangeEnd);
+		int lineEnd = getLineEnd(text, changeEnd);
+
+		if (isContinuedLine(text, lineStart) || endsWithContinuation(previousText, previousLineEnd) || endsWithContinuation(text, lineEnd)) {
+			return parse(text);
+		}
+
+		int previousLineEndWithBreak = skipLineBreak(previousText, previousLineEnd);
+		int lineEndWithBreak = skipLineBreak(text, lineEnd);
+
+		ParseResults lineResults = parse(text.substring(lineStart, lineEndWithBreak));
+		if (lineResults.ast == null || !lineResults.syntaxErrors.isEmpty() || !lineResults.problems.isEmpty()) {
+			return parse(text);
+		}
+
+		int delta = text.length() - previousText.length();
+
+		List<PropertiesAst.Node> previousNodes = previousResults.ast.getAllNodes();
+		List<PropertiesAst.Node> nodes = new ArrayList<>(previousNodes.size() + 1);
+		boolean lineNodesAdded = false;
+
+		for (PropertiesAst.Node node : previousNodes) {
+			int offset = node.getOffset();
+			if (offset < lineStart) {
+				nodes.add(node);
+			}
+			else {
+				if (!lineNodesAdded) {
+					addShifted(lineResults.ast.getAllNodes(), lineStart, nodes);
+					lineNodesAdded = true;
+				}
+				if (offset >= previousLineEndWithBreak) {
+					nodes.add(shift(node, delta));
+				}
+			}
+		}
+
+		if (!lineNodesAdded) {
+			addShifted(lineResults.ast.getAllNodes(), lineStart, nodes);
+		}
+
+		return new ParseResults(new PropertiesAst(List.copyOf(nodes)), List.of(), List.of());
+	}
+
+	private static void addShifted(List<PropertiesAst.Node> lineNodes, int delta, List<PropertiesAst.Node> nodes) {
+		for (PropertiesAst.Node node : lineNodes) {
+			nodes.add(shift(node, delta));
+		}
+	}
+
+	private static boolean containsSurrogates(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (Character.isSurrogate(text.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean containsLineBreak(String text, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (isLineBreak(text.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isLineBreak(char c) {
+		return c == '\n' || c == '\r';
+	}
+
+	private static int getLineStart(String text, int offset) {
+		int start = offset;
+		while (start > 0 && !isLineBreak(text.charAt(start - 1))) {
+			start--;
+		}
+		return start;
+	}
+
+	private static int getLineEnd(String text, int offset) {
+		int end = offset;
+		while (end < text.length() && !isLineBreak(text.charAt(end))) {
+			end++;
+		}
+		return end;
+	}
+
+	private static int skipLineBreak(String text, int lineEnd) {
+		if (lineEnd < text.length() && text.charAt(lineEnd) == '\r') {
+			lineEnd++;
+		}
+		if (lineEnd < text.length() && text.charAt(lineEnd) == '\n') {
+			lineEnd++;
+		}
+		return lineEnd;
+	}
+
+	/**
+	 * a line is continued by the next line when it ends with an odd number of backslashes
+	 */
+	private static boolean endsWithContinuation(String text, int lineEnd) {
+		int backslashes = 0;
+		for (int i = lineEnd - 1; i >= 0 && text.charAt(i) == '\\'; i--) {
+			backslashes++;
+		}
+		return backslashes % 2 == 1;
+	}
+
+	private static boolean isContinuedLine(String text, int lineStart) {
+		if (lineStart == 0) {
+			return false;
+		}
+		int previousLineEnd = lineStart - 1;
+		if (text.charAt(previousLineEnd) == '\n' && previousLineEnd > 0 && text.charAt(previousLineEnd - 1) == '\r') {
+			previousLineEnd--;
+		}
+		return endsWithContinuation(text, previousLineEnd);
+	}
+
+	private static PropertiesAst.Node shift(PropertiesAst.Node node, int delta) {
+		if (node instanceof ShiftedNode<?> shifted) {
+			node = shifted.node;
+			delta += shifted.delta;
+		}
+		if (delta == 0) {
+			return node;
+		}
+		else if (node instanceof PropertiesAst.KeyValuePair pair) {
+			return new ShiftedKeyValuePair(pair, delta);
+		}
+		else if (node instanceof PropertiesAst.Comment comment) {
+			return new ShiftedComment(comment, delta);
+		}
+		else if (node instanceof PropertiesAst.EmptyLine emptyLine) {
+			return new ShiftedEmptyLine(emptyLine, delta);
+		}
+		else {
+			throw new IllegalArgumentException("Unexpected top-level properties node: " + node);
+		}
+	}
+
+	/**
+	 * Node of a previous parse result that moved within the text by the given delta
+	 */
+	private static abstract class ShiftedNode<T extends PropertiesAst.Node> implements PropertiesAst.Node {
+
+		protected final T node;
+		protected final int delta;
+
+		public ShiftedNode(T node, int delta) {
+			this.node = node;
+			this.delta = delta;
+		}
+
+		@Override
+		public int getOffset() {
+			return node.getOffset() + delta;
+		}
+
+		@Override
+		public int getLength() {
+			return node.getLength();
+		}
+
+		@Override
+		public PropertiesAst.Node getParent() {
+			return null;
+		}
+
+		@Override
+		public List<? extends PropertiesAst.Node> getChildren() {
+			return null;
+		}
+
+	}
+
+	private static class ShiftedEmptyLine extends ShiftedNode<PropertiesAst.EmptyLine> implements PropertiesAst.EmptyLine {
+
+		public ShiftedEmptyLine(PropertiesAst.EmptyLine node, int delta) {
+			super(node, delta);
+		}
+
+	}
+
+	private static class ShiftedComment extends ShiftedNode<PropertiesAst.Comment> implements PropertiesAst.Comment {
+
+		public ShiftedComment(PropertiesAst.Comment node, int delta) {
+			super(node, delta);
+		}
+
+	}
+
+	private static class ShiftedKeyValuePair extends ShiftedNode<PropertiesAst.KeyValuePair> implements PropertiesAst.KeyValuePair {
+
+		private final ShiftedKey key;
+		private final ShiftedValue value;
+		private final List<PropertiesAst.Node> children;
+
+		public ShiftedKeyValuePair(PropertiesAst.KeyValuePair node, int delta) {
+			super(node, delta);
+			this.key = new ShiftedKey(node.getKey(), delta, this);
+			this.value = new ShiftedValue(node.getValue(), delta, this);
+			this.children = List.of(key, value);
+		}
+
+		@Override
+		public PropertiesAst.Key getKey() {
+			return key;
+		}
+
+		@Override
+		public PropertiesAst.Value getValue() {
+			return value;
+		}
+
+		@Override
+		public List<? extends PropertiesAst.Node> getChildren() {
+			return children;
+		}
+
+	}
+
+	private static class ShiftedKey extends ShiftedNode<PropertiesAst.Key> implements PropertiesAst.Key {
+
+		private final ShiftedKeyValuePair parent;
+
+		public ShiftedKey(PropertiesAst.Key node, int delta, ShiftedKeyValuePair parent) {
+			super(node, delta);
+			this.parent = parent;
+		}
+
+		@Override
+		public String decode() {
+			return node.decode();
+		}
+
+		@Override
+		public PropertiesAst.KeyValuePair getParent() {
+			return parent;
+		}
+
+	}
+
+	private static class ShiftedValue extends ShiftedNode<PropertiesAst.Value> implements PropertiesAst.Value {
+
+		private final ShiftedKeyValuePair parent;
+
+		public ShiftedValue(PropertiesAst.Value node, int delta, ShiftedKeyValuePair parent) {
+			super(node, delta);
+			this.parent = parent;
+		}
+
+		@Override
+		public String decode() {
+			return node.decode();
+		}
+
+		@Override
+		public PropertiesAst.KeyValuePair getParent() {
+			return parent;
+		}
+
+	}
+
+}
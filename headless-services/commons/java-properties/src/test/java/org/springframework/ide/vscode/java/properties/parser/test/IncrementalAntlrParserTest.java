@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.java.properties.parser.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.java.properties.antlr.parser.IncrementalAntlrParser;
+import org.springframework.ide.vscode.java.properties.parser.ParseResults;
+import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.KeyValuePair;
+import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.Node;
+
+public class IncrementalAntlrParserTest {
+
+	private static final String TEXT = "# comment\nserver.port=8080\n\nspring.application.name=demo\nlong.value=a\\\n  b\nlast=1\n";
+
+	private IncrementalAntlrParser parser = new IncrementalAntlrParser();
+
+	private void assertReparse(String previousText, String text) {
+		ParseResults previous = parser.parse(previousText);
+		ParseResults reparsed = parser.reparse(previousText, previous, text);
+		ParseResults expected = parser.parse(text);
+
+		assertEquals(expected.syntaxErrors.size(), reparsed.syntaxErrors.size());
+		assertEquals(expected.problems.size(), reparsed.problems.size());
+		assertEquals(describe(expected.ast.getAllNodes()), describe(reparsed.ast.getAllNodes()));
+
+		for (KeyValuePair pair : reparsed.ast.getPropertyValuePairs()) {
+			assertSame(pair, pair.getKey().getParent());
+			assertSame(pair, pair.getValue().getParent());
+			assertSame(pair.getValue(), reparsed.ast.findNode(pair.getValue().getOffset() + pair.getValue().getLength()));
+		}
+	}
+
+	private static String describe(List<Node> nodes) {
+		StringBuilder s = new StringBuilder();
+		for (Node node : nodes) {
+			s.append(node.getClass().getInterfaces()[0].getSimpleName()).append('@').append(node.getOffset()).append('+').append(node.getLength());
+			if (node instanceof KeyValuePair pair) {
+				s.append('(').append(pair.getKey().decode()).append('@').append(pair.getKey().getOffset()).append('+').append(pair.getKey().getLength());
+				s.append(", ").append(pair.getValue().decode()).append('@').append(pair.getValue().getOffset()).append('+').append(pair.getValue().getLength()).append(')');
+			}
+			s.append('\n');
+		}
+		return s.toString();
+	}
+
+	@Test
+	void testUnchangedTextReusesResults() throws Exception {
+		ParseResults previous = parser.parse(TEXT);
+		assertSame(previous, parser.reparse(TEXT, previous, TEXT));
+	}
+
+	@Test
+	void testSingleLineEdits() throws Exception {
+		assertReparse(TEXT, TEXT.replace("8080", "8081"));
+		assertReparse(TEXT, TEXT.replace("8080", "80"));
+		assertReparse(TEXT, TEXT.replace("server.port", "server.ports"));
+		assertReparse(TEXT, TEXT.replace("# comment", "# longer comment"));
+		assertReparse(TEXT, TEXT.replace("\n\n", "\nsome.key=value\n"));
+		assertReparse(TEXT, TEXT.replace("last=1", "last=12"));
+		assertReparse(TEXT, TEXT.replace("server.port=8080", "#server.port=8080"));
+	}
+
+	@Test
+	void testRepeatedEdits() throws Exception {
+		String previousText = TEXT;
+		ParseResults previous = parser.parse(previousText);
+
+		for (String text : List.of(TEXT.replace("8080", "8"), TEXT.replace("8080", "81"), TEXT.replace("8080", "812"), TEXT.replace("8080", "812").replace("demo", "demo-app"))) {
+			previous = parser.reparse(previousText, previous, text);
+			previousText = text;
+			assertEquals(describe(parser.parse(text).ast.getAllNodes()), describe(previous.ast.getAllNodes()));
+		}
+	}
+
+	@Test
+	void testEditsWithFullReparse() throws Exception {
+		// line breaks added or removed
+		assertReparse(TEXT, TEXT.replace("8080\n", "8080\nnew=1\n"));
+		assertReparse(TEXT, TEXT.replace("8080\n\n", "8080\n"));
+
+		// continued lines
+		assertReparse(TEXT, TEXT.replace("  b", "  bc"));
+		assertReparse(TEXT, TEXT.replace("a\\", "ab\\"));
+		assertReparse(TEXT, TEXT.replace("8080", "8080\\"));
+
+		// syntax errors
+		assertReparse(TEXT, TEXT.replace("last=1", "last"));
+		assertReparse(TEXT.replace("last=1", "last"), TEXT);
+	}
+
+	@Test
+	void testWindowsLineBreaks() throws Exception {
+		String text = TEXT.replace("\n", "\r\n");
+		assertReparse(text, text.replace("8080", "8081"));
+		assertReparse(text, text.replace("\r\n\r\n", "\r\nx=1\r\n"));
+		assertTrue(parser.reparse(text, parser.parse(text), text.replace("demo", "x")).syntaxErrors.isEmpty());
+	}
+
+}
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.languageserver.starter;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -21,8 +23,10 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.ide.vscode.commons.languageserver.LanguageServerRunner;
 import org.springframework.ide.vscode.commons.languageserver.config.LanguageServerProperties;
+import org.springframework.ide.vscode.commons.languageserver.util.LspSessionRecorder;
 import org.springframework.ide.vscode.commons.languageserver.util.ParentProcessWatcher;
 import org.springframework.ide.vscode.commons.languageserver.util.SimpleLanguageServer;
+import org.springframework.util.StringUtils;
 
 import com.google.gson.GsonBuilder;
 
@@ -31,11 +35,14 @@ public class LanguageServerRunnerAutoConf {
 	
 	@ConditionalOnMissingClass("org.springframework.ide.vscode.languageserver.testharness.LanguageServerHarness")
 	@Bean
-	Function<MessageConsumer, MessageConsumer> messageConsumer(SimpleLanguageServer languageServer, LanguageServerProperties properties) {
-		if (!properties.isStandalone()) {
-			return new ParentProcessWatcher(languageServer);
+	Function<MessageConsumer, MessageConsumer> messageConsumer(SimpleLanguageServer languageServer, LanguageServerProperties properties) throws IOException {
+		Function<MessageConsumer, MessageConsumer> messageConsumer = properties.isStandalone()
+				? LanguageServerRunner.DEFAULT_MESSAGE_CONSUMER
+				: new ParentProcessWatcher(languageServer);
+		if (StringUtils.hasText(properties.getRecordSession())) {
+			messageConsumer = messageConsumer.compose(new LspSessionRecorder(languageServer, Path.of(properties.getRecordSession())));
 		}
-		return LanguageServerRunner.DEFAULT_MESSAGE_CONSUMER;
+		return messageConsumer;
 	}
 	
 	@ConditionalOnMissingClass("org.springframework.ide.vscode.languageserver.testharness.LanguageServerHarness")
@@ -35,8 +35,10 @@ import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -182,6 +184,7 @@ public class LanguageServerHarness {
 	private boolean enableHierarchicalDocumentSymbols = false;
 
 	private List<IndexUpdatedParams> indexUpdated = new ArrayList<>();
+	private List<Consumer<PublishDiagnosticsParams>> diagnosticsListeners = new CopyOnWriteArrayList<>();
 
 
 	public LanguageServerHarness(SimpleLanguageServer server, LanguageId defaultLanguageId) {
@@ -247,8 +250,24 @@ public class LanguageServerHarness {
 		return ".txt";
 	}
 
-	private synchronized void receiveDiagnostics(PublishDiagnosticsParams diags) {
-		this.diagnostics.put(diags.getUri(), diags);
+	private void receiveDiagnostics(PublishDiagnosticsParams diags) {
+		synchronized (this) {
+			this.diagnostics.put(diags.getUri(), diags);
+		}
+		for (Consumer<PublishDiagnosticsParams> listener : diagnosticsListeners) {
+			listener.accept(diags);
+		}
+	}
+
+	/**
+	 * Registers a listener that gets notified about all diagnostics published by the server
+	 */
+	public void addDiagnosticsListener(Consumer<PublishDiagnosticsParams> listener) {
+		diagnosticsListeners.add(listener);
+	}
+
+	public void removeDiagnosticsListener(Consumer<PublishDiagnosticsParams> listener) {
+		diagnosticsListeners.remove(listener);
 	}
 
 	private void receiveHighlights(HighlightParams highlights) {
@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.languageserver.testharness;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import org.springframework.ide.vscode.commons.languageserver.util.LspSessionRecorder.RecordedMessage;
+import org.springframework.ide.vscode.commons.languageserver.util.SimpleLanguageServer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Replays a recorded (or generated) LSP session against the language server of a harness and measures the latency
+ * and the allocated memory per request type. The time between didOpen/didChange notifications and the next diagnostics
+ * published for the document is reported as <code>reconcile</code>.
+ * <p>
+ * Notifications are sent in order, like a client does, requests are sent without waiting for the responses of earlier
+ * requests, up to the configured concurrency. Allocations are measured over all threads of the JVM, so with a concurrency
+ * higher than 1 and while reconciling in the background, they include work that doesn't belong to the request itself.
+ *
+ * @author Martin Lippert
+ */
+public class LspSessionReplay {
+
+	public static final String RECONCILE = "reconcile";
+
+	private final LanguageServerHarness harness;
+	private final List<RecordedMessage> messages;
+
+	private double speed = 0;
+	private int concurrency = 1;
+	private final Map<String, String> uriReplacements = new LinkedHashMap<>();
+
+	public LspSessionReplay(LanguageServerHarness harness, List<RecordedMessage> messages) {
+		this.harness = harness;
+		this.messages = messages;
+	}
+
+	/**
+	 * Replay speed relative to the recording, e.g. 2 replays twice as fast as recorded, 0 (the default) sends
+	 * the messages as fast as possible
+	 */
+	public LspSessionReplay speed(double speed) {
+		this.speed = speed;
+		return this;
+	}
+
+	/**
+	 * Maximum number of requests waiting for their response at the same time (default: 1)
+	 */
+	public LspSessionReplay concurrency(int concurrency) {
+		this.concurrency = Math.max(1, concurrency);
+		return this;
+	}
+
+	/**
+	 * Replaces URIs (or URI prefixes) in the recorded messages, e.g. to replay a session recorded on a different
+	 * machine against a local copy of the project
+	 */
+	public LspSessionReplay rebase(String recordedUri, String replayUri) {
+		this.uriReplacements.put(recordedUri, replayUri);
+		return this;
+	}
+
+	public ReplayStatistics run() throws Exception {
+		SimpleLanguageServer server = harness.getServer();
+		Endpoint endpoint = ServiceEndpoints.toEndpoint(server);
+		Map<String, JsonRpcMethod> methods = ServiceEndpoints.getSupportedMethods(server.getClass());
+		Gson gson = new MessageJsonHandler(methods).getGson();
+
+		Map<String, List<Sample>> samples = new ConcurrentHashMap<>();
+		Map<String, Long> pendingReconciles = new ConcurrentHashMap<>();
+		Consumer<PublishDiagnosticsParams> diagnosticsListener = diagnostics -> {
+			Long changed = pendingReconciles.remove(diagnostics.getUri());
+			if (changed != null) {
+				record(samples, RECONCILE, System.nanoTime() - changed, -1);
+			}
+		};
+
+		Semaphore inFlight = new Semaphore(concurrency);
+		List<CompletableFuture<?>> requests = new ArrayList<>();
+
+		harness.addDiagnosticsListener(diagnosticsListener);
+		try {
+			long start = System.nanoTime();
+			for (RecordedMessage message : messages) {
+				waitUntil(start, message.time());
+
+				JsonRpcMethod method = methods.get(message.method());
+				if (method == null) {
+					continue;
+				}
+				JsonElement json = rebase(message.params());
+				Object params = json != null && method.getParameterTypes().length == 1 ? gson.fromJson(json, method.getParameterTypes()[0]) : json;
+
+				if (method.isNotification()) {
+					String uri = getDocumentUri(json);
+					if (uri != null && (message.method().equals("textDocument/didOpen") || message.method().equals("textDocument/didChange"))) {
+						pendingReconciles.putIfAbsent(uri, System.nanoTime());
+					}
+					endpoint.notify(message.method(), params);
+				}
+				else {
+					inFlight.acquire();
+					long allocatedBefore = allocatedBytes();
+					long requestStart = System.nanoTime();
+					CompletableFuture<?> request;
+					try {
+						request = endpoint.request(message.method(), params);
+					}
+					catch (RuntimeException e) {
+						request = CompletableFuture.failedFuture(e);
+					}
+					requests.add(request.whenComplete((result, error) -> {
+						long time = System.nanoTime() - requestStart;
+						long allocated = allocatedBefore >= 0 ? allocatedBytes() - allocatedBefore : -1;
+						inFlight.release();
+						record(samples, message.method(), time, allocated);
+					}));
+				}
+			}
+
+			CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).exceptionally(error -> null).get(5, TimeUnit.MINUTES);
+			server.waitForReconcile();
+		}
+		finally {
+			harness.removeDiagnosticsListener(diagnosticsListener);
+		}
+
+		List<RequestStatistics> statistics = new ArrayList<>();
+		samples.forEach((method, methodSamples) -> statistics.add(RequestStatistics.of(method, methodSamples)));
+		statistics.sort((s1, s2) -> s1.method().compareTo(s2.method()));
+		return new ReplayStatistics(statistics);
+	}
+
+	private JsonElement rebase(JsonElement params) {
+		if (params == null || params.isJsonNull()) {
+			return null;
+		}
+		if (uriReplacements.isEmpty()) {
+			return params;
+		}
+		String json = params.toString();
+		for (Map.Entry<String, String> replacement : uriReplacements.entrySet()) {
+			json = json.replace(replacement.getKey(), replacement.getValue());
+		}
+		return JsonParser.parseString(json);
+	}
+
+	private static String getDocumentUri(JsonElement params) {
+		if (params != null && params.isJsonObject() && params.getAsJsonObject().get("textDocument") instanceof JsonObject textDocument
+				&& textDocument.get("uri") instanceof JsonPrimitive uri) {
+			return uri.getAsString();
+		}
+		return null;
+	}
+
+	private void waitUntil(long start, long recordedTime) throws InterruptedException {
+		if (speed > 0) {
+			long due = start + (long) (TimeUnit.MILLISECONDS.toNanos(recordedTime) / speed);
+			long wait = due - System.nanoTime();
+			if (wait > 0) {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			}
+		}
+	}
+
+	private static void record(Map<String, List<Sample>> samples, String method, long nanos, long allocatedBytes) {
+		List<Sample> methodSamples = samples.computeIfAbsent(method, m -> new ArrayList<>());
+		synchronized (methodSamples) {
+			methodSamples.add(new Sample(nanos, allocatedBytes));
+		}
+	}
+
+	/**
+	 * @return bytes allocated by all threads of the JVM so far, or -1 if the JVM doesn't support measuring it
+	 */
+	private static long allocatedBytes() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean allocationThreads && allocationThreads.isThreadAllocatedMemoryEnabled()) {
+			return allocationThreads.getTotalThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	private record Sample(long nanos, long allocatedBytes) {
+	}
+
+	/**
+	 * Latency percentiles (in microseconds) and average allocated bytes of a request type,
+	 * the allocation is -1 if it wasn't measured (e.g. for reconciles)
+	 */
+	public record RequestStatistics(String method, int count, long p50Micros, long p95Micros, long p99Micros, long maxMicros, long averageAllocatedBytes) {
+
+		static RequestStatistics of(String method, List<Sample> samples) {
+			long[] latencies;
+			long allocated = 0;
+			int allocationSamples = 0;
+			synchronized (samples) {
+				latencies = samples.stream().mapToLong(Sample::nanos).toArray();
+				for (Sample sample : samples) {
+					if (sample.allocatedBytes() >= 0) {
+						allocated += sample.allocatedBytes();
+						allocationSamples++;
+					}
+				}
+			}
+			Arrays.sort(latencies);
+			return new RequestStatistics(method, latencies.length,
+					micros(percentile(latencies, 0.50)), micros(percentile(latencies, 0.95)), micros(percentile(latencies, 0.99)),
+					micros(latencies[latencies.length - 1]),
+					allocationSamples > 0 ? allocated / allocationSamples : -1);
+		}
+
+		private static long percentile(long[] sorted, double percentile) {
+			int rank = (int) Math.ceil(percentile * sorted.length);
+			return sorted[Math.max(0, rank - 1)];
+		}
+
+		private static long micros(long nanos) {
+			return TimeUnit.NANOSECONDS.toMicros(nanos);
+		}
+	}
+
+	public record ReplayStatistics(List<RequestStatistics> requests) {
+
+		public RequestStatistics get(String method) {
+			return requests.stream().filter(r -> r.method().equals(method)).findFirst().orElse(null);
+		}
+
+		public void print(PrintStream out) {
+			out.println(String.format("%-36s %7s %10s %10s %10s %10s %14s", "request", "count", "p50 (ms)", "p95 (ms)", "p99 (ms)", "max (ms)", "alloc (KB)"));
+			for (RequestStatistics r : requests) {
+				out.println(String.format("%-36s %7d %10.2f %10.2f %10.2f %10.2f %14s", r.method(), r.count(),
+						r.p50Micros() / 1000.0, r.p95Micros() / 1000.0, r.p99Micros() / 1000.0, r.maxMicros() / 1000.0,
+						r.averageAllocatedBytes() >= 0 ? String.format("%,d", r.averageAllocatedBytes() / 1024) : "-"));
+			}
+		}
+	}
+
+}
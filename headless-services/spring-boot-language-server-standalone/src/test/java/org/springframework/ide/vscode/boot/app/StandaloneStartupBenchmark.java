@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.app;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.ConfigurationParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.InitializedParams;
+import org.eclipse.lsp4j.MessageActionItem;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.RegistrationParams;
+import org.eclipse.lsp4j.ShowMessageRequestParams;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.WorkspaceFolder;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.launch.LSPLauncher;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.lsp4j.services.LanguageServer;
+
+/**
+ * Startup benchmark for the standalone language server: launches the server jar as a separate process
+ * (talking LSP over stdio), and measures the time from launching the process to the response of the
+ * <code>initialize</code> request and to the first <code>publishDiagnostics</code> notification after
+ * opening a Java file.
+ *
+ * Not a test, run it manually, e.g. to compare a plain launch with a launch using the AOT cache created
+ * by the <code>aot-cache</code> profile:
+ *
+ * <pre>
+ * StandaloneStartupBenchmark &lt;server-jar&gt; &lt;project-dir&gt; &lt;java-file&gt; [jvm-args...]
+ * StandaloneStartupBenchmark target/aot-cache/...-standalone-exec.jar /some/project /some/project/src/main/java/App.java -XX:AOTCache=target/aot-cache/spring-boot-language-server-standalone.aot -Dspring.aot.enabled=true
+ * </pre>
+ *
+ * The server is launched with the same properties as the training run of the <code>aot-cache</code> profile
+ * (LSP enabled, <code>spring.config.location</code> and <code>spring.profiles.active</code>), so the AOT processed
+ * application context and the recorded JVM AOT cache match the launch that is measured here.
+ *
+ * The number of runs can be configured via the system property <code>benchmark.runs</code> (default: 3).
+ *
+ * @author Martin Lippert
+ */
+public class StandaloneStartupBenchmark {
+
+	private static final long TIMEOUT_SECONDS = 300;
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 3) {
+			System.err.println("usage: StandaloneStartupBenchmark <server-jar> <project-dir> <java-file> [jvm-args...]");
+			System.exit(1);
+		}
+
+		File jar = new File(args[0]);
+		File projectDir = new File(args[1]);
+		File javaFile = new File(args[2]);
+		List<String> jvmArgs = Arrays.asList(args).subList(3, args.length);
+
+		int runs = Integer.getInteger("benchmark.runs", 3);
+		long totalInitialize = 0;
+		long totalDiagnostics = 0;
+
+		for (int i = 1; i <= runs; i++) {
+			long[] result = run(jar, projectDir, javaFile, jvmArgs);
+			System.out.println("run " + i + ": initialize response after " + result[0] + " ms, first diagnostics after " + result[1] + " ms");
+
+			totalInitialize += result[0];
+			totalDiagnostics += result[1];
+		}
+
+		System.out.println("average: initialize response after " + (totalInitialize / runs) + " ms, first diagnostics after " + (totalDiagnostics / runs) + " ms");
+	}
+
+	private static long[] run(File jar, File projectDir, File javaFile, List<String> jvmArgs) throws Exception {
+		Path logFile = Files.createTempFile("boot-ls-benchmark", ".log");
+
+		List<String> command = new ArrayList<>();
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.addAll(jvmArgs);
+		command.add("-Dspring.config.location=classpath:/application.properties");
+		command.add("-Dspring.profiles.active=file-logging");
+		command.add("-Dlogging.file.name=" + logFile);
+		command.add("-jar");
+		command.add(jar.getAbsolutePath());
+
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+
+		try {
+			BenchmarkClient client = new BenchmarkClient(projectDir);
+			Launcher<LanguageServer> launcher = LSPLauncher.createClientLauncher(client, process.getInputStream(), process.getOutputStream());
+			launcher.startListening();
+			LanguageServer server = launcher.getRemoteProxy();
+
+			InitializeParams initializeParams = new InitializeParams();
+			initializeParams.setProcessId((int) ProcessHandle.current().pid());
+			initializeParams.setRootUri(projectDir.toURI().toString());
+			initializeParams.setWorkspaceFolders(client.workspaceFolders().get());
+			initializeParams.setCapabilities(new ClientCapabilities());
+
+			server.initialize(initializeParams).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			long initializeTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			server.initialized(new InitializedParams());
+			server.getTextDocumentService().didOpen(new DidOpenTextDocumentParams(
+					new TextDocumentItem(javaFile.toURI().toString(), "java", 1, Files.readString(javaFile.toPath()))));
+
+			long diagnosticsTime = TimeUnit.NANOSECONDS.toMillis(client.firstDiagnostics.get(TIMEOUT_SECONDS, TimeUnit.SECONDS) - start);
+
+			server.shutdown().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			server.exit();
+
+			return new long[] {initializeTime, diagnosticsTime};
+		}
+		finally {
+			if (!process.waitFor(10, TimeUnit.SECONDS)) {
+				process.destroyForcibly();
+			}
+			Files.deleteIfExists(logFile);
+		}
+	}
+
+	private static class BenchmarkClient implements LanguageClient {
+
+		private final File projectDir;
+		private final CompletableFuture<Long> firstDiagnostics = new CompletableFuture<>();
+
+		public BenchmarkClient(File projectDir) {
+			this.projectDir = projectDir;
+		}
+
+		@Override
+		public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+			firstDiagnostics.complete(System.nanoTime());
+		}
+
+		@Override
+		public CompletableFuture<List<WorkspaceFolder>> workspaceFolders() {
+			return CompletableFuture.completedFuture(List.of(new WorkspaceFolder(projectDir.toURI().toString(), projectDir.getName())));
+		}
+
+		@Override
+		public CompletableFuture<Void> registerCapability(RegistrationParams params) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		@Override
+		public CompletableFuture<List<Object>> configuration(ConfigurationParams configurationParams) {
+			return CompletableFuture.completedFuture(Collections.nCopies(configurationParams.getItems().size(), null));
+		}
+
+		@Override
+		public void telemetryEvent(Object object) {
+		}
+
+		@Override
+		public void showMessage(MessageParams messageParams) {
+		}
+
+		@Override
+		public CompletableFuture<MessageActionItem> showMessageRequest(ShowMessageRequestParams requestParams) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		@Override
+		public void logMessage(MessageParams message) {
+		}
+	}
+
+}
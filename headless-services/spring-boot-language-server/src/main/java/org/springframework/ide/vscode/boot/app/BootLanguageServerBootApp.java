@@ -44,6 +44,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.ide.vscode.boot.common.PropertyCompletionFactory;
 import org.springframework.ide.vscode.boot.common.RelaxedNameConfig;
 import org.springframework.ide.vscode.boot.factories.SpringFactoriesDefinitionHandler;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore;
 import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
 import org.springframework.ide.vscode.boot.index.cache.IndexCache;
 import org.springframework.ide.vscode.boot.index.cache.IndexCacheOnDiscDeltaBased;
@@ -79,9 +80,12 @@ import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDa
 import org.springframework.ide.vscode.boot.java.reconcilers.JavaReconciler;
 import org.springframework.ide.vscode.boot.java.reconcilers.JdtAstReconciler;
 import org.springframework.ide.vscode.boot.java.reconcilers.JdtReconciler;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteCache;
 import org.springframework.ide.vscode.boot.java.spel.SpelDefinitionProvider;
 import org.springframework.ide.vscode.boot.java.stereotypes.StereotypeCatalogRegistry;
 import org.springframework.ide.vscode.boot.java.utils.CompilationUnitCache;
+import org.springframework.ide.vscode.boot.java.utils.CompilationUnitPrefetcher;
+import org.springframework.ide.vscode.boot.java.value.PropertyKeyOccurrenceIndex;
 import org.springframework.ide.vscode.boot.java.value.ValueDefinitionProvider;
 import org.springframework.ide.vscode.boot.jdt.ls.JavaProjectsService;
 import org.springframework.ide.vscode.boot.jdt.ls.JdtLsProjectCache;
@@ -92,11 +96,14 @@ import org.springframework.ide.vscode.boot.metadata.ProjectBasedPropertyIndexPro
 import org.springframework.ide.vscode.boot.metadata.SpringPropertyIndex;
 import org.springframework.ide.vscode.boot.metadata.ValueProviderRegistry;
 import org.springframework.ide.vscode.boot.modulith.ModulithService;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.boot.properties.completions.SpringPropertiesCompletionEngine;
 import org.springframework.ide.vscode.boot.xml.SpringXMLCompletionEngine;
+import org.springframework.ide.vscode.boot.xml.XMLDocumentCache;
 import org.springframework.ide.vscode.boot.yaml.completions.ApplicationYamlAssistContext;
 import org.springframework.ide.vscode.boot.yaml.completions.SpringYamlCompletionEngine;
 import org.springframework.ide.vscode.boot.index.cache.IndexGsonTypeFactories;
+import org.springframework.ide.vscode.commons.java.ClasspathResourceManifest;
 import org.springframework.ide.vscode.commons.languageserver.LanguageServerRunner;
 import org.springframework.ide.vscode.commons.languageserver.java.FutureProjectFinder;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
@@ -175,6 +182,11 @@ public class BootLanguageServerBootApp {
 		return new SpringMetamodelIndex();
 	}
 
+	@Bean
+	DiagnosticsStore diagnosticsStore() {
+		return new DiagnosticsStore();
+	}
+
 	@Bean
 	SpringProcessLiveDataProvider liveDataProvider(SimpleLanguageServer server) {
 		return new SpringProcessLiveDataProvider(server);
@@ -273,6 +285,10 @@ public class BootLanguageServerBootApp {
 		return new AdHocSpringPropertyIndexProvider(params.projectFinder, params.projectObserver, fileObserver, documentEvents);
 	}
 
+	@Bean PropertyKeyOccurrenceIndex propertyKeyOccurrenceIndex(BootLanguageServerParams params, FileObserver fileObserver) {
+		return new PropertyKeyOccurrenceIndex(params.projectFinder, params.projectObserver, fileObserver);
+	}
+
 	@Bean FileObserver fileObserver(SimpleLanguageServer server) {
 		return server.getWorkspaceService().getFileObserver();
 	}
@@ -297,7 +313,8 @@ public class BootLanguageServerBootApp {
 		"org.springframework.ide.vscode.boot.app.LegacyJavaProjectsService"
 	})
 	@Bean JavaProjectsService javaProjectsService(SimpleLanguageServer server, BootLsConfigProperties configProperties) {
-		return new JdtLsProjectCache(server, configProperties.isEnableJandexIndex());
+		File snapshotDirectory = configProperties.isSymbolCacheEnabled() ? new File(configProperties.getSymbolCacheDir()) : null;
+		return new JdtLsProjectCache(server, configProperties.isEnableJandexIndex(), snapshotDirectory);
 	}
 
 	@ConditionalOnMissingClass("org.springframework.ide.vscode.languageserver.testharness.LanguageServerHarness")
@@ -314,19 +331,37 @@ public class BootLanguageServerBootApp {
 		return new CompilationUnitCache(params.projectFinder, server.getTextDocumentService(), server.getWorkspaceService().getFileObserver(), params.projectObserver);
 	}
 
+	@ConditionalOnMissingClass("org.springframework.ide.vscode.languageserver.testharness.LanguageServerHarness")
+	@Bean CompilationUnitPrefetcher cuPrefetcher(SimpleLanguageServer server, CompilationUnitCache cuCache, BootLanguageServerParams params, SpringMetamodelIndex springIndex, BootLsConfigProperties configProperties) {
+		return new CompilationUnitPrefetcher(cuCache, params.projectFinder, server.getTextDocumentService(), springIndex,
+				configProperties.getAstPrefetchMaxDocuments(), configProperties.getAstPrefetchMemoryThreshold());
+	}
+
 	@Bean JdtReconciler jdtReconciler(CompilationUnitCache cuCache, BootJavaConfig config, SimpleLanguageServer server, JdtAstReconciler[] reconcilers, ProjectObserver projectObserver) {
 		return new JdtReconciler(cuCache, config, reconcilers, projectObserver);
 	}
 	
-	@Bean SpringXMLCompletionEngine xmlCompletionEngine(SimpleLanguageServer server, JavaProjectFinder projectFinder, SpringSymbolIndex symbolIndex, SpringMetamodelIndex springIndex, BootJavaConfig config) {
-		return new SpringXMLCompletionEngine(server, projectFinder, symbolIndex, springIndex, config);
+	@Bean XMLDocumentCache xmlDocumentCache(SimpleLanguageServer server) {
+		return new XMLDocumentCache(server.getTextDocumentService());
+	}
+
+	@Bean WebFnRouteCache webFnRouteCache() {
+		return new WebFnRouteCache();
+	}
+
+	@Bean SpringXMLCompletionEngine xmlCompletionEngine(SimpleLanguageServer server, JavaProjectFinder projectFinder, SpringSymbolIndex symbolIndex, SpringMetamodelIndex springIndex, BootJavaConfig config, XMLDocumentCache xmlDocumentCache) {
+		return new SpringXMLCompletionEngine(server, projectFinder, symbolIndex, springIndex, config, xmlDocumentCache);
 	}
 	
-	@Bean SpringPropertiesCompletionEngine propertiesCompletionEngine(BootLanguageServerParams params, JavaProjectFinder projectFinder, SourceLinks sourceLinks, BootJavaConfig config) {
+	@Bean PropertiesAstCache propertiesAstCache(SimpleLanguageServer server) {
+		return new PropertiesAstCache(server.getTextDocumentService());
+	}
+
+	@Bean SpringPropertiesCompletionEngine propertiesCompletionEngine(BootLanguageServerParams params, JavaProjectFinder projectFinder, SourceLinks sourceLinks, BootJavaConfig config, PropertiesAstCache propertiesAstCache) {
 		return new SpringPropertiesCompletionEngine(
 				params.indexProvider, 
 				params.typeUtilProvider, 
-				projectFinder, sourceLinks, config);
+				projectFinder, sourceLinks, config, propertiesAstCache);
 	}
 
 	@Bean YamlCompletionEngine yamlCompletionEngine(YamlStructureProvider structureProvider, YamlAssistContextProvider contextProvider) {
@@ -479,6 +514,11 @@ public class BootLanguageServerBootApp {
 		return new StereotypeCatalogRegistry(projectObserver);
 	}
 	
+	@Bean
+	ClasspathResourceManifestEviction classpathResourceManifestEviction(ProjectObserver projectObserver, JavaProjectFinder projectFinder) {
+		return new ClasspathResourceManifestEviction(projectObserver, projectFinder, ClasspathResourceManifest.getInstance());
+	}
+	
 	@Bean
 	Consumer<GsonBuilder> configureGson() {
 		return builder -> builder
@@ -39,9 +39,11 @@ import org.springframework.ide.vscode.boot.java.utils.CompilationUnitCache;
 import org.springframework.ide.vscode.boot.maven.PomLanguageServerComponents;
 import org.springframework.ide.vscode.boot.metadata.ProjectBasedPropertyIndexProvider;
 import org.springframework.ide.vscode.boot.properties.BootPropertiesLanguageServerComponents;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.boot.validation.generations.MavenMetadataProvider;
 import org.springframework.ide.vscode.boot.validation.generations.SpringProjectsProvider;
 import org.springframework.ide.vscode.boot.xml.SpringXMLLanguageServerComponents;
+import org.springframework.ide.vscode.boot.xml.XMLDocumentCache;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
 import org.springframework.ide.vscode.commons.languageserver.completion.CompositeCompletionEngine;
 import org.springframework.ide.vscode.commons.languageserver.completion.ICompletionEngine;
@@ -74,6 +76,8 @@ public class BootLanguageServerInitializer implements InitializingBean {
 	@Autowired CompilationUnitCache cuCache;
 	@Autowired JavaElementLocationProvider javaElementLocationProvider;
 	@Autowired YamlASTProvider parser;
+	@Autowired PropertiesAstCache propertiesAstCache;
+	@Autowired XMLDocumentCache xmlDocumentCache;
 	@Autowired YamlStructureProvider yamlStructureProvider;
 	@Autowired YamlAssistContextProvider yamlAssistContextProvider;
 	@Autowired IndexCache symbolCache;
@@ -128,13 +132,13 @@ public class BootLanguageServerInitializer implements InitializingBean {
 		// some server intialization code. Migrate that code and get rid of the ComposableLanguageServer class
 		CompositeLanguageServerComponents.Builder builder = new CompositeLanguageServerComponents.Builder();
 		List<LanguageServerComponents> componentsList = List.of(
-			new BootPropertiesLanguageServerComponents(server, params, javaElementLocationProvider, parser, yamlStructureProvider, yamlAssistContextProvider, sourceLinks),
+			new BootPropertiesLanguageServerComponents(server, params, javaElementLocationProvider, parser, propertiesAstCache, yamlStructureProvider, yamlAssistContextProvider, sourceLinks),
 			new BootJavaLanguageServerComponents(appContext),
-			new SpringXMLLanguageServerComponents(server, springIndexer, params, config, appContext.getBean(SpelReconciler.class)),
+			new SpringXMLLanguageServerComponents(server, springIndexer, params, config, appContext.getBean(SpelReconciler.class), xmlDocumentCache),
 			new SpringFactoriesLanguageServerComponents(projectFinder, springIndexer, config),
 			new PomLanguageServerComponents(server, projectFinder, params.projectObserver, appContext.getBean(SpringProjectsProvider.class), appContext.getBean(MavenMetadataProvider.class), appContext.getBean(BootJavaConfig.class)),
 			new JpaQueryPropertiesLanguageServerComponents(server.getTextDocumentService(), projectFinder, appContext.getBean(JpqlSemanticTokens.class),
-					appContext.getBean(HqlSemanticTokens.class), appContext.getBean(JpqlSupportState.class), (Reconciler) appContext.getBean("hqlReconciler"), (Reconciler) appContext.getBean("jpqlReconciler"))
+					appContext.getBean(HqlSemanticTokens.class), appContext.getBean(JpqlSupportState.class), (Reconciler) appContext.getBean("hqlReconciler"), (Reconciler) appContext.getBean("jpqlReconciler"), propertiesAstCache)
 		);
 		
 		for (LanguageServerComponents c : componentsList) {
@@ -18,6 +18,7 @@ import org.springframework.ide.vscode.boot.jdt.ls.JavaProjectsService;
 import org.springframework.ide.vscode.boot.metadata.DefaultSpringPropertyIndexProvider;
 import org.springframework.ide.vscode.boot.metadata.SpringPropertyIndexProvider;
 import org.springframework.ide.vscode.boot.metadata.ValueProviderRegistry;
+import org.springframework.ide.vscode.boot.metadata.types.TypePropertiesCache;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtilProvider;
 import org.springframework.ide.vscode.commons.java.SpringProjectUtil;
@@ -69,12 +70,13 @@ public class BootLanguageServerParams {
 		DefaultSpringPropertyIndexProvider indexProvider = new DefaultSpringPropertyIndexProvider(javaProjectService, javaProjectService, server.getWorkspaceService().getFileObserver(), valueProviders, config);
 		indexProvider.setProgressService(server.getProgressService());
 		server.onCommand("sts/common-properties/reload", params -> CompletableFuture.completedFuture(indexProvider.reloadCommonProperties()));
+		TypePropertiesCache typePropertiesCache = new TypePropertiesCache(javaProjectService, server.getWorkspaceService().getFileObserver());
 
 		return new BootLanguageServerParams(
 				javaProjectService.filter(project -> SpringProjectUtil.isBootProject(project) || SpringProjectUtil.isSpringProject(project)),
 				javaProjectService,
 				indexProvider,
-				(SourceLinks sourceLinks, IDocument doc) -> new TypeUtil(sourceLinks, javaProjectService.find(new TextDocumentIdentifier(doc.getUri())))
+				(SourceLinks sourceLinks, IDocument doc) -> new TypeUtil(sourceLinks, javaProjectService.find(new TextDocumentIdentifier(doc.getUri())), typePropertiesCache)
 		);
 	}
 
@@ -59,4 +59,59 @@ public class BootLsConfigProperties {
 		this.symbolCacheDir = symbolCacheDir;
 	}
 
+	/**
+	 * Number of projects that get initialized in parallel when they are created, e.g. when a workspace
+	 * with many projects opens. A value of 1 initializes all projects one after the other on the indexer queue.
+	 */
+	private int projectInitializationConcurrency = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+	public int getProjectInitializationConcurrency() {
+		return projectInitializationConcurrency;
+	}
+
+	public void setProjectInitializationConcurrency(int projectInitializationConcurrency) {
+		this.projectInitializationConcurrency = projectInitializationConcurrency;
+	}
+
+	/**
+	 * Heap usage (as a fraction of the max heap size) above which no additional project initializations are started
+	 * in parallel to the ones already running
+	 */
+	private double projectInitializationMemoryThreshold = 0.7;
+
+	public double getProjectInitializationMemoryThreshold() {
+		return projectInitializationMemoryThreshold;
+	}
+
+	public void setProjectInitializationMemoryThreshold(double projectInitializationMemoryThreshold) {
+		this.projectInitializationMemoryThreshold = projectInitializationMemoryThreshold;
+	}
+
+	/**
+	 * Max number of documents that are parsed in the background because they are likely to be opened next,
+	 * e.g. the documents declaring injected beans or imported types of an opened document. 0 disables prefetching.
+	 */
+	private int astPrefetchMaxDocuments = 10;
+
+	public int getAstPrefetchMaxDocuments() {
+		return astPrefetchMaxDocuments;
+	}
+
+	public void setAstPrefetchMaxDocuments(int astPrefetchMaxDocuments) {
+		this.astPrefetchMaxDocuments = astPrefetchMaxDocuments;
+	}
+
+	/**
+	 * Heap usage (as a fraction of the max heap size) above which no documents are parsed in the background
+	 */
+	private double astPrefetchMemoryThreshold = 0.6;
+
+	public double getAstPrefetchMemoryThreshold() {
+		return astPrefetchMemoryThreshold;
+	}
+
+	public void setAstPrefetchMemoryThreshold(double astPrefetchMemoryThreshold) {
+		this.astPrefetchMemoryThreshold = astPrefetchMemoryThreshold;
+	}
+
 }
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.app;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.commons.java.ClasspathResourceManifest;
+import org.springframework.ide.vscode.commons.java.IJavaProject;
+import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
+import org.springframework.ide.vscode.commons.languageserver.java.ProjectObserver;
+import org.springframework.ide.vscode.commons.protocol.java.Classpath;
+import org.springframework.ide.vscode.commons.protocol.java.Classpath.CPE;
+
+/**
+ * Drops the in-memory {@link ClasspathResourceManifest} entries of jars that are not on the classpath
+ * of any project anymore, whenever a project gets created, changed or deleted.
+ *
+ * @author Martin Lippert
+ */
+public class ClasspathResourceManifestEviction {
+
+	private static final Logger log = LoggerFactory.getLogger(ClasspathResourceManifestEviction.class);
+
+	private final JavaProjectFinder projectFinder;
+	private final ClasspathResourceManifest manifest;
+
+	public ClasspathResourceManifestEviction(ProjectObserver projectObserver, JavaProjectFinder projectFinder, ClasspathResourceManifest manifest) {
+		this.projectFinder = projectFinder;
+		this.manifest = manifest;
+
+		projectObserver.addListener(ProjectObserver.onAny(project -> evict()));
+	}
+
+	private void evict() {
+		List<File> jars = new ArrayList<>();
+		for (IJavaProject project : projectFinder.all()) {
+			try {
+				for (CPE cpe : project.getClasspath().getClasspathEntries()) {
+					if (Classpath.ENTRY_KIND_BINARY.equals(cpe.getKind())) {
+						jars.add(new File(cpe.getPath()));
+					}
+				}
+			}
+			catch (Exception e) {
+				// keep everything, the jars of this project are unknown
+				log.error("error reading classpath of project: " + project.getElementName(), e);
+				return;
+			}
+		}
+		manifest.retainAll(jars);
+	}
+
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.app;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the initial indexing of independent projects in parallel, with a limited number of projects being initialized
+ * at the same time.
+ * <p>
+ * Initializations for projects with open documents are started before all others that are still waiting, otherwise
+ * projects are initialized in the order they got scheduled. An initialization is started only while the heap usage
+ * is below the configured threshold, unless no other initialization is running, so that a number of parallel JDT parsers
+ * don't exhaust the heap of the language server.
+ *
+ * @author Martin Lippert
+ */
+public class ProjectInitializationScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectInitializationScheduler.class);
+
+	private static final long MEMORY_CHECK_INTERVAL_MILLIS = 200;
+
+	private final ThreadPoolExecutor executor;
+	private final double memoryThreshold;
+	private final DoubleSupplier heapUsage;
+
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicInteger running = new AtomicInteger();
+	private final Object memoryLock = new Object();
+
+	public ProjectInitializationScheduler(int concurrency, double memoryThreshold) {
+		this(concurrency, memoryThreshold, ProjectInitializationScheduler::currentHeapUsage);
+	}
+
+	public ProjectInitializationScheduler(int concurrency, double memoryThreshold, DoubleSupplier heapUsage) {
+		this.memoryThreshold = memoryThreshold;
+		this.heapUsage = heapUsage;
+
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(concurrency, concurrency, 30, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), runnable -> {
+			Thread thread = new Thread(runnable, "project-initialization-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * @param hasOpenDocuments initializations of projects with open documents are started first
+	 * @return future that completes when the initialization is done
+	 */
+	public CompletableFuture<Void> schedule(String projectName, boolean hasOpenDocuments, Runnable initialization) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		executor.execute(new ScheduledInitialization(projectName, hasOpenDocuments, sequence.getAndIncrement(), initialization, future));
+		return future;
+	}
+
+	/**
+	 * interrupts the running initializations and cancels the futures of the initializations that didn't start yet
+	 */
+	public void shutdown() {
+		for (Runnable queued : executor.shutdownNow()) {
+			if (queued instanceof ScheduledInitialization initialization) {
+				initialization.future.cancel(false);
+			}
+		}
+	}
+
+	private void waitForMemory(String projectName) throws InterruptedException {
+		synchronized (memoryLock) {
+			boolean logged = false;
+			while (running.get() > 0 && heapUsage.getAsDouble() > memoryThreshold) {
+				if (!logged) {
+					log.info("heap usage above {}, initialization of project {} waits for other projects to be initialized", memoryThreshold, projectName);
+					logged = true;
+				}
+				memoryLock.wait(MEMORY_CHECK_INTERVAL_MILLIS);
+			}
+			running.incrementAndGet();
+		}
+	}
+
+	private void initializationDone() {
+		synchronized (memoryLock) {
+			running.decrementAndGet();
+			memoryLock.notifyAll();
+		}
+	}
+
+	private static double currentHeapUsage() {
+		Runtime runtime = Runtime.getRuntime();
+		return (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+	}
+
+	private class ScheduledInitialization implements Runnable, Comparable<ScheduledInitialization> {
+
+		private final String projectName;
+		private final boolean hasOpenDocuments;
+		private final long sequence;
+		private final Runnable initialization;
+		private final CompletableFuture<Void> future;
+
+		ScheduledInitialization(String projectName, boolean hasOpenDocuments, long sequence, Runnable initialization, CompletableFuture<Void> future) {
+			this.projectName = projectName;
+			this.hasOpenDocuments = hasOpenDocuments;
+			this.sequence = sequence;
+			this.initialization = initialization;
+			this.future = future;
+		}
+
+		@Override
+		public void run() {
+			try {
+				waitForMemory(projectName);
+			}
+			catch (InterruptedException e) {
+				future.cancel(false);
+				return;
+			}
+
+			try {
+				initialization.run();
+				future.complete(null);
+			}
+			catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+			finally {
+				initializationDone();
+			}
+		}
+
+		@Override
+		public int compareTo(ScheduledInitialization other) {
+			if (hasOpenDocuments != other.hasOpenDocuments) {
+				return hasOpenDocuments ? -1 : 1;
+			}
+			return Long.compare(sequence, other.sequence);
+		}
+	}
+
+}
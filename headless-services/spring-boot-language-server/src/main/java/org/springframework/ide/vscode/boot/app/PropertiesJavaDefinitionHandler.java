@@ -26,6 +26,7 @@ import org.springframework.ide.vscode.boot.java.links.SourceLinks;
 import org.springframework.ide.vscode.boot.metadata.PropertyInfo;
 import org.springframework.ide.vscode.boot.metadata.types.Type;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.boot.properties.hover.PropertiesDefinitionCalculator;
 import org.springframework.ide.vscode.boot.properties.hover.PropertyFinder;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
@@ -61,6 +62,9 @@ public class PropertiesJavaDefinitionHandler implements DefinitionHandler, Langu
 	@Autowired
 	private BootLanguageServerParams params;
 
+	@Autowired
+	private PropertiesAstCache astCache;
+
 	@Override
 	public List<LocationLink> handle(CancelChecker cancelToken, DefinitionParams definitionParams) {
 		try {
@@ -83,7 +87,7 @@ public class PropertiesJavaDefinitionHandler implements DefinitionHandler, Langu
 
 	private List<LocationLink> getDefinitions(CancelChecker cancelToken, FuzzyMap<PropertyInfo> index, TypeUtil typeUtil, TextDocument doc, int offset) {
 		IJavaProject project = typeUtil.getJavaProject();
-		PropertyFinder propertyFinder = new PropertyFinder(index, typeUtil, doc, offset);
+		PropertyFinder propertyFinder = new PropertyFinder(index, typeUtil, doc, offset, astCache);
 		Node node = propertyFinder.findNode();
 		
 		cancelToken.checkCanceled();
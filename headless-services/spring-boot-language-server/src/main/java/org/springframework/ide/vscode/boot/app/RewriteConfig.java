@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.app;
 
+import java.util.Optional;
+
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,22 +21,29 @@ import org.springframework.ide.vscode.boot.java.data.jpa.queries.ConvertQueryToT
 import org.springframework.ide.vscode.boot.java.jdt.refactoring.JdtRefactorings;
 import org.springframework.ide.vscode.boot.java.reconcilers.JdtReconciler;
 import org.springframework.ide.vscode.boot.java.reconcilers.ReconcileProblemCodeActionProvider;
+import org.springframework.ide.vscode.boot.java.rewrite.RewriteLstCache;
 import org.springframework.ide.vscode.boot.java.rewrite.RewriteRecipeRepository;
 import org.springframework.ide.vscode.boot.java.rewrite.RewriteRefactorings;
 import org.springframework.ide.vscode.boot.java.rewrite.SpringBootUpgrade;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
+import org.springframework.ide.vscode.commons.languageserver.java.ProjectObserver;
 import org.springframework.ide.vscode.commons.languageserver.util.SimpleLanguageServer;
+import org.springframework.ide.vscode.commons.util.FileObserver;
 
 @Configuration(proxyBeanMethods = false)
 public class RewriteConfig {
 
-	@Bean RewriteRecipeRepository rewriteRecipesRepository(SimpleLanguageServer server, JavaProjectFinder projectFinder, BootJavaConfig config) {
-		return new RewriteRecipeRepository(server, projectFinder, config);
+	@Bean RewriteLstCache rewriteLstCache(Optional<ProjectObserver> projectObserver, Optional<FileObserver> fileObserver) {
+		return new RewriteLstCache(projectObserver.orElse(null), fileObserver.orElse(null));
+	}
+	
+	@Bean RewriteRecipeRepository rewriteRecipesRepository(SimpleLanguageServer server, JavaProjectFinder projectFinder, BootJavaConfig config, RewriteLstCache lstCache) {
+		return new RewriteRecipeRepository(server, projectFinder, config, lstCache);
 	}
 	
 	@ConditionalOnBean(RewriteRecipeRepository.class)
-	@Bean RewriteRefactorings rewriteRefactorings(SimpleLanguageServer server, JavaProjectFinder projectFinder, RewriteRecipeRepository recipeRepo) {
-		return new RewriteRefactorings(server, projectFinder, recipeRepo);
+	@Bean RewriteRefactorings rewriteRefactorings(SimpleLanguageServer server, JavaProjectFinder projectFinder, RewriteRecipeRepository recipeRepo, RewriteLstCache lstCache) {
+		return new RewriteRefactorings(server, projectFinder, recipeRepo, lstCache);
 	}
 	
 	@ConditionalOnBean(RewriteRecipeRepository.class)
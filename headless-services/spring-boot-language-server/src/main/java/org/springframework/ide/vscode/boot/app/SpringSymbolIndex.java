@@ -37,7 +37,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,17 +45,20 @@ import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.ide.vscode.boot.index.SpringIndexToSymbolsConverter;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore;
 import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
 import org.springframework.ide.vscode.boot.index.cache.IndexCache;
 import org.springframework.ide.vscode.boot.java.BootJavaLanguageServerComponents;
 import org.springframework.ide.vscode.boot.java.handlers.SpringComponentIndexer;
 import org.springframework.ide.vscode.boot.java.reconcilers.JdtReconciler;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteCache;
 import org.springframework.ide.vscode.boot.java.utils.CompilationUnitCache;
 import org.springframework.ide.vscode.boot.java.utils.DocumentDescriptor;
 import org.springframework.ide.vscode.boot.java.utils.SpringFactoriesIndexer;
@@ -87,7 +89,6 @@ import org.springframework.ide.vscode.commons.protocol.spring.ProjectElement;
 import org.springframework.ide.vscode.commons.protocol.spring.SpringIndex;
 import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElement;
 import org.springframework.ide.vscode.commons.util.Futures;
-import org.springframework.ide.vscode.commons.util.StringUtil;
 import org.springframework.ide.vscode.commons.util.UriUtil;
 import org.springframework.ide.vscode.commons.util.text.TextDocument;
 import org.springframework.stereotype.Component;
@@ -109,12 +110,22 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 	@Autowired IndexCache cache;
 	@Autowired FutureProjectFinder futureProjectFinder;
 	@Autowired SpringMetamodelIndex springIndex;
+	@Autowired DiagnosticsStore diagnosticsStore;
 	@Autowired JdtReconciler jdtReconciler;
 	@Autowired CompilationUnitCache cuCache;
+	@Autowired XMLDocumentCache xmlDocumentCache;
+	@Autowired WebFnRouteCache routeCache;
+	@Autowired BootLsConfigProperties configProperties;
 
 	private final ExecutorService updateQueue = Executors.newSingleThreadExecutor();
 	private final Map<String, CompletableFuture<Void>> latestScheduledTaskByProject = new ConcurrentHashMap<String, CompletableFuture<Void>>();
-	
+	private ProjectInitializationScheduler initializationScheduler;
+
+	// operations that wait for parallel project initializations before they are put onto the update queue, guarded by the lock
+	private final Object pendingOperationsLock = new Object();
+	private final Map<String, CompletableFuture<Void>> pendingOperationsByProject = new HashMap<>();
+	private CompletableFuture<Void> pendingBarrier;
+
 	private SpringIndexer[] indexers;
 	private ListenerList<Void> listeners = new ListenerList<Void>();
 	
@@ -124,7 +135,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 		@Override
 		public void created(IJavaProject project) {
 			log.info("project created event: {}", project.getElementName());
-			initializeProject(project, false);
+			initializeProject(project, false, true);
 		}
 
 		@Override
@@ -162,6 +173,11 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 	public void afterPropertiesSet() throws Exception {
 		log.debug("Setting up {}", this);
 
+		if (configProperties.getProjectInitializationConcurrency() > 1) {
+			initializationScheduler = new ProjectInitializationScheduler(configProperties.getProjectInitializationConcurrency(),
+					configProperties.getProjectInitializationMemoryThreshold());
+		}
+
 		SymbolHandler handler = new SymbolHandler() {
 			@Override
 			public void addSymbols(IJavaProject project, String docURI, List<SpringIndexElement> beanDefinitions,
@@ -172,6 +188,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 				}
 				
 				if (diagnostics != null) {
+					diagnosticsStore.update(project.getElementName(), docURI, diagnostics);
 					server.getTextDocumentService().publishDiagnostics(new TextDocumentIdentifier(docURI), diagnostics);
 					// TODO: need to use real TextDocumentIdentifier because of the document version
 				}
@@ -194,6 +211,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 				
 				if (diagnosticsPerDoc != null) {
 					for (String docURI : diagnosticsPerDoc.keySet()) {
+						diagnosticsStore.update(project.getElementName(), docURI, diagnosticsPerDoc.get(docURI));
 						server.getTextDocumentService().publishDiagnostics(new TextDocumentIdentifier(docURI), diagnosticsPerDoc.get(docURI));
 						// TODO: need to use real TextDocumentIdentifier because of the document version
 					}
@@ -212,10 +230,10 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 
 		Map<String, SpringIndexerXMLNamespaceHandler> namespaceHandler = new HashMap<>();
 		namespaceHandler.put("http://www.springframework.org/schema/beans", new SpringIndexerXMLNamespaceHandlerBeans());
-		springIndexerXML = new SpringIndexerXML(handler, namespaceHandler, this.cache, projectFinder());
+		springIndexerXML = new SpringIndexerXML(handler, namespaceHandler, this.cache, projectFinder(), xmlDocumentCache);
 		
 		BiFunction<TextDocument, BiConsumer<String, Diagnostic>, IProblemCollector> problemCollectorFactory = (doc, aggregator) -> server.createProblemCollector(doc, aggregator);
-		springIndexerJava = new SpringIndexerJava(handler, componentIndexers, this.cache, projectFinder(), server.getProgressService(), jdtReconciler, problemCollectorFactory, config.getJavaValidationSettingsJson(), cuCache);
+		springIndexerJava = new SpringIndexerJava(handler, componentIndexers, this.cache, projectFinder(), server.getProgressService(), jdtReconciler, problemCollectorFactory, config.getJavaValidationSettingsJson(), cuCache, routeCache);
 		factoriesIndexer = new SpringFactoriesIndexer(handler, cache);
 
 		this.indexers = new SpringIndexer[] {
@@ -280,7 +298,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 	}
 
 	public void configurationChanged(SymbolIndexConfig config) {
-		CompletableFuture.runAsync(() -> configureIndexer(config), this.updateQueue);
+		runOnUpdateQueue(() -> configureIndexer(config), true);
 
 		Collection<? extends IJavaProject> projects = projectFinder().all();
 		for (IJavaProject project : projects) {
@@ -331,6 +349,10 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 					updateQueue.shutdownNow();
 				}
 
+				if (initializationScheduler != null) {
+					initializationScheduler.shutdown();
+				}
+
 				if (getProjectObserver() != null) {
 					getProjectObserver().removeListener(projectListener);
 				}
@@ -341,7 +363,15 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 	}
 	
 	public CompletableFuture<Void> initializeProject(IJavaProject project, boolean clean) {
-		CompletableFuture<Void> cf = _initializeProject(project, clean);
+		return initializeProject(project, clean, false);
+	}
+
+	/**
+	 * @param parallel initialize the project in parallel to other projects (if enabled), which is used for newly created projects,
+	 * e.g. when a workspace opens. Operations that get scheduled afterwards still wait for the initialization to complete.
+	 */
+	private CompletableFuture<Void> initializeProject(IJavaProject project, boolean clean, boolean parallel) {
+		CompletableFuture<Void> cf = _initializeProject(project, clean, parallel);
 		cf.thenAccept( f -> {
 			projectInitializedFuture(project).complete(null);
 		});
@@ -349,7 +379,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 		return cf;
 	}
 	
-	private CompletableFuture<Void> _initializeProject(IJavaProject project, boolean clean) {
+	private CompletableFuture<Void> _initializeProject(IJavaProject project, boolean clean, boolean parallel) {
 		try {
 			if (SpringProjectUtil.isBootProject(project) || SpringProjectUtil.isSpringProject(project)) {
 
@@ -361,32 +391,29 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 				} else {
 					
 					synchronized(this) { // synchronized since the `indexers` array can change via a settings change
+						// only if nothing else is still pending for the project, parallel initializations don't wait for the update queue
+						CompletableFuture<Void> pending = this.latestScheduledTaskByProject.get(project.getElementName());
+						if (parallel && initializationScheduler != null && (pending == null || pending.isDone()) && !hasPendingBarrier()) {
+							return initializeProjectInParallel(project, clean);
+						}
+
 						@SuppressWarnings("unchecked")
 						CompletableFuture<Void>[] futures = new CompletableFuture[this.indexers.length + 1];
 
 						// clean future
-						futures[0] = CompletableFuture.runAsync(() -> {
+						futures[0] = runOnUpdateQueue(project.getElementName(), () -> {
 							springIndex.removeProject(project.getElementName());
-						}, this.updateQueue);
+							diagnosticsStore.removeProject(project.getElementName());
+						});
 						
 						// index futures
 						for (int i = 0; i < this.indexers.length; i++) {
 							InitializeProject initializeItem = new InitializeProject(project, this.indexers[i], clean);
-							futures[i + 1] = CompletableFuture.runAsync(initializeItem, this.updateQueue);
+							futures[i + 1] = runOnUpdateQueue(project.getElementName(), initializeItem);
 						}
 						
 						CompletableFuture<Void> future = CompletableFuture.allOf(futures);
-						
-						future = future
-								.thenAccept(v -> {
-									if (server.getClient() != null) {
-										server.getClient().indexUpdated(IndexUpdatedParams.of(Set.of(project.getElementName())));
-									}
-								})
-								.thenAccept(v -> listeners.fire(v));
-
-						this.latestScheduledTaskByProject.put(project.getElementName(), future);
-						return future;
+						return projectInitializationScheduled(project, future);
 					}
 				}
 			} else {
@@ -398,6 +425,133 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 		}
 	}
 
+	/**
+	 * runs the initialization of the project on the initialization scheduler, in parallel to other projects. The update queue
+	 * is not blocked by the initialization, operations for the project that get scheduled while the initialization is pending
+	 * are put onto the queue once the initialization is done, see {@link #runOnUpdateQueue(String, Runnable)}.
+	 * <p>
+	 * Parallel initializations of different projects share the indexers, which keep their per-project state in concurrent maps
+	 * keyed by project (dependency tracker, cache keys of the cache helper, index cache stores), while the AST parser, the scan
+	 * result and the progress task are created per initialization. The Spring index and the diagnostics store are concurrent
+	 * per project as well. The same project is never initialized twice at the same time, since parallel initializations are only
+	 * started for projects without pending operations and all other operations of the project wait for it.
+	 */
+	private CompletableFuture<Void> initializeProjectInParallel(IJavaProject project, boolean clean) {
+		SpringIndexer[] indexers = this.indexers;
+		String projectName = project.getElementName();
+
+		CompletableFuture<Void> initialized = initializationScheduler.schedule(projectName, hasOpenDocuments(project), () -> {
+			springIndex.removeProject(projectName);
+			diagnosticsStore.removeProject(projectName);
+
+			for (SpringIndexer indexer : indexers) {
+				new InitializeProject(project, indexer, clean).run();
+			}
+		});
+
+		synchronized (pendingOperationsLock) {
+			pendingOperationsByProject.put(projectName, initialized);
+		}
+		initialized.whenComplete((result, error) -> operationDone(projectName, initialized));
+
+		return projectInitializationScheduled(project, initialized);
+	}
+
+	/**
+	 * schedules an operation for the project on the update queue. While a parallel initialization of the project (or a barrier)
+	 * is pending, the operation is put onto the queue only after that and the operations of the project scheduled before it
+	 * are done, so that the queue keeps working on other projects in the meantime.
+	 */
+	private CompletableFuture<Void> runOnUpdateQueue(String projectName, Runnable operation) {
+		CompletableFuture<Void> future;
+
+		synchronized (pendingOperationsLock) {
+			CompletableFuture<Void> pending = pendingOperationsByProject.get(projectName);
+			CompletableFuture<Void> before = pending == null ? pendingBarrier
+					: pendingBarrier == null ? pending
+					: CompletableFuture.allOf(pending, pendingBarrier);
+
+			if (before == null) {
+				return CompletableFuture.runAsync(operation, this.updateQueue);
+			}
+
+			future = before.handle((result, error) -> null).thenRunAsync(operation, this.updateQueue);
+			pendingOperationsByProject.put(projectName, future);
+		}
+
+		future.whenComplete((result, error) -> operationDone(projectName, future));
+		return future;
+	}
+
+	/**
+	 * schedules an operation on the update queue after all pending parallel initializations and the operations waiting for
+	 * them are done. A barrier operation is also done before any operation that gets scheduled after it.
+	 */
+	private CompletableFuture<Void> runOnUpdateQueue(Runnable operation, boolean barrier) {
+		CompletableFuture<Void> future;
+
+		synchronized (pendingOperationsLock) {
+			List<CompletableFuture<Void>> pending = new ArrayList<>(pendingOperationsByProject.values());
+			if (pendingBarrier != null) {
+				pending.add(pendingBarrier);
+			}
+
+			if (pending.isEmpty()) {
+				return CompletableFuture.runAsync(operation, this.updateQueue);
+			}
+
+			future = CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).handle((result, error) -> null).thenRunAsync(operation, this.updateQueue);
+			if (!barrier) {
+				return future;
+			}
+			pendingBarrier = future;
+		}
+
+		future.whenComplete((result, error) -> {
+			synchronized (pendingOperationsLock) {
+				if (pendingBarrier == future) {
+					pendingBarrier = null;
+				}
+			}
+		});
+		return future;
+	}
+
+	private void operationDone(String projectName, CompletableFuture<Void> operation) {
+		synchronized (pendingOperationsLock) {
+			pendingOperationsByProject.remove(projectName, operation);
+		}
+	}
+
+	private boolean hasPendingBarrier() {
+		synchronized (pendingOperationsLock) {
+			return pendingBarrier != null;
+		}
+	}
+
+	private CompletableFuture<Void> projectInitializationScheduled(IJavaProject project, CompletableFuture<Void> future) {
+		future = future
+				.thenAccept(v -> {
+					if (server.getClient() != null) {
+						server.getClient().indexUpdated(IndexUpdatedParams.of(Set.of(project.getElementName())));
+					}
+				})
+				.thenAccept(v -> listeners.fire(v));
+
+		this.latestScheduledTaskByProject.put(project.getElementName(), future);
+		return future;
+	}
+
+	private boolean hasOpenDocuments(IJavaProject project) {
+		for (TextDocument doc : server.getTextDocumentService().getAll()) {
+			Optional<IJavaProject> docProject = projectFinder().find(doc.getId());
+			if (docProject.isPresent() && project.getElementName().equals(docProject.get().getElementName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public SpringIndexerJava getJavaIndexer() {
 		return springIndexerJava;
 	}
@@ -410,7 +564,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 				return CompletableFuture.completedFuture(null);
 			} else {
 				DeleteProject initializeItem = new DeleteProject(project, this.indexers);
-				CompletableFuture<Void> future = CompletableFuture.runAsync(initializeItem, this.updateQueue);
+				CompletableFuture<Void> future = runOnUpdateQueue(project.getElementName(), initializeItem);
 				this.latestScheduledTaskByProject.put(project.getElementName(), future);
 
 				return future;
@@ -642,7 +796,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 					
 					if (docURIs != null && docURIs.size() > 0) {
 						DeleteItems deleteItems = new DeleteItems(project, (String[]) docURIs.toArray(new String[docURIs.size()]), this.indexers);
-						CompletableFuture<Void> future = CompletableFuture.runAsync(deleteItems, this.updateQueue);
+						CompletableFuture<Void> future = runOnUpdateQueue(project.getElementName(), deleteItems);
 	
 						this.latestScheduledTaskByProject.put(project.getElementName(), future);
 						futures.add(future);
@@ -674,10 +828,17 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 	}
 
 	public List<WorkspaceSymbol> getAllSymbols(String query) {
+		return getAllSymbols(query, 0, null);
+	}
+
+	/**
+	 * @param limit maximum number of (ranked) symbols to return for non-empty queries, a value <= 0 means no limit
+	 */
+	public List<WorkspaceSymbol> getAllSymbols(String query, int limit, CancelChecker cancelChecker) {
 		long start = System.currentTimeMillis();
 
 		try {
-			return getAllSymbolsFromMetamodelIndex(query);
+			return getAllSymbolsFromMetamodelIndex(query, limit, cancelChecker);
 		}
 		finally {
 			long end = System.currentTimeMillis();
@@ -685,9 +846,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 		}
 	}
 	
-	private List<WorkspaceSymbol> getAllSymbolsFromMetamodelIndex(String query) {
-		Collection<ProjectElement> projects = springIndex.getProjects();
-		
+	private List<WorkspaceSymbol> getAllSymbolsFromMetamodelIndex(String query, int limit, CancelChecker cancelChecker) {
 		String locationPrefix = "";
 		if (query.startsWith(QUERY_PARAM_LOCATION_PREFIX)) {
 
@@ -706,14 +865,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 			query = query.substring(1);
 		}
 
-		final String finalQuery = query;
-		final String finalLocationPrefix = locationPrefix;
-		
-		Predicate<DocumentElement> locationPredicate = (document) -> document.getDocURI().startsWith(finalLocationPrefix);
-		Predicate<DocumentSymbol> symbolPredicate = query != null && query.length() > 0 ? (symbol) -> StringUtil.containsCharactersCaseInsensitive(symbol.getName(), finalQuery) : (symbol) -> true;
-		
-		List<WorkspaceSymbol> workspaceSymbols = SpringIndexToSymbolsConverter.createWorkspaceSymbols(projects, locationPredicate, symbolPredicate);
-		return workspaceSymbols;
+		return springIndex.searchSymbols(locationPrefix, query, limit, cancelChecker);
 	}
 	
 	synchronized private CompletableFuture<IJavaProject> projectInitializedFuture(IJavaProject project) {
@@ -842,14 +994,14 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 	/**
 	 * inserts a noop operation into the worker/update quene, which allows invokers to use the
 	 * returned future to wait for the queue items in the queue to be completed which got inserted before
-	 * this noop.
+	 * this noop, including pending parallel project initializations.
 	 */
 	public CompletableFuture<Void> waitOperation() {
-		return CompletableFuture.runAsync(new Runnable() {
+		return runOnUpdateQueue(new Runnable() {
 			@Override
 			public void run() {
 			}
-		}, this.updateQueue);
+		}, false);
 	}
 
 
@@ -888,14 +1040,14 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 	CompletableFuture<Void> updateItem(IJavaProject project, DocumentDescriptor updatedDoc, String content, SpringIndexer indexer) {
 		log.debug("scheduling updateItem {}. {},  {}, {}", project.getElementName(), updatedDoc.getDocURI(), updatedDoc.getLastModified(), indexer);
 
-		CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+		CompletableFuture<Void> future = runOnUpdateQueue(project.getElementName(), () -> {
 			try {
 				log.debug("updateItem {}. {},  {}, {}", project.getElementName(), updatedDoc.getDocURI(), updatedDoc.getLastModified(), indexer);
 				indexer.updateFile(project, updatedDoc, content);
 			} catch (Exception e) {
 				log.error("{}", e);
 			}
-		}, this.updateQueue);
+		});
 		
 		this.latestScheduledTaskByProject.put(project.getElementName(), future);
 		return future;
@@ -906,7 +1058,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 			log.debug("scheduling updateItem {}. {},  {}, {}", project.getElementName(), doc.getDocURI(), doc.getLastModified(), indexer);
 		}
 
-		CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+		CompletableFuture<Void> future = runOnUpdateQueue(project.getElementName(), () -> {
 			
 			try {
 				for (DocumentDescriptor doc : updatedDoc) {
@@ -917,7 +1069,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 			} catch (Exception e) {
 				log.error("{}", e);
 			}
-		}, this.updateQueue);
+		});
 		
 		this.latestScheduledTaskByProject.put(project.getElementName(), future);
 		return future;
@@ -940,6 +1092,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 			try {
 				for (String doc : this.docURIs) {
 					springIndex.removeElements(project.getElementName(), doc);
+					diagnosticsStore.removeDocument(project.getElementName(), doc);
 				}
 				
 				for (SpringIndexer index : this.indexer) {
@@ -971,6 +1124,7 @@ public class SpringSymbolIndex implements InitializingBean, SpringIndex {
 					index.removeProject(project);
 				}
 				springIndex.removeProject(project.getElementName());
+				diagnosticsStore.removeProject(project.getElementName());
 
 				if (server.getClient() != null) {
 					server.getClient().indexUpdated(IndexUpdatedParams.of(project.getElementName()));
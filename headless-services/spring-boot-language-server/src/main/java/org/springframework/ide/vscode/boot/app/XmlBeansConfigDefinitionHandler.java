@@ -51,7 +51,6 @@ import java.util.concurrent.CancellationException;
 import org.eclipse.lemminx.dom.DOMAttr;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMNode;
-import org.eclipse.lemminx.dom.DOMParser;
 import org.eclipse.lemminx.dom.parser.Scanner;
 import org.eclipse.lemminx.dom.parser.TokenType;
 import org.eclipse.lemminx.dom.parser.XMLScanner;
@@ -63,6 +62,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
 import org.springframework.ide.vscode.boot.java.links.JavaElementLocationProvider;
+import org.springframework.ide.vscode.boot.xml.XMLDocumentCache;
 import org.springframework.ide.vscode.boot.xml.XMLElementKey;
 import org.springframework.ide.vscode.boot.xml.hyperlinks.BeanRefHyperlinkProvider;
 import org.springframework.ide.vscode.boot.xml.hyperlinks.JavaTypeHyperlinkProvider;
@@ -90,19 +90,22 @@ public class XmlBeansConfigDefinitionHandler implements DefinitionHandler, Langu
 
 	private final SimpleTextDocumentService documents;
 	private final BootJavaConfig config;
+	private final XMLDocumentCache documentCache;
 	
 	public XmlBeansConfigDefinitionHandler(SimpleTextDocumentService documents,
 			BootJavaConfig config,
 			JavaElementLocationProvider locationProvider,
 			SpringMetamodelIndex springIndex,
-			BootLanguageServerParams serverParams) {
+			BootLanguageServerParams serverParams,
+			XMLDocumentCache documentCache) {
 		this.documents = documents;
 		this.config = config;
+		this.documentCache = documentCache;
 		JavaProjectFinder projectFinder = serverParams.projectFinder;
 		
 		JavaTypeHyperlinkProvider javaTypeHyperlinkProvider = new JavaTypeHyperlinkProvider(projectFinder, locationProvider);
 		PropertyNameHyperlinkProvider propertyNameHyperlinkProvider = new PropertyNameHyperlinkProvider(projectFinder, locationProvider);
-		BeanRefHyperlinkProvider beanRefHyperlinkProvider = new BeanRefHyperlinkProvider(projectFinder, springIndex);
+		BeanRefHyperlinkProvider beanRefHyperlinkProvider = new BeanRefHyperlinkProvider(projectFinder, springIndex, documentCache);
 		
 		List<JavaTypeHyperlinkProvider> typeHandlersOnly = Arrays.asList(javaTypeHyperlinkProvider);
 		List<PropertyNameHyperlinkProvider> propertyNameHandlers = Arrays.asList(propertyNameHyperlinkProvider);
@@ -153,73 +156,75 @@ public class XmlBeansConfigDefinitionHandler implements DefinitionHandler, Langu
 					
 					String content = doc.get();
 	
-					DOMParser parser = DOMParser.getInstance();
-					DOMDocument dom = parser.parse(content, "", null);
-					
-					int offset = doc.toOffset(params.getPosition());
-					
-					cancelToken.checkCanceled();
-	
-					DOMNode node = dom.findNodeBefore(offset);
-	
-					if (node != null) {
-						String namespace = node.getNamespaceURI();
-	
-						Scanner scanner = XMLScanner.createScanner(content, node.getStart(), false);
-						TokenType token = scanner.scan();
-						
-						while (token != TokenType.EOS && scanner.getTokenOffset() <= offset) {
-							switch (token) {
-							case AttributeValue:
-								if (scanner.getTokenOffset() <= offset && offset <= scanner.getTokenEnd()) {
-									DOMAttr attributeAt = dom.findAttrAt(offset);
-	
-									if (attributeAt != null) {
-										XMLElementKey key = new XMLElementKey(namespace, null, node.getLocalName(), attributeAt.getNodeName());
-	
-										if (!hyperlinkProviders.containsKey(key)) {
-											DOMNode parentNode = node.getParentNode();
-											String parentNodeName = parentNode != null ? parentNode.getLocalName() : null;
-											key = new XMLElementKey(namespace, parentNodeName, node.getLocalName(), attributeAt.getNodeName());
-										}
-	
-										List<? extends XMLHyperlinkProvider> providers = hyperlinkProviders.get(key);
-										if (providers != null) {
-
-											ImmutableList.Builder<LocationLink> listBuilder = ImmutableList.builder();
-											for (XMLHyperlinkProvider provider : providers) {
-												
-												List<Location> locations = provider.getDefinition(doc, namespace, node, attributeAt);
-												if (locations != null) {
-
-													int start = attributeAt.getNodeAttrValue().getStart() + 1;
-													int end = attributeAt.getNodeAttrValue().getEnd() - 1;
-													
-													for (Location location : locations) {
-														listBuilder.add(new LocationLink(location.getUri(),
-																location.getRange(), location.getRange(),
-																doc.toRange(start, Math.max(0, end - start))));
-														
-													}
-												}
-											}
-											return listBuilder.build();
+					return documentCache.getDocument(doc.getUri(), content).withDom(dom -> findDefinitions(cancelToken, doc, content, dom, params));
+				}
+			}
+		} catch (CancellationException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("{}", e);
+		}
+		return null;
+	}
+
+	private List<LocationLink> findDefinitions(CancelChecker cancelToken, TextDocument doc, String content, DOMDocument dom, DefinitionParams params) throws Exception {
+		int offset = doc.toOffset(params.getPosition());
+		
+		cancelToken.checkCanceled();
+
+		DOMNode node = dom.findNodeBefore(offset);
+
+		if (node != null) {
+			String namespace = node.getNamespaceURI();
+
+			Scanner scanner = XMLScanner.createScanner(content, node.getStart(), false);
+			TokenType token = scanner.scan();
+			
+			while (token != TokenType.EOS && scanner.getTokenOffset() <= offset) {
+				switch (token) {
+				case AttributeValue:
+					if (scanner.getTokenOffset() <= offset && offset <= scanner.getTokenEnd()) {
+						DOMAttr attributeAt = dom.findAttrAt(offset);
+
+						if (attributeAt != null) {
+							XMLElementKey key = new XMLElementKey(namespace, null, node.getLocalName(), attributeAt.getNodeName());
+
+							if (!hyperlinkProviders.containsKey(key)) {
+								DOMNode parentNode = node.getParentNode();
+								String parentNodeName = parentNode != null ? parentNode.getLocalName() : null;
+								key = new XMLElementKey(namespace, parentNodeName, node.getLocalName(), attributeAt.getNodeName());
+							}
+
+							List<? extends XMLHyperlinkProvider> providers = hyperlinkProviders.get(key);
+							if (providers != null) {
+
+								ImmutableList.Builder<LocationLink> listBuilder = ImmutableList.builder();
+								for (XMLHyperlinkProvider provider : providers) {
+									
+									List<Location> locations = provider.getDefinition(doc, namespace, node, attributeAt);
+									if (locations != null) {
+
+										int start = attributeAt.getNodeAttrValue().getStart() + 1;
+										int end = attributeAt.getNodeAttrValue().getEnd() - 1;
+										
+										for (Location location : locations) {
+											listBuilder.add(new LocationLink(location.getUri(),
+													location.getRange(), location.getRange(),
+													doc.toRange(start, Math.max(0, end - start))));
+											
 										}
 									}
 								}
-								break;
-							default:
-								break;
+								return listBuilder.build();
 							}
-							token = scanner.scan();
 						}
 					}
+					break;
+				default:
+					break;
 				}
+				token = scanner.scan();
 			}
-		} catch (CancellationException e) {
-			throw e;
-		} catch (Exception e) {
-			log.error("{}", e);
 		}
 		return null;
 	}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.lsp4j.Diagnostic;
+
+/**
+ * In-memory store of the diagnostics the indexer and its reconcilers published for the documents of each project.
+ * <p>
+ * Diagnostics are stored per document and replaced as a whole whenever the diagnostics of a document get published
+ * again. Documents without diagnostics are not stored at all. Reads never wait for the indexer, they see the latest
+ * published state of every document.
+ *
+ * @author Martin Lippert
+ */
+public class DiagnosticsStore {
+
+	private final ConcurrentMap<String, ProjectDiagnostics> projects = new ConcurrentHashMap<>();
+	private final AtomicLong resultIds = new AtomicLong();
+
+	/**
+	 * Diagnostics of a single document, the result id changes every time the diagnostics of the document get updated
+	 */
+	public record DocumentDiagnostics(String projectName, String docURI, List<Diagnostic> diagnostics, String resultId) {
+	}
+
+	public void update(String projectName, String docURI, List<Diagnostic> diagnostics) {
+		if (diagnostics.isEmpty()) {
+			removeDocument(projectName, docURI);
+		}
+		else {
+			ProjectDiagnostics project = projects.computeIfAbsent(projectName, ProjectDiagnostics::new);
+			project.update(docURI, diagnostics, String.valueOf(resultIds.incrementAndGet()));
+		}
+	}
+
+	public void removeDocument(String projectName, String docURI) {
+		ProjectDiagnostics project = projects.get(projectName);
+		if (project != null) {
+			project.remove(docURI);
+		}
+	}
+
+	public void removeProject(String projectName) {
+		projects.remove(projectName);
+	}
+
+	public Collection<String> getProjectNames() {
+		return Collections.unmodifiableCollection(projects.keySet());
+	}
+
+	/**
+	 * @return diagnostics of all documents of the project that have diagnostics
+	 */
+	public List<DocumentDiagnostics> getDiagnostics(String projectName) {
+		ProjectDiagnostics project = projects.get(projectName);
+		return project != null ? new ArrayList<>(project.byURI.values()) : List.of();
+	}
+
+	private static class ProjectDiagnostics {
+
+		private final String name;
+
+		private final ConcurrentMap<String, DocumentDiagnostics> byURI = new ConcurrentHashMap<>();
+
+		ProjectDiagnostics(String name) {
+			this.name = name;
+		}
+
+		void update(String docURI, List<Diagnostic> diagnostics, String resultId) {
+			byURI.put(docURI, new DocumentDiagnostics(name, docURI, List.copyOf(diagnostics), resultId));
+		}
+
+		void remove(String docURI) {
+			byURI.remove(docURI);
+		}
+	}
+
+}
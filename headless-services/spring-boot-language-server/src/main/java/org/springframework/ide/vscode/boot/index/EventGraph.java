@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.springframework.ide.vscode.boot.java.events.EventListenerIndexElement;
+import org.springframework.ide.vscode.boot.java.events.EventPublisherIndexElement;
+import org.springframework.ide.vscode.commons.protocol.spring.DocumentElement;
+import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElementUtils;
+
+/**
+ * Graph of the event listeners and event publishers in the metamodel index, kept up-to-date
+ * together with the metamodel index itself.
+ *
+ * Listeners are indexed by the event types they listen on, publishers by the type of the published
+ * event and all the types from its type hierarchy, so matching listeners and publishers are direct lookups.
+ * Per document, listeners and publishers are kept sorted by the start of their range to find the element
+ * at a given position.
+ *
+ * @author Martin Lippert
+ */
+public class EventGraph {
+
+	private static final Comparator<Position> POSITIONS = Comparator
+			.comparingInt(Position::getLine)
+			.thenComparingInt(Position::getCharacter);
+
+	private static final Comparator<Location> BY_START = Comparator.comparing(location -> location.getRange().getStart(), POSITIONS);
+
+	private final ConcurrentMap<String, ProjectEvents> projects;
+
+	public EventGraph() {
+		this.projects = new ConcurrentHashMap<>();
+	}
+
+	public void updateDocument(String projectName, DocumentElement document) {
+		List<EventListenerIndexElement> listeners = SpringIndexElementUtils.getNodesOfType(EventListenerIndexElement.class, List.of(document));
+		List<EventPublisherIndexElement> publishers = SpringIndexElementUtils.getNodesOfType(EventPublisherIndexElement.class, List.of(document));
+
+		if (listeners.isEmpty() && publishers.isEmpty()) {
+			removeDocument(projectName, document.getDocURI());
+		}
+		else {
+			projects.computeIfAbsent(projectName, name -> new ProjectEvents())
+				.update(document.getDocURI(), new DocumentEvents(sortedByStart(listeners, EventListenerIndexElement::getLocation), sortedByStart(publishers, EventPublisherIndexElement::getLocation)));
+		}
+	}
+
+	public void removeDocument(String projectName, String docURI) {
+		ProjectEvents project = projects.get(projectName);
+		if (project != null) {
+			project.remove(docURI);
+		}
+	}
+
+	public void removeProject(String projectName) {
+		projects.remove(projectName);
+	}
+
+	public EventListenerIndexElement findListener(String docURI, Position position) {
+		for (ProjectEvents project : projects.values()) {
+			DocumentEvents document = project.byURI.get(docURI);
+			if (document != null) {
+				return findAt(document.listeners(), EventListenerIndexElement::getLocation, position);
+			}
+		}
+		return null;
+	}
+
+	public EventPublisherIndexElement findPublisher(String docURI, Position position) {
+		for (ProjectEvents project : projects.values()) {
+			DocumentEvents document = project.byURI.get(docURI);
+			if (document != null) {
+				return findAt(document.publishers(), EventPublisherIndexElement::getLocation, position);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return publishers that publish one of the event types the listener listens on, or a subtype of them
+	 */
+	public Collection<EventPublisherIndexElement> getPublishers(EventListenerIndexElement listener) {
+		Set<EventPublisherIndexElement> result = new LinkedHashSet<>();
+		for (ProjectEvents project : projects.values()) {
+			for (String eventType : listener.getListenerEventTypes()) {
+				addAll(result, project.publishersByType.get(eventType));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return listeners that listen on the published event type or on a type from its type hierarchy
+	 */
+	public Collection<EventListenerIndexElement> getListeners(EventPublisherIndexElement publisher) {
+		Set<EventListenerIndexElement> result = new LinkedHashSet<>();
+		for (ProjectEvents project : projects.values()) {
+			for (String eventType : getPublishedEventTypes(publisher)) {
+				addAll(result, project.listenersByType.get(eventType));
+			}
+		}
+		return result;
+	}
+
+	private static Set<String> getPublishedEventTypes(EventPublisherIndexElement publisher) {
+		Set<String> result = new LinkedHashSet<>();
+		result.add(publisher.getEventType());
+		if (publisher.getEventTypesFromHierarchy() != null) {
+			result.addAll(publisher.getEventTypesFromHierarchy());
+		}
+		return result;
+	}
+
+	private static <T> void addAll(Set<T> result, Set<T> elements) {
+		if (elements != null) {
+			result.addAll(elements);
+		}
+	}
+
+	private static <T> List<T> sortedByStart(List<T> elements, Function<T, Location> location) {
+		List<T> result = new ArrayList<>(elements);
+		result.sort(Comparator.comparing(location, BY_START));
+		return List.copyOf(result);
+	}
+
+	/**
+	 * binary search for the last element starting at or before the position, then walk back to the first one that contains it
+	 */
+	private static <T> T findAt(List<T> sortedElements, Function<T, Location> location, Position position) {
+		int low = 0;
+		int high = sortedElements.size() - 1;
+		int candidate = -1;
+
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (POSITIONS.compare(location.apply(sortedElements.get(mid)).getRange().getStart(), position) <= 0) {
+				candidate = mid;
+				low = mid + 1;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+
+		for (int i = candidate; i >= 0; i--) {
+			T element = sortedElements.get(i);
+			if (POSITIONS.compare(position, location.apply(element).getRange().getEnd()) <= 0) {
+				return element;
+			}
+		}
+		return null;
+	}
+
+	private record DocumentEvents(List<EventListenerIndexElement> listeners, List<EventPublisherIndexElement> publishers) {
+	}
+
+	private static class ProjectEvents {
+
+		private final ConcurrentMap<String, DocumentEvents> byURI = new ConcurrentHashMap<>();
+		private final ConcurrentMap<String, Set<EventListenerIndexElement>> listenersByType = new ConcurrentHashMap<>();
+		private final ConcurrentMap<String, Set<EventPublisherIndexElement>> publishersByType = new ConcurrentHashMap<>();
+
+		synchronized void update(String docURI, DocumentEvents document) {
+			DocumentEvents previous = byURI.put(docURI, document);
+			if (previous != null) {
+				removeFromTypeIndexes(previous);
+			}
+
+			for (EventListenerIndexElement listener : document.listeners()) {
+				for (String eventType : listener.getListenerEventTypes()) {
+					listenersByType.computeIfAbsent(eventType, type -> ConcurrentHashMap.newKeySet()).add(listener);
+				}
+			}
+			for (EventPublisherIndexElement publisher : document.publishers()) {
+				for (String eventType : getPublishedEventTypes(publisher)) {
+					publishersByType.computeIfAbsent(eventType, type -> ConcurrentHashMap.newKeySet()).add(publisher);
+				}
+			}
+		}
+
+		synchronized void remove(String docURI) {
+			DocumentEvents previous = byURI.remove(docURI);
+			if (previous != null) {
+				removeFromTypeIndexes(previous);
+			}
+		}
+
+		private void removeFromTypeIndexes(DocumentEvents document) {
+			for (EventListenerIndexElement listener : document.listeners()) {
+				for (String eventType : listener.getListenerEventTypes()) {
+					removeFromIndex(listenersByType, eventType, listener);
+				}
+			}
+			for (EventPublisherIndexElement publisher : document.publishers()) {
+				for (String eventType : getPublishedEventTypes(publisher)) {
+					removeFromIndex(publishersByType, eventType, publisher);
+				}
+			}
+		}
+
+		private static <T> void removeFromIndex(Map<String, Set<T>> index, String eventType, T element) {
+			Set<T> elements = index.get(eventType);
+			if (elements != null) {
+				elements.remove(element);
+				if (elements.isEmpty()) {
+					index.remove(eventType);
+				}
+			}
+		}
+	}
+
+}
@@ -87,7 +87,7 @@ public class SpringIndexToSymbolsConverter {
 			.toList();
 	}
 
-	private static WorkspaceSymbol createWorkspaceSymbol(DocumentSymbol documentSymbol, String docURI) {
+	public static WorkspaceSymbol createWorkspaceSymbol(DocumentSymbol documentSymbol, String docURI) {
 		WorkspaceSymbol workspaceSymbol = new WorkspaceSymbol();
 		
 		workspaceSymbol.setName(documentSymbol.getName());
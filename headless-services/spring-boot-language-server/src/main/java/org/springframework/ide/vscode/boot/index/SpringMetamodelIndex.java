@@ -19,6 +19,8 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.springframework.ide.vscode.commons.protocol.spring.Bean;
 import org.springframework.ide.vscode.commons.protocol.spring.DocumentElement;
 import org.springframework.ide.vscode.commons.protocol.spring.ProjectElement;
@@ -28,9 +30,15 @@ import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElement
 public class SpringMetamodelIndex {
 	
 	private final ConcurrentMap<String, ProjectElement> projectRootElements;
+	private final SymbolLabelIndex symbolLabels;
+	private final EventGraph events;
+	private final ConcurrentMap<String, TypeHierarchy> typeHierarchies;
 
 	public SpringMetamodelIndex() {
 		projectRootElements = new ConcurrentHashMap<>();
+		symbolLabels = new SymbolLabelIndex();
+		events = new EventGraph();
+		typeHierarchies = new ConcurrentHashMap<>();
 	}
 	
 	public void updateElements(String projectName, String docURI, SpringIndexElement[] elements) {
@@ -44,6 +52,12 @@ public class SpringMetamodelIndex {
 			}
 			
 			project.addChild(document);
+			symbolLabels.updateDocument(projectName, document);
+			events.updateDocument(projectName, document);
+		}
+		else {
+			symbolLabels.removeDocument(projectName, docURI);
+			events.removeDocument(projectName, docURI);
 		}
 	}
 
@@ -52,10 +66,15 @@ public class SpringMetamodelIndex {
 		if (project != null) {
 			project.removeDocument(docURI);
 		}
+		symbolLabels.removeDocument(projectName, docURI);
+		events.removeDocument(projectName, docURI);
 	}
 	
 	public void removeProject(String projectName) {
 		projectRootElements.remove(projectName);
+		symbolLabels.removeProject(projectName);
+		events.removeProject(projectName);
+		typeHierarchies.remove(projectName);
 	}
 	
 	public Collection<ProjectElement> getProjects() {
@@ -73,14 +92,49 @@ public class SpringMetamodelIndex {
 		return null;
 	}
 
+	/**
+	 * ranked search over the labels of all symbols in the index, see {@link SymbolLabelIndex}
+	 */
+	public List<WorkspaceSymbol> searchSymbols(String locationPrefix, String query, int limit, CancelChecker cancelChecker) {
+		return symbolLabels.search(locationPrefix, query, limit, cancelChecker);
+	}
+
+	/**
+	 * event listeners and publishers of all projects, see {@link EventGraph}
+	 */
+	public EventGraph getEventGraph() {
+		return events;
+	}
+
+	/**
+	 * type hierarchy of the bean types of the project, see {@link TypeHierarchy}. The hierarchy is created
+	 * on demand and re-used until the beans of the project change.
+	 */
+	public TypeHierarchy getTypeHierarchy(String projectName) {
+		ProjectElement project = this.projectRootElements.get(projectName);
+		List<Bean> beans = project != null ? project.getBeans() : List.of();
+
+		TypeHierarchy hierarchy = typeHierarchies.get(projectName);
+		if (hierarchy == null || !hierarchy.isCreatedFrom(beans)) {
+			hierarchy = TypeHierarchy.of(beans);
+			if (project != null) {
+				typeHierarchies.put(projectName, hierarchy);
+			}
+		}
+		return hierarchy;
+	}
+
 	public <T extends SpringIndexElement> List<T> getNodesOfType(Class<T> type) {
-		List<SpringIndexElement> rootNodes = new ArrayList<SpringIndexElement>(this.projectRootElements.values());
-		return SpringIndexElementUtils.getNodesOfType(type, rootNodes);
+		List<T> result = new ArrayList<>();
+		for (ProjectElement project : this.projectRootElements.values()) {
+			result.addAll(project.getNodesOfType(type, element -> true));
+		}
+		return result;
 	}
 
 	public <T extends SpringIndexElement> List<T> getNodesOfType(String projectName, Class<T> type) {
 		ProjectElement project = this.projectRootElements.get(projectName);
-		return project == null ? List.of() : SpringIndexElementUtils.getNodesOfType(type, List.of(project));
+		return project == null ? List.of() : project.getNodesOfType(type, element -> true);
 	}
 	
 	public Bean[] getBeans() {
@@ -141,26 +195,12 @@ public class SpringMetamodelIndex {
 		}
 	}
 	
-	public Bean getParentBean(Bean bean) {
-		Bean[] beansOfDocument = getBeansOfDocument(bean.getLocation().getUri());
-		
-		for (Bean candidateBean : beansOfDocument) {
-			if (candidateBean.getChildren().contains(bean)) {
-				return candidateBean;
-			}
-		}
-		
-		return null;
+	public Bean getParentBean(SpringIndexElement element) {
+		return element.getParent() instanceof Bean parentBean ? parentBean : null;
 	}
 
 	public Bean[] getMatchingBeans(String projectName, String matchType) {
-		ProjectElement project = this.projectRootElements.get(projectName);
-		if (project != null) {
-			return project.getBeans().stream().filter(bean -> bean.isTypeCompatibleWith(matchType)).toArray(Bean[]::new);
-		}
-		else {
-			return new Bean[0];
-		}
+		return getTypeHierarchy(projectName).getBeansAssignableTo(matchType);
 	}
 
 	//
@@ -190,6 +230,13 @@ public class SpringMetamodelIndex {
 		}
 		
 		projectRootElements.put(projectName, projectRoot);
+
+		symbolLabels.removeProject(projectName);
+		events.removeProject(projectName);
+		for (DocumentElement document : documents.values()) {
+			symbolLabels.updateDocument(projectName, document);
+			events.updateDocument(projectName, document);
+		}
 	}
 
 }
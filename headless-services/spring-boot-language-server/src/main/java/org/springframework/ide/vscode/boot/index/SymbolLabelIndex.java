@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.springframework.ide.vscode.commons.protocol.spring.DocumentElement;
+import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElementUtils;
+import org.springframework.ide.vscode.commons.protocol.spring.SymbolElement;
+
+/**
+ * Index of the symbol labels of all symbol elements in the metamodel index, kept up-to-date
+ * together with the metamodel index itself. Queries run against the labels only, the
+ * workspace symbols are created for the returned (top ranked) results only.
+ *
+ * Matches are ranked in this order: label starts with the query, a word within the label
+ * starts with the query, the label contains the query, the query matches the camel-case humps
+ * of the label, the label contains the characters of the query in the same order.
+ *
+ * @author Martin Lippert
+ */
+public class SymbolLabelIndex {
+
+	private static final int MATCH_PREFIX = 0;
+	private static final int MATCH_WORD_PREFIX = 1;
+	private static final int MATCH_SUBSTRING = 2;
+	private static final int MATCH_CAMEL_CASE = 3;
+	private static final int MATCH_SUBSEQUENCE = 4;
+	private static final int NO_MATCH = -1;
+
+	private static final int CANCEL_CHECK_INTERVAL = 256;
+
+	private static final Comparator<Match> RANKING = Comparator
+			.comparingInt(Match::kind)
+			.thenComparingInt(Match::position)
+			.thenComparingInt(match -> match.entry().getLabel().length())
+			.thenComparing(match -> match.entry().getLabel());
+
+	// project name -> doc URI -> entries
+	private final ConcurrentMap<String, ConcurrentMap<String, List<Entry>>> entries;
+
+	public SymbolLabelIndex() {
+		this.entries = new ConcurrentHashMap<>();
+	}
+
+	public void updateDocument(String projectName, DocumentElement document) {
+		List<Entry> documentEntries = SpringIndexElementUtils.getNodesOfType(SymbolElement.class, List.of(document)).stream()
+				.map(symbolElement -> new Entry(symbolElement, document.getDocURI()))
+				.toList();
+
+		ConcurrentMap<String, List<Entry>> projectEntries = entries.computeIfAbsent(projectName, name -> new ConcurrentHashMap<>());
+		if (documentEntries.isEmpty()) {
+			projectEntries.remove(document.getDocURI());
+		}
+		else {
+			projectEntries.put(document.getDocURI(), documentEntries);
+		}
+	}
+
+	public void removeDocument(String projectName, String docURI) {
+		ConcurrentMap<String, List<Entry>> projectEntries = entries.get(projectName);
+		if (projectEntries != null) {
+			projectEntries.remove(docURI);
+		}
+	}
+
+	public void removeProject(String projectName) {
+		entries.remove(projectName);
+	}
+
+	/**
+	 * @param locationPrefix only symbols from documents whose URI starts with this prefix are taken into account
+	 * @param query the query, an empty query matches all symbols (and returns all of them unranked, regardless of the limit)
+	 * @param limit maximum number of ranked results for a non-empty query, a value <= 0 means no limit
+	 * @param cancelChecker checked regularly while iterating over the symbols, can be null
+	 */
+	public List<WorkspaceSymbol> search(String locationPrefix, String query, int limit, CancelChecker cancelChecker) {
+		String prefix = locationPrefix == null ? "" : locationPrefix;
+		String lowerCaseQuery = query == null ? "" : query.toLowerCase();
+
+		int maxResults = limit > 0 ? limit : Integer.MAX_VALUE;
+		PriorityQueue<Match> topMatches = new PriorityQueue<>(RANKING.reversed());
+		List<Entry> unrankedMatches = new ArrayList<>();
+
+		int counter = 0;
+
+		for (ConcurrentMap<String, List<Entry>> projectEntries : entries.values()) {
+			for (Map.Entry<String, List<Entry>> documentEntries : projectEntries.entrySet()) {
+				if (!documentEntries.getKey().startsWith(prefix)) {
+					continue;
+				}
+
+				for (Entry entry : documentEntries.getValue()) {
+					if (cancelChecker != null && ++counter % CANCEL_CHECK_INTERVAL == 0) {
+						cancelChecker.checkCanceled();
+					}
+
+					if (lowerCaseQuery.isEmpty()) {
+						unrankedMatches.add(entry);
+						continue;
+					}
+
+					Match match = match(entry, lowerCaseQuery);
+					if (match != null) {
+						topMatches.add(match);
+						if (topMatches.size() > maxResults) {
+							topMatches.poll();
+						}
+					}
+				}
+			}
+		}
+
+		List<WorkspaceSymbol> result = new ArrayList<>();
+		if (lowerCaseQuery.isEmpty()) {
+			for (Entry entry : unrankedMatches) {
+				result.add(entry.createWorkspaceSymbol());
+			}
+		}
+		else {
+			List<Match> sortedMatches = new ArrayList<>(topMatches);
+			sortedMatches.sort(RANKING);
+			for (Match match : sortedMatches) {
+				result.add(match.entry().createWorkspaceSymbol());
+			}
+		}
+		return result;
+	}
+
+	private static Match match(Entry entry, String lowerCaseQuery) {
+		String label = entry.getLabel();
+		String lowerCaseLabel = entry.getLowerCaseLabel();
+
+		int position = lowerCaseLabel.indexOf(lowerCaseQuery);
+		if (position == 0) {
+			return new Match(entry, MATCH_PREFIX, 0);
+		}
+		else if (position > 0) {
+			int wordStart = findWordStart(lowerCaseLabel, lowerCaseQuery, position);
+			return wordStart >= 0 ? new Match(entry, MATCH_WORD_PREFIX, wordStart) : new Match(entry, MATCH_SUBSTRING, position);
+		}
+
+		position = matchCamelCase(label, lowerCaseQuery);
+		if (position != NO_MATCH) {
+			return new Match(entry, MATCH_CAMEL_CASE, position);
+		}
+
+		position = matchSubsequence(lowerCaseLabel, lowerCaseQuery);
+		if (position != NO_MATCH) {
+			return new Match(entry, MATCH_SUBSEQUENCE, position);
+		}
+
+		return null;
+	}
+
+	private static int findWordStart(String lowerCaseLabel, String lowerCaseQuery, int firstPosition) {
+		int position = firstPosition;
+		while (position > 0) {
+			if (!Character.isLetterOrDigit(lowerCaseLabel.charAt(position - 1))) {
+				return position;
+			}
+			position = lowerCaseLabel.indexOf(lowerCaseQuery, position + 1);
+		}
+		return NO_MATCH;
+	}
+
+	/**
+	 * matches the query against the camel-case humps of the label, e.g. "ubs" matches "UserBeanService",
+	 * returns the position of the first matched character or NO_MATCH
+	 */
+	static int matchCamelCase(String label, String lowerCaseQuery) {
+		int labelIndex = 0;
+		int queryIndex = 0;
+		int firstMatch = NO_MATCH;
+
+		while (queryIndex < lowerCaseQuery.length()) {
+			char queryChar = lowerCaseQuery.charAt(queryIndex);
+
+			// continue within the current hump
+			if (queryIndex > 0 && labelIndex < label.length() && Character.toLowerCase(label.charAt(labelIndex)) == queryChar && !isHumpStart(label, labelIndex)) {
+				labelIndex++;
+				queryIndex++;
+				continue;
+			}
+
+			// or jump to the next hump that starts with the query character
+			while (labelIndex < label.length() && !(isHumpStart(label, labelIndex) && Character.toLowerCase(label.charAt(labelIndex)) == queryChar)) {
+				labelIndex++;
+			}
+			if (labelIndex >= label.length()) {
+				return NO_MATCH;
+			}
+
+			if (firstMatch == NO_MATCH) {
+				firstMatch = labelIndex;
+			}
+			labelIndex++;
+			queryIndex++;
+		}
+
+		return firstMatch;
+	}
+
+	private static boolean isHumpStart(String label, int index) {
+		char c = label.charAt(index);
+		if (!Character.isLetterOrDigit(c)) {
+			return false;
+		}
+		if (index == 0) {
+			return true;
+		}
+		char previous = label.charAt(index - 1);
+		return !Character.isLetterOrDigit(previous) || (Character.isUpperCase(c) && !Character.isUpperCase(previous));
+	}
+
+	private static int matchSubsequence(String lowerCaseLabel, String lowerCaseQuery) {
+		int labelIndex = 0;
+		int queryIndex = 0;
+		int firstMatch = NO_MATCH;
+
+		while (queryIndex < lowerCaseQuery.length() && labelIndex < lowerCaseLabel.length()) {
+			if (lowerCaseLabel.charAt(labelIndex) == lowerCaseQuery.charAt(queryIndex)) {
+				if (firstMatch == NO_MATCH) {
+					firstMatch = labelIndex;
+				}
+				queryIndex++;
+			}
+			labelIndex++;
+		}
+
+		return queryIndex == lowerCaseQuery.length() ? firstMatch : NO_MATCH;
+	}
+
+	private static record Match(Entry entry, int kind, int position) {}
+
+	/**
+	 * the label of the symbol is computed lazily when the entry gets queried for the first time
+	 */
+	private static class Entry {
+
+		private final SymbolElement element;
+		private final String docURI;
+
+		private volatile String label;
+		private volatile String lowerCaseLabel;
+
+		public Entry(SymbolElement element, String docURI) {
+			this.element = element;
+			this.docURI = docURI;
+		}
+
+		public String getLabel() {
+			String result = this.label;
+			if (result == null) {
+				String name = element.getDocumentSymbol().getName();
+				result = name != null ? name : "";
+				this.lowerCaseLabel = result.toLowerCase();
+				this.label = result;
+			}
+			return result;
+		}
+
+		public String getLowerCaseLabel() {
+			getLabel();
+			return lowerCaseLabel;
+		}
+
+		public WorkspaceSymbol createWorkspaceSymbol() {
+			return SpringIndexToSymbolsConverter.createWorkspaceSymbol(element.getDocumentSymbol(), docURI);
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.ide.vscode.commons.protocol.spring.Bean;
+
+/**
+ * Type hierarchy of the bean types of a project, built from the supertypes the indexer resolved for the beans.
+ * <p>
+ * Type names are mapped to ids that are local to the hierarchy. The transitive supertypes of each bean type are kept
+ * as a bitset of type ids, so assignability checks are a single bit lookup. The beans that are assignable to a type
+ * are computed on the first lookup for that type and kept, so repeated lookups of the beans matching an injection point
+ * don't need to look at every bean of the project.
+ * <p>
+ * A hierarchy is an immutable snapshot of the beans it got created from. Creating it and the first lookup of a type cost
+ * a few linear scans over the beans, so the hierarchy pays off when several lookups hit the same snapshot, which is
+ * the case for reconciling and for the bean queries between two changes of a project (see <code>TypeHierarchyBenchmark</code>).
+ *
+ * @author Martin Lippert
+ */
+public class TypeHierarchy {
+
+	private static final Bean[] NO_BEANS = new Bean[0];
+
+	private final List<Bean> beans;
+	private final Map<String, Integer> typeIds;
+	private final int[] beanTypeIds; // type id per bean, -1 for beans without a type
+	private final BitSet[] supertypes; // supertype closure per type id, null for types that are not a bean type
+	private final AtomicReferenceArray<Bean[]> beansByAssignableType; // per type id, computed on first lookup
+
+	private TypeHierarchy(List<Bean> beans, Map<String, Integer> typeIds, int[] beanTypeIds, BitSet[] supertypes) {
+		this.beans = beans;
+		this.typeIds = typeIds;
+		this.beanTypeIds = beanTypeIds;
+		this.supertypes = supertypes;
+		this.beansByAssignableType = new AtomicReferenceArray<>(supertypes.length);
+	}
+
+	public static TypeHierarchy of(List<Bean> beans) {
+		Map<String, Integer> typeIds = new HashMap<>();
+		List<BitSet> supertypes = new ArrayList<>();
+		int[] beanTypeIds = new int[beans.size()];
+
+		for (int i = 0; i < beanTypeIds.length; i++) {
+			Bean bean = beans.get(i);
+			if (bean.getType() == null) {
+				beanTypeIds[i] = -1;
+				continue;
+			}
+
+			int typeId = getTypeId(typeIds, supertypes, bean.getType());
+			beanTypeIds[i] = typeId;
+
+			// a type can be the type of several beans with different supertypes, e.g. XML or spring.factories beans
+			// come without supertypes, so the closure of a type is the union of the supertypes of all its beans.
+			// java.lang.Object is part of the supertypes of every bean that is not an interface, see Bean.getSupertypes()
+			BitSet closure = supertypes.get(typeId);
+			if (closure == null) {
+				closure = new BitSet();
+				closure.set(typeId);
+				supertypes.set(typeId, closure);
+			}
+			for (String supertype : bean.getSupertypes()) {
+				closure.set(getTypeId(typeIds, supertypes, supertype));
+			}
+		}
+
+		return new TypeHierarchy(beans, typeIds, beanTypeIds, supertypes.toArray(BitSet[]::new));
+	}
+
+	private static int getTypeId(Map<String, Integer> typeIds, List<BitSet> supertypes, String type) {
+		return typeIds.computeIfAbsent(type, t -> {
+			supertypes.add(null);
+			return supertypes.size() - 1;
+		});
+	}
+
+	/**
+	 * @return true if the given type is the type of a bean in this hierarchy
+	 */
+	public boolean contains(String type) {
+		Integer id = typeIds.get(type);
+		return id != null && supertypes[id] != null;
+	}
+
+	/**
+	 * @return true if the given subtype is the type of a bean in this hierarchy that is assignable to the given supertype
+	 */
+	public boolean isAssignable(String subtype, String supertype) {
+		Integer subtypeId = typeIds.get(subtype);
+		Integer supertypeId = typeIds.get(supertype);
+		if (subtypeId == null || supertypeId == null) {
+			return false;
+		}
+
+		BitSet closure = supertypes[subtypeId];
+		return closure != null && closure.get(supertypeId);
+	}
+
+	/**
+	 * @return the beans that are assignable to the given type, in the order of the beans the hierarchy got created from
+	 */
+	public Bean[] getBeansAssignableTo(String type) {
+		Integer id = type != null ? typeIds.get(type) : null;
+		if (id == null) {
+			return NO_BEANS;
+		}
+
+		Bean[] result = beansByAssignableType.get(id);
+		if (result == null) {
+			// concurrent lookups might compute the same result, which doesn't matter
+			List<Bean> assignable = new ArrayList<>();
+			for (int i = 0; i < beanTypeIds.length; i++) {
+				if (beanTypeIds[i] >= 0 && supertypes[beanTypeIds[i]].get(id)) {
+					assignable.add(beans.get(i));
+				}
+			}
+			result = assignable.toArray(Bean[]::new);
+			beansByAssignableType.set(id, result);
+		}
+		return result.length > 0 ? result.clone() : NO_BEANS;
+	}
+
+	boolean isCreatedFrom(List<Bean> beans) {
+		return this.beans == beans;
+	}
+
+}
@@ -10,12 +10,17 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.index.cache;
 
+import org.springframework.ide.vscode.commons.protocol.spring.IndexElementInterner;
+
+import com.google.gson.annotations.JsonAdapter;
+
 public abstract class AbstractIndexCacheable implements IndexCacheable {
 
+	@JsonAdapter(IndexElementInterner.InternedStringAdapter.class)
 	private final String docURI;
 	
 	public AbstractIndexCacheable(String docURI) {
-		this.docURI = docURI;
+		this.docURI = IndexElementInterner.intern(docURI);
 	}
 	
 	@Override
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.index.cache;
 
+import java.io.IOException;
+
+import org.eclipse.lsp4j.Location;
 import org.springframework.ide.vscode.boot.java.beans.ConfigPropertyIndexElement;
 import org.springframework.ide.vscode.boot.java.beans.SpringBootApplicationIndexElement;
 import org.springframework.ide.vscode.boot.java.data.QueryMethodIndexElement;
@@ -45,10 +48,18 @@ import org.springframework.ide.vscode.commons.protocol.spring.Bean;
 import org.springframework.ide.vscode.commons.protocol.spring.BeanMethodContainerElement;
 import org.springframework.ide.vscode.commons.protocol.spring.BeanRegistrarElement;
 import org.springframework.ide.vscode.commons.protocol.spring.DocumentElement;
+import org.springframework.ide.vscode.commons.protocol.spring.IndexElementInterner;
 import org.springframework.ide.vscode.commons.protocol.spring.ProjectElement;
 import org.springframework.ide.vscode.commons.protocol.spring.SimpleSymbolElement;
 import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElement;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
 /**
  * Centralized factory for all Gson polymorphic type adapter factories used by
  * the Spring Boot language server. Each method returns a fully-configured
@@ -139,4 +150,34 @@ public final class IndexGsonTypeFactories {
 				.registerSubtype(RestControllerRefactoring.class, RestControllerRefactoring.class.getName())
 				.registerSubtype(PreciseBeanTypeRefactoring.class, PreciseBeanTypeRefactoring.class.getName());
 	}
+
+	/**
+	 * Returns a factory that interns the URIs of all {@link Location} objects
+	 * read from JSON, so that the many locations pointing into the same document
+	 * share a single URI string.
+	 */
+	public static TypeAdapterFactory internedLocations() {
+		return new TypeAdapterFactory() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+				if (type.getRawType() != Location.class) {
+					return null;
+				}
+
+				TypeAdapter<Location> delegate = gson.getDelegateAdapter(this, TypeToken.get(Location.class));
+				return (TypeAdapter<T>) new TypeAdapter<Location>() {
+					@Override
+					public void write(JsonWriter out, Location value) throws IOException {
+						delegate.write(out, value);
+					}
+
+					@Override
+					public Location read(JsonReader in) throws IOException {
+						return IndexElementInterner.intern(delegate.read(in));
+					}
+				};
+			}
+		};
+	}
 }
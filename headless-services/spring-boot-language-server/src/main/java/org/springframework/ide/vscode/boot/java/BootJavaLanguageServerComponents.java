@@ -24,6 +24,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.ide.vscode.boot.app.BootJavaConfig;
 import org.springframework.ide.vscode.boot.app.BootLanguageServerParams;
 import org.springframework.ide.vscode.boot.app.SpringSymbolIndex;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore;
 import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
 import org.springframework.ide.vscode.boot.java.annotations.AnnotationHierarchyAwareLookup;
 import org.springframework.ide.vscode.boot.java.autowired.AutowiredHoverProvider;
@@ -40,6 +41,7 @@ import org.springframework.ide.vscode.boot.java.handlers.BootJavaDocumentHighlig
 import org.springframework.ide.vscode.boot.java.handlers.BootJavaHoverProvider;
 import org.springframework.ide.vscode.boot.java.handlers.BootJavaReconcileEngine;
 import org.springframework.ide.vscode.boot.java.handlers.BootJavaReferencesHandler;
+import org.springframework.ide.vscode.boot.java.handlers.BootJavaWorkspaceDiagnosticsHandler;
 import org.springframework.ide.vscode.boot.java.handlers.BootJavaWorkspaceSymbolHandler;
 import org.springframework.ide.vscode.boot.java.handlers.CodeLensProvider;
 import org.springframework.ide.vscode.boot.java.handlers.CopilotCodeLensProvider;
@@ -65,6 +67,7 @@ import org.springframework.ide.vscode.boot.java.requestmapping.WebfluxRouteHighl
 import org.springframework.ide.vscode.boot.java.jdt.refactoring.JdtRefactorings;
 import org.springframework.ide.vscode.boot.java.spel.SpelSemanticTokens;
 import org.springframework.ide.vscode.boot.java.utils.CompilationUnitCache;
+import org.springframework.ide.vscode.boot.java.value.PropertyKeyOccurrenceIndex;
 import org.springframework.ide.vscode.boot.java.value.ValueHoverProvider;
 import org.springframework.ide.vscode.boot.java.value.ValuePropertyReferencesProvider;
 import org.springframework.ide.vscode.boot.metadata.SpringPropertyIndexProvider;
@@ -150,7 +153,7 @@ public class BootJavaLanguageServerComponents implements LanguageServerComponent
 		this.codeActionProvider = appContext.getBean(BootJavaCodeActionProvider.class);
 
 
-		ReferencesHandler referencesHandler = createReferenceHandler(server, projectFinder, springIndex, springSymbolIndex, cuCache);
+		ReferencesHandler referencesHandler = createReferenceHandler(server, projectFinder, springIndex, springSymbolIndex, cuCache, appContext.getBean(PropertyKeyOccurrenceIndex.class));
 		documents.onReferences(referencesHandler);
 		
 		//
@@ -173,6 +176,7 @@ public class BootJavaLanguageServerComponents implements LanguageServerComponent
 		
 		workspaceService.onWorkspaceSymbol(new BootJavaWorkspaceSymbolHandler(springSymbolIndex,
 				new LiveAppURLSymbolProvider(liveDataProvider)));
+		workspaceService.onWorkspaceDiagnostics(new BootJavaWorkspaceDiagnosticsHandler(appContext.getBean(DiagnosticsStore.class)));
 
 		spelSemanticTokens = appContext.getBean(SpelSemanticTokens.class);
 		dataRepositoryAotMetadataService = appContext.getBean(DataRepositoryAotMetadataService.class);
@@ -294,12 +298,13 @@ public class BootJavaLanguageServerComponents implements LanguageServerComponent
 	}
 
 	protected ReferencesHandler createReferenceHandler(SimpleLanguageServer server, JavaProjectFinder projectFinder,
-			SpringMetamodelIndex index, SpringSymbolIndex symbolIndex, CompilationUnitCache cuCache) {
+			SpringMetamodelIndex index, SpringSymbolIndex symbolIndex, CompilationUnitCache cuCache, PropertyKeyOccurrenceIndex propertyKeyIndex) {
 		
 		Map<String, ReferenceProvider> specificProviders = new HashMap<>();
 
-		specificProviders.put(Annotations.VALUE, new ValuePropertyReferencesProvider(projectFinder, index));
-		specificProviders.put(Annotations.CONDITIONAL_ON_PROPERTY, new ValuePropertyReferencesProvider(projectFinder, index));
+		ValuePropertyReferencesProvider valuePropertyReferencesProvider = new ValuePropertyReferencesProvider(index, propertyKeyIndex);
+		specificProviders.put(Annotations.VALUE, valuePropertyReferencesProvider);
+		specificProviders.put(Annotations.CONDITIONAL_ON_PROPERTY, valuePropertyReferencesProvider);
 		specificProviders.put(Annotations.QUALIFIER, new QualifierReferencesProvider(index));
 		specificProviders.put(Annotations.NAMED_JAKARTA, new NamedReferencesProvider(index));
 		specificProviders.put(Annotations.NAMED_JAVAX, new NamedReferencesProvider(index));
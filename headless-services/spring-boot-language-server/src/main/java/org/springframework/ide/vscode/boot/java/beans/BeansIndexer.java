@@ -25,6 +25,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ide.vscode.boot.java.Annotations;
 import org.springframework.ide.vscode.boot.java.reconcilers.RequiredCompleteAstException;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteCache;
 import org.springframework.ide.vscode.boot.java.requestmapping.WebfluxRouterIndexer;
 import org.springframework.ide.vscode.boot.java.requestmapping.WebFnUtils;
 import org.springframework.ide.vscode.boot.java.utils.ASTUtils;
@@ -47,7 +48,7 @@ public class BeansIndexer {
 	
 	private static final Logger log = LoggerFactory.getLogger(BeansIndexer.class);
 
-	public static void indexBeanMethod(SpringIndexElement parentNode, Annotation node, SpringIndexerJavaContext context, TextDocument doc) {
+	public static void indexBeanMethod(SpringIndexElement parentNode, Annotation node, SpringIndexerJavaContext context, TextDocument doc, WebFnRouteCache routeCache) {
 		if (node == null) return;
 		
 		ASTNode parent = node.getParent();
@@ -82,7 +83,7 @@ public class BeansIndexer {
 				Bean beanDefinition = new Bean(nameAndRegion.getT1(), beanType.getQualifiedName(), location, injectionPoints, supertypes, annotations, false, beanLabel);
 				
 				if (isFunctionalWebRouter) {
-					WebfluxRouterIndexer.createWebfluxElements(beanDefinition, method, context, doc);
+					WebfluxRouterIndexer.createWebfluxElements(beanDefinition, method, context, doc, routeCache);
 				}
 
 				parentNode.addChild(beanDefinition);
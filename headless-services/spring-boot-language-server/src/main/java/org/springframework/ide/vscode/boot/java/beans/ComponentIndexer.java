@@ -42,6 +42,7 @@ import org.springframework.ide.vscode.boot.java.reconcilers.NotRegisteredBeansRe
 import org.springframework.ide.vscode.boot.java.reconcilers.RequiredCompleteAstException;
 import org.springframework.ide.vscode.boot.java.requestmapping.RequestMappingIndexer;
 import org.springframework.ide.vscode.boot.java.requestmapping.WebConfigJavaIndexer;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteCache;
 import org.springframework.ide.vscode.boot.java.utils.ASTUtils;
 import org.springframework.ide.vscode.boot.java.utils.SpringIndexerJavaContext;
 import org.springframework.ide.vscode.commons.protocol.spring.AnnotationMetadata;
@@ -65,9 +66,11 @@ import org.springframework.stereotype.Component;
 public class ComponentIndexer implements SpringComponentIndexer {
 
 	private final DataRepositoryIndexer dataRepositoryIndexer;
+	private final WebFnRouteCache routeCache;
 
-	public ComponentIndexer(DataRepositoryIndexer dataRepositoryIndexer) {
+	public ComponentIndexer(DataRepositoryIndexer dataRepositoryIndexer, WebFnRouteCache routeCache) {
 		this.dataRepositoryIndexer = dataRepositoryIndexer;
+		this.routeCache = routeCache;
 	}
 
 	@Override
@@ -199,7 +202,7 @@ public class ComponentIndexer implements SpringComponentIndexer {
 
 				boolean isBeanMethod = annotationHierarchies.isAnnotatedWith(typeBinding, Annotations.BEAN);
 				if (isBeanMethod) {
-					BeansIndexer.indexBeanMethod(parent, annotation, context, doc);
+					BeansIndexer.indexBeanMethod(parent, annotation, context, doc, routeCache);
 				}
 			}
 		}
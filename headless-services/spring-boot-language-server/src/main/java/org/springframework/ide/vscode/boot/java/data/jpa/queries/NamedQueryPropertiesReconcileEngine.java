@@ -12,13 +12,13 @@ package org.springframework.ide.vscode.boot.java.data.jpa.queries;
 
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.springframework.ide.vscode.boot.java.handlers.Reconciler;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.commons.java.SpringProjectUtil;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
 import org.springframework.ide.vscode.commons.languageserver.reconcile.IProblemCollector;
 import org.springframework.ide.vscode.commons.languageserver.reconcile.IReconcileEngine;
 import org.springframework.ide.vscode.commons.util.text.IDocument;
 import org.springframework.ide.vscode.commons.util.text.Region;
-import org.springframework.ide.vscode.java.properties.antlr.parser.AntlrParser;
 import org.springframework.ide.vscode.java.properties.parser.ParseResults;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.KeyValuePair;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.Value;
@@ -28,11 +28,13 @@ public class NamedQueryPropertiesReconcileEngine implements IReconcileEngine {
 	private final JavaProjectFinder projectFinder;
 	private final Reconciler hqlReconciler;
 	private final Reconciler jpqlReconciler;
+	private final PropertiesAstCache astCache;
 
-	public NamedQueryPropertiesReconcileEngine(JavaProjectFinder projectFinder, Reconciler hqlReconciler, Reconciler jpqlReconciler) {
+	public NamedQueryPropertiesReconcileEngine(JavaProjectFinder projectFinder, Reconciler hqlReconciler, Reconciler jpqlReconciler, PropertiesAstCache astCache) {
 		this.projectFinder = projectFinder;
 		this.hqlReconciler = hqlReconciler;
 		this.jpqlReconciler = jpqlReconciler;
+		this.astCache = astCache;
 	}
 
 	@Override
@@ -42,8 +44,7 @@ public class NamedQueryPropertiesReconcileEngine implements IReconcileEngine {
 					.map(p -> SpringProjectUtil.hasDependencyStartingWith(p, "spring-data-jpa", null) ? hqlReconciler : jpqlReconciler)
 					.orElse(jpqlReconciler);
 			
-			AntlrParser parser = new AntlrParser();
-			ParseResults parseResults = parser.parse(doc.get());
+			ParseResults parseResults = astCache.getParseResults(doc);
 			for (KeyValuePair pair : parseResults.ast.getPropertyValuePairs()) {
 				Value value = pair.getValue();
 				reconciler.reconcile(value.decode(), r -> new Region(r.getOffset() + value.getOffset(), r.getLength()), problemCollector);
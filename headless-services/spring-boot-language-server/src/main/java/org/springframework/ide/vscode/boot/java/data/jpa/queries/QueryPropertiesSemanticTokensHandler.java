@@ -20,6 +20,7 @@ import org.eclipse.lsp4j.DocumentFilter;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import org.eclipse.lsp4j.SemanticTokensWithRegistrationOptions;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
 import org.springframework.ide.vscode.commons.java.SpringProjectUtil;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
@@ -29,7 +30,6 @@ import org.springframework.ide.vscode.commons.languageserver.semantic.tokens.Sem
 import org.springframework.ide.vscode.commons.util.text.LanguageId;
 import org.springframework.ide.vscode.commons.util.text.Region;
 import org.springframework.ide.vscode.commons.util.text.TextDocument;
-import org.springframework.ide.vscode.java.properties.antlr.parser.AntlrParser;
 import org.springframework.ide.vscode.java.properties.parser.ParseResults;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.Value;
@@ -40,13 +40,15 @@ public class QueryPropertiesSemanticTokensHandler implements SemanticTokensHandl
 	private final JpqlSemanticTokens jpqlTokensProvider;
 	private final HqlSemanticTokens hqlTokensProvider;
 	private final JpqlSupportState supportState;
+	private final PropertiesAstCache astCache;
 
 
-	public QueryPropertiesSemanticTokensHandler(JavaProjectFinder projectFinder, JpqlSemanticTokens jpqlTokensProvider, HqlSemanticTokens hqlTokensProvider, JpqlSupportState supportState) {
+	public QueryPropertiesSemanticTokensHandler(JavaProjectFinder projectFinder, JpqlSemanticTokens jpqlTokensProvider, HqlSemanticTokens hqlTokensProvider, JpqlSupportState supportState, PropertiesAstCache astCache) {
 		this.projectFinder = projectFinder;
 		this.jpqlTokensProvider = jpqlTokensProvider;
 		this.hqlTokensProvider = hqlTokensProvider;
 		this.supportState = supportState;
+		this.astCache = astCache;
 	}
 
 	@Override
@@ -71,8 +73,7 @@ public class QueryPropertiesSemanticTokensHandler implements SemanticTokensHandl
 		if (optProject.isPresent() && SpringProjectUtil.hasDependencyStartingWith(optProject.get(), "spring-data-jpa", null)) {
 			if (doc != null) {
 				SemanticTokensDataProvider tokensProvider = SpringProjectUtil.hasDependencyStartingWith(optProject.get(), "hibernate-core", null) ? hqlTokensProvider : jpqlTokensProvider;
-				AntlrParser propertiesParser = new AntlrParser();
-				ParseResults result = propertiesParser.parse(doc.get());
+				ParseResults result = astCache.getParseResults(doc);
 				List<SemanticTokenData> data = new ArrayList<>();
 				for (PropertiesAst.KeyValuePair node : result.ast.getPropertyValuePairs()) {
 					Value value = node.getValue();
@@ -10,10 +10,16 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.java.events;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.SymbolKind;
 import org.springframework.ide.vscode.commons.protocol.spring.AbstractSpringIndexElement;
+import org.springframework.ide.vscode.commons.protocol.spring.AnnotationAttributeValue;
 import org.springframework.ide.vscode.commons.protocol.spring.AnnotationMetadata;
 import org.springframework.ide.vscode.commons.protocol.spring.SymbolElement;
 
@@ -42,6 +48,32 @@ public class EventListenerIndexElement extends AbstractSpringIndexElement implem
 		return annotations;
 	}
 
+	/**
+	 * @return the event types declared via the <code>classes</code> or <code>value</code> attribute of the listener annotation,
+	 * or the event type of the listener method if none are declared
+	 */
+	public Set<String> getListenerEventTypes() {
+		if (annotations != null && annotations.length > 0) {
+			for (AnnotationMetadata annotationMetadata : annotations) {
+				Map<String, AnnotationAttributeValue[]> attributes = annotationMetadata.getAttributes();
+				if (attributes.containsKey("classes")) {
+					AnnotationAttributeValue[] annotationAttributeValues = attributes.get("classes");
+					return Arrays.stream(annotationAttributeValues)
+							.map(attributeValue -> attributeValue.getName())
+							.collect(Collectors.toSet());
+				}
+				else if (attributes.containsKey("value")) {
+					AnnotationAttributeValue[] annotationAttributeValues = attributes.get("value");
+					return Arrays.stream(annotationAttributeValues)
+							.map(attributeValue -> attributeValue.getName())
+							.collect(Collectors.toSet());
+				}
+			}
+		}
+
+		return Set.of(eventType);
+	}
+
 	public Location getLocation() {
 		return location;
 	}
@@ -14,6 +14,7 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
@@ -39,7 +40,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ide.vscode.boot.java.BootJavaLanguageServerComponents;
 import org.springframework.ide.vscode.boot.java.annotations.AnnotationHierarchies;
 import org.springframework.ide.vscode.boot.java.annotations.AnnotationHierarchyAwareLookup;
+import org.springframework.ide.vscode.boot.java.livehover.v2.RecordingSpringProcessLiveData;
 import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveData;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
 import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataProvider;
 import org.springframework.ide.vscode.boot.java.utils.ASTUtils;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
@@ -97,7 +100,17 @@ public class BootJavaHoverProvider implements HoverHandler {
 	}
 
 	public CodeLens[] getLiveHoverHints(final TextDocument document, final IJavaProject project) {
-		final SpringProcessLiveData[] processLiveData = this.liveDataProvider.getLatestLiveData();
+		return getLiveHoverHints(document, project, null);
+	}
+
+	/**
+	 * Computes the live hints of the document and records the kinds of live data that the hints are based on
+	 * into the given set (if not null), so that callers can find out which live data changes affect the document.
+	 */
+	public CodeLens[] getLiveHoverHints(final TextDocument document, final IJavaProject project, Set<Change> usedLiveData) {
+		final SpringProcessLiveData[] processLiveData = usedLiveData != null
+				? RecordingSpringProcessLiveData.wrap(this.liveDataProvider.getLatestLiveData(), usedLiveData)
+				: this.liveDataProvider.getLatestLiveData();
 		
 		if (processLiveData.length == 0) return new CodeLens[0];
 		if (project == null) return new CodeLens[0];
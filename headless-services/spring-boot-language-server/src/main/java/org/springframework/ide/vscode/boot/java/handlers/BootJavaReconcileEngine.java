@@ -14,6 +14,7 @@ import java.net.URI;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ide.vscode.boot.java.reconcilers.JavaReconciler;
@@ -41,6 +42,11 @@ public class BootJavaReconcileEngine implements IReconcileEngine {
 
 	@Override
 	public void reconcile(final IDocument doc, final IProblemCollector problemCollector) {
+		reconcile(doc, problemCollector, () -> {});
+	}
+
+	@Override
+	public void reconcile(final IDocument doc, final IProblemCollector problemCollector, final CancelChecker cancelChecker) {
 		IJavaProject project = projectFinder.find(new TextDocumentIdentifier(doc.getUri())).orElse(null);
 		URI docUri = URI.create(doc.getUri());
 		if (project != null && "file".equals(docUri.getScheme())) {
@@ -72,6 +78,10 @@ public class BootJavaReconcileEngine implements IReconcileEngine {
 				};
 				
 				for (JavaReconciler jr : javaReconcilers) {
+					if (cancelChecker.isCanceled()) {
+						log.debug("reconcile canceled for {}", docUri);
+						break;
+					}
 					try {
 						jr.reconcile(project, doc, recolerProblemCollector);
 					} catch (Exception e) {
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceUnchangedDocumentDiagnosticReport;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore.DocumentDiagnostics;
+import org.springframework.ide.vscode.commons.languageserver.util.WorkspaceDiagnosticsHandler;
+
+/**
+ * Answers workspace diagnostic pull requests from the {@link DiagnosticsStore}, reporting documents
+ * as unchanged if the client already knows their latest result id. Documents the client knows about
+ * that don't have diagnostics anymore are reported with an empty list of diagnostics.
+ *
+ * @author Martin Lippert
+ */
+public class BootJavaWorkspaceDiagnosticsHandler implements WorkspaceDiagnosticsHandler {
+
+	private final DiagnosticsStore diagnosticsStore;
+
+	public BootJavaWorkspaceDiagnosticsHandler(DiagnosticsStore diagnosticsStore) {
+		this.diagnosticsStore = diagnosticsStore;
+	}
+
+	@Override
+	public WorkspaceDiagnosticReport handle(WorkspaceDiagnosticParams params, CancelChecker cancelChecker) {
+		Map<String, String> previousResultIds = new HashMap<>();
+		if (params.getPreviousResultIds() != null) {
+			for (PreviousResultId previous : params.getPreviousResultIds()) {
+				previousResultIds.put(previous.getUri(), previous.getValue());
+			}
+		}
+
+		List<WorkspaceDocumentDiagnosticReport> items = new ArrayList<>();
+		for (String projectName : diagnosticsStore.getProjectNames()) {
+			if (cancelChecker != null) {
+				cancelChecker.checkCanceled();
+			}
+
+			for (DocumentDiagnostics document : diagnosticsStore.getDiagnostics(projectName)) {
+				if (document.resultId().equals(previousResultIds.get(document.docURI()))) {
+					items.add(new WorkspaceDocumentDiagnosticReport(new WorkspaceUnchangedDocumentDiagnosticReport(document.resultId(), document.docURI(), null)));
+				}
+				else {
+					WorkspaceFullDocumentDiagnosticReport report = new WorkspaceFullDocumentDiagnosticReport(document.diagnostics(), document.docURI(), null);
+					report.setResultId(document.resultId());
+					items.add(new WorkspaceDocumentDiagnosticReport(report));
+				}
+				previousResultIds.remove(document.docURI());
+			}
+		}
+
+		// the store only contains documents with diagnostics, the remaining documents got their diagnostics fixed
+		for (String docURI : previousResultIds.keySet()) {
+			items.add(new WorkspaceDocumentDiagnosticReport(new WorkspaceFullDocumentDiagnosticReport(List.of(), docURI, null)));
+		}
+		return new WorkspaceDiagnosticReport(items);
+	}
+
+}
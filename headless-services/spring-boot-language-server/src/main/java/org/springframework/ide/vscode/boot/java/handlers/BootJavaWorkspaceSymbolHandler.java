@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.lsp4j.WorkspaceSymbolParams;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.springframework.ide.vscode.boot.app.SpringSymbolIndex;
 import org.springframework.ide.vscode.boot.java.requestmapping.LiveAppURLSymbolProvider;
 import org.springframework.ide.vscode.commons.languageserver.util.WorkspaceSymbolHandler;
@@ -23,6 +24,11 @@ import org.springframework.ide.vscode.commons.languageserver.util.WorkspaceSymbo
  */
 public class BootJavaWorkspaceSymbolHandler implements WorkspaceSymbolHandler {
 
+	/**
+	 * limits the number of ranked results for non-empty queries only, empty queries return all symbols
+	 */
+	private static final int MAX_RANKED_SYMBOLS = 500;
+
 	private final SpringSymbolIndex indexer;
 	private final LiveAppURLSymbolProvider liveAppSymbolProvider;
 
@@ -33,11 +39,16 @@ public class BootJavaWorkspaceSymbolHandler implements WorkspaceSymbolHandler {
 
 	@Override
 	public List<? extends WorkspaceSymbol> handle(WorkspaceSymbolParams params) {
+		return handle(params, null);
+	}
+
+	@Override
+	public List<? extends WorkspaceSymbol> handle(WorkspaceSymbolParams params, CancelChecker cancelChecker) {
 		if (params.getQuery() != null && params.getQuery().startsWith("//")) {
 			return liveAppSymbolProvider.getSymbols(params.getQuery());
 		}
 		else {
-			return indexer.getAllSymbols(params.getQuery());
+			return indexer.getAllSymbols(params.getQuery(), MAX_RANKED_SYMBOLS, cancelChecker);
 		}
 	}
 
@@ -11,6 +11,7 @@
 package org.springframework.ide.vscode.boot.java.livehover.v2;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.util.Map;
 import java.util.Properties;
 
@@ -28,6 +29,22 @@ public interface ActuatorConnection {
 
 	String getBeans() throws IOException;
 
+	/**
+	 * Reads the environment into its live data model, implementations should avoid reading the response into a string first
+	 */
+	default LiveEnvironment readEnvironment() throws IOException {
+		String environment = getEnvironment();
+		return environment != null ? LiveEnvironment.parse(new StringReader(environment)) : null;
+	}
+
+	/**
+	 * Reads the beans into their live data model, implementations should avoid reading the response into a string first
+	 */
+	default LiveBeansModel readBeans() throws IOException {
+		String beans = getBeans();
+		return beans != null ? LiveBeansStreamingParser.parse(new StringReader(beans)) : LiveBeansModel.builder().build();
+	}
+
 	String getMetrics(String metric, Map<String, String> tags) throws IOException;
 
 	Map<?, ?> getStartup() throws IOException;
@@ -11,28 +11,26 @@
 package org.springframework.ide.vscode.boot.java.livehover.v2;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-
 public class HttpActuatorConnection implements ActuatorConnection {
 	
-	private Gson gson;
 	private RestClient restClient;
 	private String actuatorUrl;
 
 	public HttpActuatorConnection(String actuatorUrl) {
 		this.actuatorUrl = actuatorUrl;
 		this.restClient = RestClient.create();
-		this.gson = new Gson();
 	}
 
 	@Override
@@ -47,20 +45,17 @@ public class HttpActuatorConnection implements ActuatorConnection {
 
 	@Override
 	public Properties getSystemProperties() {
-		JsonObject json = gson.fromJson(getEnvironment(), JsonObject.class);
-		JsonArray propertySources = json.getAsJsonArray("propertySources");
-		for (JsonElement jsonElement : propertySources) {
-			JsonObject obj = jsonElement.getAsJsonObject();
-			if ("systemProperties".equals(obj.get("name").getAsString())) {
-				JsonElement props = obj.get("properties");
-				Properties p = new Properties();
-				for (Entry<String, JsonElement> entry : props.getAsJsonObject().entrySet()) {
-					p.put(entry.getKey(), entry.getValue().getAsJsonObject().get("value").getAsString());
-				}
-				return p;
-			}
+		try {
+			LiveEnvironment environment = readEnvironment();
+			return environment != null ? environment.getSystemProperties() : null;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
-		return null;
+	}
+
+	@Override
+	public LiveEnvironment readEnvironment() throws IOException {
+		return read("/env", LiveEnvironment::parse);
 	}
 
 	@Override
@@ -78,6 +73,30 @@ public class HttpActuatorConnection implements ActuatorConnection {
 		return restClient.get().uri(actuatorUrl + "/beans").retrieve().toEntity(String.class).getBody();
 	}
 	
+	@Override
+	public LiveBeansModel readBeans() throws IOException {
+		return read("/beans", LiveBeansStreamingParser::parse);
+	}
+
+	/**
+	 * Parses the response of the given endpoint while it gets received, instead of reading it into a string first
+	 */
+	private <T> T read(String endpoint, ResponseParser<T> parser) throws IOException {
+		return restClient.get().uri(actuatorUrl + endpoint).exchange((request, response) -> {
+			if (response.getStatusCode().isError()) {
+				throw new RestClientResponseException("Error reading " + endpoint + " from " + actuatorUrl, response.getStatusCode(),
+						response.getStatusText(), response.getHeaders(), null, null);
+			}
+			try (Reader reader = new InputStreamReader(response.getBody(), StandardCharsets.UTF_8)) {
+				return parser.parse(reader);
+			}
+		});
+	}
+
+	private interface ResponseParser<T> {
+		T parse(Reader reader) throws IOException;
+	}
+
 	@Override
 	public String getLoggers() throws IOException {
 		return restClient.get().uri(actuatorUrl + "/loggers").retrieve().toEntity(String.class).getBody();
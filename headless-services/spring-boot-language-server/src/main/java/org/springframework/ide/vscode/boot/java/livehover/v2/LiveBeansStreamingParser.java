@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.v2;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Builds the {@link LiveBeansModel} from the beans actuator endpoint without materializing the whole
+ * response as a string or a JSON tree first. The <code>/beans</code> response of large applications
+ * can be tens of megabytes, so the beans get created while reading the tokens of the response, and
+ * everything except the bean id, type, scope, resource, aliases and dependencies is skipped.
+ *
+ * Supports the same formats as {@link LiveBeansModel#parse(String)}: the Boot 1.5 format (a top-level
+ * array of application contexts) and the Boot 2.x and later format (a top-level object with contexts).
+ *
+ * @author Martin Lippert
+ */
+public class LiveBeansStreamingParser {
+
+	private static final Logger log = LoggerFactory.getLogger(LiveBeansStreamingParser.class);
+
+	private static final String[] NO_STRINGS = new String[] {};
+
+	/**
+	 * Parses the beans from the given reader, returns an empty model if the content can't be parsed
+	 */
+	public static LiveBeansModel parse(Reader reader) {
+		LiveBeansModel.Builder model = LiveBeansModel.builder();
+		try (JsonReader json = new JsonReader(reader)) {
+			JsonToken token = json.peek();
+			if (token == JsonToken.BEGIN_ARRAY) {
+				readBoot15Contexts(json, model);
+			}
+			else if (token == JsonToken.BEGIN_OBJECT) {
+				readBoot20Contexts(json, model);
+			}
+			else {
+				return LiveBeansModel.builder().build();
+			}
+			return model.build();
+		} catch (Exception e) {
+			log.warn(e.getMessage());
+			return LiveBeansModel.builder().build(); // always return at least an empty model.
+		}
+	}
+
+	/**
+	 * Builds the beans from the object graph of maps and lists that the beans endpoint returns over JMX,
+	 * returns an empty model if the object graph doesn't have the expected structure
+	 */
+	public static LiveBeansModel parseObjectGraph(Object beans) {
+		LiveBeansModel.Builder model = LiveBeansModel.builder();
+		try {
+			if (beans instanceof List<?> contexts) {
+				for (Object context : contexts) {
+					if (context instanceof Map<?, ?> contextMap && contextMap.get("beans") instanceof List<?> beansList) {
+						for (Object bean : beansList) {
+							if (bean instanceof Map<?, ?> beanMap) {
+								model.add(createBean(toString(beanMap.get("bean")), beanMap));
+							}
+						}
+					}
+				}
+			}
+			else if (beans instanceof Map<?, ?> main && main.get("contexts") instanceof Map<?, ?> contexts) {
+				for (Object context : contexts.values()) {
+					if (context instanceof Map<?, ?> contextMap && contextMap.get("beans") instanceof Map<?, ?> beansMap) {
+						for (Map.Entry<?, ?> bean : beansMap.entrySet()) {
+							if (bean.getValue() instanceof Map<?, ?> beanMap) {
+								model.add(createBean(String.valueOf(bean.getKey()), beanMap));
+							}
+						}
+					}
+				}
+			}
+			return model.build();
+		} catch (Exception e) {
+			log.warn(e.getMessage());
+			return LiveBeansModel.builder().build();
+		}
+	}
+
+	private static void readBoot15Contexts(JsonReader json, LiveBeansModel.Builder model) throws IOException {
+		json.beginArray();
+		while (json.hasNext()) {
+			if (json.peek() != JsonToken.BEGIN_OBJECT) {
+				json.skipValue();
+				continue;
+			}
+			json.beginObject();
+			while (json.hasNext()) {
+				if ("beans".equals(json.nextName()) && json.peek() == JsonToken.BEGIN_ARRAY) {
+					json.beginArray();
+					while (json.hasNext()) {
+						LiveBean bean = readBean(json, null);
+						if (bean != null) {
+							model.add(bean);
+						}
+					}
+					json.endArray();
+				}
+				else {
+					json.skipValue();
+				}
+			}
+			json.endObject();
+		}
+		json.endArray();
+	}
+
+	private static void readBoot20Contexts(JsonReader json, LiveBeansModel.Builder model) throws IOException {
+		json.beginObject();
+		while (json.hasNext()) {
+			if ("contexts".equals(json.nextName()) && json.peek() == JsonToken.BEGIN_OBJECT) {
+				json.beginObject();
+				while (json.hasNext()) {
+					json.nextName(); // context id
+					if (json.peek() != JsonToken.BEGIN_OBJECT) {
+						json.skipValue();
+						continue;
+					}
+					json.beginObject();
+					while (json.hasNext()) {
+						if ("beans".equals(json.nextName()) && json.peek() == JsonToken.BEGIN_OBJECT) {
+							json.beginObject();
+							while (json.hasNext()) {
+								LiveBean bean = readBean(json, json.nextName());
+								if (bean != null) {
+									model.add(bean);
+								}
+							}
+							json.endObject();
+						}
+						else {
+							json.skipValue();
+						}
+					}
+					json.endObject();
+				}
+				json.endObject();
+			}
+			else {
+				json.skipValue();
+			}
+		}
+		json.endObject();
+	}
+
+	/**
+	 * Reads a single bean object, the id is taken from the "bean" property if not given (Boot 1.5 format)
+	 */
+	private static LiveBean readBean(JsonReader json, String id) throws IOException {
+		if (json.peek() != JsonToken.BEGIN_OBJECT) {
+			json.skipValue();
+			return null;
+		}
+
+		// missing values are empty strings, same as with optString in the JSONObject based parsers
+		String type = "";
+		String scope = "";
+		String resource = "";
+		String[] aliases = NO_STRINGS;
+		String[] dependencies = NO_STRINGS;
+
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+			case "bean":
+				String bean = readString(json);
+				if (id == null) {
+					id = bean;
+				}
+				break;
+			case "type":
+				type = readString(json);
+				break;
+			case "scope":
+				scope = readString(json);
+				break;
+			case "resource":
+				resource = readString(json);
+				break;
+			case "aliases":
+				aliases = readStrings(json);
+				break;
+			case "dependencies":
+				dependencies = readStrings(json);
+				break;
+			default:
+				json.skipValue();
+			}
+		}
+		json.endObject();
+
+		return new LiveBean(id != null ? id : "", aliases, scope, type, resource, dependencies);
+	}
+
+	private static String[] readStrings(JsonReader json) throws IOException {
+		if (json.peek() != JsonToken.BEGIN_ARRAY) {
+			json.skipValue();
+			return NO_STRINGS;
+		}
+		List<String> result = new ArrayList<>();
+		json.beginArray();
+		while (json.hasNext()) {
+			result.add(readString(json));
+		}
+		json.endArray();
+		return result.isEmpty() ? NO_STRINGS : result.toArray(NO_STRINGS);
+	}
+
+	/**
+	 * Reads any value as a string, the way <code>optString</code> of org.json renders it
+	 */
+	static String readString(JsonReader json) throws IOException {
+		switch (json.peek()) {
+		case STRING:
+		case NUMBER:
+			return json.nextString();
+		case BOOLEAN:
+			return Boolean.toString(json.nextBoolean());
+		case NULL:
+			json.nextNull();
+			return "";
+		default:
+			return JsonParser.parseReader(json).toString();
+		}
+	}
+
+	private static LiveBean createBean(String id, Map<?, ?> bean) {
+		return new LiveBean(id, toStrings(bean.get("aliases")), toString(bean.get("scope")), toString(bean.get("type")),
+				toString(bean.get("resource")), toStrings(bean.get("dependencies")));
+	}
+
+	private static String toString(Object value) {
+		return value == null ? "" : value.toString();
+	}
+
+	private static String[] toStrings(Object value) {
+		if (value instanceof List<?> list && !list.isEmpty()) {
+			String[] result = new String[list.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = String.valueOf(list.get(i));
+			}
+			return result;
+		}
+		return NO_STRINGS;
+	}
+
+}
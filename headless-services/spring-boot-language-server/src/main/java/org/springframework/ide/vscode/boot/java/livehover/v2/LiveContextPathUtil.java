@@ -56,6 +56,22 @@ public class LiveContextPathUtil {
 		return contextPath;
 	}
 
+	/**
+	 * Finds the context path in the given property sources of a Boot 2.x environment, searching the sources
+	 * in the order they appear in the environment, which is their priority order.
+	 */
+	public static String getContextPath(LiveProperties properties) {
+		for (LivePropertySource source : properties.getSources()) {
+			for (String property : BOOT_2X_CONTEXTPATH) {
+				LiveProperty liveProperty = source.getProperty(property);
+				if (liveProperty != null && StringUtil.hasText(liveProperty.getValue())) {
+					return liveProperty.getValue();
+				}
+			}
+		}
+		return null;
+	}
+
 	private static String findContextPathInBoot1x(JSONObject env) {
 		// LIMITATION: In Boot 1.x, property sources appear top level in an UNORDERED
 		// JSONObject (the key set obtained from the JSON Object may not match the order of properties as they appear in the raw JSON.
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.v2;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * The parts of the environment actuator endpoint that are used for the live data of a process: the active
+ * profiles and the property sources. The environment is read token by token in a single pass, so that neither
+ * the response string nor a JSON tree of it needs to be kept in memory, and the process id, the system properties
+ * and the context path are taken from the parsed property sources instead of fetching the environment again.
+ *
+ * Follows the same rules as {@link LivePropertiesJsonParser#parseProperties(String)} for the property sources:
+ * the Boot 2.x format is preferred, the Boot 1.x format is used if there are no Boot 2.x property sources.
+ *
+ * @author Martin Lippert
+ */
+public class LiveEnvironment {
+
+	private final String[] activeProfiles;
+	private final LiveProperties properties;
+	private final boolean boot2x;
+
+	public LiveEnvironment(String[] activeProfiles, LiveProperties properties, boolean boot2x) {
+		this.activeProfiles = activeProfiles;
+		this.properties = properties;
+		this.boot2x = boot2x;
+	}
+
+	/**
+	 * @return the active profiles, or null if the environment doesn't contain them
+	 */
+	public String[] getActiveProfiles() {
+		return activeProfiles;
+	}
+
+	/**
+	 * @return the property sources, or null if there are none
+	 */
+	public LiveProperties getProperties() {
+		return properties;
+	}
+
+	public Properties getSystemProperties() {
+		if (properties != null) {
+			for (LivePropertySource source : properties.getSources()) {
+				if ("systemProperties".equals(source.getSourceName())) {
+					Properties result = new Properties();
+					for (LiveProperty property : source.getProperties()) {
+						if (property.getValue() != null) {
+							result.put(property.getProperty(), property.getValue());
+						}
+					}
+					return result;
+				}
+			}
+		}
+		return null;
+	}
+
+	public String getProcessID() {
+		Properties systemProperties = getSystemProperties();
+		return systemProperties != null ? systemProperties.getProperty("PID") : null;
+	}
+
+	/**
+	 * @return the context path from the property source with the highest priority, only supported for the Boot 2.x format
+	 */
+	public String getContextPath() {
+		return boot2x && properties != null ? LiveContextPathUtil.getContextPath(properties) : null;
+	}
+
+	public static LiveEnvironment parse(Reader reader) throws IOException {
+		String[] profiles2x = null;
+		String[] profiles1x = null;
+		boolean hasProfiles2x = false;
+		boolean boot2x = false;
+
+		ImmutableList.Builder<LivePropertySource> sources2x = ImmutableList.builder();
+		ImmutableList.Builder<LivePropertySource> sources1x = ImmutableList.builder();
+
+		try (JsonReader json = new JsonReader(reader)) {
+			json.beginObject();
+			while (json.hasNext()) {
+				String name = json.nextName();
+				switch (name) {
+				case "activeProfiles": // Boot 2.x
+					hasProfiles2x = true;
+					profiles2x = readProfiles(json);
+					sources1x.add(new LivePropertySource(name, null));
+					break;
+				case "profiles": // Boot 1.x
+					profiles1x = readProfiles(json);
+					break;
+				case "propertySources": // Boot 2.x
+					if (json.peek() == JsonToken.BEGIN_ARRAY) {
+						boot2x = true;
+						json.beginArray();
+						while (json.hasNext()) {
+							LivePropertySource source = readPropertySource2x(json);
+							if (source != null) {
+								sources2x.add(source);
+							}
+						}
+						json.endArray();
+					}
+					else {
+						json.skipValue();
+					}
+					sources1x.add(new LivePropertySource(name, null));
+					break;
+				default: // Boot 1.x property source
+					sources1x.add(readPropertySource1x(json, name));
+				}
+			}
+			json.endObject();
+		}
+
+		List<LivePropertySource> sources = sources2x.build();
+		if (sources.isEmpty()) {
+			sources = sources1x.build();
+		}
+
+		return new LiveEnvironment(hasProfiles2x ? profiles2x : profiles1x, sources.isEmpty() ? null : new LiveProperties(sources), boot2x);
+	}
+
+	private static String[] readProfiles(JsonReader json) throws IOException {
+		if (json.peek() != JsonToken.BEGIN_ARRAY) {
+			json.skipValue();
+			return null;
+		}
+		List<String> profiles = new ArrayList<>();
+		json.beginArray();
+		while (json.hasNext()) {
+			if (json.peek() == JsonToken.STRING) {
+				profiles.add(json.nextString());
+			}
+			else {
+				json.skipValue();
+			}
+		}
+		json.endArray();
+		return profiles.toArray(new String[profiles.size()]);
+	}
+
+	private static LivePropertySource readPropertySource2x(JsonReader json) throws IOException {
+		if (json.peek() != JsonToken.BEGIN_OBJECT) {
+			json.skipValue();
+			return null;
+		}
+
+		String sourceName = "";
+		List<String[]> values = new ArrayList<>();
+
+		json.beginObject();
+		while (json.hasNext()) {
+			String name = json.nextName();
+			if ("name".equals(name)) {
+				sourceName = LiveBeansStreamingParser.readString(json);
+			}
+			else if ("properties".equals(name) && json.peek() == JsonToken.BEGIN_OBJECT) {
+				json.beginObject();
+				while (json.hasNext()) {
+					values.add(new String[] {json.nextName(), readPropertyValue2x(json)});
+				}
+				json.endObject();
+			}
+			else {
+				json.skipValue();
+			}
+		}
+		json.endObject();
+
+		// the name of the source might appear after its properties
+		List<LiveProperty> properties = new ArrayList<>(values.size());
+		for (String[] value : values) {
+			properties.add(LiveProperty.builder().source(sourceName).property(value[0]).value(value[1]).build());
+		}
+		return new LivePropertySource(sourceName, properties);
+	}
+
+	private static String readPropertyValue2x(JsonReader json) throws IOException {
+		if (json.peek() != JsonToken.BEGIN_OBJECT) {
+			json.skipValue();
+			return null;
+		}
+		String value = "";
+		json.beginObject();
+		while (json.hasNext()) {
+			if ("value".equals(json.nextName())) {
+				value = LiveBeansStreamingParser.readString(json);
+			}
+			else {
+				json.skipValue();
+			}
+		}
+		json.endObject();
+		return value;
+	}
+
+	private static LivePropertySource readPropertySource1x(JsonReader json, String sourceName) throws IOException {
+		List<LiveProperty> properties = new ArrayList<>();
+		if (json.peek() == JsonToken.BEGIN_OBJECT) {
+			json.beginObject();
+			while (json.hasNext()) {
+				String property = json.nextName();
+				String value = LiveBeansStreamingParser.readString(json);
+				properties.add(LiveProperty.builder().source(sourceName).property(property).value(value).build());
+			}
+			json.endObject();
+		}
+		else {
+			json.skipValue();
+		}
+		return new LivePropertySource(sourceName, properties);
+	}
+
+}
@@ -23,6 +23,10 @@ public class LiveProperties {
 		this.sources = sources != null ? ImmutableList.copyOf(sources) : ImmutableList.of();
 	}
 
+	public List<LivePropertySource> getSources() {
+		return sources;
+	}
+
 	public List<LiveProperty> getProperties(String propertyName) {
 		List<LiveProperty> foundProperties = new ArrayList<>();
 		for (LivePropertySource source : sources) {
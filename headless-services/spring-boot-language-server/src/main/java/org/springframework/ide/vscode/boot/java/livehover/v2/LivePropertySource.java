@@ -28,6 +28,10 @@ public class LivePropertySource {
 		return this.sourceName;
 	}
 
+	public List<LiveProperty> getProperties() {
+		return this.properties;
+	}
+
 	public LiveProperty getProperty(String propertyName) {
 		for (LiveProperty liveProperty : properties) {
 			if (liveProperty.getProperty().equals(propertyName)) {
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.v2;
+
+import java.util.Set;
+
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
+
+/**
+ * Live data of a process that records which kinds of live data got accessed, so that the live hints
+ * of a document only need to be re-computed when the live data they are based on changes.
+ *
+ * @author Martin Lippert
+ */
+public class RecordingSpringProcessLiveData extends SpringProcessLiveData {
+
+	private final Set<Change> used;
+
+	public RecordingSpringProcessLiveData(SpringProcessLiveData data, Set<Change> used) {
+		super(data.getProcessType(), data.getProcessName(), data.getProcessID(), data.getContextPath(), data.getUrlScheme(),
+				data.getPort(), data.getHost(), data.getBeans(), data.getActiveProfiles(), data.getRequestMappings(),
+				data.getLiveConditionals(), data.getLiveProperties(), data.getLiveMterics(), data.getStartupMetrics());
+		this.used = used;
+	}
+
+	public static SpringProcessLiveData[] wrap(SpringProcessLiveData[] data, Set<Change> used) {
+		SpringProcessLiveData[] result = new SpringProcessLiveData[data.length];
+		for (int i = 0; i < data.length; i++) {
+			result[i] = new RecordingSpringProcessLiveData(data[i], used);
+		}
+		return result;
+	}
+
+	@Override
+	public LiveBeansModel getBeans() {
+		used.add(Change.BEANS);
+		return super.getBeans();
+	}
+
+	@Override
+	public String[] getActiveProfiles() {
+		used.add(Change.ACTIVE_PROFILES);
+		return super.getActiveProfiles();
+	}
+
+	@Override
+	public LiveRequestMapping[] getRequestMappings() {
+		used.add(Change.REQUEST_MAPPINGS);
+		return super.getRequestMappings();
+	}
+
+	@Override
+	public LiveConditional[] getLiveConditionals() {
+		used.add(Change.CONDITIONALS);
+		return super.getLiveConditionals();
+	}
+
+	@Override
+	public LiveProperties getLiveProperties() {
+		used.add(Change.PROPERTIES);
+		return super.getLiveProperties();
+	}
+
+	@Override
+	public LiveMetricsModel getLiveMterics() {
+		used.add(Change.METRICS);
+		return super.getLiveMterics();
+	}
+
+	@Override
+	public StartupMetricsModel getStartupMetrics() {
+		used.add(Change.METRICS);
+		return super.getStartupMetrics();
+	}
+
+}
@@ -11,6 +11,9 @@
 package org.springframework.ide.vscode.boot.java.livehover.v2;
 
 import java.util.Map;
+import java.util.Set;
+
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
 
 /**
  * @author Martin Lippert
@@ -22,6 +25,13 @@ public interface SpringProcessConnector {
 
 	void connect() throws Exception;
 	SpringProcessLiveData refresh(SpringProcessLiveData currentData) throws Exception;
+	
+	/**
+	 * refresh only the given kinds of live data, connectors that can't do that refresh everything
+	 */
+	default SpringProcessLiveData refresh(SpringProcessLiveData currentData, Set<Change> liveData) throws Exception {
+		return refresh(currentData);
+	}
 	void disconnect() throws Exception;
 	
 	void addConnectorChangeListener(SpringProcessConnectionChangeListener listener);
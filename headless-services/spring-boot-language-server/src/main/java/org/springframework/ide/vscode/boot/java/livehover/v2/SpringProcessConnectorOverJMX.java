@@ -10,11 +10,14 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.java.livehover.v2;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import javax.management.MBeanServerConnection;
 import javax.management.Notification;
 import javax.management.NotificationListener;
 import javax.management.remote.JMXConnectionNotification;
@@ -24,6 +27,7 @@ import javax.management.remote.JMXServiceURL;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
 
 /**
  * @author Martin Lippert
@@ -38,18 +42,23 @@ public class SpringProcessConnectorOverJMX implements SpringProcessConnector {
 	private final String processKey;
 	private final String jmxURL;
 	private final String urlScheme;
-	private final String port;
 	private final String projectName;
+	private final String configuredPort;
 	
 	// not final, might be updated with data from JMX process, if not initially set
 	private String processID;
 	private String processName;
 	private String host;
+	private String port;
+	private String contextPath;
 	
 	private final List<SpringProcessConnectionChangeListener> listeners;
 	
+	// the connection is kept open and re-used for all requests to the process until it gets disconnected
 	private JMXConnector jmxConnection;
 	private JMXServiceURL jmxServiceURL;
+	private MBeanServerConnection mbeanConnection;
+	private final SpringProcessLiveDataExtractorOverJMX extractor;
 
 	private final NotificationListener notificationListener;
 
@@ -67,9 +76,12 @@ public class SpringProcessConnectorOverJMX implements SpringProcessConnector {
 		this.projectName = projectName;
 		this.host = host;
 		this.port = port;
+		this.configuredPort = port;
 
 		this.jmxConnection = null;
 		this.jmxServiceURL = null;
+		this.mbeanConnection = null;
+		this.extractor = new SpringProcessLiveDataExtractorOverJMX();
 		
 		this.listeners = new CopyOnWriteArrayList<>();
 		
@@ -82,6 +94,8 @@ public class SpringProcessConnectorOverJMX implements SpringProcessConnector {
 					try {
 						jmxConnection.removeConnectionNotificationListener(notificationListener);
 						jmxConnection = null;
+						mbeanConnection = null;
+						resetCachedData();
 					}
 					catch (Exception e) {
 						log.error("exception while reacting to connection close of: " + jmxURL, e);
@@ -111,29 +125,53 @@ public class SpringProcessConnectorOverJMX implements SpringProcessConnector {
 		jmxConnection = JMXConnectorFactory.connect(jmxServiceURL, environment);
 		
 		jmxConnection.addConnectionNotificationListener(notificationListener, null, null);
+		mbeanConnection = jmxConnection.getMBeanServerConnection();
+	}
+	
+	private MBeanServerConnection getConnection() throws Exception {
+		MBeanServerConnection connection = this.mbeanConnection;
+		if (connection == null && jmxConnection != null) {
+			connection = jmxConnection.getMBeanServerConnection();
+			this.mbeanConnection = connection;
+		}
+		return connection;
 	}
 
 	@Override
 	public SpringProcessLiveData refresh(SpringProcessLiveData currentData) throws Exception {
+		return refresh(currentData, EnumSet.allOf(Change.class));
+	}
+
+	@Override
+	public SpringProcessLiveData refresh(SpringProcessLiveData currentData, Set<Change> liveDataToRefresh) throws Exception {
 		log.info("try to open JMX connection to: " + jmxURL);
 		
 		if (jmxConnection != null) {
 			try {
-				SpringProcessLiveDataExtractorOverJMX springJMXConnector = new SpringProcessLiveDataExtractorOverJMX();
-	
 				if (this.host == null) {
 					this.host = jmxServiceURL.getHost();
 				}
 				
 				log.info("retrieve live data from: " + jmxURL);
-				SpringProcessLiveData liveData = springJMXConnector.retrieveLiveData(getProcessType(), jmxConnection, processID, processName, urlScheme, host, null, port, currentData);
+				SpringProcessLiveData liveData = extractor.retrieveLiveData(getProcessType(), getConnection(), processID, processName, urlScheme, host, contextPath, port, currentData, liveDataToRefresh);
 				
-				if (this.processID == null) {
-					this.processID = liveData.getProcessID();
-				}
-				
-				if (this.processName == null) {
-					this.processName = liveData.getProcessName();
+				if (liveData != null) {
+					if (this.processID == null) {
+						this.processID = liveData.getProcessID();
+					}
+					
+					if (this.processName == null) {
+						this.processName = liveData.getProcessName();
+					}
+					
+					// the port and the context path don't change while the process is running (reset when disconnected)
+					if (this.port == null) {
+						this.port = liveData.getPort();
+					}
+					
+					if (this.contextPath == null) {
+						this.contextPath = liveData.getContextPath();
+					}
 				}
 				
 				if (liveData != null && liveData.getBeans() != null && !liveData.getBeans().isEmpty()) {
@@ -154,10 +192,8 @@ public class SpringProcessConnectorOverJMX implements SpringProcessConnector {
 		
 		if (jmxConnection != null) {
 			try {
-				SpringProcessLiveDataExtractorOverJMX springJMXConnector = new SpringProcessLiveDataExtractorOverJMX();
-	
 				log.info("retrieve live data from: " + jmxURL);
-				SpringProcessMemoryMetricsLiveData liveData = springJMXConnector.retrieveLiveMemoryMetricsData(getProcessType(), jmxConnection, processID, processName, currentData, metricName, tags);
+				SpringProcessMemoryMetricsLiveData liveData = extractor.retrieveLiveMemoryMetricsData(getProcessType(), getConnection(), processID, processName, currentData, metricName, tags);
 				
 				if (liveData != null && liveData.getHeapMemoryMetrics() != null && liveData.getHeapMemoryMetrics().length > 0 &&
 				        liveData.getNonHeapMemoryMetrics() != null && liveData.getNonHeapMemoryMetrics().length > 0) {
@@ -178,10 +214,8 @@ public class SpringProcessConnectorOverJMX implements SpringProcessConnector {
 		
 		if (jmxConnection != null) {
 			try {
-				SpringProcessLiveDataExtractorOverJMX springJMXConnector = new SpringProcessLiveDataExtractorOverJMX();
-	
 				log.info("retrieve live data from: " + jmxURL);
-				SpringProcessGcPausesMetricsLiveData liveData = springJMXConnector.retrieveLiveGcPausesMetricsData(getProcessType(), jmxConnection, processID, processName, currentData, metricName, tags);
+				SpringProcessGcPausesMetricsLiveData liveData = extractor.retrieveLiveGcPausesMetricsData(getProcessType(), getConnection(), processID, processName, currentData, metricName, tags);
 				
 				if (liveData != null /* && liveData.getGcPausesMetrics() != null && liveData.getGcPausesMetrics().length > 0*/ ) {
 					return liveData;
@@ -204,6 +238,8 @@ public class SpringProcessConnectorOverJMX implements SpringProcessConnector {
 				jmxConnection.removeConnectionNotificationListener(notificationListener);
 				jmxConnection.close();
 				jmxConnection = null;
+				mbeanConnection = null;
+				resetCachedData();
 			}
 		}
 		catch (Exception e) {
@@ -211,16 +247,24 @@ public class SpringProcessConnectorOverJMX implements SpringProcessConnector {
 		}
 	}
 	
+	/**
+	 * the port and the context path are cached while connected only, the process might get restarted
+	 * with a different configuration behind the same JMX URL
+	 */
+	private void resetCachedData() {
+		this.port = configuredPort;
+		this.contextPath = null;
+		extractor.reset();
+	}
+	
 	@Override
 	public SpringProcessLoggersData getLoggers(SpringProcessLiveData currentData) throws Exception {
 		log.info("try to open JMX connection to: " + jmxURL);
 
 		if (jmxConnection != null) {
 			try {
-				SpringProcessLiveDataExtractorOverJMX springJMXConnector = new SpringProcessLiveDataExtractorOverJMX();
-
 				log.info("retrieve live data from: " + jmxURL);
-				SpringProcessLoggersData loggersData = springJMXConnector.retrieveLoggersData(getProcessType(), jmxConnection, processID, processName, currentData);
+				SpringProcessLoggersData loggersData = extractor.retrieveLoggersData(getProcessType(), getConnection(), processID, processName, currentData);
 
 				if (loggersData != null) {
 					return loggersData;
@@ -240,10 +284,8 @@ public class SpringProcessConnectorOverJMX implements SpringProcessConnector {
 
 		if (jmxConnection != null) {
 			try {
-				SpringProcessLiveDataExtractorOverJMX springJMXConnector = new SpringProcessLiveDataExtractorOverJMX();
-
 				log.info("retrieve live data from: " + jmxURL);
-				SpringProcessUpdatedLogLevelData springProcessUpdatedLoggersData = springJMXConnector.configureLogLevel(getProcessType(), jmxConnection, processID, processName, currentData, args);
+				SpringProcessUpdatedLogLevelData springProcessUpdatedLoggersData = extractor.configureLogLevel(getProcessType(), getConnection(), processID, processName, currentData, args);
 
 				return springProcessUpdatedLoggersData;
 			}
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.java.livehover.v2;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ide.vscode.boot.app.BootJavaConfig;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
 import org.springframework.ide.vscode.commons.languageserver.DiagnosticService;
 import org.springframework.ide.vscode.commons.languageserver.IndefiniteProgressTask;
 import org.springframework.ide.vscode.commons.languageserver.ProgressService;
@@ -250,7 +253,7 @@ public class SpringProcessConnectorService {
 					}
 					
 				} else {
-					SpringProcessLiveData newLiveData = connector.refresh(this.liveDataProvider.getCurrent(processKey));
+					SpringProcessLiveData newLiveData = connector.refresh(this.liveDataProvider.getCurrent(processKey), getLiveDataToRefresh(endpoint));
 	
 					if (newLiveData != null) {
 						if (!this.liveDataProvider.add(processKey, newLiveData)) {
@@ -291,6 +294,33 @@ public class SpringProcessConnectorService {
 		
 	}
 	
+	/**
+	 * The kinds of live data a refresh of the given endpoint needs to retrieve from the process,
+	 * all live data if no or an unknown endpoint is given.
+	 */
+	public static Set<Change> getLiveDataToRefresh(String endpoint) {
+		if (endpoint != null) {
+			switch (endpoint) {
+			case "beans":
+				return EnumSet.of(Change.BEANS);
+			case "mappings":
+				return EnumSet.of(Change.REQUEST_MAPPINGS);
+			case "conditions":
+				return EnumSet.of(Change.CONDITIONALS);
+			case "profiles":
+				return EnumSet.of(Change.ACTIVE_PROFILES);
+			case "properties":
+				return EnumSet.of(Change.PROPERTIES);
+			case METRICS:
+				return EnumSet.of(Change.METRICS);
+			case "contextPath":
+			case "port":
+				return EnumSet.of(Change.PROCESSES);
+			}
+		}
+		return EnumSet.allOf(Change.class);
+	}
+	
 	private IndefiniteProgressTask getProgressTask(String prefixId, String title, String message) {
 		return this.progressService.createIndefiniteProgressTask(prefixId + progressIdKey++, title, message);
 	}
@@ -10,19 +10,62 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.java.livehover.v2;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Martin Lippert
  */
 public class SpringProcessLiveDataChangeEvent {
 	
+	/**
+	 * The kinds of live data that can change between two updates of the live data of a process
+	 */
+	public enum Change {
+		/** processes got connected or disconnected, or the process information itself changed */
+		PROCESSES,
+		BEANS,
+		REQUEST_MAPPINGS,
+		CONDITIONALS,
+		ACTIVE_PROFILES,
+		PROPERTIES,
+		METRICS
+	}
+	
 	private final SpringProcessLiveData[] updatedLiveData;
+	private final Set<Change> changes;
 
 	public SpringProcessLiveDataChangeEvent(SpringProcessLiveData[] updatedLiveData) {
+		this(updatedLiveData, EnumSet.allOf(Change.class));
+	}
+	
+	public SpringProcessLiveDataChangeEvent(SpringProcessLiveData[] updatedLiveData, Set<Change> changes) {
 		this.updatedLiveData = updatedLiveData;
+		this.changes = Collections.unmodifiableSet(EnumSet.copyOf(changes));
 	}
 	
 	public SpringProcessLiveData[] getUpdatedLiveData() {
 		return updatedLiveData;
 	}
+	
+	/**
+	 * @return the kinds of live data that changed, never empty
+	 */
+	public Set<Change> getChanges() {
+		return changes;
+	}
+	
+	public boolean affects(Set<Change> usedLiveData) {
+		if (changes.contains(Change.PROCESSES)) {
+			return true;
+		}
+		for (Change change : usedLiveData) {
+			if (changes.contains(change)) {
+				return true;
+			}
+		}
+		return false;
+	}
 
 }
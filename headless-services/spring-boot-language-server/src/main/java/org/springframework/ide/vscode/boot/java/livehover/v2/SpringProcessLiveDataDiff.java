@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.v2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
+
+/**
+ * Classifies the differences between two snapshots of the live data of the same process, so that
+ * listeners can skip work for live data that didn't change. The live data models don't implement
+ * equality, therefore the snapshots are compared by the information that shows up in live hovers.
+ *
+ * @author Martin Lippert
+ */
+public class SpringProcessLiveDataDiff {
+
+	public static Set<Change> compute(SpringProcessLiveData oldData, SpringProcessLiveData newData) {
+		if (oldData == newData) {
+			return EnumSet.noneOf(Change.class);
+		}
+		if (oldData == null || newData == null) {
+			return EnumSet.allOf(Change.class);
+		}
+
+		Set<Change> changes = EnumSet.noneOf(Change.class);
+
+		if (oldData.getProcessType() != newData.getProcessType()
+				|| !Objects.equals(oldData.getProcessName(), newData.getProcessName())
+				|| !Objects.equals(oldData.getProcessID(), newData.getProcessID())
+				|| !Objects.equals(oldData.getContextPath(), newData.getContextPath())
+				|| !Objects.equals(oldData.getUrlScheme(), newData.getUrlScheme())
+				|| !Objects.equals(oldData.getPort(), newData.getPort())
+				|| !Objects.equals(oldData.getHost(), newData.getHost())) {
+			changes.add(Change.PROCESSES);
+		}
+		if (!beans(oldData.getBeans()).equals(beans(newData.getBeans()))) {
+			changes.add(Change.BEANS);
+		}
+		if (!requestMappings(oldData.getRequestMappings()).equals(requestMappings(newData.getRequestMappings()))) {
+			changes.add(Change.REQUEST_MAPPINGS);
+		}
+		if (!conditionals(oldData.getLiveConditionals()).equals(conditionals(newData.getLiveConditionals()))) {
+			changes.add(Change.CONDITIONALS);
+		}
+		if (!Arrays.equals(oldData.getActiveProfiles(), newData.getActiveProfiles())) {
+			changes.add(Change.ACTIVE_PROFILES);
+		}
+		if (!properties(oldData.getLiveProperties()).equals(properties(newData.getLiveProperties()))) {
+			changes.add(Change.PROPERTIES);
+		}
+		// metrics are fetched from the process on demand, there is nothing to compare besides the models themselves
+		if (oldData.getLiveMterics() != newData.getLiveMterics() || oldData.getStartupMetrics() != newData.getStartupMetrics()) {
+			changes.add(Change.METRICS);
+		}
+
+		return changes;
+	}
+
+	private static Set<String> beans(LiveBeansModel beans) {
+		Set<String> result = new TreeSet<>();
+		if (beans != null) {
+			for (String name : beans.getBeanNames()) {
+				for (LiveBean bean : beans.getBeansOfName(name)) {
+					result.add(bean.getId() + "|" + bean.getType() + "|" + bean.getScope() + "|" + bean.getResource()
+							+ "|" + Arrays.toString(bean.getAliases()) + "|" + Arrays.toString(bean.getDependencies()));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Set<String> requestMappings(LiveRequestMapping[] mappings) {
+		Set<String> result = new TreeSet<>();
+		if (mappings != null) {
+			for (LiveRequestMapping mapping : mappings) {
+				Set<String> requestMethods = mapping.getRequestMethods();
+				result.add(mapping.getFullyQualifiedClassName() + "|" + mapping.getMethodString() + "|" + Arrays.toString(mapping.getSplitPath())
+						+ "|" + (requestMethods != null ? new TreeSet<>(requestMethods) : ""));
+			}
+		}
+		return result;
+	}
+
+	private static Set<String> conditionals(LiveConditional[] conditionals) {
+		Set<String> result = new TreeSet<>();
+		if (conditionals != null) {
+			for (LiveConditional conditional : conditionals) {
+				result.add(conditional.getTypeInfo() + "|" + conditional.getCondition() + "|" + conditional.getMessage());
+			}
+		}
+		return result;
+	}
+
+	private static List<String> properties(LiveProperties properties) {
+		// the order of the property sources matters, it determines which value wins
+		List<String> result = new ArrayList<>();
+		if (properties != null) {
+			for (LivePropertySource source : properties.getSources()) {
+				result.add(source.getSourceName());
+				for (LiveProperty property : source.getProperties()) {
+					result.add(property.getProperty() + "=" + property.getValue());
+				}
+			}
+		}
+		return result;
+	}
+
+}
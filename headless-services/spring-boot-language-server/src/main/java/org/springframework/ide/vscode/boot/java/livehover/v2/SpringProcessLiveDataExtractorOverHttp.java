@@ -19,7 +19,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
-import org.json.JSONArray;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +26,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.ImmutableList;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
@@ -58,17 +56,18 @@ public class SpringProcessLiveDataExtractorOverHttp {
 		
 		try {
 			
-			String environment = connection.getEnvironment();
-			String[] activeProfiles = getActiveProfiles(environment);
+			// read the environment only once and take the process id, system properties and context path from it
+			LiveEnvironment environment = connection.readEnvironment();
+			String[] activeProfiles = environment != null ? environment.getActiveProfiles() : null;
 
-			LiveProperties properties = getProperties(environment);
+			LiveProperties properties = environment != null ? environment.getProperties() : null;
 			
 			if (processID == null) {
-				processID = connection.getProcessID();
+				processID = environment != null ? environment.getProcessID() : null;
 			}
 			
 			if (processName == null) {
-				Properties systemProperties = connection.getSystemProperties();
+				Properties systemProperties = environment != null ? environment.getSystemProperties() : null;
 				if (systemProperties != null) {
 					String javaCommand = getJavaCommand(systemProperties);
 					processName = getProcessName(javaCommand);
@@ -81,8 +80,8 @@ public class SpringProcessLiveDataExtractorOverHttp {
 			LiveMetricsModel metrics = getMetrics(connection);
 			StartupMetricsModel startup = getStartupMetrics(connection, currentData == null ? null : currentData.getStartupMetrics());
 			
-			if (contextPath == null) {
-				contextPath = getContextPath(environment);
+			if (contextPath == null && environment != null) {
+				contextPath = environment.getContextPath();
 			}
 			
 			return new SpringProcessLiveData(
@@ -414,13 +413,7 @@ public class SpringProcessLiveDataExtractorOverHttp {
 
 	public LiveBeansModel getBeans(ActuatorConnection connection) {
 		try {
-			String json = connection.getBeans();
-
-			if (json instanceof String) {
-				return LiveBeansModel.parse((String) json);
-			} else {
-				return LiveBeansModel.parse(gson.toJson(json));
-			}
+			return connection.readBeans();
 		} catch (IOException e) {
 			// ignore
 		} catch (Exception e) {
@@ -465,51 +458,6 @@ public class SpringProcessLiveDataExtractorOverHttp {
 		return null;
 	}
 
-	public String[] getActiveProfiles(String environment) {
-		try {
-			if (environment != null) {
-				JSONObject env = new JSONObject(environment);
-
-				Object _profiles = env.opt("activeProfiles"); //Boot 2.0
-				if (_profiles == null) {
-					_profiles = env.opt("profiles"); //Boot 1.5
-				}
-
-				if (_profiles instanceof JSONArray) {
-					JSONArray profiles = (JSONArray) _profiles;
-					ImmutableList.Builder<String> list = ImmutableList.builder();
-					for (Object object : profiles) {
-						if (object instanceof String) {
-							list.add((String) object);
-						}
-					}
-					return list.build().toArray(new String[0]);
-				}
-			}
-		} catch (Exception e) {
-			log.error("error resolving profiles from env", e);
-		}
-		return null;
-	}
-	
-	public LiveProperties getProperties(String environment) throws Exception {
-
-		try {
-			if (environment != null) {
-				return LivePropertiesJsonParser.parseProperties(environment);
-			}
-		} catch (Exception e) {
-			log.error("error resolving live properties from environment endpoint", e);
-		}
-		return null;
-	}
-
-
-
-	public String getContextPath(String environment) throws Exception {
-		return environment != null ? LiveContextPathUtil.getContextPath("2.x", environment) : null;
-	}
-	
 	public LiveMemoryMetricsModel getLiveMetrics(ActuatorConnection connection, String metricName, String tags) {
         try {
             String jvmMemUsedMetrics = connection.getLiveMetrics(metricName, tags);
@@ -11,31 +11,35 @@
 package org.springframework.ide.vscode.boot.java.livehover.v2;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.lang.management.ManagementFactory;
-import java.lang.management.RuntimeMXBean;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Properties;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
+import javax.management.Attribute;
+import javax.management.AttributeList;
 import javax.management.InstanceNotFoundException;
 import javax.management.MBeanServerConnection;
 import javax.management.ObjectName;
 import javax.management.Query;
 import javax.management.QueryExp;
 import javax.management.ReflectionException;
-import javax.management.remote.JMXConnector;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
 import org.springframework.ide.vscode.commons.util.StringUtil;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -57,6 +61,8 @@ public class SpringProcessLiveDataExtractorOverJMX {
 	private final Gson gson = new GsonBuilder()
 							.disableHtmlEscaping()
 							.create();
+
+	private volatile String domain;
 	
 	/**
 	 * @param processType 
@@ -68,42 +74,63 @@ public class SpringProcessLiveDataExtractorOverJMX {
 	 * @param port if null, will be determined searching existing mbeans for that information (for local processes)
 	 * @param currentData currently stored live data
 	 */
-	public SpringProcessLiveData retrieveLiveData(ProcessType processType, JMXConnector jmxConnector, String processID, String processName,
+	public SpringProcessLiveData retrieveLiveData(ProcessType processType, MBeanServerConnection connection, String processID, String processName,
 			String urlScheme, String host, String contextPath, String port, SpringProcessLiveData currentData) {
+		return retrieveLiveData(processType, connection, processID, processName, urlScheme, host, contextPath, port, currentData, EnumSet.allOf(Change.class));
+	}
+
+	/**
+	 * Retrieves only the given kinds of live data from the process, all other live data is taken from the current data
+	 * (if there is current data, otherwise everything is retrieved). Every kind of live data costs at least one round-trip
+	 * to the process, so refreshing selectively avoids transferring and parsing large payloads (e.g. beans and mappings)
+	 * that the caller isn't interested in.
+	 *
+	 * @param refresh the kinds of live data to retrieve from the process
+	 */
+	public SpringProcessLiveData retrieveLiveData(ProcessType processType, MBeanServerConnection connection, String processID, String processName,
+			String urlScheme, String host, String contextPath, String port, SpringProcessLiveData currentData, Set<Change> refresh) {
 		
 		try {
-			MBeanServerConnection connection = jmxConnector.getMBeanServerConnection();
-			
-			String domain = getDomainForActuator(connection);
+			if (currentData == null) {
+				refresh = EnumSet.allOf(Change.class);
+			}
 
-			String environment = getEnvironment(connection, domain);
-			String[] activeProfiles = getActiveProfiles(connection, environment);
+			String domain = getDomain(connection);
 
-			LiveProperties properties = getProperties(connection, environment);
-			
-			if (processID == null) {
-				processID = getProcessID(connection);
-			}
-			
-			if (processName == null) {
-				Properties systemProperties = getSystemProperties(connection);
-				if (systemProperties != null) {
-					String javaCommand = getJavaCommand(systemProperties);
-					processName = getProcessName(javaCommand);
-				}
+			String[] processIdAndName = getProcessIdAndName(connection, processID, processName);
+			processID = processIdAndName[0];
+			processName = processIdAndName[1];
+
+			boolean resolveContextPath = contextPath == null;
+			boolean resolvePort = port == null;
+
+			String environment = null;
+			if (refresh.contains(Change.PROPERTIES) || refresh.contains(Change.ACTIVE_PROFILES) || resolveContextPath || resolvePort) {
+				environment = getEnvironment(connection, domain);
 			}
-			
-			LiveConditional[] conditionals = getConditionals(connection, domain, processID, processName);
-			LiveRequestMapping[] requestMappings = getRequestMappings(connection, domain);
-			LiveBeansModel beans = getBeans(connection, domain);
-			LiveMetricsModel metrics = getMetrics(connection, domain);
+
+			String[] activeProfiles = refresh.contains(Change.ACTIVE_PROFILES) ? getActiveProfiles(connection, environment) : currentData.getActiveProfiles();
+			LiveProperties properties = refresh.contains(Change.PROPERTIES) ? getProperties(connection, environment) : currentData.getLiveProperties();
+			LiveConditional[] conditionals = refresh.contains(Change.CONDITIONALS) ? getConditionals(connection, domain, processID, processName) : currentData.getLiveConditionals();
+			LiveBeansModel beans = refresh.contains(Change.BEANS) ? getBeans(connection, domain) : currentData.getBeans();
+			// the metrics model queries the process on demand, so it has to be re-created for a new connection
+			LiveMetricsModel metrics = refresh.contains(Change.METRICS) || !isMetricsModelFor(currentData.getLiveMterics(), connection, domain)
+					? getMetrics(connection, domain) : currentData.getLiveMterics();
 			StartupMetricsModel startup = getStartupMetrics(connection, domain, currentData == null ? null : currentData.getStartupMetrics());
-			
-			if (contextPath == null) {
-				contextPath = getContextPath(connection, domain, environment);
+
+			// the mappings also tell the boot version, which is needed to resolve the context path
+			LiveRequestMapping[] requestMappings = currentData != null ? currentData.getRequestMappings() : null;
+			if (refresh.contains(Change.REQUEST_MAPPINGS) || resolveContextPath) {
+				MappingsData mappings = getMappingsData(connection, domain);
+				if (refresh.contains(Change.REQUEST_MAPPINGS)) {
+					requestMappings = mappings != null ? parseRequestMappingsJson(gson.toJson(mappings.data()), mappings.bootVersion()) : null;
+				}
+				if (resolveContextPath) {
+					contextPath = mappings != null && environment != null ? LiveContextPathUtil.getContextPath(mappings.bootVersion(), environment) : null;
+				}
 			}
 			
-			if (port == null) {
+			if (resolvePort) {
 				port = getPort(connection, environment);
 			}
 			
@@ -139,26 +166,17 @@ public class SpringProcessLiveDataExtractorOverJMX {
 	 * @param metricName
 	 * @param tags 
 	 */
-	public SpringProcessMemoryMetricsLiveData retrieveLiveMemoryMetricsData(ProcessType processType, JMXConnector jmxConnector, String processID, String processName,
+	public SpringProcessMemoryMetricsLiveData retrieveLiveMemoryMetricsData(ProcessType processType, MBeanServerConnection connection, String processID, String processName,
 			 SpringProcessLiveData currentData, String metricName, String tags) {
 		
 		try {
-			MBeanServerConnection connection = jmxConnector.getMBeanServerConnection();
 			List<LiveMemoryMetricsModel> heapMemoryMetricsList = new ArrayList<>();
 			List<LiveMemoryMetricsModel> nonHeapMemoryMetricsList = new ArrayList<>();
-			String domain = getDomainForActuator(connection);
-			
-			if (processID == null) {
-				processID = getProcessID(connection);
-			}
+			String domain = getDomain(connection);
 			
-			if (processName == null) {
-				Properties systemProperties = getSystemProperties(connection);
-				if (systemProperties != null) {
-					String javaCommand = getJavaCommand(systemProperties);
-					processName = getProcessName(javaCommand);
-				}
-			}
+			String[] processIdAndName = getProcessIdAndName(connection, processID, processName);
+			processID = processIdAndName[0];
+			processName = processIdAndName[1];
 			
 			LiveMemoryMetricsModel[] heapMemResults = getMemoryMetrics(connection, heapMemoryMetricsList,
                     domain, "area:heap");
@@ -220,25 +238,16 @@ public class SpringProcessLiveDataExtractorOverJMX {
 	 * @param metricName 
 	 * @param tags 
 	 */
-	public SpringProcessGcPausesMetricsLiveData retrieveLiveGcPausesMetricsData(ProcessType processType, JMXConnector jmxConnector, String processID, String processName,
+	public SpringProcessGcPausesMetricsLiveData retrieveLiveGcPausesMetricsData(ProcessType processType, MBeanServerConnection connection, String processID, String processName,
 			 SpringProcessLiveData currentData, String metricName, String tags) {
 				
 		try {
-			MBeanServerConnection connection = jmxConnector.getMBeanServerConnection();
 			List<LiveMemoryMetricsModel> memoryMetricsList = new ArrayList<>();
-			String domain = getDomainForActuator(connection);
+			String domain = getDomain(connection);
 			
-			if (processID == null) {
-				processID = getProcessID(connection);
-			}
-			
-			if (processName == null) {
-				Properties systemProperties = getSystemProperties(connection);
-				if (systemProperties != null) {
-					String javaCommand = getJavaCommand(systemProperties);
-					processName = getProcessName(javaCommand);
-				}
-			}
+			String[] processIdAndName = getProcessIdAndName(connection, processID, processName);
+			processID = processIdAndName[0];
+			processName = processIdAndName[1];
 			
 			LiveMemoryMetricsModel metrics = getLiveMetrics(connection, domain, "jvm.gc.pause", tags);
 			if(metrics != null) {
@@ -262,42 +271,58 @@ public class SpringProcessLiveDataExtractorOverJMX {
 	}
 	
 	private LiveMetricsModel getMetrics(MBeanServerConnection connection, String domain) {
-		
-		return new LiveMetricsModel() {
-			
-			@Override
-			public RequestMappingMetrics getRequestMappingMetrics(String[] paths, String[] requestMethods) {
-				try {
-					List<Object> tags = new ArrayList<>();
-					if (paths.length == 0) {
-						return null;
-					}
-					tags.add("uri:" + String.join(",", paths));
-					if (requestMethods.length > 0) {
-						tags.add("method:" + String.join(",", requestMethods));
-					}
-					
-					Object[] params = new Object[] {"http.server.requests", tags};
-					String[] signature =  new String[] {String.class.getName(), List.class.getName()};
-					
-					Object metricsData = getActuatorDataFromOperation(connection,
-							getObjectName(domain, "type=Endpoint,name=Metrics"), 
-							"metric", 
-							params, 
-							signature);
-
-					if (metricsData instanceof String) {
-						return RequestMappingMetrics.parse((String) metricsData);
-					} else if (metricsData != null) {
-						return RequestMappingMetrics.parse(gson.toJson(metricsData));
-					}
-				} catch (Exception e) {
-					log.error("", e);
+		return new JmxMetricsModel(connection, domain);
+	}
+
+	private static boolean isMetricsModelFor(LiveMetricsModel metrics, MBeanServerConnection connection, String domain) {
+		return metrics instanceof JmxMetricsModel jmxMetrics && jmxMetrics.connection == connection && Objects.equals(jmxMetrics.domain, domain);
+	}
+
+	/**
+	 * Metrics model that retrieves the metrics on demand from the process via the connection it got created for
+	 */
+	private class JmxMetricsModel implements LiveMetricsModel {
+
+		private final MBeanServerConnection connection;
+		private final String domain;
+
+		JmxMetricsModel(MBeanServerConnection connection, String domain) {
+			this.connection = connection;
+			this.domain = domain;
+		}
+
+		@Override
+		public RequestMappingMetrics getRequestMappingMetrics(String[] paths, String[] requestMethods) {
+			try {
+				List<Object> tags = new ArrayList<>();
+				if (paths.length == 0) {
+					return null;
 				}
-				return null;
+				tags.add("uri:" + String.join(",", paths));
+				if (requestMethods.length > 0) {
+					tags.add("method:" + String.join(",", requestMethods));
+				}
+				
+				Object[] params = new Object[] {"http.server.requests", tags};
+				String[] signature =  new String[] {String.class.getName(), List.class.getName()};
+				
+				Object metricsData = getActuatorDataFromOperation(connection,
+						getObjectName(domain, "type=Endpoint,name=Metrics"), 
+						"metric", 
+						params, 
+						signature);
+
+				if (metricsData instanceof String) {
+					return RequestMappingMetrics.parse((String) metricsData);
+				} else if (metricsData != null) {
+					return RequestMappingMetrics.parse(gson.toJson(metricsData));
+				}
+			} catch (Exception e) {
+				log.error("", e);
 			}
+			return null;
+		}
 
-		};
 	}
 	
 	/**
@@ -306,24 +331,15 @@ public class SpringProcessLiveDataExtractorOverJMX {
 	 * @param processName if null, will be determined searching existing mbeans for that information (for remote processes inferring the java command from the system properties)
 	 * @param currentData currently stored live data
 	 */
-	public SpringProcessLoggersData retrieveLoggersData(ProcessType processType, JMXConnector jmxConnector, String processID, String processName,
+	public SpringProcessLoggersData retrieveLoggersData(ProcessType processType, MBeanServerConnection connection, String processID, String processName,
 			 SpringProcessLiveData currentData) {
 
 		try {
-			MBeanServerConnection connection = jmxConnector.getMBeanServerConnection();
-			String domain = getDomainForActuator(connection);
+			String domain = getDomain(connection);
 
-			if (processID == null) {
-				processID = getProcessID(connection);
-			}
-
-			if (processName == null) {
-				Properties systemProperties = getSystemProperties(connection);
-				if (systemProperties != null) {
-					String javaCommand = getJavaCommand(systemProperties);
-					processName = getProcessName(javaCommand);
-				}
-			}
+			String[] processIdAndName = getProcessIdAndName(connection, processID, processName);
+			processID = processIdAndName[0];
+			processName = processIdAndName[1];
 
 			Loggers loggers = getLoggers(connection, domain);
 
@@ -364,23 +380,14 @@ public class SpringProcessLiveDataExtractorOverJMX {
 		return null;	
 	}
 	
-	public SpringProcessUpdatedLogLevelData configureLogLevel(ProcessType processType, JMXConnector jmxConnector,
+	public SpringProcessUpdatedLogLevelData configureLogLevel(ProcessType processType, MBeanServerConnection connection,
 			String processID, String processName, SpringProcessLiveData currentData, Map<String, String> args) {
 		try {
-			MBeanServerConnection connection = jmxConnector.getMBeanServerConnection();
-			String domain = getDomainForActuator(connection);
+			String domain = getDomain(connection);
 
-			if (processID == null) {
-				processID = getProcessID(connection);
-			}
-
-			if (processName == null) {
-				Properties systemProperties = getSystemProperties(connection);
-				if (systemProperties != null) {
-					String javaCommand = getJavaCommand(systemProperties);
-					processName = getProcessName(javaCommand);
-				}
-			}
+			String[] processIdAndName = getProcessIdAndName(connection, processID, processName);
+			processID = processIdAndName[0];
+			processName = processIdAndName[1];
 
 			changeLogLevel(connection, domain, args);
 			return new SpringProcessUpdatedLogLevelData(
@@ -433,15 +440,53 @@ public class SpringProcessLiveDataExtractorOverJMX {
 		return null;
 	}
 
-	public String getProcessID(MBeanServerConnection connection) {
+	/**
+	 * Resolves the missing process ID and/or process name with a single batched read of the runtime MBean attributes
+	 * @return array with the process ID and the process name
+	 */
+	private String[] getProcessIdAndName(MBeanServerConnection connection, String processID, String processName) {
+		if (processID != null && processName != null) {
+			return new String[] {processID, processName};
+		}
+
+		List<String> attributes = new ArrayList<>(2);
+		if (processID == null) {
+			attributes.add("Name");
+		}
+		if (processName == null) {
+			attributes.add("SystemProperties");
+		}
+
 		try {
-			RuntimeMXBean runtime = ManagementFactory.getPlatformMXBean(connection, RuntimeMXBean.class);
-			return runtime.getName();
-		} catch (Exception e) {
+			AttributeList values = connection.getAttributes(ObjectName.getInstance(ManagementFactory.RUNTIME_MXBEAN_NAME), attributes.toArray(new String[attributes.size()]));
+			for (Attribute attribute : values.asList()) {
+				if ("Name".equals(attribute.getName()) && attribute.getValue() instanceof String) {
+					processID = (String) attribute.getValue();
+				}
+				else if ("SystemProperties".equals(attribute.getName()) && attribute.getValue() instanceof TabularData) {
+					processName = getProcessName(getJavaCommand((TabularData) attribute.getValue()));
+				}
+			}
+		}
+		catch (Exception e) {
+			log.error("error fetching runtime information", e);
+		}
+
+		return new String[] {processID, processName};
+	}
+
+	private String getJavaCommand(TabularData systemProperties) {
+		for (Object row : systemProperties.values()) {
+			if (row instanceof CompositeData) {
+				CompositeData property = (CompositeData) row;
+				if ("sun.java.command".equals(property.get("key"))) {
+					return (String) property.get("value");
+				}
+			}
 		}
 		return null;
 	}
-	
+
 	public String getProcessName(String command) throws Exception {
 		if (command != null) {
 			int space = command.indexOf(' ');
@@ -456,26 +501,6 @@ public class SpringProcessLiveDataExtractorOverJMX {
 		return "Unknown";
 	}
 	
-	public Properties getSystemProperties(MBeanServerConnection connection) {
-		try {
-			RuntimeMXBean runtime = ManagementFactory.getPlatformMXBean(connection, RuntimeMXBean.class);
-		
-			Properties props = new Properties();
-			for (Entry<String, String> e : runtime.getSystemProperties().entrySet()) {
-				props.put(e.getKey(), e.getValue());
-			}
-			return props;
-		}
-		catch (Exception e) {
-			log.error("error fetching system properties", e);
-		}
-		return null;
-	}
-	
-	public String getJavaCommand(Properties systemProperties) {
-		return (String) systemProperties.get("sun.java.command");
-	}
-
 	public LiveBeansModel getBeans(MBeanServerConnection connection, String domain) {
 		try {
 			Object json = null;
@@ -497,10 +522,11 @@ public class SpringProcessLiveDataExtractorOverJMX {
 
 			if (json != null) {
 				if (json instanceof String) {
-					return LiveBeansModel.parse((String)json);
+					return LiveBeansStreamingParser.parse(new StringReader((String)json));
 				}
 				else {
-					return LiveBeansModel.parse(gson.toJson(json));
+					// the endpoint result is already an object graph, build the beans from it directly
+					return LiveBeansStreamingParser.parseObjectGraph(json);
 				}
 			}
 
@@ -562,19 +588,30 @@ public class SpringProcessLiveDataExtractorOverJMX {
 	}
 
 	public LiveRequestMapping[] getRequestMappings(MBeanServerConnection connection, String domain) throws Exception {
+		MappingsData mappings = getMappingsData(connection, domain);
+		if (mappings != null) {
+			return parseRequestMappingsJson(gson.toJson(mappings.data()), mappings.bootVersion());
+		}
+		return null;
+	}
+
+	/**
+	 * The raw data of the mappings endpoint together with the boot version the data comes from
+	 */
+	private static record MappingsData(Object data, String bootVersion) {}
+
+	private MappingsData getMappingsData(MBeanServerConnection connection, String domain) throws Exception {
 		try {
 			//Boot 2.x
 			Object result = getActuatorDataFromOperation(connection, getObjectName(domain, "type=Endpoint,name=Mappings"), "mappings");
 			if (result != null) {
-				String mappings = gson.toJson(result);
-				return parseRequestMappingsJson(mappings, "2.x");
+				return new MappingsData(result, "2.x");
 			}
 
 			//Boot 1.x
 			result = getActuatorDataFromAttribute(connection, getObjectName(domain, "type=Endpoint,name=requestMappingEndpoint"), "Data");
 			if (result != null) {
-				String mappings = gson.toJson(result);
-				return parseRequestMappingsJson(mappings, "1.x");
+				return new MappingsData(result, "1.x");
 			}
 
 		} catch (IOException e) {
@@ -665,7 +702,7 @@ public class SpringProcessLiveDataExtractorOverJMX {
 	public LiveProperties getProperties(MBeanServerConnection connection, String environment) throws Exception {
 		try {
 			if (environment != null) {
-				return LivePropertiesJsonParser.parseProperties(environment);
+				return LiveEnvironment.parse(new StringReader(environment)).getProperties();
 			}
 		} catch (Exception e) {
 			log.error("error resolving live properties from environment endpoint", e);
@@ -751,6 +788,26 @@ public class SpringProcessLiveDataExtractorOverJMX {
 		return null;
 	}
 
+	/**
+	 * The actuator domain of a process doesn't change, therefore it is looked up only once per connection.
+	 * Not finding a domain is not remembered, since the actuator mbeans might not be registered yet.
+	 */
+	private String getDomain(MBeanServerConnection connection) throws Exception {
+		String domain = this.domain;
+		if (domain == null) {
+			domain = getDomainForActuator(connection);
+			this.domain = domain;
+		}
+		return domain;
+	}
+
+	/**
+	 * forget information cached for the current connection, e.g. when the connection got closed
+	 */
+	public void reset() {
+		this.domain = null;
+	}
+
 	/**
 	 * PT 156072399: Actuator information can be defined using a different JMX MBean domain.
 	 * By default, Spring Boot exposes management endpoints as JMX MBeans under the 'org.springframework.boot' domain.
@@ -790,32 +847,6 @@ public class SpringProcessLiveDataExtractorOverJMX {
 		return port;
 	}
 
-	public String getContextPath(MBeanServerConnection connection, String domain, String environment) throws Exception {
-		try {
-			String bootVersion = null;
-
-			// Boot 1.x
-			Object result = getActuatorDataFromAttribute(connection, getObjectName(domain, "type=Endpoint,name=requestMappingEndpoint"), "Data");
-			if (result != null) {
-				bootVersion = "1.x";
-			}
-
-			// Boot 2.x
-			result = getActuatorDataFromOperation(connection, getObjectName(domain, "type=Endpoint,name=Mappings"), "mappings");
-			if (result != null) {
-				bootVersion = "2.x";
-			}
-			return bootVersion != null && environment != null ? LiveContextPathUtil.getContextPath(bootVersion, environment) : null;
-		} catch (IOException e) {
-			//Ignore... happens a low when app is stopped
-		} catch (ExecutionException e) {
-			if (!(e.getCause() instanceof IOException)) {
-				throw e;
-			}
-		}
-		return null;
-	}
-
 	private String getPortViaAdmin(MBeanServerConnection connection) throws Exception {
 		try {
 			String DEFAULT_OBJECT_NAME = "org.springframework.boot:type=Admin,name=SpringApplication";
@@ -868,7 +899,8 @@ public class SpringProcessLiveDataExtractorOverJMX {
 
 	private String getPortViaTomcatBean(MBeanServerConnection connection) throws Exception {
 		try {
-			Set<ObjectName> queryNames = connection.queryNames(null, null);
+			// only ask for the connector mbeans instead of transferring the names of all mbeans
+			Set<ObjectName> queryNames = connection.queryNames(ObjectName.getInstance("Tomcat*:type=Connector,*"), null);
 
 			for (ObjectName objectName : queryNames) {
 				if (objectName.toString().startsWith("Tomcat") && objectName.toString().contains("type=Connector")) {
@@ -11,11 +11,14 @@
 package org.springframework.ide.vscode.boot.java.livehover.v2;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
 import org.springframework.ide.vscode.commons.languageserver.util.SimpleLanguageServer;
 import org.springframework.ide.vscode.commons.protocol.LiveProcessLoggersSummary;
 import org.springframework.ide.vscode.commons.protocol.LiveProcessSummary;
@@ -92,8 +95,11 @@ public class SpringProcessLiveDataProvider {
 	}
 	
 	public void update(String processKey, SpringProcessLiveData liveData) {
-		this.liveData.put(processKey, liveData);
-		announceChangedLiveData();
+		SpringProcessLiveData oldData = this.liveData.put(processKey, liveData);
+		Set<Change> changes = SpringProcessLiveDataDiff.compute(oldData, liveData);
+		if (!changes.isEmpty()) {
+			announceChangedLiveData(changes);
+		}
 		getClient().liveProcessDataUpdated(createProcessSummary(processKey, liveData));
 	}
 	
@@ -121,8 +127,12 @@ public class SpringProcessLiveDataProvider {
 	}
 	
 	private void announceChangedLiveData() {
+		announceChangedLiveData(EnumSet.allOf(Change.class));
+	}
+	
+	private void announceChangedLiveData(Set<Change> changes) {
 		SpringProcessLiveData[] latestLiveData = getLatestLiveData();
-		SpringProcessLiveDataChangeEvent event = new SpringProcessLiveDataChangeEvent(latestLiveData);
+		SpringProcessLiveDataChangeEvent event = new SpringProcessLiveDataChangeEvent(latestLiveData, changes);
 		for (SpringProcessLiveDataChangeListener listener : this.listeners) {
 			listener.liveDataChanged(event);
 		}
@@ -11,8 +11,10 @@
 package org.springframework.ide.vscode.boot.java.livehover.v2;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
@@ -25,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ide.vscode.boot.java.BootJavaLanguageServerComponents;
 import org.springframework.ide.vscode.boot.java.handlers.BootJavaHoverProvider;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
 import org.springframework.ide.vscode.commons.languageserver.util.SimpleLanguageServer;
@@ -45,6 +48,11 @@ public class SpringProcessLiveHoverUpdater {
 	private final Map<String, AtomicReference<IJavaProject>> watchedDocs;
 	private boolean highlightsEnabled = true;
 
+	// the kinds of live data the hints of a document are based on and the hints that got published last,
+	// to re-compute and re-publish only the documents that are affected by a live data change
+	private final Map<String, Set<Change>> usedLiveData;
+	private final Map<String, List<CodeLens>> publishedHints;
+
 	// this update executor puts all the updates to live hovers into a sequence
 	// to avoid race conditions among different update operations 
 	private final Executor updateExecutor;
@@ -59,6 +67,8 @@ public class SpringProcessLiveHoverUpdater {
 		this.hoverProvider = hoverProvider;
 		this.projectFinder = projectFinder;
 		this.watchedDocs = new ConcurrentHashMap<>();
+		this.usedLiveData = new ConcurrentHashMap<>();
+		this.publishedHints = new ConcurrentHashMap<>();
 		this.updateExecutor = Executors.newSingleThreadExecutor();
 
 		server.getTextDocumentService().onDidChangeContent(params -> {
@@ -74,7 +84,7 @@ public class SpringProcessLiveHoverUpdater {
 		
 		liveDataProvider.addLiveDataChangeListener(event -> {
 			CompletableFuture.runAsync(() -> {
-				update();
+				update(event);
 			}, updateExecutor);
 		});
 	}
@@ -100,14 +110,16 @@ public class SpringProcessLiveHoverUpdater {
 
 	public void unwatchDocument(TextDocument doc) {
 		this.watchedDocs.remove(doc.getUri());
+		this.usedLiveData.remove(doc.getUri());
 		cleanupLiveHints(doc);
+		this.publishedHints.remove(doc.getUri());
 	}
 
 	// runs async
 	private void updateDoc(TextDocument doc) {
 		try {
 			IJavaProject project = getCachedProject(doc.getUri());
-			update(doc, project);
+			update(doc, project, false);
 		}
 		catch (Exception e) {
 			log.error("", e);
@@ -115,13 +127,16 @@ public class SpringProcessLiveHoverUpdater {
 	}
 
 	// runs async
-	private void update() {
+	private void update(SpringProcessLiveDataChangeEvent event) {
 		if (this.watchedDocs.size() > 0) {
 			try {
 				for (String docURI : watchedDocs.keySet()) {
-					IJavaProject project = getCachedProject(docURI);
-					TextDocument doc = this.server.getTextDocumentService().getLatestSnapshot(docURI);
-					update(doc, project);
+					Set<Change> used = usedLiveData.get(docURI);
+					if (used == null || event.affects(used)) {
+						IJavaProject project = getCachedProject(docURI);
+						TextDocument doc = this.server.getTextDocumentService().getLatestSnapshot(docURI);
+						update(doc, project, true);
+					}
 				}
 			} catch (Exception e) {
 				log.error("", e);
@@ -130,11 +145,17 @@ public class SpringProcessLiveHoverUpdater {
 	}
 
 	// runs async
-	private void update(TextDocument doc, IJavaProject project) {
+	private void update(TextDocument doc, IJavaProject project, boolean onlyIfChanged) {
 		if (highlightsEnabled) {
 			try {
 				if (doc != null) {
-					CodeLens[] infos = this.hoverProvider.getLiveHoverHints(doc, project);
+					Set<Change> used = ConcurrentHashMap.newKeySet();
+					CodeLens[] infos = this.hoverProvider.getLiveHoverHints(doc, project, used);
+					usedLiveData.put(doc.getUri(), used);
+
+					if (onlyIfChanged && Arrays.asList(infos).equals(publishedHints.get(doc.getUri()))) {
+						return;
+					}
 					publishLiveHints(doc, infos);
 				}
 			} catch (Exception e) {
@@ -175,7 +196,9 @@ public class SpringProcessLiveHoverUpdater {
 		if (doc != null) {
 			int version = doc.getVersion();
 			VersionedTextDocumentIdentifier id = new VersionedTextDocumentIdentifier(doc.getUri(), version);
-			server.getClient().highlight(new HighlightParams(id, Arrays.asList(codeLenses)));
+			List<CodeLens> hints = Arrays.asList(codeLenses);
+			server.getClient().highlight(new HighlightParams(id, hints));
+			publishedHints.put(doc.getUri(), hints);
 		}
 	}
 
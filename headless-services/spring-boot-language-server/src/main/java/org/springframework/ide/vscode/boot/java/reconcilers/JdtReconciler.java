@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.slf4j.Logger;
@@ -42,16 +43,17 @@ public class JdtReconciler implements JavaReconciler {
 	
 	private final ConcurrentHashMap<String, List<JdtAstReconciler>> applicableReconcilersCache;
 	
-	private long stats_timer;
-	private long stats_counter;
+	// updated by parallel project initializations
+	private final AtomicLong stats_timer;
+	private final AtomicLong stats_counter;
 
 	public JdtReconciler(CompilationUnitCache compilationUnitCache, BootJavaConfig config, JdtAstReconciler[] reconcilers, ProjectObserver projectObserver) {
 		this.compilationUnitCache = compilationUnitCache;
 		this.config = config;
 		this.reconcilers = reconcilers;
 		
-		this.stats_timer = 0;
-		this.stats_counter = 0;
+		this.stats_timer = new AtomicLong();
+		this.stats_counter = new AtomicLong();
 		
 		this.applicableReconcilersCache = new ConcurrentHashMap<>();
 		
@@ -119,8 +121,8 @@ public class JdtReconciler implements JavaReconciler {
 		finally {
 			long end = System.currentTimeMillis();
 			
-			stats_counter++;
-			stats_timer += (end - start);
+			stats_counter.incrementAndGet();
+			stats_timer.addAndGet(end - start);
 		}
 	}
 	
@@ -174,11 +176,11 @@ public class JdtReconciler implements JavaReconciler {
 	}
 	
 	public long getStatsTimer() {
-		return stats_timer;
+		return stats_timer.get();
 	}
 	
 	public long getStatsCounter() {
-		return stats_counter;
+		return stats_counter.get();
 	}
 	
 }
@@ -276,9 +276,8 @@ public class WebApiVersioningReconciler implements JdtAstReconciler {
 	private List<FixDescriptor> createWebFrameworkFixes(IJavaProject project, List<String> propFiles,
 			WebFrameworkType frameworkType) {
 		List<FixDescriptor> fixes = new ArrayList<>();
-		List<Bean> configBeans = Arrays.stream(springIndex.getBeansOfProject(project.getElementName()))
+		List<Bean> configBeans = Arrays.stream(springIndex.getTypeHierarchy(project.getElementName()).getBeansAssignableTo(frameworkType.configurerInterface))
 				.filter(b -> b.isConfiguration())
-				.filter(b -> b.getSupertypes().contains(frameworkType.configurerInterface))
 				.toList();
 		boolean beanFound = false;
 		if (!configBeans.isEmpty()) {
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.requestmapping;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.MethodReference;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.commons.util.BadLocationException;
+import org.springframework.ide.vscode.commons.util.text.TextDocument;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Caches the route definitions extracted from router function methods, so that saving a router configuration
+ * re-extracts only the methods that actually changed.
+ * <p>
+ * Entries are kept per project, document and method, keyed by a hash of the method source together with the parts of
+ * the compilation unit that the bindings used during the extraction depend on (package, imports and the field
+ * declarations of the enclosing type) and the resolved handler methods, which are declared in other types. Routes
+ * of methods with bindings that can't be resolved are not cached. The ranges of cached routes are stored as they
+ * were extracted and moved to the current location of the method when the method itself moved within the document.
+ * <p>
+ * Every AST of a document that routes are asked for starts a new index pass of that document. Only the methods that
+ * got asked for during the previous pass are kept, so methods that got removed or renamed don't stay in the cache.
+ * <p>
+ * Changes of the classpath are not visible in the hash, the entries of a project need to be dropped when the project
+ * gets initialized again.
+ *
+ * @author Martin Lippert
+ */
+public class WebFnRouteCache {
+
+	private static final Logger log = LoggerFactory.getLogger(WebFnRouteCache.class);
+
+	private final ConcurrentMap<String, ConcurrentMap<String, DocumentRoutes>> projects = new ConcurrentHashMap<>();
+
+	private record CachedRoutes(HashCode hash, Position methodStart, List<WebFnRouteDefinition> routes) {
+	}
+
+	/**
+	 * the cached routes of a document, from the previous index pass and the current one, identified by the AST
+	 * (which isn't kept alive by the cache)
+	 */
+	private static class DocumentRoutes {
+
+		private final WeakReference<CompilationUnit> cu;
+		private final Map<String, CachedRoutes> previous;
+		private final ConcurrentMap<String, CachedRoutes> current;
+
+		DocumentRoutes(CompilationUnit cu, Map<String, CachedRoutes> previous) {
+			this.cu = new WeakReference<>(cu);
+			this.previous = previous;
+			this.current = new ConcurrentHashMap<>();
+		}
+
+		boolean isPass(CompilationUnit cu) {
+			return this.cu.get() == cu;
+		}
+
+		CachedRoutes get(String methodKey) {
+			CachedRoutes cached = current.get(methodKey);
+			return cached != null ? cached : previous.get(methodKey);
+		}
+	}
+
+	/**
+	 * @return the routes of the method, either from the cache (moved to the current location of the method) or from the extractor
+	 */
+	public List<WebFnRouteDefinition> getRoutes(String projectName, MethodDeclaration method, TextDocument doc, Supplier<List<WebFnRouteDefinition>> extractor) {
+		Position methodStart;
+		HashCode hash;
+		try {
+			methodStart = doc.toPosition(method.getStartPosition());
+			hash = hash(method, doc);
+		}
+		catch (BadLocationException e) {
+			log.error("error computing the router method hash for: " + doc.getUri(), e);
+			return extractor.get();
+		}
+
+		if (hash == null) {
+			// the routes might change once the bindings can be resolved
+			return extractor.get();
+		}
+
+		CompilationUnit cu = method.getRoot() instanceof CompilationUnit root ? root : null;
+		DocumentRoutes methods = projects
+				.computeIfAbsent(projectName, p -> new ConcurrentHashMap<>())
+				.compute(doc.getUri(), (d, existing) -> {
+					if (existing == null) {
+						return new DocumentRoutes(cu, Map.of());
+					}
+					return existing.isPass(cu) ? existing : new DocumentRoutes(cu, existing.current);
+				});
+
+		String methodKey = getMethodKey(method);
+
+		CachedRoutes cached = methods.get(methodKey);
+		if (cached != null && cached.hash().equals(hash)) {
+			methods.current.put(methodKey, cached);
+			return relocate(cached.routes(), cached.methodStart(), methodStart);
+		}
+
+		List<WebFnRouteDefinition> routes = extractor.get();
+		methods.current.put(methodKey, new CachedRoutes(hash, methodStart, routes));
+
+		// hand out copies, the cached definitions are never exposed
+		return relocate(routes, methodStart, methodStart);
+	}
+
+	public void removeDocument(String projectName, String docURI) {
+		ConcurrentMap<String, DocumentRoutes> documents = projects.get(projectName);
+		if (documents != null) {
+			documents.remove(docURI);
+		}
+	}
+
+	public void removeProject(String projectName) {
+		projects.remove(projectName);
+	}
+
+	private static String getMethodKey(MethodDeclaration method) {
+		IMethodBinding binding = method.resolveBinding();
+		if (binding != null) {
+			return binding.getKey();
+		}
+
+		StringBuilder key = new StringBuilder(method.getName().getIdentifier()).append('(');
+		for (Object param : method.parameters()) {
+			key.append(((SingleVariableDeclaration) param).getType().toString()).append(';');
+		}
+		return key.append(')').toString();
+	}
+
+	/**
+	 * @return the hash of everything the routes of the method depend on, or null if bindings used during the extraction can't be resolved
+	 */
+	private static HashCode hash(MethodDeclaration method, TextDocument doc) throws BadLocationException {
+		Hasher hasher = Hashing.sha256().newHasher();
+
+		if (!putBindings(hasher, method)) {
+			return null;
+		}
+
+		if (method.getRoot() instanceof CompilationUnit cu) {
+			if (cu.getPackage() != null) {
+				putSource(hasher, cu.getPackage(), doc);
+			}
+			for (Object imp : cu.imports()) {
+				putSource(hasher, (ImportDeclaration) imp, doc);
+			}
+		}
+
+		if (method.getParent() instanceof AbstractTypeDeclaration type) {
+			for (Object declaration : type.bodyDeclarations()) {
+				if (declaration instanceof FieldDeclaration field) {
+					putSource(hasher, field, doc);
+				}
+			}
+		}
+
+		putSource(hasher, method, doc);
+		return hasher.hash();
+	}
+
+	/**
+	 * the handler class and method of a route come from the binding of the method reference, which is declared in another type
+	 * and can change without the router method changing
+	 *
+	 * @return false if a method binding can't be resolved
+	 */
+	private static boolean putBindings(Hasher hasher, MethodDeclaration method) {
+		boolean[] resolved = {true};
+
+		method.accept(new ASTVisitor() {
+			@Override
+			public boolean preVisit2(ASTNode node) {
+				if (node instanceof MethodReference reference) {
+					IMethodBinding binding = reference.resolveMethodBinding();
+					if (binding == null || binding.getDeclaringClass() == null || binding.getMethodDeclaration() == null) {
+						resolved[0] = false;
+					}
+					else {
+						hasher.putString(binding.getDeclaringClass().getBinaryName() + " " + binding.getMethodDeclaration().toString(), StandardCharsets.UTF_8);
+						hasher.putChar('\n');
+					}
+				}
+				else if (node instanceof MethodInvocation invocation && invocation.resolveMethodBinding() == null) {
+					resolved[0] = false;
+				}
+				return resolved[0];
+			}
+		});
+
+		return resolved[0];
+	}
+
+	private static void putSource(Hasher hasher, ASTNode node, TextDocument doc) throws BadLocationException {
+		hasher.putString(doc.get(node.getStartPosition(), node.getLength()), StandardCharsets.UTF_8);
+		hasher.putChar('\n');
+	}
+
+	private static List<WebFnRouteDefinition> relocate(List<WebFnRouteDefinition> routes, Position from, Position to) {
+		List<WebFnRouteDefinition> result = new ArrayList<>(routes.size());
+		for (WebFnRouteDefinition route : routes) {
+			result.add(route.copy(range -> relocate(range, from, to)));
+		}
+		return result;
+	}
+
+	private static Range relocate(Range range, Position from, Position to) {
+		return new Range(relocate(range.getStart(), from, to), relocate(range.getEnd(), from, to));
+	}
+
+	/**
+	 * the source of the method is unchanged, so positions on the first line of the method move with the start of the method,
+	 * positions on all other lines move by the number of lines only
+	 */
+	private static Position relocate(Position position, Position from, Position to) {
+		if (position.getLine() == from.getLine()) {
+			return new Position(to.getLine(), position.getCharacter() - from.getCharacter() + to.getCharacter());
+		}
+		return new Position(position.getLine() - from.getLine() + to.getLine(), position.getCharacter());
+	}
+
+}
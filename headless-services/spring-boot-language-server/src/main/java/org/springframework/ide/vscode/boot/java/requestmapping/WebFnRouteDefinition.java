@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.lsp4j.Range;
 
@@ -130,6 +131,41 @@ public class WebFnRouteDefinition {
 	public void setNestingLevel(int level) {
 		this.nestingLevel = level;
 	}
+
+	/**
+	 * @return a copy of this route definition, with all ranges replaced by the result of the given function
+	 */
+	WebFnRouteDefinition copy(UnaryOperator<Range> rangeMapper) {
+		WebFnRouteDefinition copy = new WebFnRouteDefinition();
+		copy.path = copy(path, rangeMapper);
+		copy.pathElements = copy(pathElements, rangeMapper);
+		copy.httpMethods = copy(httpMethods, rangeMapper);
+		copy.acceptTypes = copy(acceptTypes, rangeMapper);
+		copy.contentTypes = copy(contentTypes, rangeMapper);
+		copy.version = copy(version, rangeMapper);
+		copy.handlerClass = handlerClass;
+		copy.handlerMethod = handlerMethod;
+		predicates.forEach((key, value) -> copy.predicates.put(key, copy(value, rangeMapper)));
+		copy.range = range != null ? rangeMapper.apply(range) : null;
+		copy.nestingLevel = nestingLevel;
+		return copy;
+	}
+
+	private static List<WebfluxRouteElement> copy(List<WebfluxRouteElement> elements, UnaryOperator<Range> rangeMapper) {
+		List<WebfluxRouteElement> result = new ArrayList<>(elements.size());
+		for (WebfluxRouteElement element : elements) {
+			result.add(copy(element, rangeMapper));
+		}
+		return result;
+	}
+
+	private static WebfluxRouteElement copy(WebfluxRouteElement element, UnaryOperator<Range> rangeMapper) {
+		if (element == null) {
+			return null;
+		}
+		Range elementRange = element.getElementRange();
+		return new WebfluxRouteElement(element.getElement(), elementRange != null ? rangeMapper.apply(elementRange) : null);
+	}
 	
 	//
 	// for testing purposes
@@ -34,10 +34,12 @@ public class WebfluxRouterIndexer {
 	
 	private static final Logger log = LoggerFactory.getLogger(WebfluxRouterIndexer.class);
 	
-	public static void createWebfluxElements(Bean beanDefinition, MethodDeclaration methodDeclaration, SpringIndexerJavaContext context, TextDocument doc) {
+	public static void createWebfluxElements(Bean beanDefinition, MethodDeclaration methodDeclaration, SpringIndexerJavaContext context, TextDocument doc, WebFnRouteCache routeCache) {
 		Block methodBody = methodDeclaration.getBody();
 		if (methodBody != null && methodBody.statements() != null && methodBody.statements().size() > 0) {
-			addSymbolsForRouterFunction(beanDefinition, methodBody, context, doc);
+			List<WebFnRouteDefinition> routes = routeCache.getRoutes(context.getProject().getElementName(), methodDeclaration, doc,
+					() -> extractRoutes(methodBody, doc, new PreciseWebFnTypeChecker()));
+			createMappingElements(beanDefinition, routes, doc);
 		}
 	}
 
@@ -62,7 +64,12 @@ public class WebfluxRouterIndexer {
 //	}
 //
 
-	private static void addSymbolsForRouterFunction(Bean beanDefinition, Block methodBody, SpringIndexerJavaContext context, TextDocument doc) {
+	/**
+	 * @return all routes defined by the router function chains in the given method body
+	 */
+	public static List<WebFnRouteDefinition> extractRoutes(Block methodBody, TextDocument doc, WebFnTypeChecker typeChecker) {
+		List<WebFnRouteDefinition> routes = new ArrayList<>();
+
 		methodBody.accept(new ASTVisitor() {
 
 			@Override
@@ -78,24 +85,23 @@ public class WebfluxRouterIndexer {
                     parent = parent.getParent();
                 }
                 
-                PreciseWebFnTypeChecker typeChecker = new PreciseWebFnTypeChecker();
 	            if (typeChecker.isBuilderMethodInvocation(node)
 	            		|| typeChecker.isRouteMethodInvocation(node)
 	            		|| typeChecker.isStaticNestInvocation(node)
 	            		|| typeChecker.isStaticAndInvocation(node)) {
 
-	            	extractMappingDefinitions(beanDefinition, node, doc, context, typeChecker);
+	            	routes.addAll(new WebFnRouteExtractor(typeChecker).extractAllRoutes(node, doc));
 	            }
 	            
 				return super.visit(node);
 			}
 
 		});
+
+		return routes;
 	}
 	
-	protected static void extractMappingDefinitions(Bean beanDefinition, MethodInvocation node, TextDocument doc, SpringIndexerJavaContext context, WebFnTypeChecker typeChecker) {
-		
-		List<WebFnRouteDefinition> allRoutes = new WebFnRouteExtractor(typeChecker).extractAllRoutes(node, doc);
+	protected static void createMappingElements(Bean beanDefinition, List<WebFnRouteDefinition> allRoutes, TextDocument doc) {
 		if (allRoutes == null || allRoutes.size() == 0) {
 			return;
 		}
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.rewrite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openrewrite.Recipe;
+import org.openrewrite.config.DeclarativeRecipe;
+import org.openrewrite.config.OptionDescriptor;
+import org.openrewrite.config.RecipeDescriptor;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Catalog of the OpenRewrite recipes available on the classpath of the language server, generated at
+ * build time by {@link RecipesDescriptionGenerator}, so that recipes can be listed and looked up without
+ * scanning the runtime classpath.
+ *
+ * Each entry records where the recipe comes from: the recipe class for imperative recipes and the
+ * classpath resource of the YAML file for declarative recipes. That is enough to instantiate a single
+ * recipe on demand.
+ *
+ * @author Martin Lippert
+ */
+public class RecipeCatalog {
+
+	public static final String RESOURCE = "META-INF/spring-tools/rewrite-recipes.json";
+
+	private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+	private final Map<String, Entry> entries;
+
+	private RecipeCatalog(Map<String, Entry> entries) {
+		this.entries = entries;
+	}
+
+	public Entry get(String name) {
+		return entries.get(name);
+	}
+
+	public Collection<Entry> getEntries() {
+		return entries.values();
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	/**
+	 * Reads the catalog from the classpath, returns <code>null</code> if there is no catalog (e.g. when
+	 * running from the sources without the build having generated it)
+	 */
+	public static RecipeCatalog load(ClassLoader classLoader) throws IOException {
+		try (InputStream in = classLoader.getResourceAsStream(RESOURCE)) {
+			if (in == null) {
+				return null;
+			}
+			try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+				return read(reader);
+			}
+		}
+	}
+
+	public static RecipeCatalog read(Reader reader) {
+		Entry[] read = GSON.fromJson(reader, Entry[].class);
+		Map<String, Entry> entries = new LinkedHashMap<>();
+		if (read != null) {
+			for (Entry entry : read) {
+				if (entry != null && entry.name != null) {
+					entries.putIfAbsent(entry.name, entry);
+				}
+			}
+		}
+		return new RecipeCatalog(entries);
+	}
+
+	public static RecipeCatalog create(Collection<Recipe> recipes) {
+		Map<String, Entry> entries = new LinkedHashMap<>();
+		for (Recipe recipe : recipes) {
+			if (recipe.getName() != null) {
+				entries.putIfAbsent(recipe.getName(), createEntry(recipe));
+			}
+		}
+		return new RecipeCatalog(entries);
+	}
+
+	public void write(Writer writer) {
+		GSON.toJson(entries.values(), writer);
+	}
+
+	private static Entry createEntry(Recipe recipe) {
+		RecipeDescriptor descriptor = recipe.getDescriptor();
+
+		Entry entry = new Entry();
+		entry.name = recipe.getName();
+		entry.displayName = descriptor.getDisplayName();
+		entry.description = descriptor.getDescription();
+
+		if (recipe instanceof DeclarativeRecipe declarative) {
+			entry.resource = toClasspathResource(declarative.getSource());
+		} else {
+			entry.recipeClass = recipe.getClass().getName();
+		}
+
+		List<Option> options = new ArrayList<>();
+		for (OptionDescriptor od : descriptor.getOptions()) {
+			Option option = new Option();
+			option.name = od.getName();
+			option.displayName = od.getDisplayName();
+			option.description = od.getDescription();
+			option.type = od.getType();
+			option.required = od.isRequired();
+			options.add(option);
+		}
+		entry.options = options;
+
+		List<String> recipeList = new ArrayList<>();
+		for (RecipeDescriptor child : descriptor.getRecipeList()) {
+			recipeList.add(child.getName());
+		}
+		entry.recipeList = recipeList;
+
+		return entry;
+	}
+
+	/**
+	 * Path of the resource within its jar (or classes folder), e.g. <code>META-INF/rewrite/spring-boot-30.yml</code>
+	 */
+	private static String toClasspathResource(URI source) {
+		if (source == null) {
+			return null;
+		}
+		String s = source.toString();
+		int jarSeparator = s.lastIndexOf("!/");
+		if (jarSeparator >= 0) {
+			return s.substring(jarSeparator + 2);
+		}
+		int metaInf = s.lastIndexOf("META-INF/");
+		return metaInf >= 0 ? s.substring(metaInf) : null;
+	}
+
+	public static class Entry {
+
+		private String name;
+		private String displayName;
+		private String description;
+		private String recipeClass;
+		private String resource;
+		private List<Option> options;
+		private List<String> recipeList;
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDisplayName() {
+			return displayName;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		/**
+		 * Fully qualified name of the recipe class for imperative recipes, <code>null</code> for declarative recipes
+		 */
+		public String getRecipeClass() {
+			return recipeClass;
+		}
+
+		/**
+		 * Classpath resource of the YAML file declaring the recipe for declarative recipes, <code>null</code> otherwise
+		 */
+		public String getResource() {
+			return resource;
+		}
+
+		public List<Option> getOptions() {
+			return options == null ? List.of() : options;
+		}
+
+		public List<String> getRecipeList() {
+			return recipeList == null ? List.of() : recipeList;
+		}
+
+	}
+
+	public static class Option {
+
+		private String name;
+		private String displayName;
+		private String description;
+		private String type;
+		private boolean required;
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDisplayName() {
+			return displayName;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		public boolean isRequired() {
+			return required;
+		}
+
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.springframework.ide.vscode.boot.java.rewrite;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -36,7 +37,16 @@ public class RecipesDescriptionGenerator {
 	);
 
 
+	/**
+	 * Writes <code>recipes.md</code> describing the top level recipes or, with <code>--catalog &lt;file&gt;</code>,
+	 * the {@link RecipeCatalog} of all recipes on the classpath (used by the build to generate the catalog resource)
+	 */
 	public static void main(String[] args) throws IOException {
+		if (args.length == 2 && "--catalog".equals(args[0])) {
+			writeCatalog(Paths.get(args[1]));
+			return;
+		}
+		
 		String s = Environment.builder().scanRuntimeClasspath().build().listRecipeDescriptors().stream()
 			.filter(d -> TOP_LEVEL_RECIPES.contains(d.getName()))
 			.map(d -> convertToMarkdown(d, 1))
@@ -49,6 +59,17 @@ public class RecipesDescriptionGenerator {
 
 	}
 	
+	private static void writeCatalog(Path path) throws IOException {
+		RecipeCatalog catalog = RecipeCatalog.create(Environment.builder().scanRuntimeClasspath().build().listRecipes());
+		
+		path = path.toFile().getCanonicalFile().toPath();
+		Files.createDirectories(path.getParent());
+		System.out.println("Saving recipe catalog to file: " + path);
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			catalog.write(writer);
+		}
+	}
+	
 	private static String convertToMarkdown(RecipeDescriptor d, int level) {
 		StringBuilder sb = new StringBuilder();
 		if (!"org.openrewrite.yaml.ChangePropertyKey".equals(d.getName())) {
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.rewrite;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.internal.JavaTypeCache;
+import org.openrewrite.java.style.Autodetect;
+import org.openrewrite.java.tree.J.CompilationUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.commons.java.IClasspathUtil;
+import org.springframework.ide.vscode.commons.java.IJavaProject;
+import org.springframework.ide.vscode.commons.languageserver.java.ProjectObserver;
+import org.springframework.ide.vscode.commons.rewrite.java.ORAstUtils;
+import org.springframework.ide.vscode.commons.util.FileObserver;
+import org.springframework.ide.vscode.commons.util.UriUtil;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+/**
+ * Per project cache of OpenRewrite LSTs used for quick fixes and recipe application.
+ *
+ * Java sources are cached by the hash of their content, so unchanged sources don't get parsed again,
+ * and the {@link JavaTypeCache} of the project classpath is shared between all parser invocations for
+ * the project, so that classpath types are resolved only once. The cache of a project is dropped when
+ * the classpath of the project changes.
+ *
+ * The type cache and the cached LSTs also contain type attribution derived from the other sources of the
+ * project, so they are dropped as well when a Java file of the project changes on disk or when a source
+ * gets parsed with a content that differs from the cached one. At most {@link #MAX_SOURCES_PER_PROJECT}
+ * LSTs are kept per project, the least recently used ones get evicted first, and the cache of a project
+ * expires when it wasn't used for {@link #PROJECT_ACCESS_EXPIRATION} minutes.
+ *
+ * The LSTs are cached without the style detected for the parse they came from, the returned LSTs all carry
+ * one style detected over the whole set of sources of the call.
+ *
+ * @author Martin Lippert
+ */
+public class RewriteLstCache {
+
+	private static final Logger log = LoggerFactory.getLogger(RewriteLstCache.class);
+
+	private static final int MAX_SOURCES_PER_PROJECT = 2000;
+	private static final long PROJECT_ACCESS_EXPIRATION = 10;
+
+	private final Cache<String, ProjectEntry> projects = CacheBuilder.newBuilder()
+			.expireAfterAccess(PROJECT_ACCESS_EXPIRATION, TimeUnit.MINUTES)
+			.build();
+
+	public RewriteLstCache(ProjectObserver projectObserver, FileObserver fileObserver) {
+		if (fileObserver != null) {
+			fileObserver.onAnyChange(ImmutableList.of("**/*.java"), changed -> {
+				for (String docURI : changed) {
+					invalidate(docURI);
+				}
+			});
+		}
+
+		if (projectObserver != null) {
+			projectObserver.addListener(new ProjectObserver.Listener() {
+
+				@Override
+				public void created(IJavaProject project) {
+					invalidate(project);
+				}
+
+				@Override
+				public void changed(IJavaProject project, boolean clean) {
+					invalidate(project);
+				}
+
+				@Override
+				public void deleted(IJavaProject project) {
+					invalidate(project);
+				}
+
+			});
+		}
+	}
+
+	public void invalidate(IJavaProject project) {
+		projects.invalidate(project.getLocationUri().toASCIIString());
+	}
+
+	private void invalidate(String docURI) {
+		projects.asMap().keySet().removeIf(projectURI -> UriUtil.contains(projectURI, docURI));
+	}
+
+	/**
+	 * Parses the given inputs of the project, re-using the LSTs of sources that didn't change since they
+	 * got parsed last time. Inputs that depend on additional type stubs are always parsed from scratch,
+	 * since their type attribution differs from the one of the project.
+	 */
+	public List<SourceFile> parse(IJavaProject project, String[] typeStubs, List<Parser.Input> inputs, ExecutionContext ctx) {
+		if (typeStubs != null && typeStubs.length > 0) {
+			JavaParser jp = ORAstUtils.createJavaParserBuilder(project).dependsOn(typeStubs).build();
+			return ORAstUtils.parseInputs(jp, ctx, inputs, null);
+		}
+
+		ProjectEntry entry = getEntry(project);
+		synchronized (entry) {
+			List<SourceFile> sources = new ArrayList<>(inputs.size());
+			List<Parser.Input> toParse = new ArrayList<>();
+			Map<Path, HashCode> hashes = new HashMap<>();
+			Map<Path, byte[]> contents = new HashMap<>();
+
+			for (Parser.Input input : inputs) {
+				try {
+					byte[] content = readContent(input, ctx);
+					contents.put(input.getPath(), content);
+					hashes.put(input.getPath(), Hashing.sha256().hashBytes(content));
+				} catch (Exception e) {
+					log.debug("", e);
+				}
+			}
+
+			// types of a changed source might be cached in the type cache and in the LSTs of other sources
+			if (entry.hasChanged(hashes)) {
+				entry.clear();
+			}
+
+			for (Parser.Input input : inputs) {
+				byte[] content = contents.get(input.getPath());
+				if (content == null) {
+					toParse.add(input);
+					continue;
+				}
+
+				CachedSource cached = entry.sources.get(input.getPath());
+				if (cached != null && cached.hash.equals(hashes.get(input.getPath()))) {
+					sources.add(cached.source);
+				} else {
+					toParse.add(new Parser.Input(input.getPath(), () -> new ByteArrayInputStream(content)));
+				}
+			}
+
+			if (!toParse.isEmpty()) {
+				JavaParser jp = ORAstUtils.createJavaParserBuilder(project).typeCache(entry.typeCache).build();
+				for (SourceFile source : ORAstUtils.parseInputs(jp, ctx, toParse, null)) {
+					if (source instanceof CompilationUnit) {
+						source = source.withMarkers(source.getMarkers().removeByType(Autodetect.class));
+						HashCode hash = hashes.get(source.getSourcePath());
+						if (hash != null) {
+							entry.sources.put(source.getSourcePath(), new CachedSource(hash, source));
+						}
+					}
+					sources.add(source);
+				}
+			}
+
+			return withDetectedStyle(sources);
+		}
+	}
+
+	/**
+	 * Runs the given parse with the shared type cache of the project. Parsers sharing the type cache
+	 * must not run concurrently, hence the parse runs while holding the lock of the project cache.
+	 *
+	 * The type cache must only see the sources as they are on disk: a parse that includes unsaved editor
+	 * content gets a fresh type cache instead, so that its types don't leak into later parses.
+	 */
+	public <T> T withTypeCache(IJavaProject project, boolean unsavedContent, Function<JavaTypeCache, T> parse) {
+		if (unsavedContent) {
+			return parse.apply(new JavaTypeCache());
+		}
+
+		ProjectEntry entry = getEntry(project);
+		synchronized (entry) {
+			return parse.apply(entry.typeCache);
+		}
+	}
+
+	private ProjectEntry getEntry(IJavaProject project) {
+		List<Path> classpath = getClasspath(project);
+		return projects.asMap().compute(project.getLocationUri().toASCIIString(),
+				(uri, entry) -> entry != null && entry.classpath.equals(classpath) ? entry : new ProjectEntry(classpath));
+	}
+
+	private static List<Path> getClasspath(IJavaProject project) {
+		try {
+			return IClasspathUtil.getAllBinaryRoots(project.getClasspath()).stream().map(f -> f.toPath()).collect(Collectors.toList());
+		} catch (Exception e) {
+			log.error("", e);
+			return List.of();
+		}
+	}
+
+	private static List<SourceFile> withDetectedStyle(List<SourceFile> sources) {
+		Autodetect.Detector detector = Autodetect.detector();
+		for (SourceFile source : sources) {
+			if (source instanceof CompilationUnit cu) {
+				detector.sampleJava(cu);
+			}
+		}
+		Autodetect style = detector.build();
+
+		List<SourceFile> styled = new ArrayList<>(sources.size());
+		for (SourceFile source : sources) {
+			styled.add(source instanceof CompilationUnit ? source.withMarkers(source.getMarkers().add(style)) : source);
+		}
+		return styled;
+	}
+
+	private static byte[] readContent(Parser.Input input, ExecutionContext ctx) throws Exception {
+		try (InputStream in = input.getSource(ctx)) {
+			return in.readAllBytes();
+		}
+	}
+
+	private static record CachedSource(HashCode hash, SourceFile source) {}
+
+	private static class ProjectEntry {
+
+		private final List<Path> classpath;
+		private JavaTypeCache typeCache = new JavaTypeCache();
+
+		// access ordered, to evict the least recently used sources first
+		private final Map<Path, CachedSource> sources = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Path, CachedSource> eldest) {
+				return size() > MAX_SOURCES_PER_PROJECT;
+			}
+		};
+
+		ProjectEntry(List<Path> classpath) {
+			this.classpath = classpath;
+		}
+
+		/**
+		 * @return true if one of the given sources is cached with a different content
+		 */
+		boolean hasChanged(Map<Path, HashCode> hashes) {
+			for (Map.Entry<Path, HashCode> hash : hashes.entrySet()) {
+				CachedSource cached = sources.get(hash.getKey());
+				if (cached != null && !cached.hash.equals(hash.getValue())) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void clear() {
+			typeCache = new JavaTypeCache();
+			sources.clear();
+		}
+
+	}
+
+}
@@ -11,14 +11,25 @@
 package org.springframework.ide.vscode.boot.java.rewrite;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -40,8 +51,11 @@ import org.openrewrite.RecipeRun;
 import org.openrewrite.Result;
 import org.openrewrite.SourceFile;
 import org.openrewrite.config.Environment;
+import org.openrewrite.config.YamlResourceLoader;
 import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.internal.RecipeLoader;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.internal.JavaTypeCache;
 import org.openrewrite.maven.MavenExecutionContextView;
 import org.openrewrite.maven.MavenParser;
 import org.openrewrite.maven.MavenSettings;
@@ -57,6 +71,7 @@ import org.springframework.ide.vscode.commons.protocol.java.ProjectBuild;
 import org.springframework.ide.vscode.commons.rewrite.ORDocUtils;
 import org.springframework.ide.vscode.commons.rewrite.java.ProjectParser;
 import org.springframework.ide.vscode.commons.rewrite.maven.MavenIJavaProjectParser;
+import org.springframework.ide.vscode.commons.util.UriUtil;
 import org.springframework.ide.vscode.commons.util.text.TextDocument;
 
 public class RewriteRecipeRepository {
@@ -67,11 +82,42 @@ public class RewriteRecipeRepository {
 	
 	final private JavaProjectFinder projectFinder;
 	
+	final private RewriteLstCache lstCache;
+	
+	final private ExecutorService recipeLoader = Executors.newCachedThreadPool();
+	
 	private CompletableFuture<Map<String, Recipe>> recipesFuture = null;
 	
-	public RewriteRecipeRepository(SimpleLanguageServer server, JavaProjectFinder projectFinder, BootJavaConfig config) {
+	private RecipeCatalog catalog = null;
+	private boolean catalogLoaded = false;
+	
+	public RewriteRecipeRepository(SimpleLanguageServer server, JavaProjectFinder projectFinder, BootJavaConfig config, RewriteLstCache lstCache) {
 		this.server = server;
 		this.projectFinder = projectFinder;
+		this.lstCache = lstCache;
+	}
+	
+	/**
+	 * The catalog of recipes generated at build time, <code>null</code> if the catalog isn't available
+	 */
+	public synchronized RecipeCatalog getCatalog() {
+		if (!catalogLoaded) {
+			catalogLoaded = true;
+			try {
+				catalog = RecipeCatalog.load(getClass().getClassLoader());
+				if (catalog == null) {
+					log.warn("No Rewrite recipe catalog found at '{}', falling back to scanning the classpath for recipes", RecipeCatalog.RESOURCE);
+				}
+			} catch (Exception e) {
+				log.error("Failed to read Rewrite recipe catalog", e);
+			}
+		}
+		return catalog;
+	}
+	
+	public Optional<RecipeCatalog.Entry> getCatalogEntry(String name) {
+		RecipeCatalog c = getCatalog();
+		return c == null ? Optional.empty() : Optional.ofNullable(c.get(name));
 	}
 		
 	private synchronized Map<String, Recipe> loadRecipes() {
@@ -102,17 +148,80 @@ public class RewriteRecipeRepository {
 		return builder.build();
 	}
 	
+	/**
+	 * All recipes found by scanning the runtime classpath. This is expensive and should only be used for
+	 * recipes that are not part of the catalog.
+	 */
 	public CompletableFuture<Map<String, Recipe>> recipes() {
 		if (recipesFuture == null) {
-			recipesFuture = CompletableFuture.supplyAsync(this::loadRecipes);
+			recipesFuture = CompletableFuture.supplyAsync(this::loadRecipes, recipeLoader);
 		}
 		return recipesFuture;
 	}
 	
+	/**
+	 * Creates a new instance of the recipe with the given name. Recipes listed in the catalog are instantiated
+	 * individually, only recipes unknown to the catalog require scanning the classpath.
+	 */
 	public CompletableFuture<Optional<Recipe>> getRecipe(String name) {
+		Optional<RecipeCatalog.Entry> entry = getCatalogEntry(name);
+		if (entry.isPresent()) {
+			return CompletableFuture.supplyAsync(() -> loadRecipe(entry.get()), recipeLoader).thenCompose(recipe -> recipe.isPresent()
+					? CompletableFuture.completedFuture(recipe)
+					: getScannedRecipe(name));
+		}
+		return getScannedRecipe(name);
+	}
+	
+	private CompletableFuture<Optional<Recipe>> getScannedRecipe(String name) {
 		return recipes().thenApply(recipes -> Optional.ofNullable(recipes.get(name)));
 	}
 	
+	private Optional<Recipe> loadRecipe(RecipeCatalog.Entry entry) {
+		ClassLoader classLoader = getClass().getClassLoader();
+		try {
+			if (entry.getRecipeClass() != null) {
+				Class<?> recipeClass = classLoader.loadClass(entry.getRecipeClass());
+				return Optional.of(new RecipeLoader(classLoader).load(recipeClass, null));
+			}
+			else if (entry.getResource() != null) {
+				// load the YAML declaring the recipe along with the YAML files of declarative sub-recipes,
+				// imperative sub-recipes are resolved via the class loader
+				Set<String> resources = new LinkedHashSet<>();
+				collectResources(entry, resources, new HashSet<>());
+				
+				Environment.Builder builder = Environment.builder();
+				for (String resource : resources) {
+					for (URL url : Collections.list(classLoader.getResources(resource))) {
+						try (InputStream in = url.openStream()) {
+							builder.load(new YamlResourceLoader(in, url.toURI(), new Properties(), classLoader));
+						}
+					}
+				}
+				
+				Recipe recipe = builder.build().activateRecipes(entry.getName());
+				if (recipe.validate().isValid()) {
+					return Optional.of(recipe);
+				}
+				log.info("Recipe '%s' cannot be loaded from its catalog entry".formatted(entry.getName()));
+			}
+		} catch (Exception e) {
+			log.error("Failed to load recipe '%s' from its catalog entry".formatted(entry.getName()), e);
+		}
+		return Optional.empty();
+	}
+	
+	private void collectResources(RecipeCatalog.Entry entry, Set<String> resources, Set<String> visited) {
+		if (visited.add(entry.getName())) {
+			if (entry.getResource() != null) {
+				resources.add(entry.getResource());
+			}
+			for (String child : entry.getRecipeList()) {
+				getCatalogEntry(child).ifPresent(e -> collectResources(e, resources, visited));
+			}
+		}
+	}
+	
 	private MavenExecutionContextView createContext(Consumer<Throwable> onError) {
 		MavenExecutionContextView ctx = MavenExecutionContextView.view(new InMemoryExecutionContext(onError));
 		MavenSettings settings = MavenSettings.readMavenSettingsFromDisk(ctx);
@@ -148,9 +257,8 @@ public class RewriteRecipeRepository {
 				IJavaProject project = p.get();
 				Path absoluteProjectDir = Paths.get(project.getLocationUri());
 				progressTask.progressEvent("Parsing files...");
-				ProjectParser projectParser = getProjectParser(project);
 				ExecutionContext ctx = createContext(e -> log.error("Project Parsing error:", e));
-				List<SourceFile> sources = projectParser.parse(absoluteProjectDir, ctx);
+				List<SourceFile> sources = lstCache.withTypeCache(project, hasUnsavedContent(project), typeCache -> getProjectParser(project, typeCache).parse(absoluteProjectDir, ctx));
 				
 				return computeWorkspaceEditAwareOfPreview(r, ctx, sources, progressTask, askForPreview)
 					.thenCompose(we -> applyEdit(we, progressTask, r.getDisplayName()));
@@ -247,18 +355,47 @@ public class RewriteRecipeRepository {
 		}
 	}
 	
-    private static ProjectParser createRewriteProjectParser(IJavaProject jp, Function<Path, Parser.Input> inputProvider) {
+    private static ProjectParser createRewriteProjectParser(IJavaProject jp, JavaTypeCache typeCache, Function<Path, Parser.Input> inputProvider) {
 		switch (jp.getProjectBuild().getType()) {
     	case ProjectBuild.MAVEN_PROJECT_TYPE:
             MavenParser.Builder mavenParserBuilder = MavenParser.builder().skipDependencyResolution(true);
-    		return new MavenIJavaProjectParser(jp, JavaParser.fromJavaVersion(), inputProvider, mavenParserBuilder);
+            JavaParser.Builder<?, ?> javaParserBuilder = JavaParser.fromJavaVersion();
+            if (typeCache != null) {
+            	javaParserBuilder.typeCache(typeCache);
+            }
+    		return new MavenIJavaProjectParser(jp, javaParserBuilder, inputProvider, mavenParserBuilder);
     	default:
     		throw new IllegalStateException("The project is neither Maven nor Gradle!");
     	}
     }
     
+    /**
+     * @return true if an open document of the project has a content that differs from the file on disk
+     */
+    private boolean hasUnsavedContent(IJavaProject project) {
+    	String projectUri = project.getLocationUri().toASCIIString();
+    	for (TextDocument doc : server.getTextDocumentService().getAll()) {
+    		if (UriUtil.contains(projectUri, doc.getUri())) {
+    			try {
+    				Path file = Paths.get(URI.create(doc.getUri()));
+    				if (!Files.isRegularFile(file) || !doc.get().equals(Files.readString(file))) {
+    					return true;
+    				}
+    			} catch (Exception e) {
+    				log.debug("", e);
+    				return true;
+    			}
+    		}
+    	}
+    	return false;
+    }
+    
     private ProjectParser getProjectParser(IJavaProject jp) {
-    	return createRewriteProjectParser(jp,
+    	return getProjectParser(jp, null);
+    }
+    
+    private ProjectParser getProjectParser(IJavaProject jp, JavaTypeCache typeCache) {
+    	return createRewriteProjectParser(jp, typeCache,
 				pr -> {
 					TextDocument doc = server.getTextDocumentService().getLatestSnapshot(pr.toUri().toASCIIString());
 					if (doc != null) {
@@ -36,7 +36,6 @@ import org.openrewrite.SourceFile;
 import org.openrewrite.config.RecipeIntrospectionException;
 import org.openrewrite.internal.RecipeIntrospectionUtils;
 import org.openrewrite.internal.RecipeLoader;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.marker.Range;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,11 +67,14 @@ public class RewriteRefactorings implements CodeActionResolver, QuickfixHandler
 	private SimpleLanguageServer server;
 
 	private JavaProjectFinder projectFinder;
+	
+	private RewriteLstCache lstCache;
 
-	public RewriteRefactorings(SimpleLanguageServer server, JavaProjectFinder projectFinder, RewriteRecipeRepository recipeRepo) {
+	public RewriteRefactorings(SimpleLanguageServer server, JavaProjectFinder projectFinder, RewriteRecipeRepository recipeRepo, RewriteLstCache lstCache) {
 		this.server = server;
 		this.projectFinder = projectFinder;
 		this.recipeRepo = recipeRepo;
+		this.lstCache = lstCache;
 	}
 
 	@Override
@@ -129,13 +131,11 @@ public class RewriteRefactorings implements CodeActionResolver, QuickfixHandler
 				List<SourceFile> cus = new ArrayList<>();
 				ExecutionContext ctx = ORAstUtils.createDefaultContext();
 				if (projectWide) {
-					JavaParser jp = ORAstUtils.createJavaParserBuilder(project.get()).dependsOn(data.getTypeStubs()).build();
 					List<Input> inputs = ORAstUtils.getParserInputs(server.getTextDocumentService(), project.get());
-					cus.addAll(ORAstUtils.parseInputs(jp, ctx, inputs, null));
+					cus.addAll(lstCache.parse(project.get(), data.getTypeStubs(), inputs, ctx));
 				} else {
-					JavaParser jp = ORAstUtils.createJavaParserBuilder(project.get()).dependsOn(data.getTypeStubs()).build();
 					List<Input> inputs = data.getDocUris().stream().map(URI::create).map(Paths::get).map(p -> ORAstUtils.getParserInput(server.getTextDocumentService(), p)).filter(Objects::nonNull).collect(Collectors.toList());
-					cus.addAll(ORAstUtils.parseInputs(jp, ctx, inputs, null));
+					cus.addAll(lstCache.parse(project.get(), data.getTypeStubs(), inputs, ctx));
 				}
 				return recipeRepo.computeWorkspaceEditAwareOfPreview(r, ctx, cus, progress, projectWide).whenComplete((o, t) -> progress.done());
 			}).exceptionally(t -> {
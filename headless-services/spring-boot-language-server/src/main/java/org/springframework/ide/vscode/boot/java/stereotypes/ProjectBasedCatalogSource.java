@@ -11,18 +11,16 @@
 package org.springframework.ide.vscode.boot.java.stereotypes;
 
 import java.io.File;
-import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.jar.JarFile;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
 
 import org.jmolecules.stereotype.catalog.support.CatalogSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.commons.java.ClasspathResourceManifest;
 import org.springframework.ide.vscode.commons.java.IClasspath;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
 import org.springframework.ide.vscode.commons.protocol.java.Classpath;
@@ -64,18 +62,17 @@ public class ProjectBasedCatalogSource implements CatalogSource {
 				if (Classpath.ENTRY_KIND_BINARY.equals(cpe.getKind()) && !cpe.isTest() && !cpe.isSystem()) {
 					String libPath = cpe.getPath();
 					
-					try (JarFile jarFile = new JarFile(libPath)) {
-						ZipEntry stereotypeEntry = jarFile.getEntry(CatalogSource.DEFAULT_STEREOTYPE_LOCATION);
-						if (stereotypeEntry != null) {
-							URI uri = new URI("jar:" + new File(libPath).toURI().toString() + "!/" + CatalogSource.DEFAULT_STEREOTYPE_LOCATION);
-							result.add(uri.toURL());
-						}
+					File jar = new File(libPath);
+					ClasspathResourceManifest manifest = ClasspathResourceManifest.getInstance();
 
-						ZipEntry groupEntry = jarFile.getEntry(CatalogSource.DEFAULT_GROUP_LOCATION);
-						if (groupEntry != null) {
-							URI uri = new URI("jar:" + new File(libPath).toURI().toString() + "!/" + CatalogSource.DEFAULT_GROUP_LOCATION);
-							result.add(uri.toURL());
-						}
+					URL stereotypes = manifest.getResourceURL(jar, CatalogSource.DEFAULT_STEREOTYPE_LOCATION);
+					if (stereotypes != null) {
+						result.add(stereotypes);
+					}
+
+					URL groups = manifest.getResourceURL(jar, CatalogSource.DEFAULT_GROUP_LOCATION);
+					if (groups != null) {
+						result.add(groups);
 					}
 				}
 			}
@@ -20,10 +20,13 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
@@ -76,6 +79,8 @@ public final class CompilationUnitCache implements DocumentContentProvider {
 	private final SimpleTextDocumentService documentsService;
 
 	private final Cache<URI, CompletableFuture<CompilationUnit>> uriToCu;
+	// content a cached AST got parsed from, known as soon as the parsing starts
+	private final Map<CompletableFuture<CompilationUnit>, AtomicReference<String>> parsedContents = new ConcurrentHashMap<>();
 	private final Cache<URI, Set<URI>> projectToDocs;
 	private final Cache<URI, Tuple2<List<Classpath>, INameEnvironmentWithProgress>> lookupEnvCache;
 	private final Cache<URI, AnnotationHierarchies> annotationHierarchies;
@@ -84,6 +89,7 @@ public final class CompilationUnitCache implements DocumentContentProvider {
 	private CompletableFuture<Void> debounceClassFileChanges = CompletableFuture.completedFuture(null);
 	
 	private final Executor createCuExecutorThreadPool = Executors.newCachedThreadPool();
+	private final AtomicInteger activeRequests = new AtomicInteger();
 
 	public CompilationUnitCache(JavaProjectFinder projectFinder, SimpleTextDocumentService documentsService, FileObserver fileObserver, ProjectObserver projectObserver) {
 		this.projectFinder = projectFinder;
@@ -101,6 +107,7 @@ public final class CompilationUnitCache implements DocumentContentProvider {
 						CompletableFuture<CompilationUnit> future = notification.getValue();
 						
 						if (future != null) {
+							parsedContents.remove(future);
 							if (!future.isCancelled()) {
 								logger.debug("cancel jdt cu cache for: " + uri);
 								future.cancel(true);
@@ -127,7 +134,7 @@ public final class CompilationUnitCache implements DocumentContentProvider {
 		// IMPORTANT ===> these notifications arrive within the lsp message loop, so reactions to them have to be fast
 		// and not be blocked by waiting for anything
 		if (this.documentsService != null) {
-			this.documentsService.onDidChangeContent(doc -> invalidateCuForJavaFile(doc.getDocument().getId().getUri()));
+			this.documentsService.onDidChangeContent(doc -> documentChanged(doc.getDocument()));
 			this.documentsService.onDidClose(doc -> invalidateCuForJavaFile(doc.getId().getUri()));
 		}
 
@@ -215,6 +222,16 @@ public final class CompilationUnitCache implements DocumentContentProvider {
 	public <T> T withCompilationUnit(IJavaProject project, URI uri, Function<CompilationUnit, T> requestor) {
 		logger.debug("CU Cache: work item submitted for doc {}", uri.toASCIIString());
 
+		activeRequests.incrementAndGet();
+		try {
+			return withCompilationUnitInternal(project, uri, requestor);
+		}
+		finally {
+			activeRequests.decrementAndGet();
+		}
+	}
+
+	private <T> T withCompilationUnitInternal(IJavaProject project, URI uri, Function<CompilationUnit, T> requestor) {
 		if (project != null) {
 			try {
 				CompilationUnit cu = null;
@@ -255,9 +272,35 @@ public final class CompilationUnitCache implements DocumentContentProvider {
 		return requestor.apply(null);
 	}
 	
-	private synchronized CompletableFuture<CompilationUnit> requestCU(IJavaProject project, URI uri) {
+	/**
+	 * Parses the document in the background on the given executor, unless the cache already contains
+	 * the AST for it. Requests for the document that arrive in the meantime re-use the result.
+	 * 
+	 * @return future for the AST, the same as the one used for all requests for the document
+	 */
+	public CompletableFuture<CompilationUnit> prefetch(IJavaProject project, URI uri, Executor executor) {
+		return requestCU(project, uri, executor);
+	}
+
+	public synchronized boolean isCached(URI uri) {
+		return uriToCu.getIfPresent(uri) != null;
+	}
+
+	/**
+	 * @return true if there are requests working with or waiting for an AST right now
+	 */
+	public boolean hasActiveRequests() {
+		return activeRequests.get() > 0;
+	}
+
+	private CompletableFuture<CompilationUnit> requestCU(IJavaProject project, URI uri) {
+		return requestCU(project, uri, createCuExecutorThreadPool);
+	}
+
+	private synchronized CompletableFuture<CompilationUnit> requestCU(IJavaProject project, URI uri, Executor executor) {
 		CompletableFuture<CompilationUnit> cuFuture = uriToCu.getIfPresent(uri);
 		if (cuFuture == null) {
+			AtomicReference<String> parsedContent = new AtomicReference<>();
 			cuFuture = CompletableFuture.supplyAsync(() -> {
 				ReadLock lock = environmentCacheLock.readLock();
 				lock.lock();
@@ -267,7 +310,9 @@ public final class CompilationUnitCache implements DocumentContentProvider {
 					Tuple2<List<Classpath>, INameEnvironmentWithProgress> lookupEnvTuple = loadLookupEnvTuple(project);
 					String uriStr = uri.toASCIIString();
 					String unitName = uriStr.substring(uriStr.lastIndexOf("/") + 1); // skip over '/'
-					CompilationUnit cUnit = parse2(fetchContent(uri).toCharArray(), uriStr, unitName, lookupEnvTuple.getT1(), lookupEnvTuple.getT2(),
+					String content = fetchContent(uri);
+					parsedContent.set(content);
+					CompilationUnit cUnit = parse2(content.toCharArray(), uriStr, unitName, lookupEnvTuple.getT1(), lookupEnvTuple.getT2(),
 							annotationHierarchies.get(project.getLocationUri(), AnnotationHierarchies::new));
 					logger.debug("CU Cache: created new AST for {}", uri.toASCIIString());
 					logger.debug("Parsed successfully CU for " + uri);
@@ -279,9 +324,10 @@ public final class CompilationUnitCache implements DocumentContentProvider {
 					logger.debug("Finished parsing CU for {}", uri);
 					lock.unlock();
 				}
-			}, createCuExecutorThreadPool);
+			}, executor);
 			// Cache the future
 			uriToCu.put(uri, cuFuture);
+			parsedContents.put(cuFuture, parsedContent);
 			// If CU future completed exceptionally invalidate the cache entry
 			cuFuture
 				.thenAccept(cu -> {
@@ -383,6 +429,23 @@ public final class CompilationUnitCache implements DocumentContentProvider {
 		}
 	}
 
+	/**
+	 * Opening a document reports its content as a change, keep the AST (e.g. a prefetched one) if it got parsed
+	 * from the same content
+	 */
+	private synchronized void documentChanged(TextDocument document) {
+		URI uri = URI.create(document.getId().getUri());
+		CompletableFuture<CompilationUnit> cuFuture = uriToCu.getIfPresent(uri);
+		if (cuFuture != null) {
+			AtomicReference<String> parsedContent = parsedContents.get(cuFuture);
+			if (parsedContent != null && document.get().equals(parsedContent.get())) {
+				logger.debug("Keep AST for {}, content unchanged", uri);
+				return;
+			}
+		}
+		invalidateCuForJavaFile(document.getId().getUri());
+	}
+
 	private synchronized void invalidateCuForJavaFile(String uriStr) {
 		logger.debug("Invalidate AST for {}", uriStr);
 
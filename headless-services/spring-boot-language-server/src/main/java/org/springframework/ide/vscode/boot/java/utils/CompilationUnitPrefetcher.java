@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.utils;
+
+import java.io.File;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
+import org.springframework.ide.vscode.commons.java.IClasspathUtil;
+import org.springframework.ide.vscode.commons.java.IJavaProject;
+import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
+import org.springframework.ide.vscode.commons.languageserver.util.SimpleTextDocumentService;
+import org.springframework.ide.vscode.commons.protocol.spring.Bean;
+import org.springframework.ide.vscode.commons.protocol.spring.InjectionPoint;
+import org.springframework.ide.vscode.commons.util.UriUtil;
+import org.springframework.ide.vscode.commons.util.text.LanguageId;
+import org.springframework.ide.vscode.commons.util.text.TextDocument;
+
+/**
+ * Parses the Java documents that are likely to be opened next in the background, so that the first requests
+ * for those documents find the AST in the {@link CompilationUnitCache} already.
+ * <p>
+ * When a Java document gets opened, the documents declaring the beans that are injected into the beans of the
+ * document are prefetched first, then the source files of the types imported by the document, then recently
+ * closed documents of the same project. Prefetching happens on a single low priority thread, one document after
+ * the other, and pauses as long as there are real requests working with ASTs. Opening another document cancels
+ * the remaining prefetching for the previous one.
+ * <p>
+ * No additional document is prefetched when the heap usage is above the configured threshold or when the max number
+ * of prefetched documents is still in the cache.
+ *
+ * @author Martin Lippert
+ */
+public class CompilationUnitPrefetcher {
+
+	private static final Logger log = LoggerFactory.getLogger(CompilationUnitPrefetcher.class);
+
+	private static final Pattern IMPORT = Pattern.compile("^\\s*import\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+
+	private static final int MAX_RECENTLY_CLOSED = 10;
+	private static final long ACTIVE_REQUESTS_RETRY_MILLIS = 200;
+
+	private final CompilationUnitCache cuCache;
+	private final JavaProjectFinder projectFinder;
+	private final SimpleTextDocumentService documents;
+	private final SpringMetamodelIndex springIndex;
+
+	private final int maxDocuments;
+	private final double memoryThreshold;
+	private final DoubleSupplier heapUsage;
+
+	private final ExecutorService executor;
+	private final AtomicLong generation = new AtomicLong();
+	private final Set<URI> prefetched = ConcurrentHashMap.newKeySet();
+	private final LinkedHashSet<String> recentlyClosed = new LinkedHashSet<>();
+
+	public CompilationUnitPrefetcher(CompilationUnitCache cuCache, JavaProjectFinder projectFinder, SimpleTextDocumentService documents,
+			SpringMetamodelIndex springIndex, int maxDocuments, double memoryThreshold) {
+		this(cuCache, projectFinder, documents, springIndex, maxDocuments, memoryThreshold, CompilationUnitPrefetcher::currentHeapUsage);
+	}
+
+	public CompilationUnitPrefetcher(CompilationUnitCache cuCache, JavaProjectFinder projectFinder, SimpleTextDocumentService documents,
+			SpringMetamodelIndex springIndex, int maxDocuments, double memoryThreshold, DoubleSupplier heapUsage) {
+		this.cuCache = cuCache;
+		this.projectFinder = projectFinder;
+		this.documents = documents;
+		this.springIndex = springIndex;
+		this.maxDocuments = maxDocuments;
+		this.memoryThreshold = memoryThreshold;
+		this.heapUsage = heapUsage;
+
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "compilation-unit-prefetcher");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			return thread;
+		});
+
+		// IMPORTANT ===> these notifications arrive within the lsp message loop, so reactions to them have to be fast
+		if (maxDocuments > 0) {
+			documents.onDidOpen(this::documentOpened);
+			documents.onDidClose(this::documentClosed);
+		}
+	}
+
+	public void shutdown() {
+		generation.incrementAndGet();
+		executor.shutdownNow();
+	}
+
+	/**
+	 * @return the fully qualified names of the types imported by the given Java source, without static and on-demand imports
+	 */
+	public static List<String> getImportedTypes(String source) {
+		List<String> result = new ArrayList<>();
+
+		Matcher matcher = IMPORT.matcher(source);
+		while (matcher.find()) {
+			result.add(matcher.group(1));
+		}
+		return result;
+	}
+
+	private void documentOpened(TextDocument doc) {
+		if (doc.getLanguageId() != LanguageId.JAVA) {
+			return;
+		}
+
+		synchronized (recentlyClosed) {
+			recentlyClosed.remove(doc.getUri());
+		}
+
+		long currentGeneration = generation.incrementAndGet();
+		submit(() -> startPrefetching(doc.getUri(), currentGeneration));
+	}
+
+	private void documentClosed(TextDocument doc) {
+		if (doc.getLanguageId() != LanguageId.JAVA) {
+			return;
+		}
+
+		synchronized (recentlyClosed) {
+			recentlyClosed.remove(doc.getUri());
+			recentlyClosed.add(doc.getUri());
+
+			if (recentlyClosed.size() > MAX_RECENTLY_CLOSED) {
+				recentlyClosed.remove(recentlyClosed.iterator().next());
+			}
+		}
+	}
+
+	private void startPrefetching(String docURI, long currentGeneration) {
+		if (currentGeneration != generation.get()) {
+			return;
+		}
+
+		TextDocument doc = documents.getLatestSnapshot(docURI);
+		IJavaProject project = doc != null ? projectFinder.find(new TextDocumentIdentifier(docURI)).orElse(null) : null;
+		if (project == null) {
+			return;
+		}
+
+		try {
+			Set<URI> candidates = getCandidates(project, docURI, doc.get());
+			log.debug("prefetch candidates for {}: {}", docURI, candidates);
+
+			prefetchNext(project, candidates.iterator(), currentGeneration);
+		}
+		catch (Exception e) {
+			log.error("", e);
+		}
+	}
+
+	private Set<URI> getCandidates(IJavaProject project, String docURI, String content) {
+		Set<URI> candidates = new LinkedHashSet<>();
+
+		// documents that declare the beans injected into the beans of this document
+		for (Bean bean : springIndex.getBeansOfDocument(docURI)) {
+			for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+				for (Bean injectedBean : springIndex.getMatchingBeans(project.getElementName(), injectionPoint.getType())) {
+					if (injectedBean.getLocation() != null) {
+						candidates.add(URI.create(injectedBean.getLocation().getUri()));
+					}
+				}
+			}
+		}
+
+		// source files of imported types
+		List<File> sourceFolders = IClasspathUtil.getProjectJavaSourceFolders(project.getClasspath()).toList();
+		for (String importedType : getImportedTypes(content)) {
+			String relativePath = importedType.replace('.', '/') + ".java";
+			for (File sourceFolder : sourceFolders) {
+				File sourceFile = new File(sourceFolder, relativePath);
+				if (sourceFile.isFile()) {
+					candidates.add(UriUtil.toUri(sourceFile));
+					break;
+				}
+			}
+		}
+
+		// recently closed documents of the same project, the last closed one first
+		String projectURI = project.getLocationUri().toASCIIString();
+		List<String> recent;
+		synchronized (recentlyClosed) {
+			recent = new ArrayList<>(recentlyClosed);
+		}
+		for (int i = recent.size() - 1; i >= 0; i--) {
+			if (UriUtil.contains(projectURI, recent.get(i))) {
+				candidates.add(URI.create(recent.get(i)));
+			}
+		}
+
+		candidates.remove(URI.create(docURI));
+		return candidates;
+	}
+
+	private void prefetchNext(IJavaProject project, Iterator<URI> candidates, long currentGeneration) {
+		if (currentGeneration != generation.get()) {
+			return;
+		}
+
+		// real requests go first, wait until they are done
+		if (cuCache.hasActiveRequests()) {
+			CompletableFuture.delayedExecutor(ACTIVE_REQUESTS_RETRY_MILLIS, TimeUnit.MILLISECONDS)
+				.execute(() -> submit(() -> prefetchNext(project, candidates, currentGeneration)));
+			return;
+		}
+
+		while (candidates.hasNext()) {
+			URI uri = candidates.next();
+
+			// open documents get requested anyway, once the client needs them
+			if (cuCache.isCached(uri) || documents.getLatestSnapshot(uri.toASCIIString()) != null) {
+				continue;
+			}
+
+			if (!isWithinBudget()) {
+				log.debug("prefetch budget exhausted, skipping remaining candidates");
+				return;
+			}
+
+			log.debug("prefetching AST for {}", uri);
+			prefetched.add(uri);
+
+			// the parse runs on the prefetcher thread as well, continue with the next candidate when it is done
+			try {
+				cuCache.prefetch(project, uri, executor)
+					.whenComplete((cu, error) -> submit(() -> prefetchNext(project, candidates, currentGeneration)));
+			}
+			catch (RejectedExecutionException e) {
+				// shut down
+			}
+			return;
+		}
+	}
+
+	private boolean isWithinBudget() {
+		prefetched.removeIf(uri -> !cuCache.isCached(uri));
+		return prefetched.size() < maxDocuments && heapUsage.getAsDouble() < memoryThreshold;
+	}
+
+	private void submit(Runnable task) {
+		try {
+			executor.execute(task);
+		}
+		catch (RejectedExecutionException e) {
+			// shut down
+		}
+	}
+
+	private static double currentHeapUsage() {
+		Runtime runtime = Runtime.getRuntime();
+		return (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+	}
+
+}
@@ -46,6 +46,7 @@ import org.springframework.ide.vscode.boot.java.handlers.SpringComponentIndexer;
 import org.springframework.ide.vscode.boot.java.reconcilers.CachedDiagnostic;
 import org.springframework.ide.vscode.boot.java.reconcilers.JdtReconciler;
 import org.springframework.ide.vscode.boot.java.reconcilers.ReconcilingIndex;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteCache;
 import org.springframework.ide.vscode.commons.java.IClasspath;
 import org.springframework.ide.vscode.commons.java.IClasspathUtil;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
@@ -86,6 +87,7 @@ public class SpringIndexerJava implements SpringIndexer {
 	private final JavaProjectFinder projectFinder;
 	private final ProgressService progressService;
 	private final CompilationUnitCache cuCache;
+	private final WebFnRouteCache routeCache;
 	
 	private boolean scanTestJavaSources = false;
 	private int scanChunkSize = 1000;
@@ -100,7 +102,7 @@ public class SpringIndexerJava implements SpringIndexer {
 	public SpringIndexerJava(SymbolHandler symbolHandler, SpringComponentIndexer[] componentIndexers, IndexCache cache,
 			JavaProjectFinder projectFinder, ProgressService progressService, JdtReconciler jdtReconciler,
 			BiFunction<TextDocument, BiConsumer<String, Diagnostic>, IProblemCollector> problemCollectorCreator,
-			JsonObject validationSeveritySettings, CompilationUnitCache cuCache) {
+			JsonObject validationSeveritySettings, CompilationUnitCache cuCache, WebFnRouteCache routeCache) {
 		
 		this.symbolHandler = symbolHandler;
 		this.cacheHelper = new SpringIndexerJavaCacheHelper(cache, GENERATION, validationSeveritySettings);
@@ -111,6 +113,7 @@ public class SpringIndexerJava implements SpringIndexer {
 		
 		this.problemCollectorCreator = problemCollectorCreator;
 		this.cuCache = cuCache;
+		this.routeCache = routeCache;
 		this.astScanner = new SpringIndexerJavaAstScanner(componentIndexers, dependencyTracker,
 				reconcileService::reconcileAfterScan);
 	}
@@ -133,6 +136,7 @@ public class SpringIndexerJava implements SpringIndexer {
 	@Override
 	public void initializeProject(IJavaProject project, boolean clean) throws Exception {
 		cacheHelper.evictStaleKeys(project);
+		routeCache.removeProject(project.getElementName());
 
 		String[] files = this.getFiles(project);
 
@@ -149,6 +153,7 @@ public class SpringIndexerJava implements SpringIndexer {
 	public void removeProject(IJavaProject project) throws Exception {
 		cacheHelper.removeProjectCaches(project);
 		this.dependencyTracker.removeProject(project);
+		routeCache.removeProject(project.getElementName());
 	}
 
 	@Override
@@ -215,6 +220,10 @@ public class SpringIndexerJava implements SpringIndexer {
 
 		cacheHelper.removeFilesFromCaches(project, files);
 		dependencyTracker.removeFiles(project, files);
+
+		for (String docURI : docURIs) {
+			routeCache.removeDocument(project.getElementName(), docURI);
+		}
 	}
 	
 	/**
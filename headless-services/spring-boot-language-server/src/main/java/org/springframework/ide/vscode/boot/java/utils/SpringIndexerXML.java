@@ -37,6 +37,7 @@ import org.springframework.ide.vscode.boot.index.SpringIndexToSymbolsConverter;
 import org.springframework.ide.vscode.boot.index.cache.IndexCache;
 import org.springframework.ide.vscode.boot.index.cache.IndexCacheKey;
 import org.springframework.ide.vscode.boot.java.beans.CachedIndexElement;
+import org.springframework.ide.vscode.boot.xml.XMLDocumentCache;
 import org.springframework.ide.vscode.commons.java.IClasspath;
 import org.springframework.ide.vscode.commons.java.IClasspathUtil;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
@@ -62,15 +63,17 @@ public class SpringIndexerXML implements SpringIndexer {
 	private final Map<String, SpringIndexerXMLNamespaceHandler> namespaceHandler;
 	private final IndexCache cache;
 	private final JavaProjectFinder projectFinder;
+	private final XMLDocumentCache documentCache;
 	
 	private String[] scanFolders = new String[0];
 
 	public SpringIndexerXML(SymbolHandler handler, Map<String, SpringIndexerXMLNamespaceHandler> namespaceHandler,
-			IndexCache cache, JavaProjectFinder projectFinder) {
+			IndexCache cache, JavaProjectFinder projectFinder, XMLDocumentCache documentCache) {
 		this.symbolHandler = handler;
 		this.namespaceHandler = namespaceHandler;
 		this.cache = cache;
 		this.projectFinder = projectFinder;
+		this.documentCache = documentCache;
 	}
 
 	public boolean updateScanFolders(String[] scanFoldes) {
@@ -159,7 +162,7 @@ public class SpringIndexerXML implements SpringIndexer {
 
 		String docURI = updatedDoc.getDocURI();
 
-		scanFile(project, content, docURI, updatedDoc.getLastModified(), generatedIndexElements);
+		scanFileCached(project, content, docURI, updatedDoc.getLastModified(), generatedIndexElements);
 
 		IndexCacheKey indexCacheKey = getCacheKey(project, INDEX_KEY);
 
@@ -213,7 +216,7 @@ public class SpringIndexerXML implements SpringIndexer {
 		if (content != null) {
 	        List<CachedIndexElement> generatedIndexElements = new ArrayList<>();
 
-	        scanFile(project, content, docURI, 0, generatedIndexElements);
+	        scanFileCached(project, content, docURI, 0, generatedIndexElements);
 	        
 	        return SpringIndexToSymbolsConverter.createDocumentSymbols(generatedIndexElements.stream().map(cachedIndexElement -> cachedIndexElement.getIndexElement()).toList());
 		}
@@ -243,6 +246,28 @@ public class SpringIndexerXML implements SpringIndexer {
 		DOMParser parser = DOMParser.getInstance();
 		DOMDocument document = parser.parse(fileContent, "", null);
 
+		scanFile(project, document, fileContent, docURI, lastModified, generatedIndexElements);
+	}
+
+	/**
+	 * the content of opened documents is parsed via the document cache, since other features (reconciling,
+	 * content-assist, hyperlinks) work on the same DOM, files read from disk are parsed without the cache
+	 */
+	private void scanFileCached(IJavaProject project, String fileContent, String docURI, long lastModified,
+			List<CachedIndexElement> generatedIndexElements) throws Exception {
+		if (documentCache != null) {
+			documentCache.getDocument(docURI, fileContent).withDom(document -> {
+				scanFile(project, document, fileContent, docURI, lastModified, generatedIndexElements);
+				return null;
+			});
+		}
+		else {
+			scanFile(project, fileContent, docURI, lastModified, generatedIndexElements);
+		}
+	}
+
+	private void scanFile(IJavaProject project, DOMDocument document, String fileContent, String docURI, long lastModified,
+			List<CachedIndexElement> generatedIndexElements) throws Exception {
 		TextDocument doc = DocumentUtils.createTempTextDocument(docURI, fileContent);
 		scanNode(document, project, docURI, lastModified, doc, fileContent, generatedIndexElements);
 	}
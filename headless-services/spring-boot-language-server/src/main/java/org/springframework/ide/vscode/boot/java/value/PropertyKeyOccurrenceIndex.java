@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.value;
+
+import static org.springframework.ide.vscode.commons.yaml.ast.NodeUtil.asScalar;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.boot.properties.BootPropertiesLanguageServerComponents;
+import org.springframework.ide.vscode.commons.java.IClasspathUtil;
+import org.springframework.ide.vscode.commons.java.IJavaProject;
+import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
+import org.springframework.ide.vscode.commons.languageserver.java.ProjectObserver;
+import org.springframework.ide.vscode.commons.util.FileObserver;
+import org.springframework.ide.vscode.commons.util.text.TextDocument;
+import org.springframework.ide.vscode.commons.yaml.ast.NodeUtil;
+import org.springframework.ide.vscode.commons.yaml.ast.YamlFileAST;
+import org.springframework.ide.vscode.commons.yaml.ast.YamlParser;
+import org.springframework.ide.vscode.java.properties.antlr.parser.AntlrParser;
+import org.springframework.ide.vscode.java.properties.parser.ParseResults;
+import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.KeyValuePair;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+
+/**
+ * Index of the property keys that occur in the <code>*application*.properties</code> and
+ * <code>*application*.yml</code> files within the source folders of the projects, see
+ * {@link ValuePropertyReferencesProvider#isPropertiesFile(Path)}.
+ *
+ * Like the lookup of a property key in a single YAML file, only the first occurrence of a key
+ * within a YAML document is recorded (a key can show up more than once, e.g. as nested and as
+ * dotted key, or via an alias), the occurrences of all documents of a file are recorded.
+ *
+ * The files of a project are scanned when the project is queried for the first time, afterwards
+ * the index gets updated per file when the file observer reports changes to those files. Project
+ * changes (e.g. a changed classpath with different source folders) let the project get scanned
+ * again on the next query.
+ *
+ * The scan of a project happens outside of the index map, concurrent queries for the same project
+ * wait for the scan that is already running instead of starting another one.
+ *
+ * @author Martin Lippert
+ */
+public class PropertyKeyOccurrenceIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(PropertyKeyOccurrenceIndex.class);
+
+	private final JavaProjectFinder projectFinder;
+
+	// project location URI -> (future of) doc URI -> property key -> occurrences
+	private final ConcurrentMap<String, CompletableFuture<ConcurrentMap<String, Map<String, List<PropertyKeyOccurrence>>>>> index;
+
+	public PropertyKeyOccurrenceIndex(JavaProjectFinder projectFinder, ProjectObserver projectObserver, FileObserver fileObserver) {
+		this.projectFinder = projectFinder;
+		this.index = new ConcurrentHashMap<>();
+
+		if (projectObserver != null) {
+			projectObserver.addListener(ProjectObserver.onAny(project -> index.remove(getProjectKey(project))));
+		}
+
+		if (fileObserver != null) {
+			fileObserver.onAnyChange(ValuePropertyReferencesProvider.PROPERTIES_FILE_GLOBS, changed -> {
+				for (String docURI : changed) {
+					updateFile(docURI);
+				}
+			});
+		}
+	}
+
+	public List<PropertyKeyOccurrence> findOccurrences(String propertyKey) {
+		List<PropertyKeyOccurrence> result = new ArrayList<>();
+		for (IJavaProject project : projectFinder.all()) {
+			result.addAll(findOccurrences(project, propertyKey));
+		}
+		return result;
+	}
+
+	public List<PropertyKeyOccurrence> findOccurrences(IJavaProject project, String propertyKey) {
+		List<PropertyKeyOccurrence> result = new ArrayList<>();
+		for (Map<String, List<PropertyKeyOccurrence>> fileOccurrences : getProjectIndex(project).values()) {
+			List<PropertyKeyOccurrence> occurrences = fileOccurrences.get(propertyKey);
+			if (occurrences != null) {
+				result.addAll(occurrences);
+			}
+		}
+		return result;
+	}
+
+	private ConcurrentMap<String, Map<String, List<PropertyKeyOccurrence>>> getProjectIndex(IJavaProject project) {
+		String projectKey = getProjectKey(project);
+
+		CompletableFuture<ConcurrentMap<String, Map<String, List<PropertyKeyOccurrence>>>> projectIndex = index.get(projectKey);
+		if (projectIndex == null) {
+			CompletableFuture<ConcurrentMap<String, Map<String, List<PropertyKeyOccurrence>>>> scan = new CompletableFuture<>();
+			projectIndex = index.putIfAbsent(projectKey, scan);
+
+			if (projectIndex == null) {
+				projectIndex = scan;
+				try {
+					scan.complete(scanProject(project));
+				}
+				catch (Throwable t) {
+					index.remove(projectKey, scan);
+					scan.completeExceptionally(t);
+				}
+			}
+		}
+
+		return projectIndex.join();
+	}
+
+	private ConcurrentMap<String, Map<String, List<PropertyKeyOccurrence>>> scanProject(IJavaProject project) {
+		ConcurrentMap<String, Map<String, List<PropertyKeyOccurrence>>> projectIndex = new ConcurrentHashMap<>();
+
+		IClasspathUtil.getSourceFolders(project.getClasspath())
+			.filter(File::isDirectory)
+			.forEach(sourceFolder -> {
+				try (Stream<Path> walk = Files.walk(sourceFolder.toPath())) {
+					walk
+						.filter(path -> ValuePropertyReferencesProvider.isPropertiesFile(path))
+						.filter(path -> path.toFile().isFile())
+						.forEach(path -> projectIndex.put(path.toUri().toASCIIString(), parseFile(path.toFile())));
+				}
+				catch (Exception e) {
+					log.error("error scanning property files in: " + sourceFolder, e);
+				}
+			});
+
+		return projectIndex;
+	}
+
+	private void updateFile(String docURI) {
+		try {
+			projectFinder.find(new TextDocumentIdentifier(docURI)).ifPresent(project -> {
+				CompletableFuture<ConcurrentMap<String, Map<String, List<PropertyKeyOccurrence>>>> projectIndex = index.get(getProjectKey(project));
+
+				// projects that haven't been queried yet get scanned completely on the first query anyway,
+				// a scan that is still running might have missed the change, so apply it once the scan is done
+				if (projectIndex != null) {
+					projectIndex.thenAccept(occurrences -> updateFile(project, occurrences, docURI));
+				}
+			});
+		}
+		catch (Exception e) {
+			log.error("error updating property key index for: " + docURI, e);
+		}
+	}
+
+	private void updateFile(IJavaProject project, ConcurrentMap<String, Map<String, List<PropertyKeyOccurrence>>> projectIndex, String docURI) {
+		try {
+			Path path = Paths.get(URI.create(docURI));
+			String normalizedURI = path.toUri().toASCIIString();
+
+			if (path.toFile().isFile() && ValuePropertyReferencesProvider.isPropertiesFile(path) && isInSourceFolder(project, path)) {
+				projectIndex.put(normalizedURI, parseFile(path.toFile()));
+			}
+			else {
+				projectIndex.remove(normalizedURI);
+			}
+		}
+		catch (Exception e) {
+			log.error("error updating property key index for: " + docURI, e);
+		}
+	}
+
+	private boolean isInSourceFolder(IJavaProject project, Path path) {
+		return IClasspathUtil.getSourceFolders(project.getClasspath())
+				.anyMatch(sourceFolder -> path.startsWith(sourceFolder.toPath()));
+	}
+
+	private static String getProjectKey(IJavaProject project) {
+		return project.getLocationUri().toASCIIString();
+	}
+
+	static Map<String, List<PropertyKeyOccurrence>> parseFile(File file) {
+		Map<String, List<PropertyKeyOccurrence>> result = new HashMap<>();
+
+		String fileName = file.getName();
+		try {
+			String fileContent = FileUtils.readFileToString(file, Charset.defaultCharset());
+			TextDocument doc = new TextDocument(file.toPath().toUri().toASCIIString(), null);
+			doc.setText(fileContent);
+
+			if (fileName.endsWith(BootPropertiesLanguageServerComponents.PROPERTIES)) {
+				parseProperties(doc, result);
+			}
+			else {
+				parseYaml(doc, result);
+			}
+		}
+		catch (Exception e) {
+			log.error("error parsing property file: " + file, e);
+		}
+
+		return result;
+	}
+
+	private static void parseProperties(TextDocument doc, Map<String, List<PropertyKeyOccurrence>> result) throws Exception {
+		ParseResults parseResults = new AntlrParser().parse(doc.get());
+		if (parseResults == null || parseResults.ast == null) {
+			return;
+		}
+
+		for (KeyValuePair pair : parseResults.ast.getPropertyValuePairs()) {
+			if (pair.getKey() != null) {
+				Range keyRange = doc.toRange(pair.getKey().getOffset(), pair.getKey().getLength());
+				Range valueRange = pair.getValue() != null ? doc.toRange(pair.getValue().getOffset(), pair.getValue().getLength()) : new Range(keyRange.getEnd(), keyRange.getEnd());
+				Range entryRange = doc.toRange(pair.getOffset(), pair.getLength());
+
+				add(result, pair.getKey().decode(), new PropertyKeyOccurrence(doc.getUri(), keyRange, valueRange, entryRange));
+			}
+		}
+	}
+
+	private static void parseYaml(TextDocument doc, Map<String, List<PropertyKeyOccurrence>> result) throws Exception {
+		YamlFileAST ast = new YamlParser().getAST(doc);
+		List<Node> nodes = ast.getNodes();
+		if (nodes != null) {
+			for (Node node : nodes) {
+				Map<String, PropertyKeyOccurrence> documentResult = new HashMap<>();
+				collectYamlKeys(doc.getUri(), node, "", documentResult, NodeUtil.newIdentitySet());
+				documentResult.forEach((key, occurrence) -> add(result, key, occurrence));
+			}
+		}
+	}
+
+	/**
+	 * Records the first occurrence of every key, in the same depth-first order in which the lookup of a single key
+	 * finds it. A YAML anchor/alias can make 'node' its own descendant, so 'onPath' tracks the nodes (by identity)
+	 * on the current descent to not end up in an endless recursion
+	 */
+	private static void collectYamlKeys(String docURI, Node node, String prefix, Map<String, PropertyKeyOccurrence> result, Set<Node> onPath) {
+		if (node.getNodeId().equals(NodeId.mapping) && onPath.add(node)) {
+			try {
+				for (NodeTuple entry : ((MappingNode) node).getValue()) {
+					String key = asScalar(entry.getKeyNode());
+					if (key == null) {
+						continue;
+					}
+
+					String combinedKey = prefix.length() > 0 ? prefix + "." + key : key;
+
+					Node keyNode = entry.getKeyNode();
+					Node valueNode = entry.getValueNode();
+					Position keyStart = new Position(keyNode.getStartMark().getLine(), keyNode.getStartMark().getColumn());
+					Position keyEnd = new Position(keyNode.getEndMark().getLine(), keyNode.getEndMark().getColumn());
+					Position valueStart = new Position(valueNode.getStartMark().getLine(), valueNode.getStartMark().getColumn());
+					Position valueEnd = new Position(valueNode.getEndMark().getLine(), valueNode.getEndMark().getColumn());
+
+					result.putIfAbsent(combinedKey, new PropertyKeyOccurrence(docURI, new Range(keyStart, keyEnd), new Range(valueStart, valueEnd), new Range(keyStart, valueEnd)));
+
+					collectYamlKeys(docURI, valueNode, combinedKey, result, onPath);
+				}
+			}
+			finally {
+				onPath.remove(node);
+			}
+		}
+	}
+
+	private static void add(Map<String, List<PropertyKeyOccurrence>> result, String key, PropertyKeyOccurrence occurrence) {
+		result.computeIfAbsent(key, k -> new ArrayList<>(1)).add(occurrence);
+	}
+
+	/**
+	 * @param docURI the URI of the properties or YAML file
+	 * @param keyRange the range of the property key
+	 * @param valueRange the range of the property value
+	 * @param entryRange the range of the complete entry, from the start of the key to the end of the value
+	 */
+	public static record PropertyKeyOccurrence(String docURI, Range keyRange, Range valueRange, Range entryRange) {
+
+		public Location getKeyLocation() {
+			return new Location(docURI, keyRange);
+		}
+
+		public Location getValueLocation() {
+			return new Location(docURI, valueRange);
+		}
+	}
+
+}
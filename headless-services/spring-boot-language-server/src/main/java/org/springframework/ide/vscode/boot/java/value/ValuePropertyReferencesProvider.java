@@ -16,10 +16,8 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -28,7 +26,6 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -36,18 +33,15 @@ import org.eclipse.jdt.core.dom.Annotation;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.StringLiteral;
 import org.eclipse.lsp4j.Location;
-import org.eclipse.lsp4j.Position;
-import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
 import org.springframework.ide.vscode.boot.java.Annotations;
 import org.springframework.ide.vscode.boot.java.handlers.ReferenceProvider;
+import org.springframework.ide.vscode.boot.java.value.PropertyKeyOccurrenceIndex.PropertyKeyOccurrence;
 import org.springframework.ide.vscode.boot.properties.BootPropertiesLanguageServerComponents;
-import org.springframework.ide.vscode.commons.java.IClasspathUtil;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
-import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
 import org.springframework.ide.vscode.commons.protocol.spring.AnnotationAttributeValue;
 import org.springframework.ide.vscode.commons.protocol.spring.AnnotationMetadata;
 import org.springframework.ide.vscode.commons.protocol.spring.Bean;
@@ -73,13 +67,13 @@ public class ValuePropertyReferencesProvider implements ReferenceProvider {
 	
 	private static final Logger log = LoggerFactory.getLogger(ValuePropertyReferencesProvider.class);
 
-	private final JavaProjectFinder projectFinder;
 	private final PropertyExtractor propertyExtractor;
 	private final SpringMetamodelIndex springIndex;
+	private final PropertyKeyOccurrenceIndex propertyKeyIndex;
 
-	public ValuePropertyReferencesProvider(JavaProjectFinder projectFinder, SpringMetamodelIndex springIndex) {
-		this.projectFinder = projectFinder;
+	public ValuePropertyReferencesProvider(SpringMetamodelIndex springIndex, PropertyKeyOccurrenceIndex propertyKeyIndex) {
 		this.springIndex = springIndex;
+		this.propertyKeyIndex = propertyKeyIndex;
 		this.propertyExtractor = new PropertyExtractor();
 	}
 
@@ -222,30 +216,25 @@ public class ValuePropertyReferencesProvider implements ReferenceProvider {
 	}
 
 	public List<? extends Location> findReferencesFromPropertyFiles(String propertyKey) {
-		Collection<? extends IJavaProject> allProjects = this.projectFinder.all();
-		
 		try {
-			return allProjects
-				.stream()
-				.flatMap(project -> IClasspathUtil.getSourceFolders(project.getClasspath()))
-				.flatMap(sourceFolder -> {
-					try {
-						return Files.walk(sourceFolder.toPath());
-					} catch (IOException e) {
-						return Stream.empty();
-					}
-				})
-				.filter(path -> ValuePropertyReferencesProvider.isPropertiesFile(path))
-				.filter(path -> path.toFile().isFile())
-				.map(path -> findReferences(path, propertyKey))
-				.flatMap(Collection::stream)
-				.collect(Collectors.toList());
+			return propertyKeyIndex.findOccurrences(propertyKey).stream()
+					.map(PropertyKeyOccurrence::getKeyLocation)
+					.collect(Collectors.toList());
 		}
 		catch (Exception e) {
+			log.error("error finding references for property key in property files", e);
 			return Collections.emptyList();
 		}
 	}
 
+	/**
+	 * Globs for the file observer, matching the same files as {@link #isPropertiesFile(Path)}
+	 */
+	public static final List<String> PROPERTIES_FILE_GLOBS = List.of(
+			"**/*application*" + BootPropertiesLanguageServerComponents.PROPERTIES,
+			"**/*application*" + BootPropertiesLanguageServerComponents.YML[0],
+			"**/*application*" + BootPropertiesLanguageServerComponents.YML[1]);
+
 	public static boolean isPropertiesFile(Path path) {
 		String fileName = path.getFileName().toString();
 
@@ -261,40 +250,6 @@ public class ValuePropertyReferencesProvider implements ReferenceProvider {
 		return false;
 	}
 
-	public List<Location> findReferences(Path path, String propertyKey) {
-		String filePath = path.toString();
-		if (filePath.endsWith(BootPropertiesLanguageServerComponents.PROPERTIES)) {
-			return findReferencesInPropertiesFile(path.toFile(), propertyKey);
-		} else {
-			for (String yml : BootPropertiesLanguageServerComponents.YML) {
-				if (filePath.endsWith(yml)) {
-					return findReferencesInYMLFile(path.toFile(), propertyKey);
-				}
-			}
-		}
-		return new ArrayList<Location>();
-	}
-
-	private List<Location> findReferencesInYMLFile(File file, String propertyKey) {
-		
-		return findReferencesInYMLFile(file, propertyKey, foundNodeTuple -> {
-			Position start = new Position();
-			Node foundNode = foundNodeTuple.getKeyNode();
-			start.setLine(foundNode.getStartMark().getLine());
-			start.setCharacter(foundNode.getStartMark().getColumn());
-
-			Position end = new Position();
-			end.setLine(foundNode.getEndMark().getLine());
-			end.setCharacter(foundNode.getEndMark().getColumn());
-
-			Range range = new Range();
-			range.setStart(start);
-			range.setEnd(end);
-
-			return Optional.of(new Location(file.toPath().toUri().toASCIIString(), range));
-		});
-	}
-
 	static List<Location> findReferencesInYMLFile(File file, String propertyKey, Function<NodeTuple, Optional<Location>> processor) {
 		List<Location> foundLocations = new ArrayList<>();
 
@@ -368,34 +323,6 @@ public class ValuePropertyReferencesProvider implements ReferenceProvider {
 		return null;
 	}
 
-	private List<Location> findReferencesInPropertiesFile(File file, String propertyKey) {
-		
-		return findReferencesInPropertiesFile(file, propertyKey, (pair, doc) -> {
-			try {
-				int line = doc.getLineOfOffset(pair.getKey().getOffset());
-				int startInLine = pair.getKey().getOffset() - doc.getLineOffset(line);
-				int endInLine = startInLine + (pair.getKey().getLength());
-	
-				Position start = new Position();
-				start.setLine(line);
-				start.setCharacter(startInLine);
-	
-				Position end = new Position();
-				end.setLine(line);
-				end.setCharacter(endInLine);
-	
-				Range range = new Range();
-				range.setStart(start);
-				range.setEnd(end);
-	
-				return Optional.of(new Location(file.toPath().toUri().toASCIIString(), range));
-			} catch (Exception e) {
-				log.error("", e);
-				return Optional.empty();
-			}
-		});
-	}
-	
 	static List<Location> findReferencesInPropertiesFile(File file, String propertyKey, BiFunction<KeyValuePair, TextDocument, Optional<Location>> processor) {
 		List<Location> foundLocations = new ArrayList<>();
 		try {
@@ -20,15 +20,23 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.lsp4j.InitializeParams;
 import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceFolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ide.vscode.commons.java.AbstractJavaProject;
@@ -48,6 +56,8 @@ import org.springframework.ide.vscode.commons.util.FileObserver;
 import org.springframework.ide.vscode.commons.util.UriUtil;
 
 import com.google.common.collect.ImmutableList;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 
@@ -60,9 +70,12 @@ public class JdtLsProjectCache implements InitializableJavaProjectsService, Serv
 	private static final Logger log = LoggerFactory.getLogger(JdtLsProjectCache.class);
 
 	private static final String CMD_SPRING_BOOT_ENABLE_CLASSPATH_LISTENING = "sts.vscode-spring-boot.enableClasspathListening";
+	private static final String CMD_SPRING_BOOT_JAVA_PROJECTS_IMPORTED = "sts.vscode-spring-boot.javaProjectsImported";
 	private static final String VSCODE_JAVA_INTERNAL_PROJECT_NAME = "jdt.ls-java-project";
 	
 	private static final Duration INITIALIZE_TIMEOUT = Duration.ofSeconds(10);
+	private static final Duration SNAPSHOT_PERSIST_INTERVAL = Duration.ofMinutes(1);
+	private static final Duration SNAPSHOT_RECONCILE_QUIET_PERIOD = Duration.ofMinutes(1);
 	private static final Object JDT_SCHEME = "jdt";
 
 	private final boolean IS_JANDEX_INDEX;
@@ -83,15 +96,33 @@ public class JdtLsProjectCache implements InitializableJavaProjectsService, Serv
 	
 	private CompletableFuture<Boolean> classpathListeningSupport = new CompletableFuture<>();
 	
+	// warm-start snapshot of the projects, null if disabled
+	private final File snapshotDirectory;
+	private JdtLsProjectsSnapshot snapshot;
+	private ScheduledExecutorService snapshotExecutor;
+	private volatile boolean snapshotDirty;
+	// projects restored from the snapshot that haven't been confirmed by a classpath notification yet
+	private final Set<String> unconfirmedProjects = ConcurrentHashMap.newKeySet();
+	private ScheduledFuture<?> snapshotReconcile;
+	
 	public JdtLsProjectCache(SimpleLanguageServer server, boolean isJandexIndex) {
+		this(server, isJandexIndex, null);
+	}
+
+	/**
+	 * @param snapshotDirectory directory for the warm-start snapshot of the projects, <code>null</code> disables the snapshot
+	 */
+	public JdtLsProjectCache(SimpleLanguageServer server, boolean isJandexIndex, File snapshotDirectory) {
 		this.server = server;
 		this.IS_JANDEX_INDEX = isJandexIndex;
+		this.snapshotDirectory = snapshotDirectory;
 		this.initialClasspathLisetnerEnable = true;
 		this.server
 			.onInitialized(initialize())
 			.doOnSuccess((disposable) -> {
 				server.onShutdown(() -> {
 					disposable.dispose();
+					shutdownSnapshot();
 				});
 				classpathListeningSupport.complete(true);
 			})
@@ -260,6 +291,9 @@ public class JdtLsProjectCache implements InitializableJavaProjectsService, Serv
 	@Override
 	public Mono<Disposable> initialize() {
 		return Mono.defer(() -> {
+			if (initialClasspathLisetnerEnable) {
+				restoreSnapshot();
+			}
 			log.info("INIT CLASSPATH LISTENER enableClasspath=" + initialClasspathLisetnerEnable);
 			enableClasspathListener(initialClasspathLisetnerEnable);
 			return Mono.just(DISPOSABLE);
@@ -326,6 +360,19 @@ public class JdtLsProjectCache implements InitializableJavaProjectsService, Serv
 			})
 		);
 
+		server.onCommand(CMD_SPRING_BOOT_JAVA_PROJECTS_IMPORTED, params -> {
+			if (params.getArguments() != null && !params.getArguments().isEmpty()
+					&& params.getArguments().get(0) instanceof JsonArray) {
+				Set<String> importedProjects = new HashSet<>();
+				for (JsonElement projectUri : (JsonArray) params.getArguments().get(0)) {
+					importedProjects.add(UriUtil.normalize(projectUri.getAsString()));
+				}
+				log.info("CMD - JDT LS projects imported: " + importedProjects.size());
+				reconcileSnapshot(importedProjects);
+			}
+			return CompletableFuture.completedFuture(null);
+		});
+
 		log.debug("REGISTER ENABLE CLASSPATH CMD");
 		JsonObject o = (JsonObject) p.getInitializationOptions();
 		if (o != null) {
@@ -337,6 +384,146 @@ public class JdtLsProjectCache implements InitializableJavaProjectsService, Serv
 		}
 		log.debug("INIT VALUE for classpathEnabled=" + initialClasspathLisetnerEnable);
 		cap.getExecuteCommandProvider().getCommands().add(CMD_SPRING_BOOT_ENABLE_CLASSPATH_LISTENING);
+		cap.getExecuteCommandProvider().getCommands().add(CMD_SPRING_BOOT_JAVA_PROJECTS_IMPORTED);
+
+		if (snapshotDirectory != null) {
+			List<String> workspaceFolders = new ArrayList<>();
+			if (p.getWorkspaceFolders() != null) {
+				for (WorkspaceFolder folder : p.getWorkspaceFolders()) {
+					workspaceFolders.add(UriUtil.normalize(folder.getUri()));
+				}
+			}
+			else if (p.getRootUri() != null) {
+				workspaceFolders.add(UriUtil.normalize(p.getRootUri()));
+			}
+
+			if (!workspaceFolders.isEmpty()) {
+				snapshot = JdtLsProjectsSnapshot.forWorkspace(snapshotDirectory, workspaceFolders);
+			}
+		}
+	}
+	
+	/**
+	 * Creates the projects from the warm-start snapshot right away, so that indexing and everything else can start
+	 * from the cached state. The projects get reconciled with the fresh data from the classpath notifications:
+	 * unchanged projects are kept as they are, changed projects are updated via the regular change notification, and
+	 * projects that are not part of the workspace anymore once JDT LS finished importing the workspace are removed again.
+	 * <p>
+	 * The end of the import is signaled by clients via the {@link #CMD_SPRING_BOOT_JAVA_PROJECTS_IMPORTED} command. Independent
+	 * of the client, the import is considered finished when no classpath notification arrived for
+	 * {@link #SNAPSHOT_RECONCILE_QUIET_PERIOD} after the first one, see {@link #scheduleSnapshotReconcile()}.
+	 */
+	private void restoreSnapshot() {
+		if (snapshot == null) {
+			return;
+		}
+
+		List<JdtLsProjectsSnapshot.ProjectSnapshot> projects = snapshot.load();
+		log.info("restoring {} projects from warm-start snapshot {}", projects.size(), snapshot.getFile());
+
+		for (JdtLsProjectsSnapshot.ProjectSnapshot projectSnapshot : projects) {
+			try {
+				URI projectUri = new URI(projectSnapshot.uri());
+				if (!"file".equals(projectUri.getScheme()) || !new File(projectUri).exists()) {
+					continue;
+				}
+
+				AbstractJavaProject newProject;
+				synchronized (table) {
+					if (table.containsKey(projectSnapshot.uri())) {
+						continue;
+					}
+					IProjectBuild projectBuild = projectSnapshot.buildType() == null ? null
+							: IProjectBuild.create(projectSnapshot.buildType(), projectSnapshot.buildFile() == null ? null : URI.create(projectSnapshot.buildFile()));
+					newProject = createProject(projectUri, projectSnapshot.createClasspathData(), projectBuild,
+							projectSnapshot.javaCoreOptions() == null ? Map.of() : projectSnapshot.javaCoreOptions());
+					table.put(projectSnapshot.uri(), newProject);
+					unconfirmedProjects.add(projectSnapshot.uri());
+				}
+				notifyCreated(newProject);
+			}
+			catch (Exception e) {
+				log.warn("cannot restore project from warm-start snapshot: " + projectSnapshot.uri(), e);
+			}
+		}
+
+		snapshotExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "JDT LS projects snapshot");
+			thread.setDaemon(true);
+			return thread;
+		});
+		snapshotExecutor.scheduleWithFixedDelay(() -> {
+			if (snapshotDirty) {
+				persistSnapshot();
+			}
+		}, SNAPSHOT_PERSIST_INTERVAL.toMillis(), SNAPSHOT_PERSIST_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * (Re-)schedules the reconcile of the restored projects that are still unconfirmed after the classpath notifications
+	 * of JDT LS stopped arriving, for clients that don't send {@link #CMD_SPRING_BOOT_JAVA_PROJECTS_IMPORTED}.
+	 */
+	private synchronized void scheduleSnapshotReconcile() {
+		if (snapshotExecutor == null || unconfirmedProjects.isEmpty()) {
+			return;
+		}
+		if (snapshotReconcile != null) {
+			snapshotReconcile.cancel(false);
+		}
+		snapshotReconcile = snapshotExecutor.schedule(() -> {
+			log.info("no classpath notifications for {} seconds, reconciling {} projects restored from warm-start snapshot",
+					SNAPSHOT_RECONCILE_QUIET_PERIOD.toSeconds(), unconfirmedProjects.size());
+			reconcileSnapshot(Set.of());
+		}, SNAPSHOT_RECONCILE_QUIET_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @param importedProjects URIs of all projects of the workspace after JDT LS finished importing the workspace
+	 */
+	private void reconcileSnapshot(Set<String> importedProjects) {
+		for (String uri : unconfirmedProjects) {
+			if (importedProjects.contains(uri)) {
+				// the classpath notification for the project confirms or updates it
+				continue;
+			}
+
+			IJavaProject removed;
+			synchronized (table) {
+				removed = unconfirmedProjects.remove(uri) ? table.remove(uri) : null;
+			}
+			if (removed != null) {
+				log.info("remove project restored from warm-start snapshot that is not part of the workspace anymore: {}", uri);
+				notifyDelete(removed);
+				snapshotDirty = true;
+			}
+		}
+	}
+
+	private void persistSnapshot() {
+		if (snapshot != null && classpathListenerEnabled) {
+			Map<String, IJavaProject> projects;
+			synchronized (table) {
+				projects = new HashMap<>(table);
+				projects.keySet().removeAll(unconfirmedProjects);
+			}
+			snapshotDirty = false;
+			snapshot.persist(projects);
+		}
+	}
+
+	private void shutdownSnapshot() {
+		if (snapshotExecutor != null) {
+			snapshotExecutor.shutdownNow();
+		}
+		persistSnapshot();
+	}
+
+	private AbstractJavaProject createProject(URI projectUri, ClasspathData classpath, IProjectBuild projectBuild, Map<String, String> javaCoreOptions) {
+		AbstractJavaProject newProject = IS_JANDEX_INDEX
+				? new JavaProject(getFileObserver(), projectUri, classpath, JdtLsProjectCache.this, projectBuild)
+				: new JdtLsJavaProject(server.getClient(), projectUri, classpath, JdtLsProjectCache.this, projectBuild);
+		newProject.setJavaCoreOptions(javaCoreOptions);
+		return newProject;
 	}
 	
 	private class JstLsClasspathListener implements ClasspathListener {
@@ -353,6 +540,7 @@ public class JdtLsProjectCache implements InitializableJavaProjectsService, Serv
 			
 			log.debug("claspath event received {}", event);
 			server.doOnInitialized(() -> {
+				scheduleSnapshotReconcile();
 				try {
 					String uri = UriUtil.normalize(event.projectUri);
 					log.debug("uri = {}", uri);
@@ -361,7 +549,9 @@ public class JdtLsProjectCache implements InitializableJavaProjectsService, Serv
 						IJavaProject deleted;
 						synchronized (table) {
 							deleted = table.remove(uri);
+							unconfirmedProjects.remove(uri);
 						}
+						snapshotDirty = true;
 						// Notify outside of the lock 
 						if (deleted!=null) {
 							log.debug("removed from table = true");
@@ -378,18 +568,19 @@ public class JdtLsProjectCache implements InitializableJavaProjectsService, Serv
 
 						synchronized(table) {
 							oldProject = table.get(uri);
+							boolean restoredFromSnapshot = unconfirmedProjects.remove(uri);
 							if (oldProject != null && classpath.equals(oldProject.getClasspath())) {
 								// nothing has changed
+								if (restoredFromSnapshot && oldProject instanceof AbstractJavaProject) {
+									((AbstractJavaProject) oldProject).setJavaCoreOptions(event.javaCoreOptions);
+								}
 								return;
 							}
 							IProjectBuild projectBuild = from(event.projectBuild);
-							newProject = IS_JANDEX_INDEX
-									? new JavaProject(getFileObserver(), projectUri, classpath,
-											JdtLsProjectCache.this, projectBuild)
-									: new JdtLsJavaProject(server.getClient(), projectUri, classpath, JdtLsProjectCache.this, projectBuild);
-							newProject.setJavaCoreOptions(event.javaCoreOptions);
+							newProject = createProject(projectUri, classpath, projectBuild, event.javaCoreOptions);
 							table.put(uri, newProject);
 						}
+						snapshotDirty = true;
 
 						// Notify outside of the lock 
 						if (oldProject != null) {
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.jdt.ls;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.commons.java.AbstractJavaProject;
+import org.springframework.ide.vscode.commons.java.ClasspathData;
+import org.springframework.ide.vscode.commons.java.IJavaProject;
+
+import com.google.gson.Gson;
+
+/**
+ * Warm-start snapshot of the projects known to the {@link JdtLsProjectCache}, including their classpath.
+ * The snapshot is written on shutdown and at intervals, and read on startup to create the projects
+ * right away instead of waiting for the classpath notifications from JDT LS.
+ *
+ * Everything else that depends on projects (symbol index restored from the index cache, property indexes,
+ * stereotype catalogs) gets initialized from the restored projects then.
+ *
+ * @author Martin Lippert
+ */
+public class JdtLsProjectsSnapshot {
+
+	private static final Logger log = LoggerFactory.getLogger(JdtLsProjectsSnapshot.class);
+
+	/**
+	 * increment when the structure of the snapshot changes, snapshots with a different version are ignored
+	 */
+	public static final int SNAPSHOT_VERSION = 1;
+
+	private static final Gson gson = new Gson();
+
+	private final File file;
+
+	public JdtLsProjectsSnapshot(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * creates a snapshot file within the given directory that is specific to the given set of workspace folders,
+	 * so that different workspaces don't share (and overwrite) their snapshots
+	 */
+	public static JdtLsProjectsSnapshot forWorkspace(File directory, Collection<String> workspaceFolderUris) {
+		String workspaceKey = workspaceFolderUris.stream().sorted().collect(Collectors.joining(","));
+		return new JdtLsProjectsSnapshot(new File(directory, "projects-" + DigestUtils.md5Hex(workspaceKey) + ".json"));
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	public synchronized void persist(Map<String, IJavaProject> projects) {
+		List<ProjectSnapshot> snapshots = new ArrayList<>(projects.size());
+		for (Map.Entry<String, IJavaProject> entry : projects.entrySet()) {
+			IJavaProject project = entry.getValue();
+			try {
+				ClasspathData classpath = ClasspathData.from(project.getClasspath());
+				String buildType = project.getProjectBuild() == null ? null : project.getProjectBuild().getType();
+				String buildFile = project.getProjectBuild() == null || project.getProjectBuild().getBuildFile() == null ? null : project.getProjectBuild().getBuildFile().toString();
+				Map<String, String> javaCoreOptions = project instanceof AbstractJavaProject ? ((AbstractJavaProject) project).getJavaCoreOptions() : Map.of();
+
+				snapshots.add(new ProjectSnapshot(entry.getKey(), classpath, buildType, buildFile, javaCoreOptions));
+			}
+			catch (Exception e) {
+				log.warn("cannot create warm-start snapshot for project: " + project.getElementName(), e);
+			}
+		}
+
+		try {
+			Files.createDirectories(file.getParentFile().toPath());
+
+			// write to a temp file first to not leave a corrupted snapshot behind when the process gets killed
+			File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+			try (Writer writer = new FileWriter(tempFile)) {
+				gson.toJson(new Snapshot(SNAPSHOT_VERSION, snapshots), writer);
+			}
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (Exception e) {
+			log.error("cannot write warm-start snapshot of projects to: " + file, e);
+		}
+	}
+
+	public synchronized List<ProjectSnapshot> load() {
+		if (!file.exists()) {
+			return List.of();
+		}
+
+		try (Reader reader = new FileReader(file)) {
+			Snapshot snapshot = gson.fromJson(reader, Snapshot.class);
+			if (snapshot == null || snapshot.version() != SNAPSHOT_VERSION || snapshot.projects() == null) {
+				log.info("ignore warm-start snapshot of projects with different version: " + file);
+				return List.of();
+			}
+			return snapshot.projects();
+		}
+		catch (Exception e) {
+			log.error("cannot read warm-start snapshot of projects from: " + file, e);
+			return List.of();
+		}
+	}
+
+	private static record Snapshot(int version, List<ProjectSnapshot> projects) {}
+
+	public static record ProjectSnapshot(String uri, ClasspathData classpath, String buildType, String buildFile, Map<String, String> javaCoreOptions) {
+
+		/**
+		 * the classpath data read via Gson bypasses the constructor, which leaves internal caches uninitialized
+		 */
+		public ClasspathData createClasspathData() {
+			return new ClasspathData(classpath.getName(), classpath.getClasspathEntries() == null ? List.of() : classpath.getClasspathEntries(), classpath.getJre());
+		}
+	}
+
+}
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.MarkupContent;
 import org.slf4j.Logger;
@@ -21,7 +22,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.ide.vscode.boot.app.SpringSymbolIndex;
-import org.springframework.ide.vscode.boot.java.reconcilers.CachedDiagnostic;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore.DocumentDiagnostics;
 import org.springframework.ide.vscode.boot.validation.generations.ProjectVersionDiagnosticProvider;
 import org.springframework.ide.vscode.boot.validation.generations.ProjectVersionDiagnosticProvider.DiagnosticResult;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
@@ -29,7 +31,8 @@ import org.springframework.stereotype.Component;
 
 /**
  * MCP tools for accessing project diagnostics produced by the Spring Tools language server.
- * Diagnostics are read on demand from the index cache — no extra in-memory state is kept.
+ * Diagnostics are read from the in-memory {@link DiagnosticsStore} once the indexer finished its pending work
+ * (bounded wait), so that the result doesn't miss the diagnostics of documents that are still being indexed.
  *
  * @author Martin Lippert
  */
@@ -40,12 +43,14 @@ public class DiagnosticsMcpTools {
 
 	private final ProjectLookup projects;
 	private final SpringSymbolIndex symbolIndex;
+	private final DiagnosticsStore diagnosticsStore;
 	private final ProjectVersionDiagnosticProvider versionDiagnosticProvider;
 
-	public DiagnosticsMcpTools(ProjectLookup projects, SpringSymbolIndex symbolIndex,
+	public DiagnosticsMcpTools(ProjectLookup projects, SpringSymbolIndex symbolIndex, DiagnosticsStore diagnosticsStore,
 			ProjectVersionDiagnosticProvider versionDiagnosticProvider) {
 		this.projects = projects;
 		this.symbolIndex = symbolIndex;
+		this.diagnosticsStore = diagnosticsStore;
 		this.versionDiagnosticProvider = versionDiagnosticProvider;
 	}
 
@@ -100,22 +105,21 @@ public class DiagnosticsMcpTools {
 	}
 
 	private void addIndexerDiagnostics(IJavaProject project, List<ProjectDiagnostic> result) {
-		symbolIndex.getJavaIndexer()
-				.getCacheHelper()
-				.getAllCachedDiagnostics(project)
-				.stream()
-				.map(cd -> new ProjectDiagnostic(
-						cd.getDocURI(),
-						cd.getDiagnostic().getRange().getStart().getLine(),
-						cd.getDiagnostic().getRange().getStart().getCharacter(),
-						cd.getDiagnostic().getRange().getEnd().getLine(),
-						cd.getDiagnostic().getRange().getEnd().getCharacter(),
-						severityToString(cd.getDiagnostic().getSeverity()),
-						extractMessage(cd),
-						extractCode(cd),
-						cd.getDiagnostic().getSource()
-				))
-				.forEach(result::add);
+		for (DocumentDiagnostics document : diagnosticsStore.getDiagnostics(project.getElementName())) {
+			for (Diagnostic diagnostic : document.diagnostics()) {
+				result.add(new ProjectDiagnostic(
+						document.docURI(),
+						diagnostic.getRange().getStart().getLine(),
+						diagnostic.getRange().getStart().getCharacter(),
+						diagnostic.getRange().getEnd().getLine(),
+						diagnostic.getRange().getEnd().getCharacter(),
+						severityToString(diagnostic.getSeverity()),
+						extractMessage(diagnostic),
+						extractCode(diagnostic),
+						diagnostic.getSource()
+				));
+			}
+		}
 	}
 
 	private void addVersionValidationDiagnostics(IJavaProject project, List<ProjectDiagnostic> result) {
@@ -157,8 +161,8 @@ public class DiagnosticsMcpTools {
 		};
 	}
 
-	private String extractMessage(CachedDiagnostic cd) {
-		var message = cd.getDiagnostic().getMessage();
+	private String extractMessage(Diagnostic diagnostic) {
+		var message = diagnostic.getMessage();
 		if (message == null) {
 			return null;
 		}
@@ -169,8 +173,8 @@ public class DiagnosticsMcpTools {
 		return markup != null ? markup.getValue() : null;
 	}
 
-	private String extractCode(CachedDiagnostic cd) {
-		var code = cd.getDiagnostic().getCode();
+	private String extractCode(Diagnostic diagnostic) {
+		var code = diagnostic.getCode();
 		if (code == null) {
 			return null;
 		}
@@ -121,7 +121,7 @@ public class RequestMappingMcpTools {
 
 	private RequestMappingInfo createRequestMappingInfo(WebEndpointIndexElement webEndpoint) {
 		// Get the parent bean to access controller information
-		Bean parentBean = getParentBean(webEndpoint);
+		Bean parentBean = springIndex.getParentBean(webEndpoint);
 		
 		// Extract method signature if this is a RequestMappingIndexElement
 		String methodSignature = null;
@@ -149,17 +149,4 @@ public class RequestMappingMcpTools {
 		);
 	}
 
-	private Bean getParentBean(WebEndpointIndexElement webEndpoint) {
-		// Search through all beans to find the one that contains this web endpoint as a child
-		Bean[] allBeans = springIndex.getBeans();
-		for (Bean bean : allBeans) {
-			if (bean.getChildren().contains(webEndpoint)) {
-				return bean;
-			}
-		}
-		return null;
-	}
-
-
 }
-
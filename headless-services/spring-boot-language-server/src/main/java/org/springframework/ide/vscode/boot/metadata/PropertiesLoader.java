@@ -11,18 +11,18 @@
 
 package org.springframework.ide.vscode.boot.metadata;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
-import java.util.jar.JarFile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.zip.ZipEntry;
 
 import org.springframework.ide.vscode.boot.configurationmetadata.ConfigurationMetadataRepository;
 import org.springframework.ide.vscode.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.ide.vscode.commons.java.ClasspathResourceManifest;
 import org.springframework.ide.vscode.commons.java.IClasspath;
 import org.springframework.ide.vscode.commons.java.IClasspathUtil;
 
@@ -106,43 +106,15 @@ public class PropertiesLoader {
 	}
 
 	private void loadFromJar(Path f) {
-		JarFile jarFile = null;
 		try {
-			jarFile = new JarFile(f.toFile());
-			//jarDump(jarFile);
 			for (String loc : JAR_META_DATA_LOCATIONS) {
-				ZipEntry e = jarFile.getEntry(loc);
-				if (e!=null) {
-					loadFrom(jarFile, e);
+				byte[] content = ClasspathResourceManifest.getInstance().getResource(f.toFile(), loc);
+				if (content != null) {
+					loadFromInputStream(f + "[" + loc + "]", new ByteArrayInputStream(content));
 				}
 			}
 		} catch (Throwable e) {
 			LOG.log(Level.SEVERE, "Error loading JAR file", e);
-		} finally {
-			if (jarFile!=null) {
-				try {
-					jarFile.close();
-				} catch (IOException e) {
-				}
-			}
-		}
-	}
-
-
-	private void loadFrom(JarFile jarFile, ZipEntry ze) {
-		InputStream is = null;
-		try {
-			is = jarFile.getInputStream(ze);
-			loadFromInputStream(jarFile.getName()+"["+ze.getName()+"]", is);
-		} catch (Throwable e) {
-			LOG.log(Level.SEVERE, "Error loading JAR file", e);
-		} finally {
-			if (is!=null) {
-				try {
-					is.close();
-				} catch (IOException e) {
-				}
-			}
 		}
 	}
 
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.metadata.types;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ide.vscode.boot.metadata.types.TypeUtil.BeanPropertyNameMode;
+import org.springframework.ide.vscode.commons.java.IField;
+import org.springframework.ide.vscode.commons.java.IJavaProject;
+import org.springframework.ide.vscode.commons.languageserver.java.ProjectObserver;
+import org.springframework.ide.vscode.commons.util.FileObserver;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache for the bean properties of types resolved by {@link TypeUtil}, shared by the {@link TypeUtil}
+ * instances created for completions, hovers and reconciling, so that nested <code>@ConfigurationProperties</code>
+ * types don't get introspected over and over again.
+ *
+ * The cache is per project instance. Since a project gets a new instance when its classpath changes, the
+ * cached types of the old classpath are not used anymore and get garbage collected. In addition to that,
+ * all cached types are discarded when Java sources change or the project observer reports a change.
+ *
+ * @author Martin Lippert
+ */
+public class TypePropertiesCache {
+
+	private static final Logger log = LoggerFactory.getLogger(TypePropertiesCache.class);
+
+	private static final int MAX_TYPES_PER_PROJECT = 2000;
+
+	private final Cache<IJavaProject, ProjectTypes> projects = CacheBuilder.newBuilder().weakKeys().build();
+
+	public TypePropertiesCache(ProjectObserver projectObserver, FileObserver fileObserver) {
+		if (projectObserver != null) {
+			projectObserver.addListener(new ProjectObserver.Listener() {
+
+				@Override
+				public void created(IJavaProject project) {
+					invalidate(project);
+				}
+
+				@Override
+				public void changed(IJavaProject project, boolean clean) {
+					invalidate(project);
+				}
+
+				@Override
+				public void deleted(IJavaProject project) {
+					invalidate(project);
+				}
+
+			});
+		}
+		if (fileObserver != null) {
+			// types of a project can come from sources of other projects on its classpath, therefore drop everything
+			fileObserver.onAnyChange(List.of("**/*.java"), files -> projects.invalidateAll());
+		}
+	}
+
+	public void invalidate(IJavaProject project) {
+		projects.asMap().keySet().removeIf(p -> p == project || p.getLocationUri().equals(project.getLocationUri()));
+	}
+
+	/**
+	 * Bean properties of the type with the given erasure, the supplier computes them if they are not cached yet.
+	 * A <code>null</code> result (meaning: unknown type) is cached as well.
+	 */
+	TypeProperties getProperties(IJavaProject project, String erasure, BeanPropertyNameMode beanMode, Supplier<List<TypedProperty>> properties) {
+		ProjectTypes types = getProjectTypes(project);
+		try {
+			return types.properties.get(erasure + "#" + beanMode, () -> new TypeProperties(properties.get()));
+		} catch (ExecutionException e) {
+			log.error("", e);
+			return new TypeProperties(properties.get());
+		}
+	}
+
+	/**
+	 * Fields of the type with the given fully qualified name that are annotated with a property name annotation,
+	 * keyed by the annotated property name.
+	 */
+	Map<String, IField> getNameAnnotatedFields(IJavaProject project, String fqName, Function<String, Map<String, IField>> fields) {
+		ProjectTypes types = getProjectTypes(project);
+		try {
+			return types.nameAnnotatedFields.get(fqName, () -> fields.apply(fqName));
+		} catch (ExecutionException e) {
+			log.error("", e);
+			return fields.apply(fqName);
+		}
+	}
+
+	private ProjectTypes getProjectTypes(IJavaProject project) {
+		try {
+			return projects.get(project, ProjectTypes::new);
+		} catch (ExecutionException e) {
+			// cannot happen, creating the project entry doesn't throw exceptions
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class ProjectTypes {
+		private final Cache<String, TypeProperties> properties = CacheBuilder.newBuilder().maximumSize(MAX_TYPES_PER_PROJECT).build();
+		private final Cache<String, Map<String, IField>> nameAnnotatedFields = CacheBuilder.newBuilder().maximumSize(MAX_TYPES_PER_PROJECT).build();
+	}
+
+	/**
+	 * Resolved properties of a type as a read-only list and map, <code>null</code> if the properties of the type are unknown.
+	 */
+	static class TypeProperties {
+
+		private final List<TypedProperty> list;
+		private Map<String, TypedProperty> map;
+
+		TypeProperties(List<TypedProperty> list) {
+			this.list = list == null ? null : Collections.unmodifiableList(list);
+		}
+
+		List<TypedProperty> getList() {
+			return list;
+		}
+
+		synchronized Map<String, TypedProperty> getMap() {
+			if (map == null && list != null) {
+				Map<String, TypedProperty> m = new HashMap<>();
+				for (TypedProperty p : list) {
+					m.put(p.getName(), p);
+				}
+				map = Collections.unmodifiableMap(m);
+			}
+			return map;
+		}
+
+	}
+
+}
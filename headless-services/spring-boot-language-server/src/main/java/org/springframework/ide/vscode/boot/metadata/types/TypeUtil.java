@@ -139,19 +139,28 @@ public class TypeUtil {
 
 	private IJavaProject javaProject;
 	private SourceLinks sourceLinks;
+	private TypePropertiesCache propertiesCache;
 
 	public TypeUtil(SourceLinks sourceLinks, IJavaProject jp) {
+		this(sourceLinks, jp, null);
+	}
+
+	public TypeUtil(SourceLinks sourceLinks, IJavaProject jp, TypePropertiesCache propertiesCache) {
 		//Note javaProject is allowed to be null, but only in unit testing context
 		// (This is so some tests can be run without an explicit jp needing to be created)
 		this.javaProject = jp;
 		this.sourceLinks = sourceLinks;
+		this.propertiesCache = propertiesCache;
 	}
 
-
 	public TypeUtil(SourceLinks sourceLinks, Optional<IJavaProject> maybeProject) {
 		this(sourceLinks, maybeProject.orElse(null));
 	}
 
+	public TypeUtil(SourceLinks sourceLinks, Optional<IJavaProject> maybeProject, TypePropertiesCache propertiesCache) {
+		this(sourceLinks, maybeProject.orElse(null), propertiesCache);
+	}
+
 	private static final Map<String, String> PRIMITIVE_TYPE_NAMES = new HashMap<>();
 	private static final Map<String, Type> PRIMITIVE_TO_BOX_TYPE = new HashMap<>();
 	static {
@@ -749,56 +758,63 @@ public class TypeUtil {
 				}
 			}
 		} else {
-			String typename = type.getErasure();
-			IType typeFromIndex = findType(typename);
-
-			//TODO: handle type parameters.
-			if (typeFromIndex != null) {
-				IJavaProject project = getJavaProject();
-				ArrayList<TypedProperty> properties = new ArrayList<>();
-				Optional<IMethod> constructorBinding = findConstructorBinding(typeFromIndex);
-				if (constructorBinding.isPresent()) {
-					IMethod c = constructorBinding.get();
-					List<IJavaType> types = c.parameters().collect(Collectors.toList());
-					List<String> params = c.getParameterNames();
-					int len = Math.min(params.size(), types.size());
-					for (int i = 0; i < len; i++) {
-						Deprecation deprecation = null;
-						properties.add(new TypedProperty(
-								StringUtil.camelCaseToHyphens(params.get(i)), 
-								Type.fromJavaType(types.get(i)), 
-								deprecation
-						));
-					}
-					return properties;
-				} else if (typeFromIndex.isRecord()) {
-					typeFromIndex.getFields().forEach(f -> properties.add(new TypedProperty(
-							StringUtil.camelCaseToHyphens(f.getElementName()),
-							Type.fromJavaType(f.type()),
-							DeprecationUtil.extract(f)
-					)));
-				} else {
-					getGetterMethods(typeFromIndex).forEach(m -> {
-						Deprecation deprecation = DeprecationUtil.extract(m);
-						Type propType = null;
-						try {
-							propType = Type.fromJavaType(m.getReturnType());
-						} catch (Exception e) {
-							log.error("", e);
-						}
-						String cameCasePropertyName = getCamelCasePropertyNameFromGetterOrSetter(m);
-						if (beanMode.includesHyphenated()) {
-							properties.add(new TypedProperty(StringUtil.camelCaseToHyphens(cameCasePropertyName), propType,
-									Renderables.lazy(() -> PropertyDocUtils.documentJavaElement(sourceLinks, project, m)), deprecation));
-						}
-						if (beanMode.includesCamelCase()) {
-							properties.add(new TypedProperty(cameCasePropertyName, propType,
-									Renderables.lazy(() -> PropertyDocUtils.documentJavaElement(sourceLinks, project, m)), deprecation));
-						}
-					});
+			if (propertiesCache != null && javaProject != null) {
+				return propertiesCache.getProperties(javaProject, type.getErasure(), beanMode, () -> getBeanProperties(type.getErasure(), beanMode)).getList();
+			}
+			return getBeanProperties(type.getErasure(), beanMode);
+		}
+		return null;
+	}
+
+	private List<TypedProperty> getBeanProperties(String typename, BeanPropertyNameMode beanMode) {
+		IType typeFromIndex = findType(typename);
+
+		//TODO: handle type parameters.
+		if (typeFromIndex != null) {
+			IJavaProject project = getJavaProject();
+			ArrayList<TypedProperty> properties = new ArrayList<>();
+			Optional<IMethod> constructorBinding = findConstructorBinding(typeFromIndex);
+			if (constructorBinding.isPresent()) {
+				IMethod c = constructorBinding.get();
+				List<IJavaType> types = c.parameters().collect(Collectors.toList());
+				List<String> params = c.getParameterNames();
+				int len = Math.min(params.size(), types.size());
+				for (int i = 0; i < len; i++) {
+					Deprecation deprecation = null;
+					properties.add(new TypedProperty(
+							StringUtil.camelCaseToHyphens(params.get(i)), 
+							Type.fromJavaType(types.get(i)), 
+							deprecation
+					));
 				}
 				return properties;
+			} else if (typeFromIndex.isRecord()) {
+				typeFromIndex.getFields().forEach(f -> properties.add(new TypedProperty(
+						StringUtil.camelCaseToHyphens(f.getElementName()),
+						Type.fromJavaType(f.type()),
+						DeprecationUtil.extract(f)
+				)));
+			} else {
+				getGetterMethods(typeFromIndex).forEach(m -> {
+					Deprecation deprecation = DeprecationUtil.extract(m);
+					Type propType = null;
+					try {
+						propType = Type.fromJavaType(m.getReturnType());
+					} catch (Exception e) {
+						log.error("", e);
+					}
+					String cameCasePropertyName = getCamelCasePropertyNameFromGetterOrSetter(m);
+					if (beanMode.includesHyphenated()) {
+						properties.add(new TypedProperty(StringUtil.camelCaseToHyphens(cameCasePropertyName), propType,
+								Renderables.lazy(() -> PropertyDocUtils.documentJavaElement(sourceLinks, project, m)), deprecation));
+					}
+					if (beanMode.includesCamelCase()) {
+						properties.add(new TypedProperty(cameCasePropertyName, propType,
+								Renderables.lazy(() -> PropertyDocUtils.documentJavaElement(sourceLinks, project, m)), deprecation));
+					}
+				});
 			}
+			return properties;
 		}
 		return null;
 	}
@@ -941,8 +957,10 @@ public class TypeUtil {
 	}
 
 	public Map<String, TypedProperty> getPropertiesMap(Type type, EnumCaseMode enumMode, BeanPropertyNameMode beanMode) {
-		//TODO: optimize, produce directly as a map instead of
-		// first creating list and then coverting it.
+		if (propertiesCache != null && javaProject != null && type != null && isDotable(type) && !isMap(type)) {
+			// bean properties are cached as a map as well
+			return propertiesCache.getProperties(javaProject, type.getErasure(), beanMode, () -> getBeanProperties(type.getErasure(), beanMode)).getMap();
+		}
 		List<TypedProperty> list = getProperties(type, enumMode, beanMode);
 		if (list!=null) {
 			Map<String, TypedProperty> map = new HashMap<>();
@@ -976,9 +994,22 @@ public class TypeUtil {
 	}
 	
 	public Optional<IField> getNameAnnotatedField(IType type, String propertyName) {
+		if (propertiesCache != null && javaProject != null && type.getFullyQualifiedName() != null) {
+			return Optional.ofNullable(propertiesCache.getNameAnnotatedFields(javaProject, type.getFullyQualifiedName(), fqName -> getNameAnnotatedFields(type)).get(propertyName));
+		}
 		return type.getFields().filter(f -> f.getAnnotations().anyMatch(a -> isNameAnnotation(a, propertyName))).findFirst();
 	}
 	
+	private Map<String, IField> getNameAnnotatedFields(IType type) {
+		Map<String, IField> fields = new HashMap<>();
+		type.getFields().forEach(f -> f.getAnnotations()
+				.filter(a -> Annotations.PROPERTY_NAME.equals(a.fqName()))
+				.flatMap(a -> a.getMemberValuePairs())
+				.filter(pair -> PropertyExtractor.PARAM_VALUE.equals(pair.getMemberName()) && pair.getValue() instanceof String)
+				.forEach(pair -> fields.putIfAbsent((String) pair.getValue(), f)));
+		return fields;
+	}
+	
 	private boolean isNameAnnotation(IAnnotation a, String propertyName) {
 		if (Annotations.PROPERTY_NAME.equals(a.fqName())) {
 			return a.getMemberValuePairs().anyMatch(pair -> PropertyExtractor.PARAM_VALUE.equals(pair.getMemberName()) && propertyName.equals(pair.getValue()));
@@ -66,6 +66,7 @@ public class BootPropertiesLanguageServerComponents implements LanguageServerCom
 	private YamlAssistContextProvider yamlAssistContextProvider;
 	private final SimpleLanguageServer server;
 	private YamlASTProvider parser;
+	private final PropertiesAstCache propertiesAstCache;
 
 	private SpringPropertiesReconcileEngine propertiesReconciler;
 	private ApplicationYamlReconcileEngine ymlReconciler;
@@ -76,11 +77,13 @@ public class BootPropertiesLanguageServerComponents implements LanguageServerCom
 			BootLanguageServerParams serverParams,
 			JavaElementLocationProvider javaElementLocationProvider,
 			YamlASTProvider parser,
+			PropertiesAstCache propertiesAstCache,
 			YamlStructureProvider yamlStructureProvider,
 			YamlAssistContextProvider yamlAssistContextProvider,
 			SourceLinks sourceLinks) {
 		this.server = server;
 		this.parser = parser;
+		this.propertiesAstCache = propertiesAstCache;
 		this.indexProvider = serverParams.indexProvider;
 		this.typeUtilProvider = serverParams.typeUtilProvider;
 		this.javaProjectFinder = serverParams.projectFinder;
@@ -92,7 +95,7 @@ public class BootPropertiesLanguageServerComponents implements LanguageServerCom
 			CommonQuickfixes commonQuickfixes = new CommonQuickfixes(server.getQuickfixRegistry(), javaProjectFinder,
 					clientCapabilities);
 			this.propertiesReconciler = new SpringPropertiesReconcileEngine(indexProvider,
-					typeUtilProvider, new AppPropertiesQuickFixes(server.getQuickfixRegistry(), commonQuickfixes), sourceLinks);
+					typeUtilProvider, new AppPropertiesQuickFixes(server.getQuickfixRegistry(), commonQuickfixes), sourceLinks, propertiesAstCache);
 			this.ymlReconciler = new ApplicationYamlReconcileEngine(parser, indexProvider, typeUtilProvider,
 					new AppYamlQuickfixes(server.getQuickfixRegistry(), server.getTextDocumentService(),
 							yamlStructureProvider, commonQuickfixes), sourceLinks);
@@ -120,7 +123,7 @@ public class BootPropertiesLanguageServerComponents implements LanguageServerCom
 
 	@Override
 	public HoverHandler getHoverProvider() {
-		HoverInfoProvider propertiesHovers = new PropertiesHoverInfoProvider(indexProvider, typeUtilProvider, javaProjectFinder, sourceLinks);
+		HoverInfoProvider propertiesHovers = new PropertiesHoverInfoProvider(indexProvider, typeUtilProvider, javaProjectFinder, sourceLinks, propertiesAstCache);
 		HoverInfoProvider ymlHovers = new YamlHoverInfoProvider(parser, yamlStructureProvider, yamlAssistContextProvider);
 
 		HoverInfoProvider combined = (IDocument document, int offset) -> {
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.properties;
+
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.ide.vscode.commons.languageserver.util.SimpleTextDocumentService;
+import org.springframework.ide.vscode.commons.util.text.IDocument;
+import org.springframework.ide.vscode.java.properties.antlr.parser.IncrementalAntlrParser;
+import org.springframework.ide.vscode.java.properties.parser.ParseResults;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache for the parse results of <code>.properties</code> documents, shared by completions, hovers,
+ * definitions, reconciling and semantic tokens, so that a document gets parsed once per version instead
+ * of once per feature.
+ *
+ * A new version of a document gets parsed incrementally based on the previously cached version, which
+ * re-parses only the changed line for the typical single-line edits.
+ *
+ * @author Martin Lippert
+ */
+public class PropertiesAstCache {
+
+	private static final int MAX_DOCUMENTS = 100;
+
+	private final IncrementalAntlrParser parser = new IncrementalAntlrParser();
+	private final Cache<String, DocumentEntry> entries = CacheBuilder.newBuilder().maximumSize(MAX_DOCUMENTS).build();
+
+	public PropertiesAstCache(SimpleTextDocumentService documents) {
+		if (documents != null) {
+			documents.onDidClose(doc -> entries.invalidate(doc.getUri()));
+		}
+	}
+
+	public ParseResults getParseResults(IDocument doc) {
+		String uri = doc.getUri();
+		if (uri == null) {
+			return parser.parse(doc.get());
+		}
+
+		try {
+			return entries.get(uri, DocumentEntry::new).getParseResults(doc);
+		} catch (ExecutionException e) {
+			return parser.parse(doc.get());
+		}
+	}
+
+	private class DocumentEntry {
+
+		private int version;
+		private String text;
+		private ParseResults results;
+
+		synchronized ParseResults getParseResults(IDocument doc) {
+			// documents read from disk don't necessarily increase their version, therefore compare the content as well
+			String currentText = doc.get();
+			if (results != null && version == doc.getVersion() && text.equals(currentText)) {
+				return results;
+			}
+
+			results = parser.reparse(text, results, currentText);
+			text = currentText;
+			version = doc.getVersion();
+			return results;
+		}
+	}
+
+}
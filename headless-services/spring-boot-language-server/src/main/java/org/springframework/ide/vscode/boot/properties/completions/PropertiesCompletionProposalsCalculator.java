@@ -37,6 +37,7 @@ import org.springframework.ide.vscode.boot.metadata.types.TypeUtil;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil.BeanPropertyNameMode;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil.EnumCaseMode;
 import org.springframework.ide.vscode.boot.metadata.types.TypedProperty;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.boot.properties.reconcile.PropertyNavigator;
 import org.springframework.ide.vscode.commons.languageserver.completion.DocumentEdits;
 import org.springframework.ide.vscode.commons.languageserver.completion.ICompletionProposal;
@@ -50,7 +51,6 @@ import org.springframework.ide.vscode.commons.util.FuzzyMatcher;
 import org.springframework.ide.vscode.commons.util.StringUtil;
 import org.springframework.ide.vscode.commons.util.text.DocumentRegion;
 import org.springframework.ide.vscode.commons.util.text.IDocument;
-import org.springframework.ide.vscode.java.properties.antlr.parser.AntlrParser;
 import org.springframework.ide.vscode.java.properties.parser.ParseResults;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.EmptyLine;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.Key;
@@ -115,11 +115,11 @@ public class PropertiesCompletionProposalsCalculator {
 	private IDocument doc;
 	private int offset;
 	private boolean preferLowerCaseEnums;
-	private AntlrParser parser;
+	private final PropertiesAstCache astCache;
 	private final PropertyCompletionSettings propertyCompletionSettings;
 
 	public PropertiesCompletionProposalsCalculator(FuzzyMap<PropertyInfo> index, PropertyCompletionSettings propertyCompletionSettings,
-			TypeUtil typeUtil, PropertyCompletionFactory completionFactory, IDocument doc, int offset, boolean preferLowerCaseEnums) {
+			TypeUtil typeUtil, PropertyCompletionFactory completionFactory, IDocument doc, int offset, boolean preferLowerCaseEnums, PropertiesAstCache astCache) {
 		this.index = index;
 		this.propertyCompletionSettings = propertyCompletionSettings;
 		this.typeUtil = typeUtil;
@@ -127,14 +127,14 @@ public class PropertiesCompletionProposalsCalculator {
 		this.doc = doc;
 		this.offset = offset;
 		this.preferLowerCaseEnums = preferLowerCaseEnums;
-		this.parser = new AntlrParser();
+		this.astCache = astCache;
 	}
 
 	/**
 	 * Create completions proposals in the context of a properties text editor.
 	 */
 	public Collection<ICompletionProposal> calculate() throws BadLocationException {
-		ParseResults parseResults = parser.parse(doc.get());
+		ParseResults parseResults = astCache.getParseResults(doc);
 		Node node = parseResults.ast.findNode(offset);
 		if (node instanceof Value) {
 			return getValueCompletions((Value)node);
@@ -18,6 +18,7 @@ import org.springframework.ide.vscode.boot.common.PropertyCompletionFactory;
 import org.springframework.ide.vscode.boot.java.links.SourceLinks;
 import org.springframework.ide.vscode.boot.metadata.SpringPropertyIndexProvider;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtilProvider;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.commons.languageserver.completion.ICompletionEngine;
 import org.springframework.ide.vscode.commons.languageserver.completion.ICompletionProposal;
 import org.springframework.ide.vscode.commons.languageserver.completion.InternalCompletionList;
@@ -42,18 +43,20 @@ public class SpringPropertiesCompletionEngine implements ICompletionEngine, Lang
 	private final PropertyCompletionFactory completionFactory;
 	private final SourceLinks sourceLinks;
 	private final BootJavaConfig config;
+	private final PropertiesAstCache astCache;
 
 	/**
 	 * Constructor used in 'production'. Wires up stuff properly for running inside a normal
 	 * Eclipse runtime.
 	 */
 	public SpringPropertiesCompletionEngine(SpringPropertyIndexProvider indexProvider, TypeUtilProvider typeUtilProvider, JavaProjectFinder projectFinder,
-			SourceLinks sourceLinks, BootJavaConfig config) {
+			SourceLinks sourceLinks, BootJavaConfig config, PropertiesAstCache astCache) {
 		this.indexProvider = indexProvider;
 		this.typeUtilProvider = typeUtilProvider;
 		this.config = config;
 		this.completionFactory = new PropertyCompletionFactory();
 		this.sourceLinks = sourceLinks;
+		this.astCache = astCache;
 	}
 
 	/**
@@ -62,7 +65,7 @@ public class SpringPropertiesCompletionEngine implements ICompletionEngine, Lang
 	@Override
 	public InternalCompletionList getCompletions(TextDocument doc, int offset) throws BadLocationException {
 		Collection<ICompletionProposal> completionItems = new PropertiesCompletionProposalsCalculator(indexProvider.getIndex(doc).getProperties(), config.getPropertyCompletionSettings(),
-				typeUtilProvider.getTypeUtil(sourceLinks, doc), completionFactory, doc, offset, preferLowerCaseEnums).calculate();
+				typeUtilProvider.getTypeUtil(sourceLinks, doc), completionFactory, doc, offset, preferLowerCaseEnums, astCache).calculate();
 		
 		return new InternalCompletionList(completionItems, true);
 	}
@@ -28,6 +28,7 @@ import org.springframework.ide.vscode.boot.metadata.hints.StsValueHint;
 import org.springframework.ide.vscode.boot.metadata.types.Type;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil.EnumCaseMode;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.commons.util.FuzzyMap;
 import org.springframework.ide.vscode.commons.util.Renderable;
 import org.springframework.ide.vscode.commons.util.text.DocumentRegion;
@@ -47,8 +48,8 @@ class PropertiesHoverCalculator {
 
 	private PropertyFinder propertyFinder;
 
-	PropertiesHoverCalculator(FuzzyMap<PropertyInfo> index, TypeUtil typeUtil, IDocument doc, int offset) {
-		this.propertyFinder = new PropertyFinder(index, typeUtil, doc, offset);
+	PropertiesHoverCalculator(FuzzyMap<PropertyInfo> index, TypeUtil typeUtil, IDocument doc, int offset, PropertiesAstCache astCache) {
+		this.propertyFinder = new PropertyFinder(index, typeUtil, doc, offset, astCache);
 	}
 
 	Tuple2<Renderable, IRegion> calculate() {
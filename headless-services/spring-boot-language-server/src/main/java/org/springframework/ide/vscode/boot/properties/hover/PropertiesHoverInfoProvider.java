@@ -14,6 +14,7 @@ package org.springframework.ide.vscode.boot.properties.hover;
 import org.springframework.ide.vscode.boot.java.links.SourceLinks;
 import org.springframework.ide.vscode.boot.metadata.SpringPropertyIndexProvider;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtilProvider;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.commons.languageserver.hover.HoverInfoProvider;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
 import org.springframework.ide.vscode.commons.util.Renderable;
@@ -28,17 +29,19 @@ public class PropertiesHoverInfoProvider implements HoverInfoProvider {
 	private TypeUtilProvider typeUtilProvider;
 	private JavaProjectFinder projectFinder;
 	private SourceLinks sourceLinks;
+	private PropertiesAstCache astCache;
 
-	public PropertiesHoverInfoProvider(SpringPropertyIndexProvider indexProvider, TypeUtilProvider typeUtilProvider, JavaProjectFinder projectFinder, SourceLinks sourceLinks) {
+	public PropertiesHoverInfoProvider(SpringPropertyIndexProvider indexProvider, TypeUtilProvider typeUtilProvider, JavaProjectFinder projectFinder, SourceLinks sourceLinks, PropertiesAstCache astCache) {
 		this.indexProvider = indexProvider;
 		this.typeUtilProvider = typeUtilProvider;
 		this.projectFinder = projectFinder;
 		this.sourceLinks = sourceLinks;
+		this.astCache = astCache;
 	}
 
 	@Override
 	public Tuple2<Renderable, IRegion> getHoverInfo(IDocument document, int offset) throws Exception {
 		return new PropertiesHoverCalculator(indexProvider.getIndex(document).getProperties(),
-					typeUtilProvider.getTypeUtil(sourceLinks, document), document, offset).calculate();
+					typeUtilProvider.getTypeUtil(sourceLinks, document), document, offset, astCache).calculate();
 	}
 }
@@ -13,11 +13,11 @@ package org.springframework.ide.vscode.boot.properties.hover;
 import org.springframework.ide.vscode.boot.metadata.PropertyInfo;
 import org.springframework.ide.vscode.boot.metadata.SpringPropertyIndex;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.commons.util.BadLocationException;
 import org.springframework.ide.vscode.commons.util.FuzzyMap;
 import org.springframework.ide.vscode.commons.util.text.DocumentRegion;
 import org.springframework.ide.vscode.commons.util.text.IDocument;
-import org.springframework.ide.vscode.java.properties.antlr.parser.AntlrParser;
 import org.springframework.ide.vscode.java.properties.parser.ParseResults;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.Node;
 
@@ -27,18 +27,18 @@ public class PropertyFinder {
 	final TypeUtil typeUtil;
 	final IDocument doc;
 	final int offset;
-	final AntlrParser parser;
+	final PropertiesAstCache astCache;
 
-	public PropertyFinder(FuzzyMap<PropertyInfo> index, TypeUtil typeUtil, IDocument doc, int offset) {
+	public PropertyFinder(FuzzyMap<PropertyInfo> index, TypeUtil typeUtil, IDocument doc, int offset, PropertiesAstCache astCache) {
 		this.index = index;
 		this.typeUtil = typeUtil;
 		this.doc = doc;
 		this.offset = offset;
-		this.parser = new AntlrParser();
+		this.astCache = astCache;
 	}
 
 	public Node findNode() {
-		ParseResults parseResults = parser.parse(doc.get());
+		ParseResults parseResults = astCache.getParseResults(doc);
 		return parseResults.ast.findNode(offset);
 	}
 
@@ -30,6 +30,7 @@ import org.springframework.ide.vscode.boot.metadata.types.Type;
 import org.springframework.ide.vscode.boot.metadata.types.TypeParser;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtilProvider;
+import org.springframework.ide.vscode.boot.properties.PropertiesAstCache;
 import org.springframework.ide.vscode.boot.properties.quickfix.AppPropertiesQuickFixes;
 import org.springframework.ide.vscode.boot.properties.quickfix.CommonQuickfixes;
 import org.springframework.ide.vscode.boot.properties.quickfix.DeprecatedPropertyData;
@@ -45,9 +46,7 @@ import org.springframework.ide.vscode.commons.util.ValueParseException;
 import org.springframework.ide.vscode.commons.util.ValueParser;
 import org.springframework.ide.vscode.commons.util.text.DocumentRegion;
 import org.springframework.ide.vscode.commons.util.text.IDocument;
-import org.springframework.ide.vscode.java.properties.antlr.parser.AntlrParser;
 import org.springframework.ide.vscode.java.properties.parser.ParseResults;
-import org.springframework.ide.vscode.java.properties.parser.Parser;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.Comment;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.KeyValuePair;
 import org.springframework.ide.vscode.java.properties.parser.PropertiesAst.Node;
@@ -79,15 +78,16 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 
 	private SpringPropertyIndexProvider fIndexProvider;
 	private TypeUtilProvider typeUtilProvider;
-	private Parser parser = new AntlrParser();
+	private PropertiesAstCache astCache;
 	private AppPropertiesQuickFixes quickFixes;
 	private SourceLinks sourceLinks;
 
-	public SpringPropertiesReconcileEngine(SpringPropertyIndexProvider provider, TypeUtilProvider typeUtilProvider, AppPropertiesQuickFixes quickFixes, SourceLinks sourceLinks) {
+	public SpringPropertiesReconcileEngine(SpringPropertyIndexProvider provider, TypeUtilProvider typeUtilProvider, AppPropertiesQuickFixes quickFixes, SourceLinks sourceLinks, PropertiesAstCache astCache) {
 		this.fIndexProvider = provider;
 		this.typeUtilProvider = typeUtilProvider;
 		this.quickFixes = quickFixes;
 		this.sourceLinks = sourceLinks;
+		this.astCache = astCache;
 	}
 
 	@Override
@@ -95,7 +95,7 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 		FuzzyMap<PropertyInfo> index = fIndexProvider.getIndex(doc).getProperties();
 		problemCollector.beginCollecting();
 		try {
-			ParseResults results = parser.parse(doc.get());
+			ParseResults results = astCache.getParseResults(doc);
 			DuplicateNameChecker duplicateNameChecker = new DuplicateNameChecker(problemCollector);
 
 			results.syntaxErrors.forEach(syntaxError -> {
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.xml;
+
+import static org.springframework.ide.vscode.boot.xml.XmlConfigConstants.BEANS_NAMESPACE;
+import static org.springframework.ide.vscode.boot.xml.XmlConfigConstants.BEAN_ELEMENT;
+import static org.springframework.ide.vscode.boot.xml.XmlConfigConstants.CLASS_ATTRIBUTE;
+import static org.springframework.ide.vscode.boot.xml.XmlConfigConstants.ID_ATTRIBUTE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.lemminx.dom.DOMAttr;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMParser;
+
+/**
+ * Parsed DOM of an XML document together with an index of the bean definitions within that document
+ * (by bean id and by bean class), created once per content of the document.
+ *
+ * The lemminx DOM is not thread-safe, therefore the cached DOM is handed out to one thread at a time only,
+ * via {@link #withDom(DOMAction)}. A thread that asks for the DOM while another thread works with it gets
+ * a private copy of the DOM instead of waiting. The bean index doesn't contain any DOM nodes and can be
+ * used concurrently.
+ *
+ * @author Martin Lippert
+ */
+public class CachedXMLDocument {
+
+	private final String content;
+	private final DOMDocument dom;
+	private final AtomicReference<Thread> domOwner = new AtomicReference<>();
+
+	private Map<String, List<XMLBeanDefinition>> beansById;
+	private Map<String, List<XMLBeanDefinition>> beansByClass;
+
+	public CachedXMLDocument(String content) {
+		this.content = content;
+		this.dom = parse(content);
+	}
+
+	public String getContent() {
+		return content;
+	}
+
+	/**
+	 * runs the given action with the DOM of this document, the DOM and its nodes must not be used outside of the action
+	 */
+	public <T, E extends Exception> T withDom(DOMAction<T, E> action) throws E {
+		Thread currentThread = Thread.currentThread();
+
+		// nested usage, e.g. the bean index being built while the same thread works with the DOM
+		if (domOwner.get() == currentThread) {
+			return action.apply(dom);
+		}
+
+		if (domOwner.compareAndSet(null, currentThread)) {
+			try {
+				return action.apply(dom);
+			}
+			finally {
+				domOwner.set(null);
+			}
+		}
+
+		// the cached DOM is used by another thread at the moment
+		return action.apply(parse(content));
+	}
+
+	public List<XMLBeanDefinition> getBeansWithId(String beanId) {
+		return getBeansById().getOrDefault(beanId, List.of());
+	}
+
+	public List<XMLBeanDefinition> getBeansWithClass(String fqClassName) {
+		return getBeansByClass().getOrDefault(fqClassName, List.of());
+	}
+
+	public Set<String> getBeanIds() {
+		return getBeansById().keySet();
+	}
+
+	private synchronized Map<String, List<XMLBeanDefinition>> getBeansById() {
+		if (beansById == null) {
+			indexBeans();
+		}
+		return beansById;
+	}
+
+	private synchronized Map<String, List<XMLBeanDefinition>> getBeansByClass() {
+		if (beansByClass == null) {
+			indexBeans();
+		}
+		return beansByClass;
+	}
+
+	private void indexBeans() {
+		Map<String, List<XMLBeanDefinition>> byId = new HashMap<>();
+		Map<String, List<XMLBeanDefinition>> byClass = new HashMap<>();
+
+		withDom(document -> {
+			indexBeans(document, byId, byClass);
+			return null;
+		});
+
+		this.beansById = byId;
+		this.beansByClass = byClass;
+	}
+
+	private static void indexBeans(DOMNode node, Map<String, List<XMLBeanDefinition>> byId, Map<String, List<XMLBeanDefinition>> byClass) {
+		if (node instanceof DOMElement element && BEANS_NAMESPACE.equals(element.getNamespaceURI()) && BEAN_ELEMENT.equals(element.getLocalName())) {
+			DOMAttr idAttribute = element.getAttributeNode(ID_ATTRIBUTE);
+			String id = idAttribute != null ? idAttribute.getValue() : null;
+			String beanClass = element.getAttribute(CLASS_ATTRIBUTE);
+
+			XMLBeanDefinition bean = idAttribute != null
+					? new XMLBeanDefinition(id, beanClass, idAttribute.getStart(), idAttribute.getEnd())
+					: new XMLBeanDefinition(id, beanClass, -1, -1);
+
+			if (id != null && !id.isEmpty()) {
+				byId.computeIfAbsent(id, key -> new ArrayList<>(1)).add(bean);
+			}
+
+			if (beanClass != null && !beanClass.isEmpty()) {
+				byClass.computeIfAbsent(beanClass, key -> new ArrayList<>(1)).add(bean);
+			}
+		}
+
+		for (DOMNode child : node.getChildren()) {
+			indexBeans(child, byId, byClass);
+		}
+	}
+
+	private static DOMDocument parse(String content) {
+		return DOMParser.getInstance().parse(content, "", null);
+	}
+
+	@FunctionalInterface
+	public interface DOMAction<T, E extends Exception> {
+		T apply(DOMDocument dom) throws E;
+	}
+
+	/**
+	 * @param id the id of the bean, <code>null</code> if the bean definition doesn't have an id
+	 * @param beanClass the class attribute of the bean definition, <code>null</code> if not defined
+	 * @param idStart start offset of the id attribute within the document, -1 if there is no id attribute
+	 * @param idEnd end offset of the id attribute within the document, -1 if there is no id attribute
+	 */
+	public static record XMLBeanDefinition(String id, String beanClass, int idStart, int idEnd) {
+	}
+
+}
@@ -52,7 +52,6 @@ import java.util.Map;
 import org.eclipse.lemminx.dom.DOMAttr;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMNode;
-import org.eclipse.lemminx.dom.DOMParser;
 import org.eclipse.lemminx.dom.parser.Scanner;
 import org.eclipse.lemminx.dom.parser.TokenType;
 import org.eclipse.lemminx.dom.parser.XMLScanner;
@@ -88,23 +87,26 @@ public class SpringXMLCompletionEngine implements ICompletionEngine, LanguageSpe
 
 	private final Map<XMLElementKey, XMLCompletionProvider> completionProviders;
 	private final BootJavaConfig config;
+	private final XMLDocumentCache documentCache;
 	
 	public SpringXMLCompletionEngine(
 			SimpleLanguageServer server, 
 			JavaProjectFinder projectFinder, 
 			SpringSymbolIndex symbolIndex,
 			SpringMetamodelIndex springIndex,
-			BootJavaConfig config
+			BootJavaConfig config,
+			XMLDocumentCache documentCache
 	) {
 
 		this.config = config;
+		this.documentCache = documentCache;
 		this.completionProviders = new HashMap<>();
 
 		TypeCompletionProposalProvider classesOnlyProvider = new TypeCompletionProposalProvider(server, projectFinder, true, true, false, false);
 		TypeCompletionProposalProvider classesAndInterfacesProvider = new TypeCompletionProposalProvider(server, projectFinder, true, true, true, false);
 		TypeCompletionProposalProvider packagesProvider = new TypeCompletionProposalProvider(server, projectFinder, true, false, false, false);
 
-		BeanRefCompletionProposalProvider beanRefProvider = new BeanRefCompletionProposalProvider(projectFinder, springIndex);
+		BeanRefCompletionProposalProvider beanRefProvider = new BeanRefCompletionProposalProvider(projectFinder, springIndex, documentCache);
 		PropertyNameCompletionProposalProvider propertyNameProvider = new PropertyNameCompletionProposalProvider(projectFinder);
 		ConstructorArgNameCompletionProposalProvider constructorArgNameProvider = new ConstructorArgNameCompletionProposalProvider(projectFinder);
 		
@@ -151,9 +153,10 @@ public class SpringXMLCompletionEngine implements ICompletionEngine, LanguageSpe
 		}
 
 		// if doc is not empty, dive into the details and provide more sophisticated content assist proposals
-		DOMParser parser = DOMParser.getInstance();
-		DOMDocument dom = parser.parse(content, "", null);
+		return documentCache.getDocument(doc.getUri(), content).withDom(dom -> getCompletions(doc, content, dom, offset));
+	}
 
+	private InternalCompletionList getCompletions(TextDocument doc, String content, DOMDocument dom, int offset) throws Exception {
 		DOMNode node = dom.findNodeBefore(offset);
 
 		if (node != null) {
@@ -43,7 +43,8 @@ public class SpringXMLLanguageServerComponents implements LanguageServerComponen
 			SpringSymbolIndex springIndexer,
 			BootLanguageServerParams serverParams,
 			BootJavaConfig config,
-			SpelReconciler spelReconciler) {
+			SpelReconciler spelReconciler,
+			XMLDocumentCache documentCache) {
 
 		this.projectFinder = serverParams.projectFinder;
 		this.docSymbolProvider = params -> springIndexer.getDocumentSymbols(params.getTextDocument().getUri());
@@ -51,7 +52,7 @@ public class SpringXMLLanguageServerComponents implements LanguageServerComponen
 		server.doOnInitialized(this::initialized);
 		server.onShutdown(this::shutdown);
 
-		this.reconcileEngine = new SpringXMLReconcileEngine(projectFinder, config, spelReconciler);
+		this.reconcileEngine = new SpringXMLReconcileEngine(projectFinder, config, spelReconciler, documentCache);
 	}
 
 	@Override
@@ -18,9 +18,7 @@ import static org.springframework.ide.vscode.boot.xml.XmlConfigConstants.VALUE_A
 import java.net.URI;
 import java.nio.file.Paths;
 
-import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMNode;
-import org.eclipse.lemminx.dom.DOMParser;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.springframework.ide.vscode.boot.app.BootJavaConfig;
 import org.springframework.ide.vscode.boot.java.spel.SpelReconciler;
@@ -39,10 +37,12 @@ public class SpringXMLReconcileEngine implements IReconcileEngine {
 	private final SpelReconciler spelExpressionReconciler;
 	private final XMLElementReconciler[] reconcilers;
 	private final BootJavaConfig config;
+	private final XMLDocumentCache documentCache;
 
-	public SpringXMLReconcileEngine(JavaProjectFinder projectFinder, BootJavaConfig config, SpelReconciler spelReconciler) {
+	public SpringXMLReconcileEngine(JavaProjectFinder projectFinder, BootJavaConfig config, SpelReconciler spelReconciler, XMLDocumentCache documentCache) {
 		this.projectFinder = projectFinder;
 		this.config = config;
+		this.documentCache = documentCache;
 		
 		this.spelExpressionReconciler = spelReconciler;
 
@@ -78,11 +78,10 @@ public class SpringXMLReconcileEngine implements IReconcileEngine {
 	}
 	
 	private void reconcileXML(final IDocument doc, final IProblemCollector problemCollector) {
-		String content = doc.get();
-
-		DOMParser parser = DOMParser.getInstance();
-		DOMDocument dom = parser.parse(content, "", null);
-		reconcileNode(dom, problemCollector);
+		documentCache.getDocument(doc).withDom(dom -> {
+			reconcileNode(dom, problemCollector);
+			return null;
+		});
 	}
 
 	private void reconcileNode(DOMNode node, IProblemCollector problemCollector) {
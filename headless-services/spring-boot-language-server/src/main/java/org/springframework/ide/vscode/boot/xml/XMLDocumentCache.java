@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.xml;
+
+import org.springframework.ide.vscode.commons.languageserver.util.SimpleTextDocumentService;
+import org.springframework.ide.vscode.commons.util.text.IDocument;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache for the parsed DOM of XML documents, shared by reconciling, content-assist, hyperlinks and
+ * document symbols, so that the DOM of a document gets created once per version of the document
+ * instead of once per request.
+ *
+ * The cached DOM of a document is re-used as long as the content of the document stays the same.
+ * The content is compared instead of the document version, since the document symbols get computed
+ * from the content only. Documents get parsed outside of the cache map, a DOM that got parsed concurrently
+ * for the same content is published only once.
+ *
+ * @author Martin Lippert
+ */
+public class XMLDocumentCache {
+
+	private static final int MAX_DOCUMENTS = 50;
+
+	private final Cache<String, CachedXMLDocument> documents = CacheBuilder.newBuilder().maximumSize(MAX_DOCUMENTS).build();
+
+	public XMLDocumentCache(SimpleTextDocumentService documentService) {
+		if (documentService != null) {
+			documentService.onDidClose(doc -> documents.invalidate(doc.getUri()));
+		}
+	}
+
+	public CachedXMLDocument getDocument(IDocument doc) {
+		return getDocument(doc.getUri(), doc.get());
+	}
+
+	public CachedXMLDocument getDocument(String docURI, String content) {
+		if (docURI == null) {
+			return new CachedXMLDocument(content);
+		}
+
+		CachedXMLDocument cached = documents.getIfPresent(docURI);
+		if (cached != null && cached.getContent().equals(content)) {
+			return cached;
+		}
+
+		// parse outside of the map, so that lookups for other documents don't wait for it
+		CachedXMLDocument parsed = new CachedXMLDocument(content);
+		return documents.asMap().compute(docURI, (uri, existing) -> existing != null && existing.getContent().equals(content) ? existing : parsed);
+	}
+
+}
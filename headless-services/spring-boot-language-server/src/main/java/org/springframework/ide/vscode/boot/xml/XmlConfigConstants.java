@@ -29,6 +29,7 @@ public class XmlConfigConstants {
 	public static final String ENTRY_ELEMENT = 				"entry";
 	public static final String LOOKUP_METHOD_ELEMENT = 		"lookup-method";
 	
+	public static final String ID_ATTRIBUTE = 			"id";
 	public static final String CLASS_ATTRIBUTE = 		"class";
 	public static final String TYPE_ATTRIBUTE = 		"type";
 	public static final String NAME_ATTRIBUTE = 		"name";
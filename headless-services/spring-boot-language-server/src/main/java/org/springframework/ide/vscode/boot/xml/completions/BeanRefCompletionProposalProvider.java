@@ -10,10 +10,11 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.xml.completions;
 
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.lemminx.dom.DOMAttr;
@@ -22,6 +23,7 @@ import org.eclipse.lemminx.dom.parser.Scanner;
 import org.eclipse.lsp4j.CompletionItemKind;
 import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
 import org.springframework.ide.vscode.boot.xml.XMLCompletionProvider;
+import org.springframework.ide.vscode.boot.xml.XMLDocumentCache;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
 import org.springframework.ide.vscode.commons.languageserver.completion.DocumentEdits;
 import org.springframework.ide.vscode.commons.languageserver.completion.ICompletionProposal;
@@ -41,10 +43,12 @@ public class BeanRefCompletionProposalProvider implements XMLCompletionProvider
 
 	private final JavaProjectFinder projectFinder;
 	private final SpringMetamodelIndex index;
+	private final XMLDocumentCache documentCache;
 
-	public BeanRefCompletionProposalProvider(JavaProjectFinder projectFinder, SpringMetamodelIndex index) {
+	public BeanRefCompletionProposalProvider(JavaProjectFinder projectFinder, SpringMetamodelIndex index, XMLDocumentCache documentCache) {
 		this.projectFinder = projectFinder;
 		this.index = index;
+		this.documentCache = documentCache;
 	}
 
 	@Override
@@ -66,9 +70,14 @@ public class BeanRefCompletionProposalProvider implements XMLCompletionProvider
 
 			final String searchPrefix = prefix;
 
-			Bean[] beansOfProject = this.index.getBeansOfProject(project.getElementName());
-			List<ICompletionProposal> completionItems = Arrays.stream(beansOfProject)
-				.map(bean -> bean.getName())
+			// beans of the project from the index, plus the beans of the current (maybe not yet saved) document
+			Set<String> beanIDs = new LinkedHashSet<>();
+			for (Bean bean : this.index.getBeansOfProject(project.getElementName())) {
+				beanIDs.add(bean.getName());
+			}
+			beanIDs.addAll(documentCache.getDocument(doc).getBeanIds());
+
+			List<ICompletionProposal> completionItems = beanIDs.stream()
 				.filter(beanID -> beanID != null && beanID.length() > 0)
 				.map(beanID -> Tuples.of(beanID, FuzzyMatcher.matchScore(searchPrefix, beanID)))
 				.filter(tuple -> tuple.getT2() != 0.0)
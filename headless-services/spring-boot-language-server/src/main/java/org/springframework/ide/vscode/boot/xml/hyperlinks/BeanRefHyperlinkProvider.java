@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.xml.hyperlinks;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -18,9 +19,12 @@ import org.eclipse.lemminx.dom.DOMAttr;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lsp4j.Location;
 import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
+import org.springframework.ide.vscode.boot.xml.CachedXMLDocument.XMLBeanDefinition;
+import org.springframework.ide.vscode.boot.xml.XMLDocumentCache;
 import org.springframework.ide.vscode.commons.java.IJavaProject;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
 import org.springframework.ide.vscode.commons.protocol.spring.Bean;
+import org.springframework.ide.vscode.commons.util.BadLocationException;
 import org.springframework.ide.vscode.commons.util.text.TextDocument;
 
 /**
@@ -30,10 +34,12 @@ public class BeanRefHyperlinkProvider implements XMLHyperlinkProvider {
 	
 	private final JavaProjectFinder projectFinder;
 	private final SpringMetamodelIndex springIndex;
+	private final XMLDocumentCache documentCache;
 
-	public BeanRefHyperlinkProvider(JavaProjectFinder projectFinder, SpringMetamodelIndex springIndex) {
+	public BeanRefHyperlinkProvider(JavaProjectFinder projectFinder, SpringMetamodelIndex springIndex, XMLDocumentCache documentCache) {
 		this.projectFinder = projectFinder;
 		this.springIndex = springIndex;
+		this.documentCache = documentCache;
 	}
 
 	@Override
@@ -50,6 +56,20 @@ public class BeanRefHyperlinkProvider implements XMLHyperlinkProvider {
 					.map(bean -> bean.getLocation())
 					.toList();
 			}
+
+			// bean might be defined in the current document, but not saved (and therefore not indexed) yet
+			List<XMLBeanDefinition> beansInDocument = documentCache.getDocument(doc).getBeansWithId(beanID);
+			if (!beansInDocument.isEmpty()) {
+				List<Location> locations = new ArrayList<>(beansInDocument.size());
+				for (XMLBeanDefinition bean : beansInDocument) {
+					try {
+						locations.add(new Location(doc.getUri(), doc.toRange(bean.idStart(), bean.idEnd() - bean.idStart())));
+					} catch (BadLocationException e) {
+						// ignore
+					}
+				}
+				return locations;
+			}
 		}
 		return null;
 	}
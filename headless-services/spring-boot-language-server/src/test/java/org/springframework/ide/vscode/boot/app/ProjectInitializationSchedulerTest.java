@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ProjectInitializationSchedulerTest {
+
+	private ProjectInitializationScheduler scheduler;
+
+	@AfterEach
+	void tearDown() {
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	void testProjectsInitializedInParallel() throws Exception {
+		scheduler = new ProjectInitializationScheduler(2, 1.0, () -> 0.0);
+
+		CountDownLatch bothRunning = new CountDownLatch(2);
+		Runnable initialization = () -> {
+			bothRunning.countDown();
+			await(bothRunning);
+		};
+
+		CompletableFuture<Void> first = scheduler.schedule("first", false, initialization);
+		CompletableFuture<Void> second = scheduler.schedule("second", false, initialization);
+
+		CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void testProjectsWithOpenDocumentsFirst() throws Exception {
+		scheduler = new ProjectInitializationScheduler(1, 1.0, () -> 0.0);
+
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> initialized = new CopyOnWriteArrayList<>();
+
+		scheduler.schedule("running", false, () -> await(release));
+		CompletableFuture<Void> closed1 = scheduler.schedule("closed1", false, () -> initialized.add("closed1"));
+		CompletableFuture<Void> open = scheduler.schedule("open", true, () -> initialized.add("open"));
+		CompletableFuture<Void> closed2 = scheduler.schedule("closed2", false, () -> initialized.add("closed2"));
+
+		release.countDown();
+		CompletableFuture.allOf(closed1, open, closed2).get(10, TimeUnit.SECONDS);
+
+		assertEquals(List.of("open", "closed1", "closed2"), initialized);
+	}
+
+	@Test
+	void testNoParallelInitializationAboveMemoryThreshold() throws Exception {
+		scheduler = new ProjectInitializationScheduler(2, 0.5, () -> 0.9);
+
+		CountDownLatch firstStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean firstDone = new AtomicBoolean();
+
+		CompletableFuture<Void> first = scheduler.schedule("first", false, () -> {
+			firstStarted.countDown();
+			await(release);
+			firstDone.set(true);
+		});
+		assertTrue(firstStarted.await(10, TimeUnit.SECONDS));
+
+		AtomicBoolean secondSawFirstDone = new AtomicBoolean();
+		CompletableFuture<Void> second = scheduler.schedule("second", false, () -> secondSawFirstDone.set(firstDone.get()));
+
+		Thread.sleep(500);
+		assertFalse(second.isDone());
+
+		release.countDown();
+		CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+		assertTrue(secondSawFirstDone.get());
+	}
+
+	@Test
+	void testFailedInitialization() throws Exception {
+		scheduler = new ProjectInitializationScheduler(2, 1.0, () -> 0.0);
+
+		CompletableFuture<Void> failed = scheduler.schedule("failed", false, () -> {
+			throw new IllegalStateException();
+		});
+		CompletableFuture<Void> next = scheduler.schedule("next", false, () -> {});
+
+		next.get(10, TimeUnit.SECONDS);
+		failed.handle((result, error) -> null).get(10, TimeUnit.SECONDS);
+		assertTrue(failed.isCompletedExceptionally());
+	}
+
+	@Test
+	void testQueuedInitializationsCancelledOnShutdown() throws Exception {
+		scheduler = new ProjectInitializationScheduler(1, 1.0, () -> 0.0);
+
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<Void> running = scheduler.schedule("running", false, () -> {
+			started.countDown();
+			await(new CountDownLatch(1));
+		});
+		CompletableFuture<Void> queued = scheduler.schedule("queued", false, () -> {});
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+
+		scheduler.shutdown();
+
+		assertTrue(queued.isCancelled());
+		running.get(10, TimeUnit.SECONDS);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index.cache.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.springframework.ide.vscode.commons.protocol.spring.AnnotationMetadata;
+import org.springframework.ide.vscode.commons.protocol.spring.Bean;
+import org.springframework.ide.vscode.commons.protocol.spring.IndexElementInterner;
+import org.springframework.ide.vscode.commons.protocol.spring.InjectionPoint;
+
+/**
+ * Measures the approximate heap footprint per bean of the index, with type names, supertype sets and URIs
+ * being interned. Not a precise measurement (it is based on the used heap after a number of GCs), but good
+ * enough to spot regressions.
+ * <p>
+ * Usage: <code>IndexElementFootprintBenchmark [beans]</code> (default: 20.000 beans)
+ *
+ * @author Martin Lippert
+ */
+public class IndexElementFootprintBenchmark {
+
+	private static final String DOC_URI = "file:///someproject/src/main/java/com/example/SomeConfig.java";
+
+	public static void main(String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+		List<Bean> beans = new ArrayList<>(count);
+
+		long before = usedHeap();
+		for (int i = 0; i < count; i++) {
+			beans.add(createBean("bean" + i));
+		}
+		long after = usedHeap();
+
+		System.out.println(String.format("%,d beans, approx. %,d bytes per bean, %,d shared supertype sets",
+				beans.size(), (after - before) / count, IndexElementInterner.getTypeSetCount()));
+	}
+
+	private static Bean createBean(String name) {
+		// use fresh string instances to simulate values coming from different ASTs
+		Location location = new Location(new String(DOC_URI), new Range(new Position(10, 4), new Position(10, 20)));
+		AnnotationMetadata annotation = new AnnotationMetadata(new String("org.springframework.context.annotation.Bean"), false, location, null);
+		InjectionPoint injectionPoint = new InjectionPoint("dep", new String("com.example.Dependency"), location, null);
+
+		return new Bean(name, new String("com.example.SomeBean"), location, new InjectionPoint[] {injectionPoint},
+				Set.of(new String("com.example.SomeInterface"), new String("com.example.AbstractBase"), "java.lang.Object"),
+				new AnnotationMetadata[] {annotation}, false, name);
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index.cache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.index.cache.IndexCacheKey;
+import org.springframework.ide.vscode.boot.index.cache.IndexCacheOnDiscDeltaBased;
+import org.springframework.ide.vscode.boot.java.beans.CachedIndexElement;
+import org.springframework.ide.vscode.boot.java.utils.QualifiedTypeName;
+import org.springframework.ide.vscode.boot.java.utils.SourceJavaFile;
+import org.springframework.ide.vscode.commons.protocol.spring.AnnotationMetadata;
+import org.springframework.ide.vscode.commons.protocol.spring.Bean;
+import org.springframework.ide.vscode.commons.protocol.spring.IndexElementInterner;
+import org.springframework.ide.vscode.commons.protocol.spring.InjectionPoint;
+
+import com.google.common.collect.Multimap;
+
+public class IndexElementInternerTest {
+
+	private static final String DOC_URI = "file:///someproject/src/main/java/com/example/SomeConfig.java";
+	private static final IndexCacheKey CACHE_KEY = new IndexCacheKey("someProject", "someIndexer", "someCategory", "1");
+
+	private Path tempDir;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		tempDir = Files.createTempDirectory("internertest");
+	}
+
+	@AfterEach
+	public void deleteTempDir() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	@Test
+	void testSupertypeSetsAreShared() {
+		String[] types1 = IndexElementInterner.internTypes(new String[] {"com.example.B", "com.example.A"});
+		String[] types2 = IndexElementInterner.internTypes(new String[] {new String("com.example.A"), new String("com.example.B")});
+
+		assertSame(types1, types2);
+		assertEquals("com.example.A", types1[0]);
+		assertEquals("com.example.B", types1[1]);
+	}
+
+	@Test
+	void testBeanConstructorInternsTypesAndUris() {
+		Bean bean1 = createBean("bean1");
+		Bean bean2 = createBean("bean2");
+
+		assertSame(bean1.getType(), bean2.getType());
+		assertSame(bean1.getLocation().getUri(), bean2.getLocation().getUri());
+		assertSame(bean1.getAnnotations()[0].getAnnotationType(), bean2.getAnnotations()[0].getAnnotationType());
+		assertSame(bean1.getInjectionPoints()[0].getType(), bean2.getInjectionPoints()[0].getType());
+
+		assertTrue(bean1.isTypeCompatibleWith("com.example.SomeInterface"));
+		assertTrue(bean1.isTypeCompatibleWith("java.lang.Object"));
+		assertFalse(bean1.isTypeCompatibleWith("com.example.Unknown"));
+		assertEquals(Set.of("com.example.SomeInterface", "com.example.AbstractBase", "java.lang.Object"), bean1.getSupertypes());
+	}
+
+	@Test
+	void testDeserializedBeansAreInterned() throws Exception {
+		Path file = tempDir.resolve("SomeConfig.java");
+		Files.createFile(file);
+		String[] files = {file.toString()};
+
+		List<CachedIndexElement> elements = new ArrayList<>();
+		elements.add(new CachedIndexElement(DOC_URI, createBean("bean1")));
+		elements.add(new CachedIndexElement(DOC_URI, createBean("bean2")));
+
+		IndexCacheOnDiscDeltaBased cache = new IndexCacheOnDiscDeltaBased(tempDir.toFile());
+		cache.store(CACHE_KEY, files, elements, null, CachedIndexElement.class);
+
+		Pair<CachedIndexElement[], Multimap<SourceJavaFile, QualifiedTypeName>> result = new IndexCacheOnDiscDeltaBased(tempDir.toFile()).retrieve(CACHE_KEY, files, CachedIndexElement.class);
+		Bean bean1 = (Bean) result.getLeft()[0].getIndexElement();
+		Bean bean2 = (Bean) result.getLeft()[1].getIndexElement();
+
+		assertSame(result.getLeft()[0].getDocURI(), result.getLeft()[1].getDocURI());
+		assertSame(bean1.getType(), bean2.getType());
+		assertSame(bean1.getLocation().getUri(), bean2.getLocation().getUri());
+		assertSame(bean1.getAnnotations()[0].getAnnotationType(), bean2.getAnnotations()[0].getAnnotationType());
+
+		assertTrue(bean1.isTypeCompatibleWith("com.example.AbstractBase"));
+		assertEquals(bean1.getSupertypes(), bean2.getSupertypes());
+	}
+
+	private Bean createBean(String name) {
+		// use fresh string instances to simulate values coming from different ASTs
+		Location location = new Location(new String(DOC_URI), new Range(new Position(10, 4), new Position(10, 20)));
+		AnnotationMetadata annotation = new AnnotationMetadata(new String("org.springframework.context.annotation.Bean"), false, location, null);
+		InjectionPoint injectionPoint = new InjectionPoint("dep", new String("com.example.Dependency"), location, null);
+
+		return new Bean(name, new String("com.example.SomeBean"), location, new InjectionPoint[] {injectionPoint},
+				Set.of(new String("com.example.SomeInterface"), new String("com.example.AbstractBase"), "java.lang.Object"),
+				new AnnotationMetadata[] {annotation}, false, name);
+	}
+
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore.DocumentDiagnostics;
+
+public class DiagnosticsStoreTest {
+
+	private static final String DOC1 = "file:///project1/UserService.java";
+	private static final String DOC2 = "file:///project1/UserController.java";
+
+	private DiagnosticsStore store;
+
+	@BeforeEach
+	public void setup() {
+		store = new DiagnosticsStore();
+		store.update("project1", DOC1, List.of(
+				diagnostic("missing bean", DiagnosticSeverity.Error, "BEAN_MISSING"),
+				diagnostic("use constructor injection", DiagnosticSeverity.Warning, "FIELD_INJECTION")));
+		store.update("project1", DOC2, List.of(
+				diagnostic("use constructor injection", DiagnosticSeverity.Warning, "FIELD_INJECTION")));
+		store.update("project2", "file:///project2/Other.java", List.of(
+				diagnostic("missing bean", DiagnosticSeverity.Error, "BEAN_MISSING")));
+	}
+
+	@Test
+	void testProjectDiagnostics() {
+		assertEquals(2, store.getDiagnostics("project1").size());
+		assertEquals(1, store.getDiagnostics("project2").size());
+		assertEquals(0, store.getDiagnostics("project3").size());
+
+		assertEquals(2, getDocumentDiagnostics("project1", DOC1).diagnostics().size());
+		assertNull(getDocumentDiagnostics("project1", "file:///project1/Unknown.java"));
+	}
+
+	@Test
+	void testDocumentsWithoutDiagnosticsNotStored() {
+		store.update("project1", DOC2, List.of());
+		store.update("project3", "file:///project3/Clean.java", List.of());
+
+		assertEquals(1, store.getDiagnostics("project1").size());
+		assertNull(getDocumentDiagnostics("project1", DOC2));
+		assertEquals(0, store.getDiagnostics("project3").size());
+		assertFalse(store.getProjectNames().contains("project3"));
+	}
+
+	@Test
+	void testUpdateReplacesDocumentDiagnostics() {
+		String resultId = getDocumentDiagnostics("project1", DOC1).resultId();
+
+		store.update("project1", DOC1, List.of(diagnostic("use constructor injection", DiagnosticSeverity.Warning, "FIELD_INJECTION")));
+
+		DocumentDiagnostics document = getDocumentDiagnostics("project1", DOC1);
+		assertNotEquals(resultId, document.resultId());
+		assertEquals(1, document.diagnostics().size());
+		assertEquals(DiagnosticSeverity.Warning, document.diagnostics().get(0).getSeverity());
+	}
+
+	@Test
+	void testRemoveDocumentAndProject() {
+		store.removeDocument("project1", DOC2);
+
+		assertEquals(1, store.getDiagnostics("project1").size());
+		assertNull(getDocumentDiagnostics("project1", DOC2));
+
+		store.removeProject("project1");
+
+		assertEquals(0, store.getDiagnostics("project1").size());
+		assertNull(getDocumentDiagnostics("project1", DOC1));
+		assertEquals(List.of("project2"), List.copyOf(store.getProjectNames()));
+	}
+
+	private DocumentDiagnostics getDocumentDiagnostics(String projectName, String docURI) {
+		return store.getDiagnostics(projectName).stream().filter(document -> docURI.equals(document.docURI())).findFirst().orElse(null);
+	}
+
+	private static Diagnostic diagnostic(String message, DiagnosticSeverity severity, String code) {
+		return new Diagnostic(new Range(new Position(1, 0), new Position(1, 10)), message, severity, "spring-boot", code);
+	}
+
+}
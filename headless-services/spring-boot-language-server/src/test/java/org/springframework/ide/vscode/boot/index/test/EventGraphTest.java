@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.index.EventGraph;
+import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
+import org.springframework.ide.vscode.boot.java.events.EventListenerIndexElement;
+import org.springframework.ide.vscode.boot.java.events.EventPublisherIndexElement;
+import org.springframework.ide.vscode.commons.protocol.spring.AnnotationAttributeValue;
+import org.springframework.ide.vscode.commons.protocol.spring.AnnotationMetadata;
+import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElement;
+
+public class EventGraphTest {
+
+	private static final String LISTENER_DOC = "file:///project1/CustomEventListener.java";
+	private static final String PUBLISHER_DOC = "file:///project1/CustomEventPublisher.java";
+
+	private SpringMetamodelIndex index;
+
+	private EventListenerIndexElement customListener;
+	private EventListenerIndexElement annotationListener;
+	private EventPublisherIndexElement customPublisher;
+	private EventPublisherIndexElement specializedPublisher;
+
+	@BeforeEach
+	public void setup() {
+		customListener = new EventListenerIndexElement("com.example.CustomEvent", location(LISTENER_DOC, 5, 10), "com.example.CustomEventListener", new AnnotationMetadata[0]);
+		annotationListener = new EventListenerIndexElement("java.lang.Object", location(LISTENER_DOC, 12, 15), "com.example.CustomEventListener", new AnnotationMetadata[] {
+				new AnnotationMetadata("org.springframework.context.event.EventListener", false, null,
+						Map.of("classes", new AnnotationAttributeValue[] {new AnnotationAttributeValue("com.example.OtherEvent", null)}))
+		});
+
+		customPublisher = new EventPublisherIndexElement("com.example.CustomEvent", location(PUBLISHER_DOC, 8, 8), Set.of());
+		specializedPublisher = new EventPublisherIndexElement("com.example.SpecializedEvent", location(PUBLISHER_DOC, 14, 14), Set.of("com.example.CustomEvent"));
+
+		index = new SpringMetamodelIndex();
+		index.updateElements("project1", LISTENER_DOC, new SpringIndexElement[] {customListener, annotationListener});
+		index.updateElements("project1", PUBLISHER_DOC, new SpringIndexElement[] {customPublisher, specializedPublisher});
+	}
+
+	@Test
+	void testFindByPosition() {
+		EventGraph events = index.getEventGraph();
+
+		assertSame(customListener, events.findListener(LISTENER_DOC, new Position(7, 3)));
+		assertSame(annotationListener, events.findListener(LISTENER_DOC, new Position(15, 20)));
+		assertNull(events.findListener(LISTENER_DOC, new Position(11, 0)));
+		assertNull(events.findListener(LISTENER_DOC, new Position(2, 0)));
+
+		assertSame(specializedPublisher, events.findPublisher(PUBLISHER_DOC, new Position(14, 5)));
+		assertNull(events.findPublisher(LISTENER_DOC, new Position(7, 3)));
+	}
+
+	@Test
+	void testMatchingIncludesTypeHierarchy() {
+		EventGraph events = index.getEventGraph();
+
+		assertEquals(Set.of(customPublisher, specializedPublisher), Set.copyOf(events.getPublishers(customListener)));
+		assertEquals(Set.of(customListener), Set.copyOf(events.getListeners(specializedPublisher)));
+		assertTrue(events.getPublishers(annotationListener).isEmpty());
+	}
+
+	@Test
+	void testIncrementalUpdates() {
+		EventPublisherIndexElement otherPublisher = new EventPublisherIndexElement("com.example.OtherEvent", location(PUBLISHER_DOC, 8, 8), Set.of());
+		index.updateElements("project1", PUBLISHER_DOC, new SpringIndexElement[] {otherPublisher});
+
+		EventGraph events = index.getEventGraph();
+		assertTrue(events.getPublishers(customListener).isEmpty());
+		assertEquals(Set.of(otherPublisher), Set.copyOf(events.getPublishers(annotationListener)));
+
+		index.removeElements("project1", LISTENER_DOC);
+		assertNull(events.findListener(LISTENER_DOC, new Position(7, 3)));
+		assertTrue(events.getListeners(otherPublisher).isEmpty());
+
+		index.removeProject("project1");
+		assertNull(events.findPublisher(PUBLISHER_DOC, new Position(8, 3)));
+	}
+
+	private static Location location(String docURI, int startLine, int endLine) {
+		return new Location(docURI, new Range(new Position(startLine, 2), new Position(endLine, 40)));
+	}
+
+}
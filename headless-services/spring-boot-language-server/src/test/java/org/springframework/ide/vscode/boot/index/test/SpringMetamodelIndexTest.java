@@ -13,6 +13,7 @@ package org.springframework.ide.vscode.boot.index.test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,8 +35,12 @@ import org.springframework.ide.vscode.commons.protocol.spring.AnnotationAttribut
 import org.springframework.ide.vscode.commons.protocol.spring.AnnotationMetadata;
 import org.springframework.ide.vscode.commons.protocol.spring.Bean;
 import org.springframework.ide.vscode.commons.protocol.spring.DefaultValues;
+import org.springframework.ide.vscode.commons.protocol.spring.DocumentElement;
 import org.springframework.ide.vscode.commons.protocol.spring.InjectionPoint;
+import org.springframework.ide.vscode.commons.protocol.spring.ProjectElement;
 import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElement;
+import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElementUtils;
+import org.springframework.ide.vscode.commons.protocol.spring.SymbolElement;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -517,6 +522,102 @@ public class SpringMetamodelIndexTest {
 		assertEquals(2, childrenAfterNewChildAdded.size());
 	}
 
+	@Test
+	void testParentLinks() {
+		Gson gson = createTestGson();
+
+		SubType1 child1 = new SubType1();
+		Bean bean1 = new Bean("beanName1", "beanType", locationForDoc1, emptyInjectionPoints, emptySupertypes, emptyAnnotations, true, "symbolLabel");
+		Bean bean2 = new Bean("beanName2", "beanType", locationForDoc1, emptyInjectionPoints, emptySupertypes, emptyAnnotations, true, "symbolLabel");
+		bean1.addChild(child1);
+		bean1.addChild(bean2);
+
+		// parent links are not serialized, they get restored when the elements are added to the index
+		Bean deserializedBean = gson.fromJson(gson.toJson(bean1), Bean.class);
+
+		SpringMetamodelIndex index = new SpringMetamodelIndex();
+		index.updateElements("someProject", "docURI1", new SpringIndexElement[] {deserializedBean});
+
+		SpringIndexElement deserializedChild = deserializedBean.getChildren().get(0);
+		Bean deserializedChildBean = (Bean) deserializedBean.getChildren().get(1);
+
+		assertSame(deserializedBean, deserializedChild.getParent());
+		assertSame(deserializedBean, index.getParentBean(deserializedChildBean));
+		assertNull(index.getParentBean(deserializedBean));
+
+		deserializedBean.removeChild(deserializedChildBean);
+		assertNull(deserializedChildBean.getParent());
+	}
+
+	@Test
+	void testParentLinksOfElementsAddedToProject() {
+		Gson gson = createTestGson();
+
+		SubType1 child = new SubType1();
+		Bean bean = new Bean("beanName1", "beanType", locationForDoc1, emptyInjectionPoints, emptySupertypes, emptyAnnotations, true, "symbolLabel");
+		bean.addChild(child);
+
+		Bean deserializedBean = gson.fromJson(gson.toJson(bean), Bean.class);
+		assertNull(deserializedBean.getChildren().get(0).getParent());
+
+		ProjectElement project = new ProjectElement("someProject");
+		project.addChild(deserializedBean);
+
+		assertSame(project, deserializedBean.getParent());
+		assertSame(deserializedBean, deserializedBean.getChildren().get(0).getParent());
+	}
+
+	@Test
+	void testNodesOfTypeFollowChanges() {
+		SpringMetamodelIndex index = new SpringMetamodelIndex();
+
+		Bean bean1 = new Bean("beanName1", "beanType", locationForDoc1, emptyInjectionPoints, emptySupertypes, emptyAnnotations, false, "symbolLabel");
+		bean1.addChild(new SubType1());
+		index.updateElements("someProject", "docURI1", new SpringIndexElement[] {bean1});
+
+		assertEquals(1, index.getNodesOfType(SubType1.class).size());
+		assertEquals(0, index.getNodesOfType("someProject", SubType2.class).size());
+		assertEquals(1, index.getBeansOfProject("someProject").length);
+
+		// changes deeper in the tree of a document are reflected as well
+		Bean bean2 = new Bean("beanName2", "beanType", locationForDoc1, emptyInjectionPoints, emptySupertypes, emptyAnnotations, false, "symbolLabel");
+		bean2.addChild(new SubType2());
+		bean1.addChild(bean2);
+
+		assertEquals(1, index.getNodesOfType("someProject", SubType2.class).size());
+		assertEquals(2, index.getNodesOfType("someProject", Bean.class).size());
+		assertEquals(2, index.getBeansOfProject("someProject").length);
+		assertSame(bean1, index.getParentBean(bean2));
+
+		index.removeElements("someProject", "docURI1");
+		assertEquals(0, index.getNodesOfType(SubType1.class).size());
+		assertEquals(0, index.getBeansOfProject("someProject").length);
+	}
+
+	@Test
+	void testNodesOfTypeInTraversalOrder() {
+		SpringMetamodelIndex index = new SpringMetamodelIndex();
+
+		SubType1 child1 = new SubType1();
+		SubType2 child2 = new SubType2();
+		Bean bean1 = new Bean("beanName1", "beanType", locationForDoc1, emptyInjectionPoints, emptySupertypes, emptyAnnotations, false, "symbolLabel");
+		Bean bean2 = new Bean("beanName2", "beanType", locationForDoc1, emptyInjectionPoints, emptySupertypes, emptyAnnotations, false, "symbolLabel");
+		Bean bean3 = new Bean("beanName3", "beanType", locationForDoc1, emptyInjectionPoints, emptySupertypes, emptyAnnotations, false, "symbolLabel");
+		bean2.addChild(child2);
+		bean1.addChild(child1);
+		bean1.addChild(bean2);
+		index.updateElements("someProject", "docURI1", new SpringIndexElement[] {bean1, bean3});
+
+		DocumentElement document = index.getDocument("docURI1");
+
+		// elements of different concrete types are returned in the order of walking the tree, not grouped by type
+		assertEquals(List.of(document, bean1, bean3, child1, bean2, child2),
+				SpringIndexElementUtils.getNodesOfType(AbstractSpringIndexElement.class, List.of(document)));
+		assertEquals(List.of(document, bean1, bean3, child1, bean2, child2),
+				index.getNodesOfType("someProject", AbstractSpringIndexElement.class));
+		assertEquals(List.of(bean1, bean3, bean2), SpringIndexElementUtils.getNodesOfType(SymbolElement.class, List.of(document)));
+	}
+
 	static class SubType1 extends AbstractSpringIndexElement {
 	}
 
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
+import org.springframework.ide.vscode.commons.protocol.spring.SimpleSymbolElement;
+import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElement;
+
+public class SymbolLabelIndexTest {
+
+	private SpringMetamodelIndex index;
+
+	@BeforeEach
+	public void setup() {
+		index = new SpringMetamodelIndex();
+		index.updateElements("project1", "file:///project1/UserService.java", new SpringIndexElement[] {
+				symbol("@+ 'userBeanService' (@Bean) UserBeanService", "file:///project1/UserService.java"),
+				symbol("@+ 'someService' (@Component) SomeUserThing", "file:///project1/UserService.java")
+		});
+		index.updateElements("project2", "file:///project2/Other.java", new SpringIndexElement[] {
+				symbol("@/users -- GET", "file:///project2/Other.java"),
+				symbol("@+ 'ubs' (@Component) Ubs", "file:///project2/Other.java")
+		});
+	}
+
+	@Test
+	void testEmptyQueryReturnsAllSymbols() {
+		assertEquals(4, index.searchSymbols("", "", 0, null).size());
+		assertEquals(2, index.searchSymbols("file:///project2", "", 0, null).size());
+	}
+
+	@Test
+	void testRankedMatches() {
+		List<WorkspaceSymbol> symbols = index.searchSymbols("", "ubs", 0, null);
+
+		assertEquals(2, symbols.size());
+		// word prefix first, camel-case match second
+		assertEquals("@+ 'ubs' (@Component) Ubs", symbols.get(0).getName());
+		assertEquals("@+ 'userBeanService' (@Bean) UserBeanService", symbols.get(1).getName());
+	}
+
+	@Test
+	void testSubsequenceMatches() {
+		List<WorkspaceSymbol> symbols = index.searchSymbols("", "usrthng", 0, null);
+
+		assertEquals(1, symbols.size());
+		assertEquals("@+ 'someService' (@Component) SomeUserThing", symbols.get(0).getName());
+	}
+
+	@Test
+	void testLimit() {
+		List<WorkspaceSymbol> symbols = index.searchSymbols("", "user", 2, null);
+
+		assertEquals(2, symbols.size());
+		assertEquals("@/users -- GET", symbols.get(0).getName());
+	}
+
+	@Test
+	void testEmptyQueryIgnoresLimit() {
+		assertEquals(4, index.searchSymbols("", "", 2, null).size());
+	}
+
+	@Test
+	void testIndexFollowsMetamodelUpdates() {
+		index.removeElements("project1", "file:///project1/UserService.java");
+		assertEquals(2, index.searchSymbols("", "", 0, null).size());
+
+		index.updateElements("project2", "file:///project2/Other.java", new SpringIndexElement[] {
+				symbol("@+ 'replacement' (@Component) Replacement", "file:///project2/Other.java")
+		});
+		assertEquals(1, index.searchSymbols("", "", 0, null).size());
+
+		index.removeProject("project2");
+		assertEquals(0, index.searchSymbols("", "", 0, null).size());
+	}
+
+	@Test
+	void testCancellation() {
+		for (int i = 0; i < 1000; i++) {
+			String docURI = "file:///project3/Doc" + i + ".java";
+			index.updateElements("project3", docURI, new SpringIndexElement[] {symbol("@+ 'bean" + i + "'", docURI)});
+		}
+
+		assertThrows(CancellationException.class, () -> index.searchSymbols("", "bean", 0, () -> {
+			throw new CancellationException();
+		}));
+	}
+
+	private SimpleSymbolElement symbol(String label, String docURI) {
+		WorkspaceSymbol symbol = new WorkspaceSymbol(label, SymbolKind.Interface,
+				Either.forLeft(new Location(docURI, new Range(new Position(1, 1), new Position(1, 10)))));
+		return new SimpleSymbolElement(symbol);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index.test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.springframework.ide.vscode.boot.index.TypeHierarchy;
+import org.springframework.ide.vscode.commons.protocol.spring.AnnotationMetadata;
+import org.springframework.ide.vscode.commons.protocol.spring.Bean;
+import org.springframework.ide.vscode.commons.protocol.spring.InjectionPoint;
+
+/**
+ * Compares looking up the beans matching a type by a linear scan over all beans of a project with the lookup via
+ * a {@link TypeHierarchy}: the first lookup after the beans of the project changed (which creates the hierarchy)
+ * and the following lookups on the same hierarchy. The break-even is the number of lookups on the same beans
+ * after which the hierarchy is cheaper than scanning the beans for every lookup.
+ * <p>
+ * Usage: <code>TypeHierarchyBenchmark [beans] [supertypes per bean] [rounds]</code> (default: 2000 beans with 8 supertypes each, 200 rounds)
+ *
+ * @author Martin Lippert
+ */
+public class TypeHierarchyBenchmark {
+
+	private static final Location LOCATION = new Location("file:///benchmark/Beans.java", new Range(new Position(1, 1), new Position(1, 10)));
+
+	public static void main(String[] args) {
+		int beanCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		int supertypesPerBean = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+		int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+		System.out.println(String.format("%,d beans with %d supertypes each, %d rounds", beanCount, supertypesPerBean, rounds));
+
+		List<Bean> beans = createBeans(beanCount, supertypesPerBean);
+		String[] queries = {"com.example.Service17", "com.example.Bean42", Object.class.getName(), "com.example.Unknown"};
+
+		// warm up
+		for (int i = 0; i < 20; i++) {
+			linear(beans, queries[i % queries.length]);
+			TypeHierarchy.of(beans).getBeansAssignableTo(queries[i % queries.length]);
+		}
+
+		long linear = 0;
+		long firstLookup = 0;
+		long cachedLookup = 0;
+		int matches = 0;
+
+		for (int round = 0; round < rounds; round++) {
+			String query = queries[round % queries.length];
+
+			long start = System.nanoTime();
+			matches += linear(beans, query).length;
+			linear += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			TypeHierarchy hierarchy = TypeHierarchy.of(beans);
+			matches += hierarchy.getBeansAssignableTo(query).length;
+			firstLookup += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			matches += hierarchy.getBeansAssignableTo(query).length;
+			cachedLookup += System.nanoTime() - start;
+		}
+
+		double linearMicros = linear / rounds / 1000.0;
+		double firstMicros = firstLookup / rounds / 1000.0;
+		double cachedMicros = cachedLookup / rounds / 1000.0;
+
+		System.out.println(String.format("%-30s %10.1f us per lookup", "linear scan", linearMicros));
+		System.out.println(String.format("%-30s %10.1f us per lookup", "hierarchy, first lookup", firstMicros));
+		System.out.println(String.format("%-30s %10.1f us per lookup", "hierarchy, following lookups", cachedMicros));
+		System.out.println(String.format("break-even after %.1f lookups on the same beans (%,d matches)",
+				(firstMicros - cachedMicros) / Math.max(linearMicros - cachedMicros, 0.001) + 1, matches));
+	}
+
+	private static Bean[] linear(List<Bean> beans, String type) {
+		return beans.stream().filter(bean -> bean.isTypeCompatibleWith(type)).toArray(Bean[]::new);
+	}
+
+	/**
+	 * every bean implements a few of a shared set of service interfaces and extends a shared base class
+	 */
+	private static List<Bean> createBeans(int beanCount, int supertypesPerBean) {
+		List<Bean> beans = new ArrayList<>(beanCount);
+		for (int i = 0; i < beanCount; i++) {
+			Set<String> supertypes = new HashSet<>();
+			supertypes.add(Object.class.getName());
+			supertypes.add("com.example.AbstractBean" + (i % 10));
+			for (int s = 0; supertypes.size() < supertypesPerBean; s++) {
+				supertypes.add("com.example.Service" + ((i * 7 + s * 13) % 100));
+			}
+
+			String name = "bean" + i;
+			beans.add(new Bean(name, "com.example.Bean" + i, LOCATION, new InjectionPoint[0], supertypes, new AnnotationMetadata[0], false, name));
+		}
+		return beans;
+	}
+
+}
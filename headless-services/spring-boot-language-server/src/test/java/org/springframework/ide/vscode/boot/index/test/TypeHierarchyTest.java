@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.index.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
+import org.springframework.ide.vscode.boot.index.TypeHierarchy;
+import org.springframework.ide.vscode.commons.protocol.spring.AnnotationMetadata;
+import org.springframework.ide.vscode.commons.protocol.spring.Bean;
+import org.springframework.ide.vscode.commons.protocol.spring.InjectionPoint;
+import org.springframework.ide.vscode.commons.protocol.spring.SpringIndexElement;
+
+public class TypeHierarchyTest {
+
+	private static final String OBJECT = Object.class.getName();
+
+	private final Location location = new Location("file:///some/doc.java", new Range(new Position(1, 1), new Position(1, 10)));
+
+	@Test
+	void testAssignability() {
+		Bean service = bean("service", "com.example.ServiceImpl", "com.example.Service", "com.example.AbstractService", OBJECT);
+		Bean repository = bean("repository", "com.example.Repository", "org.springframework.data.repository.Repository");
+
+		TypeHierarchy hierarchy = TypeHierarchy.of(List.of(service, repository));
+
+		assertTrue(hierarchy.isAssignable("com.example.ServiceImpl", "com.example.ServiceImpl"));
+		assertTrue(hierarchy.isAssignable("com.example.ServiceImpl", "com.example.Service"));
+		assertTrue(hierarchy.isAssignable("com.example.ServiceImpl", "com.example.AbstractService"));
+		assertTrue(hierarchy.isAssignable("com.example.ServiceImpl", OBJECT));
+		assertFalse(hierarchy.isAssignable("com.example.ServiceImpl", "org.springframework.data.repository.Repository"));
+
+		// interfaces don't have java.lang.Object as supertype
+		assertTrue(hierarchy.isAssignable("com.example.Repository", "org.springframework.data.repository.Repository"));
+		assertFalse(hierarchy.isAssignable("com.example.Repository", OBJECT));
+
+		// only bean types are part of the hierarchy
+		assertTrue(hierarchy.contains("com.example.ServiceImpl"));
+		assertFalse(hierarchy.contains("com.example.Service"));
+		assertFalse(hierarchy.isAssignable("com.example.Service", OBJECT));
+		assertFalse(hierarchy.isAssignable("com.example.Unknown", OBJECT));
+	}
+
+	@Test
+	void testBeansAssignableTo() {
+		Bean service1 = bean("service1", "com.example.ServiceImpl1", "com.example.Service", OBJECT);
+		Bean service2 = bean("service2", "com.example.ServiceImpl2", "com.example.Service", OBJECT);
+		Bean repository = bean("repository", "com.example.Repository", "org.springframework.data.repository.Repository");
+
+		TypeHierarchy hierarchy = TypeHierarchy.of(List.of(service1, repository, service2));
+
+		assertArrayEquals(new Bean[] {service1, service2}, hierarchy.getBeansAssignableTo("com.example.Service"));
+		assertArrayEquals(new Bean[] {service2}, hierarchy.getBeansAssignableTo("com.example.ServiceImpl2"));
+		assertArrayEquals(new Bean[] {service1, service2}, hierarchy.getBeansAssignableTo(OBJECT));
+		assertArrayEquals(new Bean[] {repository}, hierarchy.getBeansAssignableTo("org.springframework.data.repository.Repository"));
+		assertEquals(0, hierarchy.getBeansAssignableTo("com.example.Unknown").length);
+		assertEquals(0, hierarchy.getBeansAssignableTo(null).length);
+	}
+
+	@Test
+	void testSameResultAsTypeCompatibility() {
+		Bean service = bean("service", "com.example.ServiceImpl", "com.example.Service", OBJECT);
+		Bean repository = bean("repository", "com.example.Repository", "org.springframework.data.repository.Repository");
+		Bean xmlBean = xmlBean("xmlBean", "com.example.XmlBean");
+		Bean factoriesBean = new Bean("factoriesBean", "com.example.AutoConfig", location, new InjectionPoint[0], Collections.emptySet(), new AnnotationMetadata[0], false, "factoriesBean");
+		List<Bean> beans = List.of(service, repository, xmlBean, factoriesBean);
+
+		TypeHierarchy hierarchy = TypeHierarchy.of(beans);
+
+		for (String type : List.of("com.example.ServiceImpl", "com.example.Service", OBJECT, "com.example.Repository",
+				"org.springframework.data.repository.Repository", "com.example.XmlBean", "com.example.AutoConfig", "com.example.Unknown")) {
+			assertArrayEquals(beans.stream().filter(bean -> bean.isTypeCompatibleWith(type)).toArray(Bean[]::new), hierarchy.getBeansAssignableTo(type), type);
+		}
+	}
+
+	@Test
+	void testBeansOfSameTypeWithDifferentSupertypes() {
+		Bean javaBean = bean("service", "com.example.ServiceImpl", "com.example.Service", OBJECT);
+		Bean xmlBean = xmlBean("xmlService", "com.example.ServiceImpl");
+
+		for (List<Bean> beans : List.of(List.of(javaBean, xmlBean), List.of(xmlBean, javaBean))) {
+			TypeHierarchy hierarchy = TypeHierarchy.of(beans);
+
+			assertTrue(hierarchy.isAssignable("com.example.ServiceImpl", "com.example.Service"));
+			assertTrue(hierarchy.isAssignable("com.example.ServiceImpl", OBJECT));
+			assertArrayEquals(beans.toArray(Bean[]::new), hierarchy.getBeansAssignableTo("com.example.Service"));
+			assertArrayEquals(beans.toArray(Bean[]::new), hierarchy.getBeansAssignableTo(OBJECT));
+			assertArrayEquals(beans.toArray(Bean[]::new), hierarchy.getBeansAssignableTo("com.example.ServiceImpl"));
+		}
+	}
+
+	@Test
+	void testHierarchyFollowsIndexChanges() {
+		SpringMetamodelIndex index = new SpringMetamodelIndex();
+		Bean service = bean("service", "com.example.ServiceImpl", "com.example.Service", OBJECT);
+		index.updateElements("someProject", location.getUri(), new SpringIndexElement[] {service});
+
+		TypeHierarchy hierarchy = index.getTypeHierarchy("someProject");
+		assertSame(hierarchy, index.getTypeHierarchy("someProject"));
+		assertArrayEquals(new Bean[] {service}, index.getMatchingBeans("someProject", "com.example.Service"));
+
+		Bean otherService = bean("otherService", "com.example.OtherServiceImpl", "com.example.Service", OBJECT);
+		index.updateElements("someProject", "file:///some/other.java", new SpringIndexElement[] {otherService});
+
+		assertNotSame(hierarchy, index.getTypeHierarchy("someProject"));
+		assertEquals(2, index.getMatchingBeans("someProject", "com.example.Service").length);
+
+		index.removeProject("someProject");
+		assertEquals(0, index.getMatchingBeans("someProject", "com.example.Service").length);
+	}
+
+	/**
+	 * beans from XML config files come without supertypes
+	 */
+	private Bean xmlBean(String name, String type) {
+		return new Bean(name, type, location, null, null, null, false, name);
+	}
+
+	private Bean bean(String name, String type, String... supertypes) {
+		return new Bean(name, type, location, new InjectionPoint[0], Set.of(supertypes), new AnnotationMetadata[0], false, name);
+	}
+
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.handlers.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.index.DiagnosticsStore;
+import org.springframework.ide.vscode.boot.java.handlers.BootJavaWorkspaceDiagnosticsHandler;
+
+public class BootJavaWorkspaceDiagnosticsHandlerTest {
+
+	private static final String DOC1 = "file:///project1/UserService.java";
+	private static final String DOC2 = "file:///project1/UserController.java";
+
+	@Test
+	void testFixedDocumentsReportedWithoutDiagnostics() {
+		DiagnosticsStore store = new DiagnosticsStore();
+		BootJavaWorkspaceDiagnosticsHandler handler = new BootJavaWorkspaceDiagnosticsHandler(store);
+
+		store.update("project1", DOC1, List.of(diagnostic()));
+		store.update("project1", DOC2, List.of(diagnostic()));
+
+		Map<String, WorkspaceDocumentDiagnosticReport> first = handle(handler, List.of());
+		assertEquals(2, first.size());
+
+		// DOC2 got fixed, DOC1 is unchanged
+		store.update("project1", DOC2, List.of());
+
+		Map<String, WorkspaceDocumentDiagnosticReport> second = handle(handler, List.of(
+				new PreviousResultId(DOC1, first.get(DOC1).getWorkspaceFullDocumentDiagnosticReport().getResultId()),
+				new PreviousResultId(DOC2, first.get(DOC2).getWorkspaceFullDocumentDiagnosticReport().getResultId())));
+
+		assertEquals(2, second.size());
+		assertTrue(second.get(DOC1).isWorkspaceUnchangedDocumentDiagnosticReport());
+		assertTrue(second.get(DOC2).getWorkspaceFullDocumentDiagnosticReport().getItems().isEmpty());
+	}
+
+	private static Map<String, WorkspaceDocumentDiagnosticReport> handle(BootJavaWorkspaceDiagnosticsHandler handler, List<PreviousResultId> previousResultIds) {
+		return handler.handle(new WorkspaceDiagnosticParams(previousResultIds), null).getItems().stream()
+				.collect(Collectors.toMap(BootJavaWorkspaceDiagnosticsHandlerTest::getUri, report -> report));
+	}
+
+	private static String getUri(WorkspaceDocumentDiagnosticReport report) {
+		return report.isWorkspaceFullDocumentDiagnosticReport()
+				? report.getWorkspaceFullDocumentDiagnosticReport().getUri()
+				: report.getWorkspaceUnchangedDocumentDiagnosticReport().getUri();
+	}
+
+	private static Diagnostic diagnostic() {
+		return new Diagnostic(new Range(new Position(1, 0), new Position(1, 10)), "missing bean", DiagnosticSeverity.Error, "spring-boot", "BEAN_MISSING");
+	}
+
+}
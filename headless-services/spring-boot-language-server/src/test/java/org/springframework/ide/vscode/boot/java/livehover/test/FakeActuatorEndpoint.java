@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+/**
+ * Endpoint MBean with a single operation, reported as an actuator endpoint MBean to be found by the domain lookup.
+ * Counts the invocations of its operation.
+ *
+ * @author Martin Lippert
+ */
+public class FakeActuatorEndpoint implements DynamicMBean {
+
+	private static final String ENDPOINT_MBEAN_CLASS = "org.springframework.boot.actuate.endpoint.jmx.EndpointMBean";
+
+	private final String operation;
+	private final Supplier<Object> result;
+	private final AtomicInteger invocations = new AtomicInteger();
+
+	public FakeActuatorEndpoint(String operation, Supplier<Object> result) {
+		this.operation = operation;
+		this.result = result;
+	}
+
+	/**
+	 * registers a fake endpoint with the given name, e.g. <code>org.springframework.boot:type=Endpoint,name=Beans</code>
+	 */
+	public static FakeActuatorEndpoint register(MBeanServer server, String name, String operation, Supplier<Object> result) throws Exception {
+		FakeActuatorEndpoint endpoint = new FakeActuatorEndpoint(operation, result);
+		server.registerMBean(endpoint, ObjectName.getInstance(name));
+		return endpoint;
+	}
+
+	public int getInvocations() {
+		return invocations.get();
+	}
+
+	public void resetInvocations() {
+		invocations.set(0);
+	}
+
+	@Override
+	public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+		if (operation.equals(actionName)) {
+			invocations.incrementAndGet();
+			return result.get();
+		}
+		throw new ReflectionException(new NoSuchMethodException(actionName));
+	}
+
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException(attribute);
+	}
+
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException(attribute.getName());
+	}
+
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		return new AttributeList();
+	}
+
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		return new MBeanInfo(ENDPOINT_MBEAN_CLASS, "fake actuator endpoint", null, null, null, null);
+	}
+
+}
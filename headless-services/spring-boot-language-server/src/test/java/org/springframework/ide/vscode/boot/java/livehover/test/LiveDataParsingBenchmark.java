@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveBeansModel;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveBeansStreamingParser;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveEnvironment;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LivePropertiesJsonParser;
+
+/**
+ * Compares parsing the beans and environment actuator responses into strings and JSON trees with the streaming
+ * parsers that read the responses token by token, measuring the latency and the memory allocated per parse.
+ * <p>
+ * Usage: <code>LiveDataParsingBenchmark [beans.json env.json] [iterations]</code>
+ * <p>
+ * Responses recorded from a large application (e.g. via <code>curl http://localhost:8080/actuator/beans &gt; beans.json</code>)
+ * can be passed in, otherwise responses with 50.000 beans and 20.000 properties get generated.
+ *
+ * @author Martin Lippert
+ */
+public class LiveDataParsingBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		byte[] beans;
+		byte[] env;
+		int iterations;
+
+		if (args.length >= 2) {
+			beans = Files.readAllBytes(Path.of(args[0]));
+			env = Files.readAllBytes(Path.of(args[1]));
+			iterations = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+		}
+		else {
+			beans = createBeans(50_000).getBytes(StandardCharsets.UTF_8);
+			env = createEnvironment(20_000).getBytes(StandardCharsets.UTF_8);
+			iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		}
+
+		System.out.println(String.format("beans response: %,d bytes, env response: %,d bytes", beans.length, env.length));
+
+		run("beans, string + JSON tree", iterations, () -> LiveBeansModel.parse(new String(beans, StandardCharsets.UTF_8)));
+		run("beans, streaming", iterations, () -> LiveBeansStreamingParser.parse(reader(beans)));
+		run("env, string + JSON tree", iterations, () -> LivePropertiesJsonParser.parseProperties(new String(env, StandardCharsets.UTF_8)));
+		run("env, streaming", iterations, () -> LiveEnvironment.parse(reader(env)));
+	}
+
+	private static Reader reader(byte[] response) {
+		// same as reading the body of the http response
+		return new InputStreamReader(new ByteArrayInputStream(response), StandardCharsets.UTF_8);
+	}
+
+	private static void run(String label, int iterations, Callable<Object> parse) throws Exception {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		// warm up
+		for (int i = 0; i < 3; i++) {
+			parse.call();
+		}
+
+		long allocated = 0;
+		long time = 0;
+		Object result = null;
+
+		for (int i = 0; i < iterations; i++) {
+			System.gc();
+			long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+			long start = System.nanoTime();
+
+			result = parse.call();
+
+			time += System.nanoTime() - start;
+			allocated += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+		}
+
+		// keep the result reachable until here, so that the model itself is part of the measurement
+		System.out.println(String.format("%-28s %6d ms per parse, %,8d KB allocated per parse (%s)", label,
+				time / iterations / 1_000_000, allocated / iterations / 1024, result != null ? "ok" : "no result"));
+	}
+
+	private static String createBeans(int count) {
+		StringBuilder json = new StringBuilder("{\"contexts\":{\"application\":{\"beans\":{");
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("\"bean").append(i).append("\":{")
+					.append("\"aliases\":[],")
+					.append("\"scope\":\"singleton\",")
+					.append("\"type\":\"com.example.service").append(i % 100).append(".Bean").append(i).append("$$SpringCGLIB$$0\",")
+					.append("\"resource\":\"file [/project/src/main/java/com/example/service").append(i % 100).append("/Bean").append(i).append(".java]\",")
+					.append("\"dependencies\":[");
+			for (int d = 1; d <= Math.min(i, 5); d++) {
+				json.append(d > 1 ? "," : "").append("\"bean").append(i - d).append('"');
+			}
+			json.append("]}");
+		}
+		return json.append("},\"parentId\":null}}}").toString();
+	}
+
+	private static String createEnvironment(int count) {
+		StringBuilder json = new StringBuilder("{\"activeProfiles\":[\"local\"],\"propertySources\":[");
+		int sources = 20;
+		for (int s = 0; s < sources; s++) {
+			json.append(s > 0 ? "," : "").append("{\"name\":\"source").append(s).append("\",\"properties\":{");
+			for (int i = 0; i < count / sources; i++) {
+				json.append(i > 0 ? "," : "").append("\"my.app.property").append(i).append("\":{\"value\":\"value").append(i)
+						.append("\",\"origin\":\"class path resource [application.properties] - ").append(i).append(":1\"}");
+			}
+			json.append("}}");
+		}
+		return json.append("]}").toString();
+	}
+
+}
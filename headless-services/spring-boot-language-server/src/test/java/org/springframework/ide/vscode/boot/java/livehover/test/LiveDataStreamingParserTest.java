@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveBean;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveBeansModel;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveBeansStreamingParser;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveContextPathUtil;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveEnvironment;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveProperties;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LivePropertiesJsonParser;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveProperty;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LivePropertySource;
+
+public class LiveDataStreamingParserTest {
+
+	private static final String BEANS_BOOT_2X = """
+			{
+			  "contexts": {
+			    "application": {
+			      "beans": {
+			        "fooImplementation": {
+			          "aliases": ["foo"],
+			          "scope": "singleton",
+			          "type": "com.example.FooImplementation",
+			          "resource": "file [/project/src/main/java/com/example/FooImplementation.java]",
+			          "dependencies": []
+			        },
+			        "myController": {
+			          "aliases": [],
+			          "scope": "singleton",
+			          "type": "com.example.MyController$$SpringCGLIB$$0",
+			          "resource": null,
+			          "dependencies": ["fooImplementation"],
+			          "unknown": {"nested": [1, 2, {"deeper": true}]}
+			        }
+			      },
+			      "parentId": null
+			    }
+			  }
+			}
+			""";
+
+	private static final String BEANS_BOOT_15 = """
+			[
+			  {
+			    "context": "application",
+			    "parent": null,
+			    "beans": [
+			      {"bean": "fooImplementation", "aliases": [], "scope": "singleton", "type": "com.example.FooImplementation", "resource": "null", "dependencies": []},
+			      {"bean": "myController", "aliases": [], "scope": "singleton", "type": "com.example.MyController", "dependencies": ["fooImplementation"]}
+			    ]
+			  }
+			]
+			""";
+
+	private static final String ENV_BOOT_2X = """
+			{
+			  "activeProfiles": ["local", "testing"],
+			  "propertySources": [
+			    {"name": "server.ports", "properties": {"local.server.port": {"value": 8080}}},
+			    {"properties": {"server.servlet.context-path": {"value": "/app", "origin": "class path resource [application.properties] - 1:29"}}, "name": "applicationConfig"},
+			    {"name": "systemProperties", "properties": {"PID": {"value": "22022"}, "sun.java.command": {"value": "com.example.Application --debug"}}}
+			  ]
+			}
+			""";
+
+	private static final String ENV_BOOT_1X = """
+			{
+			  "profiles": ["local"],
+			  "server.ports": {"local.server.port": 8080},
+			  "applicationConfig: [classpath:/application.properties]": {"server.context-path": "/app", "enabled": true}
+			}
+			""";
+
+	@Test
+	void testBeansBoot2x() throws Exception {
+		assertSameBeans(LiveBeansModel.parse(BEANS_BOOT_2X), LiveBeansStreamingParser.parse(new StringReader(BEANS_BOOT_2X)));
+
+		LiveBeansModel beans = LiveBeansStreamingParser.parse(new StringReader(BEANS_BOOT_2X));
+		assertEquals(2, beans.getBeanNames().size());
+		assertArrayEquals(new String[] {"foo"}, beans.getBeansOfName("fooImplementation").get(0).getAliases());
+		assertEquals("myController", beans.getBeansDependingOn("fooImplementation").get(0).getId());
+	}
+
+	@Test
+	void testBeansBoot15() throws Exception {
+		assertSameBeans(LiveBeansModel.parse(BEANS_BOOT_15), LiveBeansStreamingParser.parse(new StringReader(BEANS_BOOT_15)));
+		assertEquals(2, LiveBeansStreamingParser.parse(new StringReader(BEANS_BOOT_15)).getBeanNames().size());
+	}
+
+	@Test
+	void testBeansFromObjectGraph() throws Exception {
+		Map<String, Object> bean = Map.of("aliases", List.of(), "scope", "singleton", "type", "com.example.FooImplementation", "dependencies", List.of("bar"));
+		Map<String, Object> graph = Map.of("contexts", Map.of("application", Map.of("beans", Map.of("fooImplementation", bean))));
+
+		LiveBeansModel beans = LiveBeansStreamingParser.parseObjectGraph(graph);
+		assertEquals("com.example.FooImplementation", beans.getBeansOfName("fooImplementation").get(0).getType());
+		assertEquals("fooImplementation", beans.getBeansDependingOn("bar").get(0).getId());
+	}
+
+	@Test
+	void testInvalidBeans() throws Exception {
+		assertTrue(LiveBeansStreamingParser.parse(new StringReader("")).isEmpty());
+		assertTrue(LiveBeansStreamingParser.parse(new StringReader("{\"contexts\": {\"application\": {\"beans\": ")).isEmpty());
+		assertTrue(LiveBeansStreamingParser.parseObjectGraph("not a bean graph").isEmpty());
+	}
+
+	@Test
+	void testEnvironmentBoot2x() throws Exception {
+		LiveEnvironment environment = LiveEnvironment.parse(new StringReader(ENV_BOOT_2X));
+
+		assertArrayEquals(new String[] {"local", "testing"}, environment.getActiveProfiles());
+		assertSameProperties(LivePropertiesJsonParser.parseProperties(ENV_BOOT_2X), environment.getProperties());
+		assertEquals("22022", environment.getProcessID());
+		assertEquals("com.example.Application --debug", environment.getSystemProperties().getProperty("sun.java.command"));
+		assertEquals(LiveContextPathUtil.getContextPath("2.x", ENV_BOOT_2X), environment.getContextPath());
+		assertEquals("/app", environment.getContextPath());
+	}
+
+	@Test
+	void testEnvironmentBoot1x() throws Exception {
+		LiveEnvironment environment = LiveEnvironment.parse(new StringReader(ENV_BOOT_1X));
+
+		assertArrayEquals(new String[] {"local"}, environment.getActiveProfiles());
+		assertSameProperties(LivePropertiesJsonParser.parseProperties(ENV_BOOT_1X), environment.getProperties());
+		assertNull(environment.getProcessID());
+		assertNull(environment.getContextPath());
+	}
+
+	private void assertSameBeans(LiveBeansModel expected, LiveBeansModel actual) {
+		assertEquals(expected.getBeanNames(), actual.getBeanNames());
+		for (String name : expected.getBeanNames()) {
+			List<LiveBean> expectedBeans = expected.getBeansOfName(name);
+			List<LiveBean> actualBeans = actual.getBeansOfName(name);
+			assertEquals(expectedBeans.size(), actualBeans.size());
+			for (int i = 0; i < expectedBeans.size(); i++) {
+				LiveBean expectedBean = expectedBeans.get(i);
+				LiveBean actualBean = actualBeans.get(i);
+				assertEquals(expectedBean.getId(), actualBean.getId());
+				assertEquals(expectedBean.getType(), actualBean.getType());
+				assertEquals(expectedBean.getScope(), actualBean.getScope());
+				assertEquals(expectedBean.getResource(), actualBean.getResource());
+				assertArrayEquals(expectedBean.getAliases(), actualBean.getAliases());
+				assertArrayEquals(expectedBean.getDependencies(), actualBean.getDependencies());
+			}
+		}
+	}
+
+	private void assertSameProperties(LiveProperties expected, LiveProperties actual) {
+		// the Boot 1.x parser reads the sources from an unordered JSONObject, so compare the sources by name
+		assertEquals(expected.getSources().size(), actual.getSources().size());
+		for (LivePropertySource expectedSource : expected.getSources()) {
+			LivePropertySource actualSource = actual.getSources().stream()
+					.filter(source -> source.getSourceName().equals(expectedSource.getSourceName()))
+					.findFirst().orElseThrow();
+			assertEquals(expectedSource.getProperties().size(), actualSource.getProperties().size());
+			for (LiveProperty property : expectedSource.getProperties()) {
+				LiveProperty actualProperty = actualSource.getProperty(property.getProperty());
+				assertEquals(property.getSource(), actualProperty.getSource());
+				assertEquals(property.getValue(), actualProperty.getValue());
+			}
+		}
+	}
+
+}
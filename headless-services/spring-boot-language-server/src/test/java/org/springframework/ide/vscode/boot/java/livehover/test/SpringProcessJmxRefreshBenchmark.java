@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnectorServer;
+import javax.management.remote.JMXConnectorServerFactory;
+import javax.management.remote.JMXServiceURL;
+import javax.management.remote.MBeanServerForwarder;
+
+import org.springframework.ide.vscode.boot.java.livehover.v2.ProcessType;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessConnectorOverJMX;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveData;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
+
+/**
+ * Measures the latency of refreshing the live data of many attached processes over JMX. Every process is faked
+ * by an in-memory MBean server exposing actuator endpoint MBeans over a local RMI connector, which counts the
+ * requests it receives, so that the number of round-trips per refresh can be compared as well.
+ * <p>
+ * Usage: <code>SpringProcessJmxRefreshBenchmark [processes] [iterations]</code>
+ *
+ * @author Martin Lippert
+ */
+public class SpringProcessJmxRefreshBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int processes = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+		List<FakeSpringProcess> fakes = new ArrayList<>();
+		List<SpringProcessConnectorOverJMX> connectors = new ArrayList<>();
+		// same number of threads as the scheduler of the connector service
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+
+		try {
+			for (int i = 0; i < processes; i++) {
+				FakeSpringProcess fake = new FakeSpringProcess(200, 50);
+				fakes.add(fake);
+
+				SpringProcessConnectorOverJMX connector = new SpringProcessConnectorOverJMX(ProcessType.REMOTE, "process-" + i,
+						fake.getJmxUrl(), "http", null, null, "project-" + i, "localhost", null);
+				connector.connect();
+				connectors.add(connector);
+			}
+
+			SpringProcessLiveData[] current = new SpringProcessLiveData[processes];
+			run("initial refresh", fakes, connectors, executor, current, EnumSet.allOf(Change.class), 1);
+			run("full refresh", fakes, connectors, executor, current, EnumSet.allOf(Change.class), iterations);
+			run("beans refresh", fakes, connectors, executor, current, EnumSet.of(Change.BEANS), iterations);
+			run("mappings refresh", fakes, connectors, executor, current, EnumSet.of(Change.REQUEST_MAPPINGS), iterations);
+		}
+		finally {
+			for (SpringProcessConnectorOverJMX connector : connectors) {
+				connector.disconnect();
+			}
+			for (FakeSpringProcess fake : fakes) {
+				fake.stop();
+			}
+			executor.shutdown();
+		}
+	}
+
+	private static void run(String label, List<FakeSpringProcess> fakes, List<SpringProcessConnectorOverJMX> connectors, ExecutorService executor,
+			SpringProcessLiveData[] current, Set<Change> refresh, int iterations) throws Exception {
+
+		fakes.forEach(fake -> fake.requests.set(0));
+		long[] latencies = new long[connectors.size() * iterations];
+		long start = System.nanoTime();
+
+		for (int iteration = 0; iteration < iterations; iteration++) {
+			List<Future<Long>> futures = new ArrayList<>();
+			for (int i = 0; i < connectors.size(); i++) {
+				int process = i;
+				futures.add(executor.submit(() -> {
+					long processStart = System.nanoTime();
+					current[process] = connectors.get(process).refresh(current[process], refresh);
+					return System.nanoTime() - processStart;
+				}));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				latencies[iteration * connectors.size() + i] = futures.get(i).get();
+			}
+		}
+
+		long total = System.nanoTime() - start;
+		Arrays.sort(latencies);
+		int requests = fakes.stream().mapToInt(fake -> fake.requests.get()).sum();
+
+		System.out.println(String.format("%-18s %d processes: total %6d ms, latency p50 %5d ms, p95 %5d ms, max %5d ms, %5.1f JMX requests per refresh",
+				label, connectors.size(), total / iterations / 1_000_000,
+				latencies[latencies.length / 2] / 1_000_000,
+				latencies[Math.min(latencies.length - 1, latencies.length * 95 / 100)] / 1_000_000,
+				latencies[latencies.length - 1] / 1_000_000,
+				(double) requests / latencies.length));
+	}
+
+	/**
+	 * An MBean server with fake actuator endpoints, available via a local RMI connector
+	 */
+	private static class FakeSpringProcess {
+
+		private final AtomicInteger requests = new AtomicInteger();
+		private final JMXConnectorServer connectorServer;
+
+		FakeSpringProcess(int beans, int mappings) throws Exception {
+			MBeanServer server = MBeanServerFactory.newMBeanServer();
+			server.registerMBean(ManagementFactory.getRuntimeMXBean(), ObjectName.getInstance(ManagementFactory.RUNTIME_MXBEAN_NAME));
+
+			registerEndpoint(server, "org.springframework.boot:type=Endpoint,name=Beans", "beans", () -> createBeans(beans));
+			registerEndpoint(server, "org.springframework.boot:type=Endpoint,name=Mappings", "mappings", () -> createMappings(mappings));
+			registerEndpoint(server, "org.springframework.boot:type=Endpoint,name=Env", "environment", () -> createEnvironment());
+			registerEndpoint(server, "org.springframework.boot:type=Endpoint,name=Conditions", "conditions", () -> Map.of("contexts", Map.of()));
+			registerEndpoint(server, "org.springframework.boot:type=Admin,name=SpringApplication", "getProperty", () -> "8080");
+
+			MBeanServerForwarder forwarder = createCountingForwarder();
+			forwarder.setMBeanServer(server);
+
+			connectorServer = JMXConnectorServerFactory.newJMXConnectorServer(new JMXServiceURL("service:jmx:rmi://localhost"), null, forwarder);
+			connectorServer.start();
+		}
+
+		String getJmxUrl() {
+			return connectorServer.getAddress().toString();
+		}
+
+		void stop() throws Exception {
+			connectorServer.stop();
+		}
+
+		private MBeanServerForwarder createCountingForwarder() {
+			MBeanServer[] target = new MBeanServer[1];
+			return (MBeanServerForwarder) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {MBeanServerForwarder.class}, (proxy, method, args) -> {
+				switch (method.getName()) {
+				case "getMBeanServer":
+					return target[0];
+				case "setMBeanServer":
+					target[0] = (MBeanServer) args[0];
+					return null;
+				default:
+					requests.incrementAndGet();
+					try {
+						return method.invoke(target[0], args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				}
+			});
+		}
+
+		private static void registerEndpoint(MBeanServer server, String name, String operation, Supplier<Object> result) throws Exception {
+			FakeActuatorEndpoint.register(server, name, operation, result);
+		}
+
+		private static Map<String, Object> createBeans(int count) {
+			Map<String, Object> beans = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				beans.put("bean" + i, Map.of(
+						"aliases", List.of(),
+						"scope", "singleton",
+						"type", "com.example.Bean" + i,
+						"resource", "file [/project/src/main/java/com/example/Bean" + i + ".java]",
+						"dependencies", i > 0 ? List.of("bean" + (i - 1)) : List.of()));
+			}
+			return Map.of("contexts", Map.of("application", Map.of("beans", beans)));
+		}
+
+		private static Map<String, Object> createMappings(int count) {
+			List<Object> dispatcherServlet = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				dispatcherServlet.add(Map.of(
+						"handler", "public java.lang.String com.example.Controller" + i + ".hello()",
+						"predicate", "{[/hello" + i + "],methods=[GET]}",
+						"details", Map.of(
+								"requestMappingConditions", Map.of("methods", List.of("GET"), "patterns", List.of("/hello" + i)),
+								"handlerMethod", Map.of("name", "hello", "className", "com.example.Controller" + i, "descriptor", "()Ljava/lang/String;"))));
+			}
+			return Map.of("contexts", Map.of("application", Map.of("mappings", Map.of("dispatcherServlets", Map.of("dispatcherServlet", dispatcherServlet)))));
+		}
+
+		private static Map<String, Object> createEnvironment() {
+			return Map.of(
+					"activeProfiles", List.of("local"),
+					"propertySources", List.of(
+							Map.of("name", "server.ports", "properties", Map.of("local.server.port", Map.of("value", 8080))),
+							Map.of("name", "applicationConfig: [classpath:/application.properties]", "properties", Map.of("server.servlet.context-path", Map.of("value", "/app")))));
+		}
+
+	}
+
+}
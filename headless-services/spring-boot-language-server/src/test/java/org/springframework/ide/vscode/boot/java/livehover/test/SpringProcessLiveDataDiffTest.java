@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveBean;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveBeansModel;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveProperties;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LiveProperty;
+import org.springframework.ide.vscode.boot.java.livehover.v2.LivePropertySource;
+import org.springframework.ide.vscode.boot.java.livehover.v2.RecordingSpringProcessLiveData;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveData;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataDiff;
+import org.springframework.ide.vscode.project.harness.SpringProcessLiveDataBuilder;
+
+public class SpringProcessLiveDataDiffTest {
+
+	@Test
+	void testUnchangedLiveData() throws Exception {
+		SpringProcessLiveData oldData = createLiveData("fooImplementation", "local", "8080");
+		SpringProcessLiveData newData = createLiveData("fooImplementation", "local", "8080");
+
+		assertTrue(SpringProcessLiveDataDiff.compute(oldData, newData).isEmpty());
+	}
+
+	@Test
+	void testChangedBeans() throws Exception {
+		SpringProcessLiveData oldData = createLiveData("fooImplementation", "local", "8080");
+		SpringProcessLiveData newData = createLiveData("barImplementation", "local", "8080");
+
+		assertEquals(EnumSet.of(Change.BEANS), SpringProcessLiveDataDiff.compute(oldData, newData));
+	}
+
+	@Test
+	void testChangedProfilesAndProperties() throws Exception {
+		SpringProcessLiveData oldData = createLiveData("fooImplementation", "local", "8080");
+		SpringProcessLiveData newData = createLiveData("fooImplementation", "testing", "9090");
+
+		assertEquals(EnumSet.of(Change.ACTIVE_PROFILES, Change.PROPERTIES), SpringProcessLiveDataDiff.compute(oldData, newData));
+	}
+
+	@Test
+	void testEventAffectsUsedLiveData() throws Exception {
+		SpringProcessLiveDataChangeEvent beansChanged = new SpringProcessLiveDataChangeEvent(new SpringProcessLiveData[0], EnumSet.of(Change.BEANS));
+
+		assertTrue(beansChanged.affects(EnumSet.of(Change.BEANS, Change.ACTIVE_PROFILES)));
+		assertFalse(beansChanged.affects(EnumSet.of(Change.REQUEST_MAPPINGS)));
+		assertFalse(beansChanged.affects(EnumSet.noneOf(Change.class)));
+
+		SpringProcessLiveDataChangeEvent processesChanged = new SpringProcessLiveDataChangeEvent(new SpringProcessLiveData[0]);
+		assertTrue(processesChanged.affects(EnumSet.noneOf(Change.class)));
+	}
+
+	@Test
+	void testRecordUsedLiveData() throws Exception {
+		Set<Change> used = EnumSet.noneOf(Change.class);
+		SpringProcessLiveData[] recording = RecordingSpringProcessLiveData.wrap(new SpringProcessLiveData[] {createLiveData("fooImplementation", "local", "8080")}, used);
+
+		assertEquals("fooImplementation", recording[0].getBeans().getBeansOfName("fooImplementation").get(0).getId());
+		recording[0].getProcessName();
+
+		assertEquals(EnumSet.of(Change.BEANS), used);
+	}
+
+	private SpringProcessLiveData createLiveData(String beanName, String profile, String port) {
+		LiveBeansModel beans = LiveBeansModel.builder()
+				.add(LiveBean.builder().id(beanName).type("com.example." + beanName).build())
+				.build();
+		LiveProperties properties = new LiveProperties(List.of(new LivePropertySource("applicationConfig",
+				List.of(LiveProperty.builder().source("applicationConfig").property("server.port").value(port).build()))));
+
+		return new SpringProcessLiveDataBuilder()
+				.processID("22022")
+				.processName("foo.bar.RunningApp")
+				.beans(beans)
+				.activeProfiles(profile)
+				.getLiveProperties(properties)
+				.build();
+	}
+
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.livehover.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.java.livehover.v2.ProcessType;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessConnectorService;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveData;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataChangeEvent.Change;
+import org.springframework.ide.vscode.boot.java.livehover.v2.SpringProcessLiveDataExtractorOverJMX;
+
+public class SpringProcessLiveDataRefreshTest {
+
+	private FakeProcess process;
+	private SpringProcessLiveDataExtractorOverJMX extractor;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		process = new FakeProcess();
+		extractor = new SpringProcessLiveDataExtractorOverJMX();
+	}
+
+	@Test
+	void testInitialRefreshRetrievesEverything() throws Exception {
+		SpringProcessLiveData data = refresh(process, null, EnumSet.of(Change.BEANS));
+
+		assertEquals(1, process.beans.getInvocations());
+		assertEquals(1, process.mappings.getInvocations());
+		assertEquals(1, process.env.getInvocations());
+		assertEquals(1, process.conditions.getInvocations());
+
+		assertEquals(1, data.getBeans().getBeanNames().size());
+		assertEquals(1, data.getRequestMappings().length);
+		assertEquals("local", data.getActiveProfiles()[0]);
+		assertNotNull(data.getLiveMterics());
+	}
+
+	@Test
+	void testBeansRefreshCarriesOverTheRest() throws Exception {
+		SpringProcessLiveData current = refresh(process, null, EnumSet.allOf(Change.class));
+		process.resetInvocations();
+
+		SpringProcessLiveData data = refresh(process, current, EnumSet.of(Change.BEANS));
+
+		assertEquals(1, process.beans.getInvocations());
+		assertEquals(0, process.mappings.getInvocations());
+		assertEquals(0, process.env.getInvocations());
+		assertEquals(0, process.conditions.getInvocations());
+
+		assertNotSame(current.getBeans(), data.getBeans());
+		assertSame(current.getRequestMappings(), data.getRequestMappings());
+		assertSame(current.getActiveProfiles(), data.getActiveProfiles());
+		assertSame(current.getLiveProperties(), data.getLiveProperties());
+		assertSame(current.getLiveConditionals(), data.getLiveConditionals());
+		assertSame(current.getLiveMterics(), data.getLiveMterics());
+	}
+
+	@Test
+	void testProfilesAndPropertiesRefreshReadsEnvironmentOnce() throws Exception {
+		SpringProcessLiveData current = refresh(process, null, EnumSet.allOf(Change.class));
+		process.resetInvocations();
+
+		SpringProcessLiveData data = refresh(process, current, EnumSet.of(Change.ACTIVE_PROFILES, Change.PROPERTIES));
+
+		assertEquals(0, process.beans.getInvocations());
+		assertEquals(0, process.mappings.getInvocations());
+		assertEquals(1, process.env.getInvocations());
+		assertEquals(0, process.conditions.getInvocations());
+
+		assertSame(current.getBeans(), data.getBeans());
+		assertSame(current.getRequestMappings(), data.getRequestMappings());
+		assertNotNull(data.getLiveProperties());
+		assertNotSame(current.getActiveProfiles(), data.getActiveProfiles());
+		assertNotSame(current.getLiveProperties(), data.getLiveProperties());
+	}
+
+	@Test
+	void testMetricsModelRecreatedForNewConnection() throws Exception {
+		SpringProcessLiveData current = refresh(process, null, EnumSet.allOf(Change.class));
+
+		FakeProcess reconnected = new FakeProcess();
+		SpringProcessLiveData data = refresh(reconnected, current, EnumSet.of(Change.BEANS));
+
+		assertNotSame(current.getLiveMterics(), data.getLiveMterics());
+		assertSame(current.getRequestMappings(), data.getRequestMappings());
+
+		assertNotNull(data.getLiveMterics().getRequestMappingMetrics(new String[] {"/hello0"}, new String[] {"GET"}));
+		assertEquals(1, reconnected.metrics.getInvocations());
+		assertEquals(0, process.metrics.getInvocations());
+	}
+
+	@Test
+	void testLiveDataToRefreshPerEndpoint() throws Exception {
+		assertEquals(EnumSet.of(Change.BEANS), SpringProcessConnectorService.getLiveDataToRefresh("beans"));
+		assertEquals(EnumSet.of(Change.REQUEST_MAPPINGS), SpringProcessConnectorService.getLiveDataToRefresh("mappings"));
+		assertEquals(EnumSet.of(Change.CONDITIONALS), SpringProcessConnectorService.getLiveDataToRefresh("conditions"));
+		assertEquals(EnumSet.of(Change.ACTIVE_PROFILES), SpringProcessConnectorService.getLiveDataToRefresh("profiles"));
+		assertEquals(EnumSet.of(Change.PROPERTIES), SpringProcessConnectorService.getLiveDataToRefresh("properties"));
+		assertEquals(EnumSet.of(Change.METRICS), SpringProcessConnectorService.getLiveDataToRefresh("metrics"));
+		assertEquals(EnumSet.of(Change.PROCESSES), SpringProcessConnectorService.getLiveDataToRefresh("contextPath"));
+		assertEquals(EnumSet.of(Change.PROCESSES), SpringProcessConnectorService.getLiveDataToRefresh("port"));
+	}
+
+	@Test
+	void testLiveDataToRefreshForUnknownEndpoint() throws Exception {
+		assertEquals(EnumSet.allOf(Change.class), SpringProcessConnectorService.getLiveDataToRefresh(null));
+		assertEquals(EnumSet.allOf(Change.class), SpringProcessConnectorService.getLiveDataToRefresh("unknown"));
+	}
+
+	private SpringProcessLiveData refresh(FakeProcess process, SpringProcessLiveData current, EnumSet<Change> refresh) {
+		return extractor.retrieveLiveData(ProcessType.REMOTE, process.server, "42", "com.example.App", "http", "localhost", "/app", "8080", current, refresh);
+	}
+
+	/**
+	 * In-memory MBean server with fake actuator endpoints, used directly as the connection to the process
+	 */
+	private static class FakeProcess {
+
+		private final MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+		private final FakeActuatorEndpoint beans;
+		private final FakeActuatorEndpoint mappings;
+		private final FakeActuatorEndpoint env;
+		private final FakeActuatorEndpoint conditions;
+		private final FakeActuatorEndpoint metrics;
+
+		FakeProcess() throws Exception {
+			beans = FakeActuatorEndpoint.register(server, "org.springframework.boot:type=Endpoint,name=Beans", "beans", () -> Map.of(
+					"contexts", Map.of("application", Map.of("beans", Map.of("bean0", Map.of(
+							"aliases", List.of(),
+							"scope", "singleton",
+							"type", "com.example.Bean0",
+							"resource", "file [/project/src/main/java/com/example/Bean0.java]",
+							"dependencies", List.of()))))));
+
+			mappings = FakeActuatorEndpoint.register(server, "org.springframework.boot:type=Endpoint,name=Mappings", "mappings", () -> Map.of(
+					"contexts", Map.of("application", Map.of("mappings", Map.of("dispatcherServlets", Map.of("dispatcherServlet", List.of(Map.of(
+							"handler", "public java.lang.String com.example.Controller.hello()",
+							"predicate", "{[/hello0],methods=[GET]}",
+							"details", Map.of(
+									"requestMappingConditions", Map.of("methods", List.of("GET"), "patterns", List.of("/hello0")),
+									"handlerMethod", Map.of("name", "hello", "className", "com.example.Controller", "descriptor", "()Ljava/lang/String;"))))))))));
+
+			env = FakeActuatorEndpoint.register(server, "org.springframework.boot:type=Endpoint,name=Env", "environment", () -> Map.of(
+					"activeProfiles", List.of("local"),
+					"propertySources", List.of(
+							Map.of("name", "applicationConfig: [classpath:/application.properties]", "properties", Map.of("server.servlet.context-path", Map.of("value", "/app"))))));
+
+			conditions = FakeActuatorEndpoint.register(server, "org.springframework.boot:type=Endpoint,name=Conditions", "conditions", () -> Map.of("contexts", Map.of()));
+
+			metrics = FakeActuatorEndpoint.register(server, "org.springframework.boot:type=Endpoint,name=Metrics", "metric", () -> Map.of(
+					"name", "http.server.requests",
+					"baseUnit", "seconds",
+					"measurements", List.of(Map.of("statistic", "COUNT", "value", 3))));
+		}
+
+		void resetInvocations() {
+			beans.resetInvocations();
+			mappings.resetInvocations();
+			env.resetInvocations();
+			conditions.resetInvocations();
+			metrics.resetInvocations();
+		}
+
+	}
+
+}
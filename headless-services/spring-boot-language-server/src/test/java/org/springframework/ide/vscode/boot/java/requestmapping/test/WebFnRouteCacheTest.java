@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.requestmapping.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.java.requestmapping.SimpleWebFnTypeChecker;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteCache;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteDefinition;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebfluxRouterIndexer;
+import org.springframework.ide.vscode.commons.util.text.LanguageId;
+import org.springframework.ide.vscode.commons.util.text.TextDocument;
+
+/**
+ * @author Martin Lippert
+ */
+public class WebFnRouteCacheTest {
+
+	private static final String DOC_URI = "file:///project/src/main/java/com/example/RouterConfig.java";
+
+	// self-contained, so that all bindings resolve against the JRE only
+	private static final String ROUTES = """
+			package com.example;
+
+			import java.util.List;
+
+			public class RouterConfig {
+
+				public RouterFunction personRoutes(PersonHandler handler) {
+					return route(GET("/person/{id}"), handler::getPerson)
+						.andRoute(GET("/person"), handler::listPeople);
+				}
+
+				public RouterFunction orderRoutes(OrderHandler handler) {
+					return route(GET("/order/{id}"), handler::getOrder);
+				}
+
+				static RouterFunction route(RequestPredicate predicate, HandlerFunction handler) {
+					return null;
+				}
+
+				static RequestPredicate GET(String path) {
+					return null;
+				}
+
+				interface RequestPredicate {
+				}
+
+				interface HandlerFunction {
+					Object handle(Object request);
+				}
+
+				interface RouterFunction {
+					RouterFunction andRoute(RequestPredicate predicate, HandlerFunction handler);
+				}
+
+				static class PersonHandler {
+					Object getPerson(Object request) { return null; }
+					Object listPeople(Object request) { return null; }
+				}
+
+				static class OrderHandler {
+					Object getOrder(Object request) { return null; }
+				}
+
+			}
+			""";
+
+	private WebFnRouteCache cache;
+	private AtomicInteger extractions;
+
+	@BeforeEach
+	void setup() {
+		cache = new WebFnRouteCache();
+		extractions = new AtomicInteger();
+	}
+
+	@Test
+	void testUnchangedMethodsAreNotExtractedAgain() {
+		List<WebFnRouteDefinition> first = getRoutes(ROUTES, "personRoutes");
+		List<WebFnRouteDefinition> second = getRoutes(ROUTES, "personRoutes");
+
+		assertEquals(1, extractions.get());
+		assertEquals(2, second.size());
+		assertEquals(first.get(0).getRange(), second.get(0).getRange());
+		assertEquals("/person/{id}", second.get(0).getPathElements().get(0).getElement());
+	}
+
+	@Test
+	void testChangedMethodIsExtractedAgain() {
+		index(ROUTES, "personRoutes", "orderRoutes");
+
+		String changed = ROUTES.replace("\"/order/{id}\"", "\"/orders/{id}\"");
+		Map<String, List<WebFnRouteDefinition>> routes = index(changed, "personRoutes", "orderRoutes");
+
+		assertEquals(3, extractions.get());
+		assertEquals(2, routes.get("personRoutes").size());
+		assertEquals("/orders/{id}", routes.get("orderRoutes").get(0).getPathElements().get(0).getElement());
+	}
+
+	@Test
+	void testChangedImportsInvalidateRoutes() {
+		getRoutes(ROUTES, "personRoutes");
+		getRoutes(ROUTES.replace("java.util.List;", "java.util.*;"), "personRoutes");
+
+		assertEquals(2, extractions.get());
+	}
+
+	@Test
+	void testChangedHandlerMethodInvalidatesRoutes() {
+		getRoutes(ROUTES, "personRoutes");
+
+		// the router method is unchanged, but the handler method it refers to is declared differently now
+		getRoutes(ROUTES.replace("Object getPerson(Object request)", "String getPerson(Object request)"), "personRoutes");
+
+		assertEquals(2, extractions.get());
+	}
+
+	@Test
+	void testRoutesWithUnresolvedBindingsAreNotCached() {
+		String unresolved = ROUTES.replace("handler::getOrder", "handler::getOrders");
+
+		getRoutes(unresolved, "orderRoutes");
+		getRoutes(unresolved, "orderRoutes");
+
+		assertEquals(2, extractions.get());
+	}
+
+	@Test
+	void testMethodsMissingInIndexPassAreDropped() {
+		index(ROUTES, "personRoutes", "orderRoutes");
+
+		// the next pass doesn't contain the person routes anymore, the one after that has them again
+		index(ROUTES, "orderRoutes");
+		index(ROUTES, "personRoutes", "orderRoutes");
+
+		assertEquals(3, extractions.get());
+	}
+
+	@Test
+	void testRangesMoveWithTheMethod() {
+		List<WebFnRouteDefinition> original = getRoutes(ROUTES, "orderRoutes");
+
+		String moved = ROUTES.replace("\tpublic RouterFunction orderRoutes", "\t// comment\n\n\t\tpublic RouterFunction orderRoutes");
+		List<WebFnRouteDefinition> cached = getRoutes(moved, "orderRoutes");
+		assertEquals(1, extractions.get());
+
+		List<WebFnRouteDefinition> extracted = extract(moved, "orderRoutes");
+		assertEquals(extracted.get(0).getRange(), cached.get(0).getRange());
+		assertEquals(extracted.get(0).getPathElements().get(0).getElementRange(), cached.get(0).getPathElements().get(0).getElementRange());
+
+		Range originalRange = original.get(0).getRange();
+		assertEquals(originalRange.getStart().getLine() + 2, cached.get(0).getRange().getStart().getLine());
+	}
+
+	@Test
+	void testRemovedDocument() {
+		getRoutes(ROUTES, "personRoutes");
+		cache.removeDocument("test-project", DOC_URI);
+		getRoutes(ROUTES, "personRoutes");
+
+		cache.removeProject("test-project");
+		getRoutes(ROUTES, "personRoutes");
+
+		assertEquals(3, extractions.get());
+	}
+
+	private List<WebFnRouteDefinition> getRoutes(String source, String methodName) {
+		return index(source, methodName).get(methodName);
+	}
+
+	/**
+	 * one index pass of the document, asking for the routes of the given methods of the same AST
+	 */
+	private Map<String, List<WebFnRouteDefinition>> index(String source, String... methodNames) {
+		TextDocument doc = new TextDocument(DOC_URI, LanguageId.JAVA, 1, source);
+		CompilationUnit cu = parse(source);
+
+		Map<String, List<WebFnRouteDefinition>> result = new HashMap<>();
+		for (String methodName : methodNames) {
+			MethodDeclaration method = findMethod(cu, methodName);
+			result.put(methodName, cache.getRoutes("test-project", method, doc, () -> {
+				extractions.incrementAndGet();
+				return WebfluxRouterIndexer.extractRoutes(method.getBody(), doc, new SimpleWebFnTypeChecker());
+			}));
+		}
+		return result;
+	}
+
+	private List<WebFnRouteDefinition> extract(String source, String methodName) {
+		TextDocument doc = new TextDocument(DOC_URI, LanguageId.JAVA, 1, source);
+		return WebfluxRouterIndexer.extractRoutes(findMethod(parse(source), methodName).getBody(), doc, new SimpleWebFnTypeChecker());
+	}
+
+	private static CompilationUnit parse(String source) {
+		ASTParser parser = ASTParser.newParser(AST.JLS21);
+		parser.setSource(source.toCharArray());
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setResolveBindings(true);
+		parser.setEnvironment(new String[0], new String[0], null, true);
+		parser.setUnitName("RouterConfig.java");
+		Map<String, String> options = JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.VERSION_21, options);
+		parser.setCompilerOptions(options);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	private static MethodDeclaration findMethod(CompilationUnit cu, String methodName) {
+		TypeDeclaration type = (TypeDeclaration) cu.types().get(0);
+		for (MethodDeclaration method : type.getMethods()) {
+			if (method.getName().getIdentifier().equals(methodName)) {
+				return method;
+			}
+		}
+		throw new IllegalArgumentException(methodName);
+	}
+
+}
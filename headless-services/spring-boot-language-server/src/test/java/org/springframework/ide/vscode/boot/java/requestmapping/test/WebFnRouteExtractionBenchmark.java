@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.requestmapping.test;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.springframework.ide.vscode.boot.java.requestmapping.SimpleWebFnTypeChecker;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteCache;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteDefinition;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnTypeChecker;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebfluxRouterIndexer;
+import org.springframework.ide.vscode.commons.util.text.LanguageId;
+import org.springframework.ide.vscode.commons.util.text.TextDocument;
+
+/**
+ * Measures the route extraction for a generated router configuration class on every save, re-extracting all router
+ * methods compared to re-extracting only the changed method via the {@link WebFnRouteCache}. Each save changes a path
+ * in one of the router methods, alternating between the methods.
+ * <p>
+ * Usage: <code>WebFnRouteExtractionBenchmark [methods] [routes per method] [saves]</code> (default: 100 methods with 50 routes each, 50 saves)
+ * <p>
+ * The generated source declares minimal stand-ins for the router function API, so that its bindings resolve against the JRE
+ * only (routes with unresolved bindings are not cached). The name based type checker is used for the extraction. Resolving the
+ * bindings of the builder calls during the extraction in the language server makes the uncached extraction more expensive than
+ * measured here.
+ *
+ * @author Martin Lippert
+ */
+public class WebFnRouteExtractionBenchmark {
+
+	private static final String DOC_URI = "file:///benchmark/src/main/java/com/example/GatewayRoutes.java";
+
+	public static void main(String[] args) throws Exception {
+		int methods = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int routesPerMethod = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+		int saves = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+		System.out.println(String.format("router configuration with %d methods and %,d routes, %d saves", methods, methods * routesPerMethod, saves));
+
+		WebFnTypeChecker typeChecker = new SimpleWebFnTypeChecker();
+
+		// warm up
+		for (int i = 0; i < 3; i++) {
+			extractAll(createSource(methods, routesPerMethod, i), typeChecker, null);
+		}
+
+		run("all methods", methods, routesPerMethod, saves, typeChecker, null);
+		run("changed methods (cached)", methods, routesPerMethod, saves, typeChecker, new WebFnRouteCache());
+	}
+
+	private static void run(String label, int methods, int routesPerMethod, int saves, WebFnTypeChecker typeChecker, WebFnRouteCache cache) {
+		// initial indexing, to fill the cache
+		extractAll(createSource(methods, routesPerMethod, -1), typeChecker, cache);
+
+		long time = 0;
+		int routes = 0;
+
+		for (int save = 0; save < saves; save++) {
+			String source = createSource(methods, routesPerMethod, save % methods);
+			CompilationUnit cu = parse(source);
+
+			long start = System.nanoTime();
+			routes = extractAll(cu, source, typeChecker, cache);
+			time += System.nanoTime() - start;
+		}
+
+		System.out.println(String.format("%-26s %8.2f ms per save (%,d routes)", label, time / saves / 1_000_000.0, routes));
+	}
+
+	private static int extractAll(String source, WebFnTypeChecker typeChecker, WebFnRouteCache cache) {
+		return extractAll(parse(source), source, typeChecker, cache);
+	}
+
+	private static int extractAll(CompilationUnit cu, String source, WebFnTypeChecker typeChecker, WebFnRouteCache cache) {
+		TextDocument doc = new TextDocument(DOC_URI, LanguageId.JAVA, 1, source);
+		int routes = 0;
+
+		TypeDeclaration type = (TypeDeclaration) cu.types().get(0);
+		for (MethodDeclaration method : type.getMethods()) {
+			if (!method.getName().getIdentifier().startsWith("routes")) {
+				continue;
+			}
+
+			List<WebFnRouteDefinition> extracted = cache != null
+					? cache.getRoutes("benchmark", method, doc, () -> WebfluxRouterIndexer.extractRoutes(method.getBody(), doc, typeChecker))
+					: WebfluxRouterIndexer.extractRoutes(method.getBody(), doc, typeChecker);
+			routes += extracted.size();
+		}
+		return routes;
+	}
+
+	private static CompilationUnit parse(String source) {
+		ASTParser parser = ASTParser.newParser(AST.JLS21);
+		parser.setSource(source.toCharArray());
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setResolveBindings(true);
+		parser.setEnvironment(new String[0], new String[0], null, true);
+		parser.setUnitName("GatewayRoutes.java");
+		Map<String, String> options = JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.VERSION_21, options);
+		parser.setCompilerOptions(options);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	/**
+	 * Router methods alternate between the builder and the static style, the method with the given index
+	 * gets a different path prefix
+	 */
+	private static String createSource(int methods, int routesPerMethod, int changedMethod) {
+		StringBuilder source = new StringBuilder("""
+				package com.example;
+
+				import java.util.function.Consumer;
+
+				public class GatewayRoutes {
+
+				""");
+
+		for (int m = 0; m < methods; m++) {
+			String prefix = m == changedMethod ? "/changed" + m : "/service" + m;
+
+			source.append("\tpublic RouterFunction routes").append(m).append("(ServiceHandler handler) {\n");
+
+			if (m % 2 == 0) {
+				source.append("\t\treturn RouterFunctions.route()\n");
+				source.append("\t\t\t.nest(path(\"").append(prefix).append("\"), builder -> builder\n");
+				for (int r = 0; r < routesPerMethod; r++) {
+					source.append("\t\t\t\t.").append(r % 2 == 0 ? "GET" : "POST").append("(\"/resource").append(r).append("/{id}\", ")
+							.append(r % 3 == 0 ? "accept(APPLICATION_JSON), " : "").append("handler::handle").append(r).append(")\n");
+				}
+				source.append("\t\t\t)\n");
+				source.append("\t\t\t.build();\n");
+			}
+			else {
+				source.append("\t\treturn nest(path(\"").append(prefix).append("\"),\n");
+				source.append("\t\t\troute(GET(\"/resource0/{id}\"), handler::handle0)\n");
+				for (int r = 1; r < routesPerMethod; r++) {
+					source.append("\t\t\t.andRoute(").append(r % 2 == 0 ? "GET" : "POST").append("(\"/resource").append(r).append("/{id}\")")
+							.append(r % 3 == 0 ? ".and(accept(APPLICATION_JSON))" : "").append(", handler::handle").append(r).append(")\n");
+				}
+				source.append("\t\t);\n");
+			}
+
+			source.append("\t}\n\n");
+		}
+
+		source.append("""
+					static final String APPLICATION_JSON = "application/json";
+
+					static RouterFunction route(RequestPredicate predicate, HandlerFunction handler) { return null; }
+					static RouterFunction nest(RequestPredicate predicate, RouterFunction routes) { return null; }
+					static RequestPredicate path(String path) { return null; }
+					static RequestPredicate accept(String mediaType) { return null; }
+					static RequestPredicate GET(String path) { return null; }
+					static RequestPredicate POST(String path) { return null; }
+
+					interface RequestPredicate {
+						RequestPredicate and(RequestPredicate other);
+					}
+
+					interface HandlerFunction {
+						Object handle(Object request);
+					}
+
+					interface RouterFunction {
+						RouterFunction andRoute(RequestPredicate predicate, HandlerFunction handler);
+					}
+
+					interface Builder {
+						Builder GET(String path, HandlerFunction handler);
+						Builder GET(String path, RequestPredicate predicate, HandlerFunction handler);
+						Builder POST(String path, HandlerFunction handler);
+						Builder POST(String path, RequestPredicate predicate, HandlerFunction handler);
+						Builder nest(RequestPredicate predicate, Consumer<Builder> builder);
+						RouterFunction build();
+					}
+
+					static class RouterFunctions {
+						static Builder route() { return null; }
+					}
+
+				""");
+
+		source.append("\tstatic class ServiceHandler {\n");
+		for (int r = 0; r < routesPerMethod; r++) {
+			source.append("\t\tObject handle").append(r).append("(Object request) { return null; }\n");
+		}
+		source.append("\t}\n\n");
+
+		return source.append("}\n").toString();
+	}
+
+}
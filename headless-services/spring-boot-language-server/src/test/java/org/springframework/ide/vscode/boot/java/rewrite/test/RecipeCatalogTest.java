@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.rewrite.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.spring.NoRequestMappingAnnotation;
+import org.springframework.ide.vscode.boot.java.rewrite.RecipeCatalog;
+
+public class RecipeCatalogTest {
+
+	@Test
+	void testReadCatalog() throws Exception {
+		String json = """
+				[
+					{
+						"name": "org.example.Declarative",
+						"displayName": "Declarative",
+						"description": "A declarative recipe",
+						"resource": "META-INF/rewrite/example.yml",
+						"options": [],
+						"recipeList": ["org.example.Imperative"]
+					},
+					{
+						"name": "org.example.Imperative",
+						"displayName": "Imperative",
+						"recipeClass": "org.example.Imperative",
+						"options": [{"name": "type", "displayName": "Type", "type": "String", "required": true}]
+					}
+				]
+				""";
+
+		RecipeCatalog catalog = RecipeCatalog.read(new StringReader(json));
+
+		assertEquals(2, catalog.getEntries().size());
+
+		RecipeCatalog.Entry declarative = catalog.get("org.example.Declarative");
+		assertEquals("META-INF/rewrite/example.yml", declarative.getResource());
+		assertNull(declarative.getRecipeClass());
+		assertEquals(List.of("org.example.Imperative"), declarative.getRecipeList());
+
+		RecipeCatalog.Entry imperative = catalog.get("org.example.Imperative");
+		assertEquals("org.example.Imperative", imperative.getRecipeClass());
+		assertNull(imperative.getResource());
+		assertTrue(imperative.getRecipeList().isEmpty());
+		assertEquals(1, imperative.getOptions().size());
+		assertEquals("type", imperative.getOptions().get(0).getName());
+		assertTrue(imperative.getOptions().get(0).isRequired());
+
+		assertNull(catalog.get("org.example.Unknown"));
+	}
+
+	@Test
+	void testCreateAndWriteCatalog() throws Exception {
+		NoRequestMappingAnnotation recipe = new NoRequestMappingAnnotation();
+		RecipeCatalog catalog = RecipeCatalog.create(List.of(recipe));
+
+		StringWriter writer = new StringWriter();
+		catalog.write(writer);
+		RecipeCatalog read = RecipeCatalog.read(new StringReader(writer.toString()));
+
+		RecipeCatalog.Entry entry = read.get(recipe.getName());
+		assertEquals(NoRequestMappingAnnotation.class.getName(), entry.getRecipeClass());
+		assertEquals(recipe.getDisplayName(), entry.getDisplayName());
+		assertEquals(recipe.getDescription(), entry.getDescription());
+		assertNull(entry.getResource());
+	}
+
+	@Test
+	void testCatalogGeneratedByBuild() throws Exception {
+		// the build generates the catalog into the output folder in the process-classes phase, so that it ends
+		// up in the packaged jar, without it the server silently falls back to scanning the classpath
+		RecipeCatalog catalog = RecipeCatalog.load(RecipeCatalog.class.getClassLoader());
+		assertNotNull(catalog, "Missing " + RecipeCatalog.RESOURCE + ", the build should generate it");
+		assertFalse(catalog.isEmpty());
+
+		RecipeCatalog.Entry entry = catalog.get(new NoRequestMappingAnnotation().getName());
+		assertNotNull(entry);
+		assertEquals(NoRequestMappingAnnotation.class.getName(), entry.getRecipeClass());
+	}
+
+}
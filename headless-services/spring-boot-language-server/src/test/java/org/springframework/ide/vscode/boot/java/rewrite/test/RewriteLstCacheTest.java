@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.rewrite.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.style.Autodetect;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.springframework.ide.vscode.boot.java.rewrite.RewriteLstCache;
+import org.springframework.ide.vscode.commons.java.ClasspathData;
+import org.springframework.ide.vscode.commons.java.IJavaProject;
+import org.springframework.ide.vscode.commons.util.FileObserver;
+
+public class RewriteLstCacheTest {
+
+	private static final Path PROJECT_DIR = Paths.get("/test-project").toAbsolutePath();
+
+	private static final String A = """
+			package p;
+			public class A {
+				B b;
+				void m() {
+					b.foo();
+				}
+			}
+			""";
+
+	private static final String B_VOID = """
+			package p;
+			public class B {
+				public void foo() {}
+			}
+			""";
+
+	private static final String B_INT = """
+			package p;
+			public class B {
+				public int foo() { return 1; }
+			}
+			""";
+
+	private IJavaProject project;
+	private ExecutionContext ctx;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		project = mock(IJavaProject.class);
+		when(project.getLocationUri()).thenReturn(PROJECT_DIR.toUri());
+		when(project.getClasspath()).thenReturn(new ClasspathData("test-project", List.of(), null));
+
+		ctx = new InMemoryExecutionContext();
+	}
+
+	@Test
+	void testUnchangedSourcesAreReused() throws Exception {
+		RewriteLstCache cache = new RewriteLstCache(null, null);
+
+		List<SourceFile> first = cache.parse(project, null, List.of(input("A.java", A), input("B.java", B_VOID)), ctx);
+		List<SourceFile> second = cache.parse(project, null, List.of(input("A.java", A), input("B.java", B_VOID)), ctx);
+
+		// cached LSTs are re-used, only the detected style gets applied again
+		assertEquals(get(first, "A.java").getId(), get(second, "A.java").getId());
+		assertEquals(get(first, "B.java").getId(), get(second, "B.java").getId());
+	}
+
+	@Test
+	void testOneStyleDetectedForCachedAndParsedSources() throws Exception {
+		RewriteLstCache cache = new RewriteLstCache(null, null);
+
+		cache.parse(project, null, List.of(input("A.java", A)), ctx);
+		List<SourceFile> sources = cache.parse(project, null, List.of(input("A.java", A), input("B.java", B_VOID)), ctx);
+
+		List<Autodetect> styles = get(sources, "A.java").getMarkers().findAll(Autodetect.class);
+		assertEquals(1, styles.size());
+		assertEquals(styles, get(sources, "B.java").getMarkers().findAll(Autodetect.class));
+	}
+
+	@Test
+	void testChangeOfOtherSourceReflectedInReparsedSource() throws Exception {
+		RewriteLstCache cache = new RewriteLstCache(null, null);
+
+		List<SourceFile> first = cache.parse(project, null, List.of(input("A.java", A), input("B.java", B_VOID)), ctx);
+		assertEquals(JavaType.Primitive.Void, getFooReturnType(first));
+
+		// A itself is unchanged, but its type attribution depends on B
+		List<SourceFile> second = cache.parse(project, null, List.of(input("A.java", A), input("B.java", B_INT)), ctx);
+		assertNotEquals(get(first, "A.java").getId(), get(second, "A.java").getId());
+		assertEquals(JavaType.Primitive.Int, getFooReturnType(second));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void testCacheDroppedOnJavaFileChange() throws Exception {
+		FileObserver fileObserver = mock(FileObserver.class);
+		ArgumentCaptor<Consumer<String[]>> listener = ArgumentCaptor.forClass(Consumer.class);
+
+		RewriteLstCache cache = new RewriteLstCache(null, fileObserver);
+		verify(fileObserver).onAnyChange(anyList(), listener.capture());
+
+		List<SourceFile> first = cache.parse(project, null, List.of(input("A.java", A)), ctx);
+
+		// changes to files of other projects don't matter
+		listener.getValue().accept(new String[] {Paths.get("/other-project/src/main/java/p/B.java").toAbsolutePath().toUri().toString()});
+		assertEquals(first.get(0).getId(), cache.parse(project, null, List.of(input("A.java", A)), ctx).get(0).getId());
+
+		listener.getValue().accept(new String[] {PROJECT_DIR.resolve("src/main/java/p/B.java").toUri().toString()});
+		assertNotEquals(first.get(0).getId(), cache.parse(project, null, List.of(input("A.java", A)), ctx).get(0).getId());
+	}
+
+	private JavaType getFooReturnType(List<SourceFile> sources) {
+		List<JavaType> returnTypes = new ArrayList<>();
+		new JavaIsoVisitor<List<JavaType>>() {
+			@Override
+			public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<JavaType> result) {
+				if (method.getMethodType() != null) {
+					result.add(method.getMethodType().getReturnType());
+				}
+				return super.visitMethodInvocation(method, result);
+			}
+		}.visit(get(sources, "A.java"), returnTypes);
+
+		assertEquals(1, returnTypes.size());
+		return returnTypes.get(0);
+	}
+
+	private static SourceFile get(List<SourceFile> sources, String fileName) {
+		return sources.stream().filter(source -> source.getSourcePath().endsWith(fileName)).findFirst().orElseThrow();
+	}
+
+	private static Parser.Input input(String fileName, String content) {
+		return new Parser.Input(Paths.get("src/main/java/p", fileName), () -> new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+}
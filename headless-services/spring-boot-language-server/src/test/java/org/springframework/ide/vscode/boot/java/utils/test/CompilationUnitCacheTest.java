@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.springframework.ide.vscode.boot.java.utils.test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -19,6 +21,10 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.junit.jupiter.api.Test;
@@ -39,6 +45,7 @@ import org.springframework.ide.vscode.boot.java.annotations.AnnotationHierarchie
 import org.springframework.ide.vscode.boot.java.links.SourceLinkFactory;
 import org.springframework.ide.vscode.boot.java.links.SourceLinks;
 import org.springframework.ide.vscode.boot.java.utils.CompilationUnitCache;
+import org.springframework.ide.vscode.boot.java.utils.CompilationUnitPrefetcher;
 import org.springframework.ide.vscode.boot.metadata.ValueProviderRegistry;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
 import org.springframework.ide.vscode.commons.languageserver.util.SimpleLanguageServer;
@@ -298,5 +305,83 @@ public class CompilationUnitCacheTest {
         assertTrue(anotherAnnotationHierarchies != annotationHierarchies);
     }
 
+    @Test
+    void cu_prefetched() throws Exception {
+        File directory = new File(
+                ProjectsHarness.class.getResource("/test-projects/test-request-mapping-live-hover/").toURI());
+        String docUri = directory.toPath().resolve("src/main/java/example/HelloWorldController.java").toUri().toString();
+        MavenJavaProject project = projects.mavenProject("test-request-mapping-live-hover");
+        harness.useProject(project);
+        harness.intialize(directory);
+
+        URI fileUri = new URI(docUri);
+        String content = new String(Files.readAllBytes(Paths.get(fileUri)));
+        TextDocument document = new TextDocument(docUri, LanguageId.JAVA, 0, content);
+
+        CompilationUnitCache cuCache = serverInit.getComponents().get(BootJavaLanguageServerComponents.class).getCompilationUnitCache();
+        assertFalse(cuCache.isCached(fileUri));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompilationUnit prefetched = cuCache.prefetch(project, fileUri, executor).get(30, TimeUnit.SECONDS);
+            assertNotNull(prefetched);
+            assertTrue(cuCache.isCached(fileUri));
+
+            CompilationUnit cu = getCompilationUnit(document);
+            assertTrue(cu == prefetched);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cu_prefetched_kept_when_opened_unchanged() throws Exception {
+        File directory = new File(
+                ProjectsHarness.class.getResource("/test-projects/test-request-mapping-live-hover/").toURI());
+        String docUri = directory.toPath().resolve("src/main/java/example/HelloWorldController.java").toUri().toString();
+        MavenJavaProject project = projects.mavenProject("test-request-mapping-live-hover");
+        harness.useProject(project);
+        harness.intialize(directory);
+
+        URI fileUri = new URI(docUri);
+        String content = new String(Files.readAllBytes(Paths.get(fileUri)));
+        TextDocument document = new TextDocument(docUri, LanguageId.JAVA, 0, content);
+
+        CompilationUnitCache cuCache = serverInit.getComponents().get(BootJavaLanguageServerComponents.class).getCompilationUnitCache();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompilationUnit prefetched = cuCache.prefetch(project, fileUri, executor).get(30, TimeUnit.SECONDS);
+            assertNotNull(prefetched);
+
+            // opening the document reports its content as a change
+            harness.newEditorFromFileUri(docUri, LanguageId.JAVA);
+            assertTrue(cuCache.isCached(fileUri));
+            assertTrue(getCompilationUnit(document) == prefetched);
+
+            harness.changeDocument(docUri, 0, 0, "     ");
+            assertTrue(getCompilationUnit(document) != prefetched);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void prefetch_candidates_from_imports() throws Exception {
+        String source = "package my.pkg;\n" +
+                "\n" +
+                "import static org.junit.Assert.assertEquals;\n" +
+                "import java.util.*;\n" +
+                "import org.springframework.stereotype.Component;\n" +
+                "  import  my.other.SomeService ;\n" +
+                "\n" +
+                "@Component\n" +
+                "public class SomeClass {\n" +
+                "}\n";
+
+        assertEquals(List.of("org.springframework.stereotype.Component", "my.other.SomeService"), CompilationUnitPrefetcher.getImportedTypes(source));
+    }
 
 }
@@ -33,6 +33,7 @@ import org.springframework.ide.vscode.boot.java.beans.CachedIndexElement;
 import org.springframework.ide.vscode.boot.java.handlers.SpringComponentIndexer;
 import org.springframework.ide.vscode.boot.java.reconcilers.CachedDiagnostic;
 import org.springframework.ide.vscode.boot.java.reconcilers.JdtReconciler;
+import org.springframework.ide.vscode.boot.java.requestmapping.WebFnRouteCache;
 import org.springframework.ide.vscode.boot.java.utils.CompilationUnitCache;
 import org.springframework.ide.vscode.boot.java.utils.QualifiedTypeName;
 import org.springframework.ide.vscode.boot.java.utils.SourceJavaFile;
@@ -105,7 +106,7 @@ class SpringIndexerJavaDependencyRestoreFromCacheTest {
 		validationSettings.addProperty("severity", "warning");
 
 		SpringIndexerJava indexer = new SpringIndexerJava(symbolHandler, new SpringComponentIndexer[0], cache, projectFinder,
-				ProgressService.NO_PROGRESS, jdtReconciler, problemCollectorCreator, validationSettings, cuCache);
+				ProgressService.NO_PROGRESS, jdtReconciler, problemCollectorCreator, validationSettings, cuCache, new WebFnRouteCache());
 
 		indexer.initializeProject(project, false);
 
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.java.value.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ide.vscode.boot.java.value.PropertyKeyOccurrenceIndex;
+import org.springframework.ide.vscode.boot.java.value.PropertyKeyOccurrenceIndex.PropertyKeyOccurrence;
+import org.springframework.ide.vscode.boot.java.value.ValuePropertyReferencesProvider;
+import org.springframework.ide.vscode.commons.java.ClasspathData;
+import org.springframework.ide.vscode.commons.java.IJavaProject;
+import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
+import org.springframework.ide.vscode.commons.protocol.java.Classpath;
+import org.springframework.ide.vscode.commons.protocol.java.Classpath.CPE;
+import org.springframework.ide.vscode.commons.util.FileObserver;
+
+public class PropertyKeyOccurrenceIndexTest {
+
+	private Path projectDir;
+	private Path resourcesDir;
+	private IJavaProject project;
+	private JavaProjectFinder projectFinder;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		projectDir = Files.createTempDirectory("propertykeyindextest");
+		resourcesDir = Files.createDirectories(projectDir.resolve("src/main/resources"));
+
+		project = mock(IJavaProject.class);
+		when(project.getLocationUri()).thenReturn(projectDir.toUri());
+		when(project.getClasspath()).thenReturn(new ClasspathData("test-project", List.of(new CPE(Classpath.ENTRY_KIND_SOURCE, resourcesDir.toString())), null));
+
+		projectFinder = new JavaProjectFinder() {
+			@Override
+			public Optional<IJavaProject> find(TextDocumentIdentifier doc) {
+				return doc.getUri().startsWith(projectDir.toUri().toString()) ? Optional.of(project) : Optional.empty();
+			}
+
+			@Override
+			public Collection<? extends IJavaProject> all() {
+				return List.of(project);
+			}
+		};
+	}
+
+	@AfterEach
+	public void deleteTempDir() throws Exception {
+		FileUtils.deleteDirectory(projectDir.toFile());
+	}
+
+	@Test
+	void testOccurrencesInPropertiesAndYamlFiles() throws Exception {
+		Path properties = Files.writeString(resourcesDir.resolve("application.properties"), "other.prop=6\nsome.prop=5");
+		Path yaml = Files.writeString(resourcesDir.resolve("application-dev.yml"), "some:\n  prop: 7\n");
+		Files.writeString(resourcesDir.resolve("other.properties"), "some.prop=8\n");
+
+		PropertyKeyOccurrenceIndex index = new PropertyKeyOccurrenceIndex(projectFinder, null, null);
+
+		List<PropertyKeyOccurrence> occurrences = index.findOccurrences("some.prop");
+		assertEquals(2, occurrences.size());
+
+		PropertyKeyOccurrence fromProperties = find(occurrences, properties);
+		assertEquals(new Range(new Position(1, 0), new Position(1, 9)), fromProperties.keyRange());
+		assertEquals(new Range(new Position(1, 10), new Position(1, 11)), fromProperties.valueRange());
+
+		PropertyKeyOccurrence fromYaml = find(occurrences, yaml);
+		assertEquals(new Range(new Position(1, 2), new Position(1, 6)), fromYaml.keyRange());
+		assertEquals(new Range(new Position(1, 8), new Position(1, 9)), fromYaml.valueRange());
+		assertEquals(new Range(new Position(1, 2), new Position(1, 9)), fromYaml.entryRange());
+
+		assertEquals(1, index.findOccurrences("some").size());
+		assertTrue(index.findOccurrences("unknown.prop").isEmpty());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void testIndexFollowsFileChanges() throws Exception {
+		Path properties = Files.writeString(resourcesDir.resolve("application.properties"), "some.prop=5\n");
+
+		FileObserver fileObserver = mock(FileObserver.class);
+		ArgumentCaptor<Consumer<String[]>> listener = ArgumentCaptor.forClass(Consumer.class);
+
+		PropertyKeyOccurrenceIndex index = new PropertyKeyOccurrenceIndex(projectFinder, null, fileObserver);
+		verify(fileObserver).onAnyChange(eq(ValuePropertyReferencesProvider.PROPERTIES_FILE_GLOBS), listener.capture());
+
+		assertEquals(1, index.findOccurrences("some.prop").size());
+
+		Files.writeString(properties, "renamed.prop=5\n");
+		Path yaml = Files.writeString(resourcesDir.resolve("application.yml"), "some:\n  prop: 7\n");
+		listener.getValue().accept(new String[] {properties.toUri().toString(), yaml.toUri().toString()});
+
+		assertEquals(1, index.findOccurrences("renamed.prop").size());
+		assertEquals(yaml.toUri().toASCIIString(), index.findOccurrences("some.prop").get(0).docURI());
+
+		Files.delete(yaml);
+		listener.getValue().accept(new String[] {yaml.toUri().toString()});
+
+		assertTrue(index.findOccurrences("some.prop").isEmpty());
+
+		Path custom = Files.writeString(resourcesDir.resolve("custom-application.properties"), "custom.prop=1\n");
+		listener.getValue().accept(new String[] {custom.toUri().toString()});
+
+		assertEquals(1, index.findOccurrences("custom.prop").size());
+	}
+
+	@Test
+	void testFileObserverGlobsMatchScannedFiles() throws Exception {
+		List<String> fileNames = List.of("application.properties", "application-dev.yml", "custom-application.yaml", "myapplication.properties",
+				"other.properties", "application.txt", "application.properties.bak");
+
+		for (String fileName : fileNames) {
+			Path path = Paths.get("/project/src/main/resources", fileName);
+			boolean matchesGlob = ValuePropertyReferencesProvider.PROPERTIES_FILE_GLOBS.stream()
+					.anyMatch(glob -> FileSystems.getDefault().getPathMatcher("glob:" + glob).matches(path));
+			assertEquals(ValuePropertyReferencesProvider.isPropertiesFile(path), matchesGlob, fileName);
+		}
+	}
+
+	@Test
+	void testFirstYamlOccurrencePerDocument() throws Exception {
+		// the nested key comes first in the first document, the second document has its own occurrence
+		Path yaml = Files.writeString(resourcesDir.resolve("application.yml"), "some:\n  prop: 1\nsome.prop: 2\n---\nsome.prop: 3\n");
+
+		PropertyKeyOccurrenceIndex index = new PropertyKeyOccurrenceIndex(projectFinder, null, null);
+
+		List<PropertyKeyOccurrence> occurrences = index.findOccurrences("some.prop");
+		assertEquals(2, occurrences.size());
+		assertTrue(occurrences.stream().allMatch(occurrence -> occurrence.docURI().equals(yaml.toUri().toASCIIString())));
+		assertTrue(occurrences.stream().anyMatch(occurrence -> occurrence.keyRange().equals(new Range(new Position(1, 2), new Position(1, 6)))));
+		assertTrue(occurrences.stream().anyMatch(occurrence -> occurrence.keyRange().equals(new Range(new Position(4, 0), new Position(4, 9)))));
+	}
+
+	private PropertyKeyOccurrence find(List<PropertyKeyOccurrence> occurrences, Path file) {
+		return occurrences.stream()
+				.filter(occurrence -> occurrence.docURI().equals(file.toUri().toASCIIString()))
+				.findFirst()
+				.orElseThrow();
+	}
+
+}
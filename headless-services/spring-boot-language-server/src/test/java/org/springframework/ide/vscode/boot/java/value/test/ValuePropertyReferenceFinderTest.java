@@ -21,6 +21,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Position;
@@ -37,6 +38,7 @@ import org.springframework.ide.vscode.boot.bootiful.BootLanguageServerTest;
 import org.springframework.ide.vscode.boot.bootiful.IndexerTestConf;
 import org.springframework.ide.vscode.boot.index.SpringMetamodelIndex;
 import org.springframework.ide.vscode.boot.java.Annotations;
+import org.springframework.ide.vscode.boot.java.value.PropertyKeyOccurrenceIndex;
 import org.springframework.ide.vscode.boot.java.value.ValuePropertyReferencesProvider;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
 import org.springframework.ide.vscode.commons.util.text.LanguageId;
@@ -57,6 +59,7 @@ public class ValuePropertyReferenceFinderTest {
 	@Autowired private JavaProjectFinder projectFinder;
 	@Autowired private SpringMetamodelIndex springIndex;
 	@Autowired private SpringSymbolIndex indexer;
+	@Autowired private PropertyKeyOccurrenceIndex propertyKeyIndex;
 
 	private File directory;
 	private String tempJavaDocUri;
@@ -80,10 +83,10 @@ public class ValuePropertyReferenceFinderTest {
 	
 	@Test
     void testFindReferenceAtBeginningPropFile() throws Exception {
-        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(projectFinder, springIndex);
+        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(springIndex, propertyKeyIndex);
 
         Path file = resourceDir.resolve("simple-case/application.properties");
-        List<? extends Location> locations = provider.findReferences(file, "test.property");
+        List<? extends Location> locations = findReferencesInFile(provider, file, "test.property");
 
         assertNotNull(locations);
         assertEquals(1, locations.size());
@@ -95,10 +98,10 @@ public class ValuePropertyReferenceFinderTest {
 
     @Test
     void testFindReferenceAtBeginningYMLFile() throws Exception {
-        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(projectFinder, springIndex);
+        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(springIndex, propertyKeyIndex);
 
         Path file = resourceDir.resolve("simple-yml/application.yml");
-        List<? extends Location> locations = provider.findReferences(file, "test.property");
+        List<? extends Location> locations = findReferencesInFile(provider, file, "test.property");
 
         assertNotNull(locations);
         assertEquals(1, locations.size());
@@ -113,11 +116,11 @@ public class ValuePropertyReferenceFinderTest {
         // application.yml also contains a self-referential YAML anchor/alias (`a: &x / b: *x`)
         // unrelated to the property being searched for. It must not hang the search, and the
         // unrelated property below it must still be found.
-        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(projectFinder, springIndex);
+        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(springIndex, propertyKeyIndex);
 
         Path file = resourceDir.resolve("cyclic-yml/application.yml");
         List<? extends Location> locations = assertTimeoutPreemptively(Duration.ofSeconds(5),
-                () -> provider.findReferences(file, "test.property"));
+                () -> findReferencesInFile(provider, file, "test.property"));
 
         assertNotNull(locations);
         assertEquals(1, locations.size());
@@ -129,7 +132,7 @@ public class ValuePropertyReferenceFinderTest {
 
     @Test
     void testFindReferenceWithinMultipleFiles() throws Exception {
-        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(projectFinder, springIndex);
+        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(springIndex, propertyKeyIndex);
 
         List<? extends Location> locations = provider.findReferencesFromPropertyFiles("appl1.prop");
 
@@ -229,7 +232,7 @@ public class ValuePropertyReferenceFinderTest {
     
     @Test
     void testFindReferenceForPropertiesUsedInAnnotations() throws Exception {
-        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(projectFinder, springIndex);
+        ValuePropertyReferencesProvider provider = new ValuePropertyReferencesProvider(springIndex, propertyKeyIndex);
 
         List<? extends Location> locations = provider.findReferencesToPropertyKey("my.prop2");
 
@@ -265,4 +268,10 @@ public class ValuePropertyReferenceFinderTest {
         assertEquals(new Location(javaFile.toString(), new Range(new Position(8, 8), new Position(8, 41))), location);
     }
 
+	private List<? extends Location> findReferencesInFile(ValuePropertyReferencesProvider provider, Path file, String propertyKey) {
+		return provider.findReferencesFromPropertyFiles(propertyKey).stream()
+				.filter(location -> location.getUri().equals(file.toUri().toASCIIString()))
+				.collect(Collectors.toList());
+	}
+
 }
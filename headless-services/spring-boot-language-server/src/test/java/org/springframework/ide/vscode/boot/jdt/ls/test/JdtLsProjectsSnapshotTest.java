@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.jdt.ls.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.jdt.ls.JdtLsProjectsSnapshot;
+import org.springframework.ide.vscode.commons.java.ClasspathData;
+import org.springframework.ide.vscode.commons.java.IJavaProject;
+import org.springframework.ide.vscode.commons.java.IProjectBuild;
+import org.springframework.ide.vscode.commons.protocol.java.Classpath;
+import org.springframework.ide.vscode.commons.protocol.java.Classpath.CPE;
+
+public class JdtLsProjectsSnapshotTest {
+
+	private Path tempDir;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		tempDir = Files.createTempDirectory("snapshottest");
+	}
+
+	@AfterEach
+	public void deleteTempDir() throws Exception {
+		FileUtils.deleteDirectory(tempDir.toFile());
+	}
+
+	@Test
+	void testSnapshotRoundTrip() throws Exception {
+		CPE jar = new CPE(Classpath.ENTRY_KIND_BINARY, "/some/repo/spring-core.jar");
+		ClasspathData classpath = new ClasspathData("someProject", List.of(jar), null);
+
+		IJavaProject project = mock(IJavaProject.class);
+		when(project.getElementName()).thenReturn("someProject");
+		when(project.getClasspath()).thenReturn(classpath);
+		when(project.getProjectBuild()).thenReturn(IProjectBuild.create("maven", URI.create("file:///someProject/pom.xml")));
+
+		JdtLsProjectsSnapshot snapshot = JdtLsProjectsSnapshot.forWorkspace(tempDir.toFile(), List.of("file:///someProject"));
+		snapshot.persist(Map.of("file:///someProject", project));
+		assertTrue(snapshot.getFile().exists());
+
+		List<JdtLsProjectsSnapshot.ProjectSnapshot> restored = JdtLsProjectsSnapshot.forWorkspace(tempDir.toFile(), List.of("file:///someProject")).load();
+		assertEquals(1, restored.size());
+		assertEquals("file:///someProject", restored.get(0).uri());
+		assertEquals("maven", restored.get(0).buildType());
+		assertEquals("file:///someProject/pom.xml", restored.get(0).buildFile());
+
+		ClasspathData restoredClasspath = restored.get(0).createClasspathData();
+		assertEquals(classpath, restoredClasspath);
+		assertTrue(restoredClasspath.findBinaryLibraryByPrefix("spring-core").isPresent());
+	}
+
+	@Test
+	void testSnapshotIsWorkspaceSpecific() throws Exception {
+		JdtLsProjectsSnapshot snapshot1 = JdtLsProjectsSnapshot.forWorkspace(tempDir.toFile(), List.of("file:///a", "file:///b"));
+		JdtLsProjectsSnapshot snapshot2 = JdtLsProjectsSnapshot.forWorkspace(tempDir.toFile(), List.of("file:///b", "file:///a"));
+		JdtLsProjectsSnapshot snapshot3 = JdtLsProjectsSnapshot.forWorkspace(tempDir.toFile(), List.of("file:///c"));
+
+		assertEquals(snapshot1.getFile(), snapshot2.getFile());
+		assertNotEquals(snapshot1.getFile(), snapshot3.getFile());
+	}
+
+	@Test
+	void testSnapshotWithDifferentVersionIsIgnored() throws Exception {
+		JdtLsProjectsSnapshot snapshot = JdtLsProjectsSnapshot.forWorkspace(tempDir.toFile(), List.of("file:///someProject"));
+		Files.writeString(snapshot.getFile().toPath(), "{\"version\": -1, \"projects\": [{\"uri\": \"file:///someProject\"}]}");
+
+		assertTrue(snapshot.load().isEmpty());
+	}
+
+}
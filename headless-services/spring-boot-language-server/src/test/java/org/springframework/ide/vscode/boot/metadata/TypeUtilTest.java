@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.ide.vscode.boot.metadata.types.Type;
 import org.springframework.ide.vscode.boot.metadata.types.TypeParser;
+import org.springframework.ide.vscode.boot.metadata.types.TypePropertiesCache;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil;
 import org.springframework.ide.vscode.boot.metadata.types.TypedProperty;
 import org.springframework.ide.vscode.boot.metadata.types.TypeUtil.BeanPropertyNameMode;
@@ -118,6 +119,29 @@ public class TypeUtilTest {
         assertNull(getPropertyType(data, "not-a-color"));
     }
 
+    @Test
+    void testCachedProperties() throws Exception {
+        useProject("enums-boot-1.3.2-app");
+        TypePropertiesCache cache = new TypePropertiesCache(null, null);
+        TypeUtil cachingTypeUtil = new TypeUtil(null, project, cache);
+        Type data = TypeParser.parse("demo.ColorData");
+
+        List<TypedProperty> props = cachingTypeUtil.getProperties(data, EnumCaseMode.ALIASED, BeanPropertyNameMode.ALIASED);
+        assertEquals(
+                typeUtil.getProperties(data, EnumCaseMode.ALIASED, BeanPropertyNameMode.ALIASED).stream().map(TypedProperty::getName).collect(Collectors.toList()),
+                props.stream().map(TypedProperty::getName).collect(Collectors.toList()));
+
+        // shared between type util instances, keyed by bean mode
+        assertSame(props, new TypeUtil(null, project, cache).getProperties(data, EnumCaseMode.LOWER_CASE, BeanPropertyNameMode.ALIASED));
+        assertNotSame(props, cachingTypeUtil.getProperties(data, EnumCaseMode.ALIASED, BeanPropertyNameMode.HYPHENATED));
+        assertSame(cachingTypeUtil.getPropertiesMap(data, EnumCaseMode.ALIASED, BeanPropertyNameMode.ALIASED),
+                cachingTypeUtil.getPropertiesMap(data, EnumCaseMode.ALIASED, BeanPropertyNameMode.ALIASED));
+        assertType("java.lang.Double", cachingTypeUtil.getPropertiesMap(data, EnumCaseMode.ALIASED, BeanPropertyNameMode.ALIASED).get("wavelen").getType());
+
+        cache.invalidate(project);
+        assertNotSame(props, cachingTypeUtil.getProperties(data, EnumCaseMode.ALIASED, BeanPropertyNameMode.ALIASED));
+    }
+
 	private Type getPropertyType(Type type, String propName) {
 		return getPropertyType(type, propName, EnumCaseMode.ALIASED, BeanPropertyNameMode.ALIASED);
 	}
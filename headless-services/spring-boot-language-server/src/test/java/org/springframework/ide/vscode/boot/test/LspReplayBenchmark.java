@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.ide.vscode.boot.app.BootLanguageServerBootApp;
+import org.springframework.ide.vscode.boot.app.SpringSymbolIndex;
+import org.springframework.ide.vscode.boot.bootiful.IndexerTestConf;
+import org.springframework.ide.vscode.boot.bootiful.JavaTestConf;
+import org.springframework.ide.vscode.boot.bootiful.LsGsonConfig;
+import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
+import org.springframework.ide.vscode.commons.languageserver.util.LspSessionRecorder;
+import org.springframework.ide.vscode.commons.languageserver.util.LspSessionRecorder.RecordedMessage;
+import org.springframework.ide.vscode.languageserver.testharness.LspSessionReplay;
+import org.springframework.ide.vscode.languageserver.testharness.LspSessionReplay.ReplayStatistics;
+import org.springframework.ide.vscode.project.harness.BootLanguageServerHarness;
+import org.springframework.ide.vscode.project.harness.SyntheticSpringProject;
+
+/**
+ * Replays an LSP session against the Boot language server and reports p50/p95/p99 latencies and allocations
+ * per request type, plus the time from document changes to the next published diagnostics (<code>reconcile</code>).
+ *
+ * Not a test, run it manually or on a CI machine to track performance over time. By default, a synthetic Spring Boot
+ * project gets generated together with an editing session (typing with completions, hovers, semantic tokens
+ * in a Java and a properties file). Sessions recorded from a real client by launching the language server with
+ * <code>-Dlanguageserver.record-session=/some/file.jsonl</code> can be replayed instead. The project needs to be resolvable
+ * via Maven.
+ *
+ * Configured via system properties:
+ * <ul>
+ * <li><code>benchmark.session</code>: recorded session to replay, instead of generating one</li>
+ * <li><code>benchmark.project</code>: project the session was recorded for (required with <code>benchmark.session</code>)</li>
+ * <li><code>benchmark.recorded-root</code>: project URI at recording time, if the project moved since then</li>
+ * <li><code>benchmark.domains</code>, <code>benchmark.properties</code>: size of the generated project (default: 100 and 500)</li>
+ * <li><code>benchmark.speed</code>: replay speed relative to the recording, 0 replays as fast as possible (default: 0)</li>
+ * <li><code>benchmark.concurrency</code>: max number of requests waiting for a response at the same time (default: 1)</li>
+ * <li><code>benchmark.warmup</code>, <code>benchmark.iterations</code>: number of replays before and while measuring (default: 2 and 5)</li>
+ * <li><code>benchmark.write-session</code>: file to write the generated session to, e.g. to keep it as a CI artifact</li>
+ * </ul>
+ *
+ * @author Martin Lippert
+ */
+public class LspReplayBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		Path projectDir;
+		List<RecordedMessage> session;
+
+		String sessionFile = System.getProperty("benchmark.session");
+		if (sessionFile != null) {
+			projectDir = Path.of(System.getProperty("benchmark.project"));
+			session = LspSessionRecorder.read(Path.of(sessionFile));
+		}
+		else {
+			SyntheticSpringProject project = new SyntheticSpringProject(Files.createTempDirectory("synthetic-spring-project"),
+					Integer.getInteger("benchmark.domains", 100), Integer.getInteger("benchmark.properties", 500));
+			projectDir = project.create();
+			session = project.createSession();
+
+			String writeSession = System.getProperty("benchmark.write-session");
+			if (writeSession != null) {
+				LspSessionRecorder.write(Path.of(writeSession), session);
+			}
+		}
+
+		double speed = Double.parseDouble(System.getProperty("benchmark.speed", "0"));
+		int concurrency = Integer.getInteger("benchmark.concurrency", 1);
+		int warmup = Integer.getInteger("benchmark.warmup", 2);
+		int iterations = Integer.getInteger("benchmark.iterations", 5);
+
+		System.out.println(String.format("replaying %d messages against %s, speed %s, concurrency %d, %d warmup and %d measured iterations",
+				session.size(), projectDir, speed > 0 ? speed + "x" : "max", concurrency, warmup, iterations));
+
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BootLanguageServerBootApp.class, JavaTestConf.class, LsGsonConfig.class, IndexerTestConf.class)
+				.web(WebApplicationType.NONE)
+				// same as @OverrideAutoConfiguration(enabled=false) in the tests
+				.properties("spring.boot.enableautoconfiguration=false")
+				.run()) {
+
+			BootLanguageServerHarness harness = context.getBean(BootLanguageServerHarness.class);
+			harness.intialize(projectDir.toFile());
+
+			long start = System.nanoTime();
+			context.getBean(JavaProjectFinder.class).find(new TextDocumentIdentifier(projectDir.toUri().toASCIIString()));
+			context.getBean(SpringSymbolIndex.class).waitOperation().get(30, TimeUnit.MINUTES);
+			System.out.println("project initialized after " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+
+			for (int i = 0; i < warmup; i++) {
+				replay(harness, session, speed, concurrency);
+			}
+
+			ReplayStatistics statistics = replay(harness, repeat(session, iterations), speed, concurrency);
+			statistics.print(System.out);
+		}
+		System.exit(0);
+	}
+
+	private static ReplayStatistics replay(BootLanguageServerHarness harness, List<RecordedMessage> session, double speed, int concurrency) throws Exception {
+		LspSessionReplay replay = new LspSessionReplay(harness, session).speed(speed).concurrency(concurrency);
+		String recordedRoot = System.getProperty("benchmark.recorded-root");
+		if (recordedRoot != null) {
+			replay.rebase(recordedRoot, Path.of(System.getProperty("benchmark.project")).toUri().toASCIIString());
+		}
+		return replay.run();
+	}
+
+	private static List<RecordedMessage> repeat(List<RecordedMessage> session, int times) {
+		List<RecordedMessage> repeated = new ArrayList<>();
+		long offset = 0;
+		for (int i = 0; i < times; i++) {
+			for (RecordedMessage message : session) {
+				repeated.add(new RecordedMessage(offset + message.time(), message.method(), message.params()));
+			}
+			offset = repeated.isEmpty() ? 0 : repeated.get(repeated.size() - 1).time();
+		}
+		return repeated;
+	}
+
+}
@@ -123,6 +123,30 @@ public class XMLBeanRefContentAssistTest {
         	editorContent);
     }
 
+    @Test
+    void testBeanRefCompletionIncludesBeansOfCurrentDocument() throws Exception {
+        Editor editor = harness.newEditor(LanguageId.XML, """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<beans xmlns="http://www.springframework.org/schema/beans"
+				xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+				xsi:schemaLocation="http://www.springframework.org/schema/beans https://www.springframework.org/schema/beans/spring-beans.xsd">
+				
+				<bean id="notYetSavedBean" class="u.t.r.SimpleObj"></bean>
+				<bean id="simpleObj" class="u.t.r.SimpleObj" depends-on="<*>"></bean>
+			</beans>
+			""",
+			tempJavaDocUri);
+        
+        List<CompletionItem> completions = editor.getCompletions();
+        
+        assertEquals(5, completions.size());
+        assertTrue(containsCompletion("notYetSavedBean", completions));
+        assertTrue(containsCompletion("testBean", completions));
+        assertTrue(containsCompletion("homeController", completions));
+        assertTrue(containsCompletion("simpleObj", completions));
+        assertTrue(containsCompletion("internalResourceViewResolver", completions));
+    }
+
 	private CompletionItem getCompletion(String completionLabel, List<CompletionItem> completions) {
 		for (CompletionItem completionItem : completions) {
 			if (completionItem.getLabel().equals(completionLabel)) return completionItem;
@@ -194,6 +194,36 @@ public class XMLBeansHyperlinkTest {
         editor.assertDefinitionLinkTargets("simpleObj", Collections.singletonList(expectedLocation));
     }
 
+    @Test
+    void testBeanRefHyperlinkToBeanOfCurrentDocument() throws Exception {
+        Path xmlFilePath = Paths.get(project.getLocationUri()).resolve("beans.xml");
+        Editor editor = harness.newEditor(LanguageId.XML,
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                        "<beans xmlns=\"http://www.springframework.org/schema/beans\"\n" +
+                        "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+                        "xsi:schemaLocation=\"http://www.springframework.org/schema/beans https://www.springframework.org/schema/beans/spring-beans.xsd\">\n" +
+
+                        "<bean id=\"notYetSavedBean\" class=\"u.t.r.SimpleObj\"></bean>\n" +
+                        "<bean id=\"someBean\" class=\"u.t.r.TestBean\"\n" +
+                        "<property name=\"simple\" ref=\"notYetSavedBean\"></property>\n" +
+                        "</bean>\n" +
+                        "</beans>\n",
+                UriUtil.toUri(xmlFilePath.toFile()).toString()
+        );
+
+        // the bean is not in the index, since the document is not saved
+        assertEquals(0, springIndex.getBeansWithName(project.getElementName(), "notYetSavedBean").length);
+
+        Range targetRange = editor.rangeOf("<bean id=\"notYetSavedBean\"", "id=\"notYetSavedBean\"");
+        LocationLink expectedLocation = new LocationLink(
+                UriUtil.toUri(xmlFilePath.toFile()).toString(),
+                targetRange,
+                targetRange,
+                editor.rangeOf("name=\"simple\" ref=\"notYetSavedBean\"", "notYetSavedBean")
+        );
+        editor.assertDefinitionLinkTargets("ref=\"notYetSavedBean", Collections.singletonList(expectedLocation));
+    }
+
     @Test
     void testBeanRefNoHyperlink_FolderNotScanned() throws Exception {
         Map<String, Object> supportXML = new HashMap<>();
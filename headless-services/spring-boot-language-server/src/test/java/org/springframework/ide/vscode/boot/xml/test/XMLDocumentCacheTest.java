@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.boot.xml.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.ide.vscode.boot.xml.CachedXMLDocument;
+import org.springframework.ide.vscode.boot.xml.XMLDocumentCache;
+
+public class XMLDocumentCacheTest {
+
+	private static final String BEANS = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<beans xmlns="http://www.springframework.org/schema/beans">
+				<bean id="first" class="com.example.First"/>
+				<bean id="second" class="com.example.Second">
+					<property name="first" ref="first"/>
+				</bean>
+				<bean class="com.example.First"/>
+			</beans>
+			""";
+
+	@Test
+	void testDocumentParsedOncePerContent() throws Exception {
+		XMLDocumentCache cache = new XMLDocumentCache(null);
+
+		CachedXMLDocument document = cache.getDocument("file:///beans.xml", BEANS);
+		assertSame(document, cache.getDocument("file:///beans.xml", new String(BEANS)));
+		assertNotSame(document, cache.getDocument("file:///other-beans.xml", BEANS));
+
+		CachedXMLDocument changed = cache.getDocument("file:///beans.xml", BEANS.replace("second", "third"));
+		assertNotSame(document, changed);
+		assertEquals(Set.of("first", "third"), changed.getBeanIds());
+	}
+
+	@Test
+	void testConcurrentParsesPublishOneDocument() throws Exception {
+		XMLDocumentCache cache = new XMLDocumentCache(null);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<CompletableFuture<CachedXMLDocument>> lookups = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			lookups.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return cache.getDocument("file:///beans.xml", BEANS);
+			}));
+		}
+		start.countDown();
+
+		CachedXMLDocument document = cache.getDocument("file:///beans.xml", BEANS);
+		for (CompletableFuture<CachedXMLDocument> lookup : lookups) {
+			assertSame(document, lookup.get());
+		}
+	}
+
+	@Test
+	void testBeanIndex() throws Exception {
+		CachedXMLDocument document = new XMLDocumentCache(null).getDocument("file:///beans.xml", BEANS);
+
+		assertEquals(Set.of("first", "second"), document.getBeanIds());
+		assertEquals(1, document.getBeansWithId("first").size());
+		assertEquals("com.example.First", document.getBeansWithId("first").get(0).beanClass());
+		assertTrue(BEANS.substring(document.getBeansWithId("first").get(0).idStart()).startsWith("id=\"first\""));
+		assertTrue(document.getBeansWithId("unknown").isEmpty());
+
+		assertEquals(2, document.getBeansWithClass("com.example.First").size());
+		assertEquals(1, document.getBeansWithClass("com.example.Second").size());
+		assertEquals(-1, document.getBeansWithClass("com.example.First").get(1).idStart());
+	}
+
+	@Test
+	void testDomHandedOutToOneThreadAtATime() throws Exception {
+		CachedXMLDocument document = new CachedXMLDocument(BEANS);
+		DOMDocument cached = document.withDom(dom -> dom);
+
+		document.withDom(dom -> {
+			assertSame(cached, dom);
+
+			// the cached DOM is in use, other threads get their own copy
+			DOMDocument otherThreadDom = CompletableFuture.supplyAsync(() -> document.withDom(otherDom -> otherDom)).get();
+			assertNotSame(cached, otherThreadDom);
+			assertEquals(dom.getChildren().size(), otherThreadDom.getChildren().size());
+			return null;
+		});
+
+		assertSame(cached, document.withDom(dom -> dom));
+	}
+
+}
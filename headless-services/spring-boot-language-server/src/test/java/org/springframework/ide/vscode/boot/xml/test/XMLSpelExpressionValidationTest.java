@@ -38,6 +38,7 @@ import org.springframework.ide.vscode.boot.app.BootLanguageServerBootApp;
 import org.springframework.ide.vscode.boot.bootiful.XmlBeansTestConf;
 import org.springframework.ide.vscode.boot.java.spel.SpelReconciler;
 import org.springframework.ide.vscode.boot.xml.SpringXMLReconcileEngine;
+import org.springframework.ide.vscode.boot.xml.XMLDocumentCache;
 import org.springframework.ide.vscode.commons.languageserver.java.JavaProjectFinder;
 import org.springframework.ide.vscode.commons.languageserver.reconcile.IProblemCollector;
 import org.springframework.ide.vscode.commons.languageserver.reconcile.ReconcileProblem;
@@ -97,7 +98,7 @@ public class XMLSpelExpressionValidationTest {
 		docUri = directory.toPath().resolve("src/main/webapp/WEB-INF/spring/root-context.xml").toUri().toASCIIString();
 
 		problemCollector = new TestProblemCollector();
-		reconcileEngine = new SpringXMLReconcileEngine(projectFinder, config, spelReconciler);
+		reconcileEngine = new SpringXMLReconcileEngine(projectFinder, config, spelReconciler, new XMLDocumentCache(null));
 	}
 	
 	@AfterEach
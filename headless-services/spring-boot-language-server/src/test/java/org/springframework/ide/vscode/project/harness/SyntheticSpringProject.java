@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Broadcom
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Broadcom - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.vscode.project.harness;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.HoverParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.springframework.ide.vscode.commons.languageserver.util.LspSessionRecorder;
+import org.springframework.ide.vscode.commons.languageserver.util.LspSessionRecorder.RecordedMessage;
+import org.springframework.ide.vscode.commons.util.text.LanguageId;
+
+/**
+ * Generates Spring Boot projects of a configurable size (number of domain packages with an entity, repository, service
+ * and controller each, number of application properties) and a typical editing session for them, to benchmark the
+ * language server without depending on a real project.
+ *
+ * @author Martin Lippert
+ */
+public class SyntheticSpringProject {
+
+	private static final String BASE_PACKAGE = "com.example.synthetic";
+
+	/**
+	 * Time between two keystrokes in the generated session
+	 */
+	private static final long KEYSTROKE_MILLIS = 100;
+
+	/**
+	 * Time between other interactions (opening documents, hovering) in the generated session
+	 */
+	private static final long PAUSE_MILLIS = 500;
+
+	private final Path root;
+	private final int domains;
+	private final int properties;
+
+	public SyntheticSpringProject(Path root, int domains, int properties) {
+		this.root = root;
+		this.domains = Math.max(1, domains);
+		this.properties = properties;
+	}
+
+	public Path getRoot() {
+		return root;
+	}
+
+	public Path create() throws IOException {
+		write("pom.xml", pom());
+		write(javaFile(BASE_PACKAGE, "SyntheticApplication"), """
+				package %s;
+
+				import org.springframework.boot.SpringApplication;
+				import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+				@SpringBootApplication
+				public class SyntheticApplication {
+
+					public static void main(String[] args) {
+						SpringApplication.run(SyntheticApplication.class, args);
+					}
+
+				}
+				""".formatted(BASE_PACKAGE));
+
+		for (int i = 0; i < domains; i++) {
+			createDomain(i);
+		}
+
+		StringBuilder applicationProperties = new StringBuilder("spring.application.name=synthetic\n");
+		for (int i = 0; i < properties; i++) {
+			applicationProperties.append("synthetic.domain").append(i % domains).append(".setting").append(i).append("=value").append(i).append('\n');
+		}
+		write("src/main/resources/application.properties", applicationProperties.toString());
+
+		return root;
+	}
+
+	private void createDomain(int i) throws IOException {
+		String pkg = BASE_PACKAGE + ".domain" + i;
+		String entity = "Item" + i;
+
+		write(javaFile(pkg, entity), """
+				package %1$s;
+
+				import jakarta.persistence.Entity;
+				import jakarta.persistence.GeneratedValue;
+				import jakarta.persistence.Id;
+
+				@Entity
+				public class %2$s {
+
+					@Id
+					@GeneratedValue
+					private Long id;
+
+					private String name;
+
+					public Long getId() {
+						return id;
+					}
+
+					public String getName() {
+						return name;
+					}
+
+					public void setName(String name) {
+						this.name = name;
+					}
+
+				}
+				""".formatted(pkg, entity));
+
+		write(javaFile(pkg, entity + "Repository"), """
+				package %1$s;
+
+				import java.util.List;
+
+				import org.springframework.data.jpa.repository.JpaRepository;
+
+				public interface %2$sRepository extends JpaRepository<%2$s, Long> {
+
+					List<%2$s> findByName(String name);
+
+				}
+				""".formatted(pkg, entity));
+
+		write(javaFile(pkg, entity + "Service"), """
+				package %1$s;
+
+				import java.util.List;
+
+				import org.springframework.beans.factory.annotation.Value;
+				import org.springframework.stereotype.Service;
+
+				@Service
+				public class %2$sService {
+
+					private final %2$sRepository repository;
+
+					@Value("${synthetic.domain%3$d.enabled:true}")
+					private boolean enabled;
+
+					public %2$sService(%2$sRepository repository) {
+						this.repository = repository;
+					}
+
+					public List<%2$s> findByName(String name) {
+						return enabled ? repository.findByName(name) : List.of();
+					}
+
+				}
+				""".formatted(pkg, entity, i));
+
+		write(javaFile(pkg, entity + "Controller"), """
+				package %1$s;
+
+				import java.util.List;
+
+				import org.springframework.web.bind.annotation.GetMapping;
+				import org.springframework.web.bind.annotation.PathVariable;
+				import org.springframework.web.bind.annotation.RequestMapping;
+				import org.springframework.web.bind.annotation.RestController;
+
+				@RestController
+				@RequestMapping("/domain%3$d")
+				public class %2$sController {
+
+					private final %2$sService service;
+
+					public %2$sController(%2$sService service) {
+						this.service = service;
+					}
+
+					@GetMapping("/items/{name}")
+					public List<%2$s> items(@PathVariable String name) {
+						return service.findByName(name);
+					}
+
+				}
+				""".formatted(pkg, entity, i));
+	}
+
+	private String pom() {
+		return """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<project xmlns="http://maven.apache.org/POM/4.0.0" xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+					xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 https://maven.apache.org/xsd/maven-4.0.0.xsd">
+					<modelVersion>4.0.0</modelVersion>
+
+					<parent>
+						<groupId>org.springframework.boot</groupId>
+						<artifactId>spring-boot-starter-parent</artifactId>
+						<version>3.5.0</version>
+						<relativePath/>
+					</parent>
+
+					<groupId>com.example</groupId>
+					<artifactId>synthetic</artifactId>
+					<version>0.0.1-SNAPSHOT</version>
+
+					<properties>
+						<java.version>17</java.version>
+					</properties>
+
+					<dependencies>
+						<dependency>
+							<groupId>org.springframework.boot</groupId>
+							<artifactId>spring-boot-starter-web</artifactId>
+						</dependency>
+						<dependency>
+							<groupId>org.springframework.boot</groupId>
+							<artifactId>spring-boot-starter-data-jpa</artifactId>
+						</dependency>
+						<dependency>
+							<groupId>org.springframework.boot</groupId>
+							<artifactId>spring-boot-starter-actuator</artifactId>
+						</dependency>
+					</dependencies>
+
+				</project>
+				""";
+	}
+
+	/**
+	 * Creates an editing session for the project: opening a controller, hovering over its annotations, typing a new
+	 * method with completions while typing, and the same for the application properties
+	 */
+	public List<RecordedMessage> createSession() throws IOException {
+		SessionBuilder session = new SessionBuilder();
+
+		Path controller = root.resolve(javaFile(BASE_PACKAGE + ".domain0", "Item0Controller"));
+		EditedDocument java = session.open(controller, LanguageId.JAVA);
+		session.semanticTokens(java);
+		session.hover(java, "@RestController", 1);
+		session.hover(java, "@GetMapping", 1);
+		session.hover(java, "Item0Service service;", 1);
+
+		// type a new request mapping method in front of the closing bracket of the class
+		int insertAt = java.text.lastIndexOf('}');
+		insertAt = session.type(java, insertAt, "\t@GetMapping(\"/count\")\n\tpublic int count() {\n\t\treturn service.", "(\"/", " {", ".");
+		session.type(java, insertAt, "findByName(\"\").size();\n\t}\n\n", "findBy");
+		session.semanticTokens(java);
+		session.close(java);
+
+		Path propertiesFile = root.resolve("src/main/resources/application.properties");
+		EditedDocument props = session.open(propertiesFile, LanguageId.BOOT_PROPERTIES);
+		session.hover(props, "spring.application.name", 2);
+		insertAt = session.type(props, props.text.length(), "server.p", "server.", "server.p");
+		session.type(props, insertAt, "ort=8081\nspring.jpa.show-sql=true\n", "spring.", "spring.jpa.");
+		session.close(props);
+
+		return session.messages;
+	}
+
+	private static String javaFile(String pkg, String type) {
+		return "src/main/java/" + pkg.replace('.', '/') + "/" + type + ".java";
+	}
+
+	private void write(String path, String content) throws IOException {
+		Path file = root.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+	private static class EditedDocument {
+
+		final String uri;
+		String text;
+		int version = 1;
+
+		EditedDocument(String uri, String text) {
+			this.uri = uri;
+			this.text = text;
+		}
+
+		Position toPosition(int offset) {
+			int line = 0;
+			int lineStart = 0;
+			for (int i = 0; i < offset; i++) {
+				if (text.charAt(i) == '\n') {
+					line++;
+					lineStart = i + 1;
+				}
+			}
+			return new Position(line, offset - lineStart);
+		}
+	}
+
+	private static class SessionBuilder {
+
+		final List<RecordedMessage> messages = new ArrayList<>();
+		long time = 0;
+
+		EditedDocument open(Path file, LanguageId language) throws IOException {
+			EditedDocument document = new EditedDocument(file.toUri().toASCIIString(), Files.readString(file));
+			add("textDocument/didOpen", new DidOpenTextDocumentParams(new TextDocumentItem(document.uri, language.getId(), document.version, document.text)));
+			return document;
+		}
+
+		void close(EditedDocument document) {
+			add("textDocument/didClose", new DidCloseTextDocumentParams(new TextDocumentIdentifier(document.uri)));
+		}
+
+		void semanticTokens(EditedDocument document) {
+			add("textDocument/semanticTokens/full", new SemanticTokensParams(new TextDocumentIdentifier(document.uri)));
+		}
+
+		void hover(EditedDocument document, String text, int offsetInText) {
+			int offset = document.text.indexOf(text);
+			if (offset >= 0) {
+				add("textDocument/hover", new HoverParams(new TextDocumentIdentifier(document.uri), document.toPosition(offset + offsetInText)));
+			}
+		}
+
+		/**
+		 * Types the text character by character, asking for completions right after the given prefixes got typed
+		 *
+		 * @return offset after the typed text
+		 */
+		int type(EditedDocument document, int offset, String text, String... completeAfter) {
+			for (int i = 0; i < text.length(); i++) {
+				time += KEYSTROKE_MILLIS;
+
+				Position position = document.toPosition(offset);
+				String typed = text.substring(i, i + 1);
+				document.text = document.text.substring(0, offset) + typed + document.text.substring(offset);
+				document.version++;
+				offset++;
+
+				TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(new Range(position, position), typed);
+				add("textDocument/didChange", new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(document.uri, document.version), List.of(change)));
+
+				String typedSoFar = text.substring(0, i + 1);
+				for (String prefix : completeAfter) {
+					if (typedSoFar.endsWith(prefix)) {
+						add("textDocument/completion", new CompletionParams(new TextDocumentIdentifier(document.uri), document.toPosition(offset)));
+						break;
+					}
+				}
+			}
+			return offset;
+		}
+
+		void add(String method, Object params) {
+			if (!method.equals("textDocument/didChange") && !method.equals("textDocument/completion")) {
+				time += PAUSE_MILLIS;
+			}
+			messages.add(new RecordedMessage(time, method, LspSessionRecorder.toJson(params)));
+		}
+	}
+
+}
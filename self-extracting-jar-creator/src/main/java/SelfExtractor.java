@@ -5,7 +5,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
@@ -23,8 +38,11 @@ public class SelfExtractor {
 
 	private static final String CONTENTS_ZIP_RSRC = "/contents.zip";
 	private static final int BUF_SIZE = 1024*8;
+	private static final int PARALLEL_BUF_SIZE = 1024*1024;
+	private static final String THREADS_PROPERTY = "selfextractor.threads";
 
 	byte[] buffer = new byte[BUF_SIZE];
+	boolean verbose = true;
 
 	public static void main(String[] args) throws Exception {
 		try {
@@ -127,33 +145,177 @@ public class SelfExtractor {
 
 	public void unpack() throws Exception {
 		File destDir = new File(System.getProperty("user.dir"));
-		int numEntries = getNumEntries();
+		int threads = getExtractionThreads();
+		if (threads <= 1) {
+			int numEntries = getNumEntries();
+			ProgressApi progress = ProgressBar.create(numEntries);
+			try (ZipInputStream zip = openContentsZip()) {
+				unpackSequential(zip, destDir, numEntries, progress);
+			} finally {
+				progress.done();
+			}
+		} else {
+			File contentsZip;
+			try (InputStream in = this.getClass().getResourceAsStream(CONTENTS_ZIP_RSRC)) {
+				if (in==null) {
+					throw new IllegalArgumentException("Malformed archive: Couldn't find embedded '"+CONTENTS_ZIP_RSRC+"");
+				}
+				contentsZip = copyToTempFile(in);
+			}
+			try (ZipFile zip = new ZipFile(contentsZip)) {
+				ProgressApi progress = ProgressBar.create(zip.size());
+				try {
+					unpackParallel(zip, destDir, threads, progress);
+				} finally {
+					progress.done();
+				}
+			} finally {
+				contentsZip.delete();
+			}
+		}
+	}
+
+	/**
+	 * Number of threads used for unpacking, defaults to the number of available processors.
+	 * Setting the system property to 1 unpacks the contents sequentially while streaming them
+	 * out of the jar.
+	 */
+	private int getExtractionThreads() {
+		String threads = System.getProperty(THREADS_PROPERTY);
+		if (threads != null) {
+			try {
+				return Integer.parseInt(threads.trim());
+			} catch (NumberFormatException e) {
+				System.err.println("Ignoring invalid value for "+THREADS_PROPERTY+": "+threads);
+			}
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	void unpackSequential(ZipInputStream zip, File destDir, int numEntries, ProgressApi progress) throws IOException {
 		int processed = 0;
-		ProgressApi progress = ProgressBar.create(numEntries);
-		try (ZipInputStream zip = openContentsZip()) {
-			ZipEntry entry;
-			while ((entry = zip.getNextEntry())!=null) {
-				String name = entry.getName();
-				System.out.println(name);
-				File outfile = new File(destDir, name);
-				if (outfile.exists()) {
-					throw new IllegalArgumentException("File already exists: "+outfile);
+		ZipEntry entry;
+		while ((entry = zip.getNextEntry())!=null) {
+			String name = entry.getName();
+			log(name);
+			File outfile = new File(destDir, name);
+			if (outfile.exists()) {
+				throw new IllegalArgumentException("File already exists: "+outfile);
+			}
+			if (name.endsWith("/")) {
+				outfile.mkdirs();
+			} else {
+				//file
+				outfile.getParentFile().mkdirs();
+				try (FileOutputStream out = new FileOutputStream(outfile)) {
+					copy(zip, out);
 				}
-				if (name.endsWith("/")) {
-					outfile.mkdirs();
-				} else {
-					//file
-					outfile.getParentFile().mkdirs();
-					try (FileOutputStream out = new FileOutputStream(outfile)) {
-						copy(zip, out);
+			}
+			processed++;
+			log("Progress = "+processed +"/"+numEntries);
+			progress.worked(1);
+		}
+	}
+
+	/**
+	 * The zip embedded in the jar can only be streamed, so it gets copied to a temporary file
+	 * once to allow random access to its entries through the central directory. The copy is part
+	 * of the cost of the parallel extraction, see SelfExtractorBenchmark.
+	 */
+	File copyToTempFile(InputStream in) throws IOException {
+		File tempFile = File.createTempFile("contents", ".zip");
+		tempFile.deleteOnExit();
+		Files.copy(in, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		return tempFile;
+	}
+
+	/**
+	 * Unpacks the entries of the zip with multiple threads. Directories are created up-front, then
+	 * the files are written by the worker threads, largest files first, so that a single large file
+	 * doesn't end up being extracted last while the other threads are idle.
+	 */
+	void unpackParallel(ZipFile zip, File destDir, int threads, ProgressApi progress) throws Exception {
+		int numEntries = zip.size();
+		AtomicInteger processed = new AtomicInteger();
+		List<ZipEntry> files = new ArrayList<>();
+
+		Enumeration<? extends ZipEntry> entries = zip.entries();
+		while (entries.hasMoreElements()) {
+			ZipEntry entry = entries.nextElement();
+			File outfile = new File(destDir, entry.getName());
+			if (outfile.exists()) {
+				throw new IllegalArgumentException("File already exists: "+outfile);
+			}
+			if (entry.getName().endsWith("/")) {
+				outfile.mkdirs();
+				worked(entry.getName(), processed, numEntries, progress);
+			} else {
+				outfile.getParentFile().mkdirs();
+				files.add(entry);
+			}
+		}
+		files.sort((e1, e2) -> Long.compare(e2.getSize(), e1.getSize()));
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[PARALLEL_BUF_SIZE]);
+			List<Future<?>> futures = new ArrayList<>(files.size());
+			for (ZipEntry entry : files) {
+				futures.add(executor.submit(() -> {
+					extract(zip, entry, new File(destDir, entry.getName()), buffers.get());
+					worked(entry.getName(), processed, numEntries, progress);
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof FileAlreadyExistsException) {
+						throw new IllegalArgumentException("File already exists: "+((FileAlreadyExistsException) cause).getFile(), cause);
 					}
+					throw cause instanceof Exception ? (Exception) cause : e;
 				}
-				processed++;
-				System.out.println("Progress = "+processed +"/"+numEntries);
-				progress.worked(1);
 			}
 		} finally {
-			progress.done();
+			executor.shutdownNow();
+		}
+	}
+
+	private void extract(ZipFile zip, ZipEntry entry, File outfile, byte[] bytes) throws IOException {
+		try (InputStream in = zip.getInputStream(entry);
+				FileChannel out = FileChannel.open(outfile.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+			long size = entry.getSize();
+			if (size > 0) {
+				// preallocate the file
+				out.write(ByteBuffer.wrap(new byte[1]), size - 1);
+			}
+			long position = 0;
+			int bytesRead;
+			while ((bytesRead = in.read(bytes)) > 0) {
+				ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytesRead);
+				while (buffer.hasRemaining()) {
+					position += out.write(buffer, position);
+				}
+			}
+			if (size < 0 || position < size) {
+				out.truncate(position);
+			}
+		}
+	}
+
+	private void worked(String name, AtomicInteger processed, int numEntries, ProgressApi progress) {
+		synchronized (progress) {
+			log(name);
+			log("Progress = "+processed.incrementAndGet() +"/"+numEntries);
+			progress.worked(1);
+		}
+	}
+
+	private void log(String message) {
+		if (verbose) {
+			System.out.println(message);
 		}
 	}
 
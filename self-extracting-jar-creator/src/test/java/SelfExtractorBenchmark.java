@@ -0,0 +1,98 @@
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import ui.ProgressApi;
+
+/**
+ * Compares the sequential, streaming extraction of the SelfExtractor with the parallel extraction
+ * from the central directory of the zip. Both include the same work as the real unpacking, i.e. the
+ * counting pass over the stream for the sequential extraction and copying the zip to a temporary file
+ * for the parallel extraction.
+ * <p>
+ * Usage: <code>java SelfExtractorBenchmark &lt;zip-file&gt; [iterations] [threads]</code>
+ */
+public class SelfExtractorBenchmark {
+
+	private static final ProgressApi NO_PROGRESS = new ProgressApi() {
+
+		@Override
+		public void worked(int amount) {
+		}
+
+		@Override
+		public void done() {
+		}
+
+	};
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			throw new IllegalArgumentException("Expecting the zip file to extract as first argument");
+		}
+		File zipFile = new File(args[0]);
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+		SelfExtractor extractor = new SelfExtractor();
+		extractor.verbose = false;
+
+		System.out.println("Extracting " + zipFile + " (" + zipFile.length() / 1024 / 1024 + " MB), " + iterations + " iterations, " + threads + " threads");
+
+		for (int i = 0; i < iterations; i++) {
+			long sequential = measure(destDir -> {
+				int numEntries = 0;
+				try (ZipInputStream zip = new ZipInputStream(new FileInputStream(zipFile))) {
+					while (zip.getNextEntry() != null) {
+						numEntries++;
+					}
+				}
+				try (ZipInputStream zip = new ZipInputStream(new FileInputStream(zipFile))) {
+					extractor.unpackSequential(zip, destDir, numEntries, NO_PROGRESS);
+				}
+			});
+			long parallel = measure(destDir -> {
+				// the embedded zip has to be copied to a temporary file before it can be opened as ZipFile
+				File contentsZip;
+				try (InputStream in = new FileInputStream(zipFile)) {
+					contentsZip = extractor.copyToTempFile(in);
+				}
+				try (ZipFile zip = new ZipFile(contentsZip)) {
+					extractor.unpackParallel(zip, destDir, threads, NO_PROGRESS);
+				} finally {
+					contentsZip.delete();
+				}
+			});
+			System.out.println("Iteration " + (i + 1) + ": sequential " + sequential + " ms, parallel " + parallel + " ms");
+		}
+	}
+
+	private static long measure(Extraction extraction) throws Exception {
+		Path destDir = Files.createTempDirectory("self-extractor-benchmark");
+		try {
+			long start = System.nanoTime();
+			extraction.extract(destDir.toFile());
+			return (System.nanoTime() - start) / 1_000_000;
+		} finally {
+			delete(destDir);
+		}
+	}
+
+	private static void delete(Path dir) throws IOException {
+		try (Stream<Path> files = Files.walk(dir)) {
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	private interface Extraction {
+		void extract(File destDir) throws Exception;
+	}
+
+}
@@ -6,6 +6,7 @@ import { LanguageClient } from 'vscode-languageclient/node';
 
 const JDT_SERVER_STANDARD_MODE = 'Standard'
 const CMD_STS_ENABLE_CLASSPATH_LISTENER = 'sts.vscode-spring-boot.enableClasspathListening';
+const CMD_STS_JAVA_PROJECTS_IMPORTED = 'sts.vscode-spring-boot.javaProjectsImported';
 
 export function registerClasspathService(client : LanguageClient) : void {
 
@@ -28,10 +29,30 @@ export function registerClasspathService(client : LanguageClient) : void {
     if (javaApi) {
         commands.executeCommand(CMD_STS_ENABLE_CLASSPATH_LISTENER, javaApi.serverMode === JDT_SERVER_STANDARD_MODE);
         javaApi.onDidServerModeChange(_e => commands.executeCommand(CMD_STS_ENABLE_CLASSPATH_LISTENER, javaApi.serverMode === JDT_SERVER_STANDARD_MODE));
+        notifyProjectsImported(javaApi);
     }
 
 }
 
+/**
+ * Tells the language server about all projects of the workspace once JDT LS finished importing them,
+ * so that projects restored from its warm-start snapshot that don't exist anymore can be removed.
+ */
+async function notifyProjectsImported(javaApi: any) : Promise<void> {
+    if (typeof javaApi.serverReady !== 'function') {
+        return;
+    }
+    try {
+        await javaApi.serverReady();
+        const projectUris = await commands.executeCommand<string[]>("java.execute.workspaceCommand", "java.project.getAll");
+        if (Array.isArray(projectUris)) {
+            await commands.executeCommand(CMD_STS_JAVA_PROJECTS_IMPORTED, projectUris);
+        }
+    } catch (error) {
+        console.error('Failed to notify Spring Boot language server about imported Java projects', error);
+    }
+}
+
 interface ClasspathListenerParams {
     callbackCommandId: string
 }